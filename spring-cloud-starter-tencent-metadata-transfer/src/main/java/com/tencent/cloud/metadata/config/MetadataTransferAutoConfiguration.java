@@ -28,6 +28,7 @@ import com.tencent.cloud.metadata.core.EncodeTransferMedataWebClientEnhancedPlug
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -44,6 +45,7 @@ import static jakarta.servlet.DispatcherType.REQUEST;
  * @author Haotian Zhang
  */
 @Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(MetadataTransferProperties.class)
 public class MetadataTransferAutoConfiguration {
 
 	/**
@@ -91,8 +93,9 @@ public class MetadataTransferAutoConfiguration {
 	protected static class MetadataTransferScgFilterConfig {
 
 		@Bean
-		public EncodeTransferMedataScgEnhancedPlugin encodeTransferMedataScgEnhancedPlugin() {
-			return new EncodeTransferMedataScgEnhancedPlugin();
+		public EncodeTransferMedataScgEnhancedPlugin encodeTransferMedataScgEnhancedPlugin(
+				MetadataTransferProperties metadataTransferProperties) {
+			return new EncodeTransferMedataScgEnhancedPlugin(metadataTransferProperties);
 		}
 	}
 
@@ -105,8 +108,9 @@ public class MetadataTransferAutoConfiguration {
 	protected static class MetadataTransferFeignInterceptorConfig {
 
 		@Bean
-		public EncodeTransferMedataFeignEnhancedPlugin encodeTransferMedataFeignEnhancedPlugin() {
-			return new EncodeTransferMedataFeignEnhancedPlugin();
+		public EncodeTransferMedataFeignEnhancedPlugin encodeTransferMedataFeignEnhancedPlugin(
+				MetadataTransferProperties metadataTransferProperties) {
+			return new EncodeTransferMedataFeignEnhancedPlugin(metadataTransferProperties);
 		}
 	}
 
@@ -119,8 +123,9 @@ public class MetadataTransferAutoConfiguration {
 	protected static class MetadataTransferRestTemplateConfig {
 
 		@Bean
-		public EncodeTransferMedataRestTemplateEnhancedPlugin encodeTransferMedataRestTemplateEnhancedPlugin() {
-			return new EncodeTransferMedataRestTemplateEnhancedPlugin();
+		public EncodeTransferMedataRestTemplateEnhancedPlugin encodeTransferMedataRestTemplateEnhancedPlugin(
+				MetadataTransferProperties metadataTransferProperties) {
+			return new EncodeTransferMedataRestTemplateEnhancedPlugin(metadataTransferProperties);
 		}
 	}
 
@@ -133,8 +138,9 @@ public class MetadataTransferAutoConfiguration {
 	protected static class MetadataTransferWebClientConfig {
 
 		@Bean
-		public EncodeTransferMedataWebClientEnhancedPlugin encodeTransferMedataWebClientEnhancedPlugin() {
-			return new EncodeTransferMedataWebClientEnhancedPlugin();
+		public EncodeTransferMedataWebClientEnhancedPlugin encodeTransferMedataWebClientEnhancedPlugin(
+				MetadataTransferProperties metadataTransferProperties) {
+			return new EncodeTransferMedataWebClientEnhancedPlugin(metadataTransferProperties);
 		}
 	}
 }
@@ -0,0 +1,72 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.metadata.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties of metadata transfer.
+ *
+ * @author agent 2026-10-17
+ */
+@ConfigurationProperties("spring.cloud.tencent.metadata.transfer")
+public class MetadataTransferProperties {
+
+	/**
+	 * Format of metadata headers sent to downstream. The format is not negotiated: receivers of this version accept
+	 * both formats, but older receivers can not decode COMPACT and lose the metadata. So switch to COMPACT only after
+	 * all downstream services, including gateways in between, are upgraded.
+	 */
+	private HeaderFormat headerFormat = HeaderFormat.JSON;
+
+	public HeaderFormat getHeaderFormat() {
+		return headerFormat;
+	}
+
+	public void setHeaderFormat(HeaderFormat headerFormat) {
+		this.headerFormat = headerFormat;
+	}
+
+	public boolean isCompactHeaderFormat() {
+		return headerFormat == HeaderFormat.COMPACT;
+	}
+
+	@Override
+	public String toString() {
+		return "MetadataTransferProperties{" +
+				"headerFormat=" + headerFormat +
+				'}';
+	}
+
+	/**
+	 * Format of metadata headers.
+	 */
+	public enum HeaderFormat {
+
+		/**
+		 * Url encoded json.
+		 */
+		JSON,
+
+		/**
+		 * Length-prefixed UTF-8 pairs in base64url with dictionary of common keys. Only for receivers which are all
+		 * upgraded, see {@link MetadataTransferProperties#getHeaderFormat()}.
+		 */
+		COMPACT
+	}
+}
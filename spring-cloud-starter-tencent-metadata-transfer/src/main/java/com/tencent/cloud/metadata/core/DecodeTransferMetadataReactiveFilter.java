@@ -17,14 +17,11 @@
 
 package com.tencent.cloud.metadata.core;
 
-import java.util.HashMap;
 import java.util.Map;
 
 import com.tencent.cloud.common.constant.MetadataConstant;
 import com.tencent.cloud.common.constant.OrderConstant;
 import com.tencent.cloud.common.metadata.MetadataContextHolder;
-import com.tencent.cloud.common.util.JacksonUtils;
-import com.tencent.cloud.common.util.UrlUtils;
 import com.tencent.cloud.metadata.provider.ReactiveMetadataProvider;
 import com.tencent.polaris.api.utils.StringUtils;
 import org.slf4j.Logger;
@@ -68,18 +65,17 @@ public class DecodeTransferMetadataReactiveFilter implements WebFilter, Ordered
 		Map<String, String> internalTransitiveMetadata = getInternalMetadata(serverHttpRequest, CUSTOM_METADATA);
 		// from header with specific prefix
 		Map<String, String> customTransitiveMetadata = CustomTransitiveMetadataResolver.resolve(serverWebExchange);
-		Map<String, String> mergedTransitiveMetadata = new HashMap<>();
-		mergedTransitiveMetadata.putAll(internalTransitiveMetadata);
+		Map<String, String> mergedTransitiveMetadata = internalTransitiveMetadata;
 		mergedTransitiveMetadata.putAll(customTransitiveMetadata);
 
 		// disposable metadata
 		// from specific header
 		Map<String, String> internalDisposableMetadata = getInternalMetadata(serverHttpRequest, CUSTOM_DISPOSABLE_METADATA);
-		Map<String, String> mergedDisposableMetadata = new HashMap<>(internalDisposableMetadata);
+		Map<String, String> mergedDisposableMetadata = internalDisposableMetadata;
 
 		// application metadata
 		Map<String, String> internalApplicationMetadata = getInternalMetadata(serverHttpRequest, APPLICATION_METADATA);
-		Map<String, String> mergedApplicationMetadata = new HashMap<>(internalApplicationMetadata);
+		Map<String, String> mergedApplicationMetadata = internalApplicationMetadata;
 
 		String callerIp = "";
 		if (StringUtils.isNotBlank(mergedApplicationMetadata.get(LOCAL_IP))) {
@@ -102,9 +98,10 @@ public class DecodeTransferMetadataReactiveFilter implements WebFilter, Ordered
 
 	private Map<String, String> getInternalMetadata(ServerHttpRequest serverHttpRequest, String headerName) {
 		HttpHeaders httpHeaders = serverHttpRequest.getHeaders();
-		String customMetadataStr = UrlUtils.decode(httpHeaders.getFirst(headerName));
+		String customMetadataStr = httpHeaders.getFirst(headerName);
 		LOG.debug("Get upstream metadata string: {}", customMetadataStr);
 
-		return JacksonUtils.deserialize2Map(customMetadataStr);
+		// both json and compact format are accepted.
+		return MetadataHeaderCodec.decode(customMetadataStr);
 	}
 }
@@ -18,13 +18,10 @@
 package com.tencent.cloud.metadata.core;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
 
 import com.tencent.cloud.common.constant.OrderConstant;
 import com.tencent.cloud.common.metadata.MetadataContextHolder;
-import com.tencent.cloud.common.util.JacksonUtils;
-import com.tencent.cloud.common.util.UrlUtils;
 import com.tencent.cloud.metadata.provider.ServletMetadataProvider;
 import com.tencent.polaris.api.utils.StringUtils;
 import jakarta.servlet.FilterChain;
@@ -63,18 +60,17 @@ public class DecodeTransferMetadataServletFilter extends OncePerRequestFilter {
 		Map<String, String> internalTransitiveMetadata = getInternalMetadata(httpServletRequest, CUSTOM_METADATA);
 		// from header with specific prefix
 		Map<String, String> customTransitiveMetadata = CustomTransitiveMetadataResolver.resolve(httpServletRequest);
-		Map<String, String> mergedTransitiveMetadata = new HashMap<>();
-		mergedTransitiveMetadata.putAll(internalTransitiveMetadata);
+		Map<String, String> mergedTransitiveMetadata = internalTransitiveMetadata;
 		mergedTransitiveMetadata.putAll(customTransitiveMetadata);
 
 		// disposable metadata
 		// from specific header
 		Map<String, String> internalDisposableMetadata = getInternalMetadata(httpServletRequest, CUSTOM_DISPOSABLE_METADATA);
-		Map<String, String> mergedDisposableMetadata = new HashMap<>(internalDisposableMetadata);
+		Map<String, String> mergedDisposableMetadata = internalDisposableMetadata;
 
 		// application metadata
 		Map<String, String> internalApplicationMetadata = getInternalMetadata(httpServletRequest, APPLICATION_METADATA);
-		Map<String, String> mergedApplicationMetadata = new HashMap<>(internalApplicationMetadata);
+		Map<String, String> mergedApplicationMetadata = internalApplicationMetadata;
 
 		String callerIp = "";
 		if (StringUtils.isNotBlank(mergedApplicationMetadata.get(LOCAL_IP))) {
@@ -97,10 +93,10 @@ public class DecodeTransferMetadataServletFilter extends OncePerRequestFilter {
 
 	private Map<String, String> getInternalMetadata(HttpServletRequest httpServletRequest, String headerName) {
 		// Get custom metadata string from http header.
-		String customMetadataStr = UrlUtils.decode(httpServletRequest.getHeader(headerName));
+		String customMetadataStr = httpServletRequest.getHeader(headerName);
 		LOG.debug("Get upstream metadata string: {}", customMetadataStr);
 
-		// create custom metadata.
-		return JacksonUtils.deserialize2Map(customMetadataStr);
+		// create custom metadata, both json and compact format are accepted.
+		return MetadataHeaderCodec.decode(customMetadataStr);
 	}
 }
@@ -22,12 +22,11 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
-import com.google.common.collect.ImmutableMap;
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.common.metadata.MetadataContextHolder;
-import com.tencent.cloud.common.util.JacksonUtils;
 import com.tencent.cloud.common.util.ReflectionUtils;
 import com.tencent.cloud.common.util.UrlUtils;
+import com.tencent.cloud.metadata.config.MetadataTransferProperties;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPlugin;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
@@ -48,6 +47,17 @@ import static com.tencent.cloud.common.constant.MetadataConstant.HeaderName.CUST
  * @author Shedfree Wu
  */
 public class EncodeTransferMedataFeignEnhancedPlugin implements EnhancedPlugin {
+
+	private final boolean compactHeaderFormat;
+
+	public EncodeTransferMedataFeignEnhancedPlugin() {
+		this(new MetadataTransferProperties());
+	}
+
+	public EncodeTransferMedataFeignEnhancedPlugin(MetadataTransferProperties metadataTransferProperties) {
+		this.compactHeaderFormat = metadataTransferProperties.isCompactHeaderFormat();
+	}
+
 	@Override
 	public EnhancedPluginType getType() {
 		return EnhancedPluginType.Client.PRE;
@@ -103,7 +113,8 @@ public class EncodeTransferMedataFeignEnhancedPlugin implements EnhancedPlugin {
 	 */
 	private void buildMetadataHeader(Request request, Map<String, String> metadata, String headerName) {
 		if (!CollectionUtils.isEmpty(metadata)) {
-			buildHeaderMap(request, ImmutableMap.of(headerName, JacksonUtils.serialize2Json(metadata)));
+			getModifiableHeaders(request).put(headerName,
+					Arrays.asList(MetadataHeaderCodec.encode(metadata, compactHeaderFormat)));
 		}
 	}
 
@@ -19,11 +19,10 @@ package com.tencent.cloud.metadata.core;
 
 import java.util.Map;
 
-import com.google.common.collect.ImmutableMap;
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.common.metadata.MetadataContextHolder;
-import com.tencent.cloud.common.util.JacksonUtils;
 import com.tencent.cloud.common.util.UrlUtils;
+import com.tencent.cloud.metadata.config.MetadataTransferProperties;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPlugin;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
@@ -44,6 +43,17 @@ import static com.tencent.cloud.common.constant.MetadataConstant.HeaderName.CUST
  * @author Shedfree Wu
  */
 public class EncodeTransferMedataRestTemplateEnhancedPlugin implements EnhancedPlugin {
+
+	private final boolean compactHeaderFormat;
+
+	public EncodeTransferMedataRestTemplateEnhancedPlugin() {
+		this(new MetadataTransferProperties());
+	}
+
+	public EncodeTransferMedataRestTemplateEnhancedPlugin(MetadataTransferProperties metadataTransferProperties) {
+		this.compactHeaderFormat = metadataTransferProperties.isCompactHeaderFormat();
+	}
+
 	@Override
 	public EnhancedPluginType getType() {
 		return EnhancedPluginType.Client.PRE;
@@ -103,7 +113,7 @@ public class EncodeTransferMedataRestTemplateEnhancedPlugin implements EnhancedP
 	 */
 	private void buildMetadataHeader(HttpRequest request, Map<String, String> metadata, String headerName) {
 		if (!CollectionUtils.isEmpty(metadata)) {
-			buildHeaderMap(request, ImmutableMap.of(headerName, JacksonUtils.serialize2Json(metadata)));
+			request.getHeaders().set(headerName, MetadataHeaderCodec.encode(metadata, compactHeaderFormat));
 		}
 	}
 
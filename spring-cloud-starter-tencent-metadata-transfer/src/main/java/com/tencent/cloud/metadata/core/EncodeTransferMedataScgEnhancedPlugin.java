@@ -19,12 +19,11 @@ package com.tencent.cloud.metadata.core;
 
 import java.util.Map;
 
-import com.google.common.collect.ImmutableMap;
 import com.tencent.cloud.common.constant.MetadataConstant;
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.common.metadata.MetadataContextHolder;
-import com.tencent.cloud.common.util.JacksonUtils;
 import com.tencent.cloud.common.util.UrlUtils;
+import com.tencent.cloud.metadata.config.MetadataTransferProperties;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPlugin;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
@@ -46,6 +45,17 @@ import static com.tencent.cloud.common.constant.MetadataConstant.HeaderName.CUST
  * @author Shedfree Wu
  */
 public class EncodeTransferMedataScgEnhancedPlugin implements EnhancedPlugin {
+
+	private final boolean compactHeaderFormat;
+
+	public EncodeTransferMedataScgEnhancedPlugin() {
+		this(new MetadataTransferProperties());
+	}
+
+	public EncodeTransferMedataScgEnhancedPlugin(MetadataTransferProperties metadataTransferProperties) {
+		this.compactHeaderFormat = metadataTransferProperties.isCompactHeaderFormat();
+	}
+
 	@Override
 	public EnhancedPluginType getType() {
 		return EnhancedPluginType.Client.PRE;
@@ -98,7 +108,7 @@ public class EncodeTransferMedataScgEnhancedPlugin implements EnhancedPlugin {
 	 */
 	private void buildMetadataHeader(ServerHttpRequest.Builder builder, Map<String, String> metadata, String headerName) {
 		if (!CollectionUtils.isEmpty(metadata)) {
-			buildHeaderMap(builder, ImmutableMap.of(headerName, JacksonUtils.serialize2Json(metadata)));
+			builder.header(headerName, MetadataHeaderCodec.encode(metadata, compactHeaderFormat));
 		}
 	}
 
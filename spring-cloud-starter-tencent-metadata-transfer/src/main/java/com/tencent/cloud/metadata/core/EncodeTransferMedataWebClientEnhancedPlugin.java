@@ -19,11 +19,10 @@ package com.tencent.cloud.metadata.core;
 
 import java.util.Map;
 
-import com.google.common.collect.ImmutableMap;
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.common.metadata.MetadataContextHolder;
-import com.tencent.cloud.common.util.JacksonUtils;
 import com.tencent.cloud.common.util.UrlUtils;
+import com.tencent.cloud.metadata.config.MetadataTransferProperties;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPlugin;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
@@ -44,6 +43,17 @@ import static com.tencent.cloud.common.constant.MetadataConstant.HeaderName.CUST
  * @author Shedfree Wu
  */
 public class EncodeTransferMedataWebClientEnhancedPlugin implements EnhancedPlugin {
+
+	private final boolean compactHeaderFormat;
+
+	public EncodeTransferMedataWebClientEnhancedPlugin() {
+		this(new MetadataTransferProperties());
+	}
+
+	public EncodeTransferMedataWebClientEnhancedPlugin(MetadataTransferProperties metadataTransferProperties) {
+		this.compactHeaderFormat = metadataTransferProperties.isCompactHeaderFormat();
+	}
+
 	@Override
 	public EnhancedPluginType getType() {
 		return EnhancedPluginType.Client.PRE;
@@ -97,7 +107,7 @@ public class EncodeTransferMedataWebClientEnhancedPlugin implements EnhancedPlug
 	 */
 	private void buildMetadataHeader(ClientRequest.Builder requestBuilder, Map<String, String> metadata, String headerName) {
 		if (!CollectionUtils.isEmpty(metadata)) {
-			buildHeaderMap(requestBuilder, ImmutableMap.of(headerName, JacksonUtils.serialize2Json(metadata)));
+			requestBuilder.header(headerName, MetadataHeaderCodec.encode(metadata, compactHeaderFormat));
 		}
 	}
 
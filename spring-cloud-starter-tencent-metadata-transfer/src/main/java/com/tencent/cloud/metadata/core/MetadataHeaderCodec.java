@@ -0,0 +1,210 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.metadata.core;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.tencent.cloud.common.constant.MetadataConstant;
+import com.tencent.cloud.common.metadata.StaticMetadataManager;
+import com.tencent.cloud.common.util.JacksonUtils;
+import com.tencent.cloud.common.util.UrlUtils;
+import com.tencent.polaris.metadata.core.constant.MetadataConstants;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Codec of metadata http header value.
+ * <p>
+ * Two formats are supported:
+ * <ul>
+ *     <li>JSON: url encoded json object, the original format.</li>
+ *     <li>COMPACT: {@link #COMPACT_PREFIX} followed by base64url encoded bytes. The bytes are a varint pair
+ *     count, then for each pair a key token and a length-prefixed UTF-8 value. A key token is
+ *     {@code (index << 1) | 1} for a key in the common key dictionary, or {@code length << 1} followed by
+ *     the UTF-8 bytes of the key.</li>
+ * </ul>
+ * {@link #decode(String)} detects the format by the prefix, so a receiver of this version accepts both formats.
+ * The format is not negotiated with the peer and older receivers only decode JSON, so COMPACT must only be sent after
+ * all receivers are upgraded.
+ *
+ * @author agent 2026-10-17
+ */
+public final class MetadataHeaderCodec {
+
+	/**
+	 * Prefix of compact header value, including format version. Never starts a url encoded json object.
+	 */
+	public static final String COMPACT_PREFIX = "sct1.";
+
+	/**
+	 * Common keys of version 1. Append only, the index is part of the wire format.
+	 */
+	private static final String[] DICTIONARY = {
+			MetadataConstants.LOCAL_NAMESPACE,
+			MetadataConstants.LOCAL_SERVICE,
+			MetadataConstants.LOCAL_IP,
+			MetadataConstants.LOCAL_PORT,
+			StaticMetadataManager.LOCATION_KEY_REGION,
+			StaticMetadataManager.LOCATION_KEY_ZONE,
+			StaticMetadataManager.LOCATION_KEY_CAMPUS,
+			MetadataConstant.DefaultMetadata.DEFAULT_METADATA_SOURCE_SERVICE_NAMESPACE,
+			MetadataConstant.DefaultMetadata.DEFAULT_METADATA_SOURCE_SERVICE_NAME
+	};
+
+	private static final Map<String, Integer> DICTIONARY_INDEX = new HashMap<>();
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	static {
+		for (int i = 0; i < DICTIONARY.length; i++) {
+			DICTIONARY_INDEX.put(DICTIONARY[i], i);
+		}
+	}
+
+	private MetadataHeaderCodec() {
+	}
+
+	/**
+	 * Encode metadata to http header value.
+	 *
+	 * @param metadata metadata map
+	 * @param compact  use compact format, otherwise url encoded json
+	 * @return header value
+	 */
+	public static String encode(Map<String, String> metadata, boolean compact) {
+		if (compact) {
+			return encodeCompact(metadata);
+		}
+		return UrlUtils.encode(JacksonUtils.serialize2Json(metadata));
+	}
+
+	/**
+	 * Decode http header value of either format to metadata.
+	 *
+	 * @param headerValue header value
+	 * @return modifiable metadata map, empty if header value is blank
+	 */
+	public static Map<String, String> decode(String headerValue) {
+		if (!StringUtils.hasText(headerValue)) {
+			return new HashMap<>();
+		}
+		if (headerValue.startsWith(COMPACT_PREFIX)) {
+			return decodeCompact(headerValue);
+		}
+		return JacksonUtils.deserialize2Map(UrlUtils.decode(headerValue));
+	}
+
+	static String encodeCompact(Map<String, String> metadata) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+		int[] count = new int[1];
+		ByteArrayOutputStream pairs = new ByteArrayOutputStream(128);
+		metadata.forEach((key, value) -> {
+			if (key == null || value == null) {
+				return;
+			}
+			Integer index = DICTIONARY_INDEX.get(key);
+			if (index != null) {
+				writeVarInt(pairs, (index << 1) | 1);
+			}
+			else {
+				byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+				writeVarInt(pairs, keyBytes.length << 1);
+				pairs.write(keyBytes, 0, keyBytes.length);
+			}
+			byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+			writeVarInt(pairs, valueBytes.length);
+			pairs.write(valueBytes, 0, valueBytes.length);
+			count[0]++;
+		});
+		writeVarInt(out, count[0]);
+		pairs.writeTo(out);
+		return COMPACT_PREFIX + ENCODER.encodeToString(out.toByteArray());
+	}
+
+	static Map<String, String> decodeCompact(String headerValue) {
+		byte[] bytes;
+		try {
+			bytes = DECODER.decode(headerValue.substring(COMPACT_PREFIX.length()));
+		}
+		catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid compact metadata header value: " + headerValue, e);
+		}
+		int[] position = new int[1];
+		int count = readVarInt(bytes, position);
+		// count is untrusted, each pair takes at least one byte of key token and one byte of value length.
+		if (count < 0 || count > (bytes.length - position[0]) / 2) {
+			throw new IllegalArgumentException("Invalid pair count " + count + " in compact metadata header value.");
+		}
+		Map<String, String> metadata = new HashMap<>((int) (count / 0.75f) + 1);
+		for (int i = 0; i < count; i++) {
+			int keyToken = readVarInt(bytes, position);
+			String key;
+			if ((keyToken & 1) == 1) {
+				int index = keyToken >>> 1;
+				if (index >= DICTIONARY.length) {
+					throw new IllegalArgumentException("Unknown dictionary key index " + index + " in compact metadata header value.");
+				}
+				key = DICTIONARY[index];
+			}
+			else {
+				key = readString(bytes, position, keyToken >>> 1);
+			}
+			String value = readString(bytes, position, readVarInt(bytes, position));
+			metadata.put(key, value);
+		}
+		return metadata;
+	}
+
+	private static void writeVarInt(ByteArrayOutputStream out, int value) {
+		while ((value & ~0x7F) != 0) {
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	private static int readVarInt(byte[] bytes, int[] position) {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			if (position[0] >= bytes.length) {
+				throw new IllegalArgumentException("Truncated compact metadata header value.");
+			}
+			byte b = bytes[position[0]++];
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Malformed varint in compact metadata header value.");
+	}
+
+	private static String readString(byte[] bytes, int[] position, int length) {
+		if (length < 0 || length > bytes.length - position[0]) {
+			throw new IllegalArgumentException("Truncated compact metadata header value.");
+		}
+		String value = new String(bytes, position[0], length, StandardCharsets.UTF_8);
+		position[0] += length;
+		return value;
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.metadata.core;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static com.tencent.polaris.metadata.core.constant.MetadataConstants.LOCAL_IP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link MetadataHeaderCodec}.
+ *
+ * @author agent 2026-10-17
+ */
+public class MetadataHeaderCodecTest {
+
+	@Test
+	public void testCompactRoundTrip() {
+		Map<String, String> metadata = new HashMap<>();
+		metadata.put(LOCAL_IP, "127.0.0.1");
+		metadata.put("key", "value");
+		metadata.put("中文", "值,=&%");
+		metadata.put("empty", "");
+
+		String headerValue = MetadataHeaderCodec.encode(metadata, true);
+		assertThat(headerValue).startsWith(MetadataHeaderCodec.COMPACT_PREFIX);
+		assertThat(headerValue).matches("[A-Za-z0-9._-]+");
+		assertThat(MetadataHeaderCodec.decode(headerValue)).isEqualTo(metadata);
+	}
+
+	@Test
+	public void testCompactIsShorterThanJson() {
+		Map<String, String> metadata = new HashMap<>();
+		metadata.put(LOCAL_IP, "127.0.0.1");
+		metadata.put("a", "1");
+		assertThat(MetadataHeaderCodec.encode(metadata, true).length())
+				.isLessThan(MetadataHeaderCodec.encode(metadata, false).length());
+	}
+
+	@Test
+	public void testJsonCompatibility() {
+		Map<String, String> metadata = new HashMap<>();
+		metadata.put("a", "1");
+		metadata.put("b", "中文");
+
+		String headerValue = MetadataHeaderCodec.encode(metadata, false);
+		assertThat(MetadataHeaderCodec.decode(headerValue)).isEqualTo(metadata);
+		assertThat(MetadataHeaderCodec.decode("{\"c\": \"3\"}")).containsEntry("c", "3");
+	}
+
+	@Test
+	public void testBlankAndMalformed() {
+		assertThat(MetadataHeaderCodec.decode(null)).isEmpty();
+		assertThat(MetadataHeaderCodec.decode("")).isEmpty();
+		assertThat(MetadataHeaderCodec.decode(MetadataHeaderCodec.encode(new HashMap<>(), true))).isEmpty();
+		// declares one pair but has no content.
+		assertThatThrownBy(() -> MetadataHeaderCodec.decode(MetadataHeaderCodec.COMPACT_PREFIX + "AQ"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void testMaliciousCount() {
+		// declares Integer.MAX_VALUE pairs with one byte of content, must fail before allocating the map.
+		byte[] maxCount = new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0x00};
+		assertThatThrownBy(() -> MetadataHeaderCodec.decode(MetadataHeaderCodec.COMPACT_PREFIX
+				+ Base64.getUrlEncoder().withoutPadding().encodeToString(maxCount)))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("pair count");
+
+		// negative count.
+		byte[] negativeCount = new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F};
+		assertThatThrownBy(() -> MetadataHeaderCodec.decode(MetadataHeaderCodec.COMPACT_PREFIX
+				+ Base64.getUrlEncoder().withoutPadding().encodeToString(negativeCount)))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		// string length overflowing the position.
+		byte[] hugeLength = new byte[] {0x01, 0x00, (byte) 0xFE, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+		assertThatThrownBy(() -> MetadataHeaderCodec.decode(MetadataHeaderCodec.COMPACT_PREFIX
+				+ Base64.getUrlEncoder().withoutPadding().encodeToString(hugeLength)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
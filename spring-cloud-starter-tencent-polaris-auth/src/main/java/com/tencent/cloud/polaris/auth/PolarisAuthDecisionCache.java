@@ -0,0 +1,412 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.auth;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Message;
+import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.polaris.context.ServiceRuleManager;
+import com.tencent.polaris.api.pojo.ServiceEventKey;
+import com.tencent.polaris.api.pojo.ServiceRule;
+import com.tencent.polaris.auth.api.rpc.AuthResponse;
+import com.tencent.polaris.metadata.core.MessageMetadataContainer;
+import com.tencent.polaris.metadata.core.MetadataContainer;
+import com.tencent.polaris.metadata.core.MetadataMapValue;
+import com.tencent.polaris.metadata.core.MetadataStringValue;
+import com.tencent.polaris.metadata.core.MetadataType;
+import com.tencent.polaris.metadata.core.constant.MetadataConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of auth decisions.
+ * <p>
+ * Key of the cache is made of the revision of block/allow list rules, the request api, the caller service and the
+ * fingerprint of the labels which the rules reference. Rules are walked by protobuf reflection, and the type and key
+ * of every match argument found is collected, so decisions are not cached when the rules reference an unknown type
+ * of argument. Decisions expire after a short TTL and are all invalidated when the rule revision changes.
+ *
+ * @author agent 2026-10-17
+ */
+public class PolarisAuthDecisionCache {
+
+	private static final Logger LOG = LoggerFactory.getLogger(PolarisAuthDecisionCache.class);
+
+	private static final String MATCH_ARGUMENT = "MatchArgument";
+
+	private static final String TYPE_CUSTOM = "CUSTOM";
+
+	private static final String TYPE_METHOD = "METHOD";
+
+	private static final String TYPE_PATH = "PATH";
+
+	private static final String TYPE_HEADER = "HEADER";
+
+	private static final String TYPE_QUERY = "QUERY";
+
+	private static final String TYPE_COOKIE = "COOKIE";
+
+	private static final String TYPE_CALLER_SERVICE = "CALLER_SERVICE";
+
+	private static final String TYPE_CALLER_IP = "CALLER_IP";
+
+	private static final String TYPE_CALLER_METADATA = "CALLER_METADATA";
+
+	private static final Set<String> SUPPORTED_TYPES = Set.of(TYPE_CUSTOM, TYPE_METHOD, TYPE_PATH, TYPE_HEADER,
+			TYPE_QUERY, TYPE_COOKIE, TYPE_CALLER_SERVICE, TYPE_CALLER_IP, TYPE_CALLER_METADATA);
+
+	/**
+	 * Marks auth rules which can not be analyzed.
+	 */
+	private static final Set<String> UNSUPPORTED_RULES = Collections.unmodifiableSet(new HashSet<>());
+
+	private final ServiceRuleManager serviceRuleManager;
+
+	private final Cache<CacheKey, AuthResponse> cache;
+
+	/**
+	 * auth rule revision -> arguments (type:key) referenced by auth rules.
+	 */
+	private final Map<String, Set<String>> referencedArguments = new ConcurrentHashMap<>();
+
+	private volatile String lastRuleRevision;
+
+	public PolarisAuthDecisionCache(ServiceRuleManager serviceRuleManager, int maxSize, long ttlMillis) {
+		this.serviceRuleManager = serviceRuleManager;
+		this.cache = CacheBuilder.newBuilder()
+				.maximumSize(Math.max(1, maxSize))
+				.expireAfterWrite(Math.max(1L, ttlMillis), TimeUnit.MILLISECONDS)
+				.recordStats()
+				.build();
+	}
+
+	/**
+	 * Build cache key of current request.
+	 *
+	 * @param namespace namespace of callee service
+	 * @param service callee service
+	 * @param path path of request
+	 * @param protocol protocol of request
+	 * @param method method of request
+	 * @param metadataContext metadata context of current request
+	 * @return cache key, or null if decision of current request can not be cached
+	 */
+	public CacheKey buildCacheKey(String namespace, String service, String path, String protocol, String method,
+			MetadataContext metadataContext) {
+		if (metadataContext == null) {
+			return null;
+		}
+		ServiceRule serviceRule;
+		try {
+			serviceRule = serviceRuleManager.getServiceRule(namespace, service, ServiceEventKey.EventType.BLOCK_ALLOW_RULE);
+		}
+		catch (Throwable throwable) {
+			LOG.debug("Get auth rules of service {} failed, skip auth decision cache.", service, throwable);
+			return null;
+		}
+		String ruleRevision = revisionOf(serviceRule);
+		String lastRevision = lastRuleRevision;
+		if (lastRevision != null && !lastRevision.equals(ruleRevision)) {
+			invalidateAll();
+		}
+		lastRuleRevision = ruleRevision;
+
+		Set<String> arguments = referencedArguments.computeIfAbsent(ruleRevision,
+				revision -> parseReferencedArguments(serviceRule));
+		if (arguments == UNSUPPORTED_RULES) {
+			return null;
+		}
+
+		String callerService = callerServiceOf(metadataContext);
+		if (callerService == null && containsType(arguments, TYPE_CALLER_SERVICE)) {
+			// caller service is unknown, do not share decisions between callers.
+			return null;
+		}
+		String labelFingerprint = labelFingerprintOf(arguments, metadataContext);
+		return new CacheKey(ruleRevision, namespace + "#" + service + "#" + protocol + "#" + method + "#" + path,
+				callerService, labelFingerprint);
+	}
+
+	public AuthResponse get(CacheKey key) {
+		return cache.getIfPresent(key);
+	}
+
+	public void put(CacheKey key, AuthResponse authResponse) {
+		cache.put(key, authResponse);
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+		referencedArguments.clear();
+	}
+
+	public long getHitCount() {
+		return cache.stats().hitCount();
+	}
+
+	public long getMissCount() {
+		return cache.stats().missCount();
+	}
+
+	public double getHitRate() {
+		return cache.stats().hitRate();
+	}
+
+	public long getEvictionCount() {
+		return cache.stats().evictionCount();
+	}
+
+	public long size() {
+		return cache.size();
+	}
+
+	private static String revisionOf(ServiceRule serviceRule) {
+		if (serviceRule == null || serviceRule.getRevision() == null) {
+			return "";
+		}
+		return serviceRule.getRevision();
+	}
+
+	/**
+	 * Parse arguments referenced by auth rules.
+	 */
+	static Set<String> parseReferencedArguments(ServiceRule serviceRule) {
+		if (serviceRule == null || serviceRule.getRule() == null) {
+			return Collections.emptySet();
+		}
+		Set<String> arguments = new TreeSet<>();
+		if (!collectArguments(serviceRule.getRule(), arguments)) {
+			return UNSUPPORTED_RULES;
+		}
+		for (String argument : arguments) {
+			if (!SUPPORTED_TYPES.contains(typeOf(argument))) {
+				return UNSUPPORTED_RULES;
+			}
+		}
+		return Collections.unmodifiableSet(arguments);
+	}
+
+	private static boolean collectArguments(Object rule, Set<String> arguments) {
+		if (rule instanceof Message) {
+			collectArguments((Message) rule, arguments);
+			return true;
+		}
+		if (rule instanceof Iterable) {
+			for (Object element : (Iterable<?>) rule) {
+				if (!collectArguments(element, arguments)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+
+	private static void collectArguments(Message message, Set<String> arguments) {
+		Descriptors.Descriptor descriptor = message.getDescriptorForType();
+		if (MATCH_ARGUMENT.equals(descriptor.getName())) {
+			Descriptors.FieldDescriptor typeField = descriptor.findFieldByName("type");
+			Descriptors.FieldDescriptor keyField = descriptor.findFieldByName("key");
+			if (typeField != null && keyField != null
+					&& typeField.getJavaType() == Descriptors.FieldDescriptor.JavaType.ENUM) {
+				String type = ((Descriptors.EnumValueDescriptor) message.getField(typeField)).getName();
+				arguments.add(type + ":" + message.getField(keyField));
+				return;
+			}
+		}
+		for (Map.Entry<Descriptors.FieldDescriptor, Object> entry : message.getAllFields().entrySet()) {
+			if (entry.getKey().getJavaType() != Descriptors.FieldDescriptor.JavaType.MESSAGE) {
+				continue;
+			}
+			if (entry.getKey().isRepeated()) {
+				for (Object element : (List<?>) entry.getValue()) {
+					collectArguments((Message) element, arguments);
+				}
+			}
+			else {
+				collectArguments((Message) entry.getValue(), arguments);
+			}
+		}
+	}
+
+	private static String typeOf(String argument) {
+		return argument.substring(0, argument.indexOf(':'));
+	}
+
+	private static String keyOf(String argument) {
+		return argument.substring(argument.indexOf(':') + 1);
+	}
+
+	private static boolean containsType(Set<String> arguments, String type) {
+		for (String argument : arguments) {
+			if (type.equals(typeOf(argument))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Get caller service from metadata transferred by caller. Application metadata of callee itself is not a caller.
+	 *
+	 * @param metadataContext metadata context of current request
+	 * @return namespace and name of caller service, or null if caller is unknown
+	 */
+	private static String callerServiceOf(MetadataContext metadataContext) {
+		MetadataContainer callerContainer = metadataContext.getOverlayMetadataContainer(MetadataType.APPLICATION, true);
+		String callerService = callerContainer.getRawMetadataStringValue(MetadataConstants.LOCAL_SERVICE);
+		if (callerService == null) {
+			return null;
+		}
+		String callerNamespace = callerContainer.getRawMetadataStringValue(MetadataConstants.LOCAL_NAMESPACE);
+		return callerNamespace + "#" + callerService;
+	}
+
+	private static String labelFingerprintOf(Set<String> arguments, MetadataContext metadataContext) {
+		StringBuilder fingerprint = new StringBuilder();
+		MetadataContainer messageContainer = metadataContext.getOverlayMetadataContainer(MetadataType.MESSAGE, false);
+		boolean customReferenced = false;
+		for (String argument : arguments) {
+			String type = typeOf(argument);
+			String key = keyOf(argument);
+			String value;
+			switch (type) {
+			case TYPE_HEADER:
+				value = messageContainer.getRawMetadataMapValue(MessageMetadataContainer.LABEL_MAP_KEY_HEADER, key);
+				break;
+			case TYPE_QUERY:
+				value = messageContainer.getRawMetadataMapValue(MessageMetadataContainer.LABEL_MAP_KEY_QUERY, key);
+				break;
+			case TYPE_COOKIE:
+				value = messageContainer.getRawMetadataMapValue(MessageMetadataContainer.LABEL_MAP_KEY_COOKIE, key);
+				break;
+			case TYPE_CALLER_IP:
+				value = messageContainer.getRawMetadataStringValue(MessageMetadataContainer.LABEL_KEY_CALLER_IP);
+				break;
+			case TYPE_CUSTOM:
+			case TYPE_CALLER_METADATA:
+				customReferenced = true;
+				continue;
+			default:
+				// method, path and caller service are part of the cache key.
+				continue;
+			}
+			fingerprint.append('|').append(argument).append('=').append(value);
+		}
+		if (customReferenced) {
+			// static custom metadata is same for all requests, so metadata of this context alone tells requests apart.
+			fingerprint.append('|').append(customMetadataOf(metadataContext.getOverlayMetadataContainer(MetadataType.CUSTOM, false)));
+			fingerprint.append('|').append(customMetadataOf(metadataContext.getOverlayMetadataContainer(MetadataType.CUSTOM, true)));
+		}
+		return fingerprint.toString();
+	}
+
+	private static Map<String, String> customMetadataOf(MetadataContainer customContainer) {
+		Map<String, String> customMetadata = new TreeMap<>();
+		customContainer.iterateMetadataValues((key, value) -> {
+			if (value instanceof MetadataStringValue) {
+				customMetadata.put(key, ((MetadataStringValue) value).getStringValue());
+			}
+			else if (value instanceof MetadataMapValue) {
+				((MetadataMapValue) value).iterateMapValues((mapKey, mapValue) -> {
+					if (mapValue instanceof MetadataStringValue) {
+						customMetadata.put(key + "." + mapKey, ((MetadataStringValue) mapValue).getStringValue());
+					}
+				});
+			}
+		});
+		return customMetadata;
+	}
+
+	@Override
+	public String toString() {
+		return "PolarisAuthDecisionCache{" +
+				"size=" + size() +
+				", hitCount=" + getHitCount() +
+				", missCount=" + getMissCount() +
+				", evictionCount=" + getEvictionCount() +
+				'}';
+	}
+
+	/**
+	 * Key of auth decision cache.
+	 */
+	public static final class CacheKey {
+
+		private final String ruleRevision;
+
+		private final String api;
+
+		private final String callerService;
+
+		private final String labelFingerprint;
+
+		private final int hash;
+
+		CacheKey(String ruleRevision, String api, String callerService, String labelFingerprint) {
+			this.ruleRevision = ruleRevision;
+			this.api = api;
+			this.callerService = callerService;
+			this.labelFingerprint = labelFingerprint;
+			this.hash = Objects.hash(ruleRevision, api, callerService, labelFingerprint);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey that = (CacheKey) o;
+			return Objects.equals(ruleRevision, that.ruleRevision)
+					&& Objects.equals(api, that.api)
+					&& Objects.equals(callerService, that.callerService)
+					&& Objects.equals(labelFingerprint, that.labelFingerprint);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public String toString() {
+			return "CacheKey{" +
+					"ruleRevision='" + ruleRevision + '\'' +
+					", api='" + api + '\'' +
+					", callerService='" + callerService + '\'' +
+					", labelFingerprint='" + labelFingerprint + '\'' +
+					'}';
+		}
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.auth;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Bind stats of {@link PolarisAuthDecisionCache} to micrometer.
+ *
+ * @author agent 2026-10-17
+ */
+public class PolarisAuthDecisionCacheMeterBinder implements MeterBinder {
+
+	/**
+	 * Requests of auth decision cache, tagged by result of hit or miss.
+	 */
+	public static final String CACHE_REQUESTS = "sct.auth.decision.cache.requests";
+
+	/**
+	 * Size of auth decision cache.
+	 */
+	public static final String CACHE_SIZE = "sct.auth.decision.cache.size";
+
+	/**
+	 * Evictions of auth decision cache.
+	 */
+	public static final String CACHE_EVICTIONS = "sct.auth.decision.cache.evictions";
+
+	private final PolarisAuthDecisionCache authDecisionCache;
+
+	public PolarisAuthDecisionCacheMeterBinder(PolarisAuthDecisionCache authDecisionCache) {
+		this.authDecisionCache = authDecisionCache;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder(CACHE_REQUESTS, authDecisionCache, PolarisAuthDecisionCache::getHitCount)
+				.tag("result", "hit")
+				.description("Requests which hit auth decision cache")
+				.register(registry);
+		FunctionCounter.builder(CACHE_REQUESTS, authDecisionCache, PolarisAuthDecisionCache::getMissCount)
+				.tag("result", "miss")
+				.description("Requests which miss auth decision cache")
+				.register(registry);
+		FunctionCounter.builder(CACHE_EVICTIONS, authDecisionCache, PolarisAuthDecisionCache::getEvictionCount)
+				.description("Evictions of auth decision cache")
+				.register(registry);
+		Gauge.builder(CACHE_SIZE, authDecisionCache, PolarisAuthDecisionCache::size)
+				.description("Size of auth decision cache")
+				.register(registry);
+	}
+}
@@ -18,13 +18,20 @@
 package com.tencent.cloud.polaris.auth.config;
 
 import com.tencent.cloud.common.constant.OrderConstant;
+import com.tencent.cloud.polaris.auth.PolarisAuthDecisionCache;
+import com.tencent.cloud.polaris.auth.PolarisAuthDecisionCacheMeterBinder;
 import com.tencent.cloud.polaris.auth.filter.AuthReactiveFilter;
 import com.tencent.cloud.polaris.auth.filter.AuthServletFilter;
 import com.tencent.cloud.polaris.context.PolarisSDKContextManager;
+import com.tencent.cloud.polaris.context.ServiceRuleManager;
 import com.tencent.cloud.polaris.context.config.PolarisContextAutoConfiguration;
+import io.micrometer.core.instrument.binder.MeterBinder;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -55,8 +62,9 @@ public class PolarisAuthAutoConfiguration {
 
 		@Bean
 		@ConditionalOnMissingBean
-		public AuthServletFilter authServletFilter(PolarisSDKContextManager polarisSDKContextManager) {
-			return new AuthServletFilter(polarisSDKContextManager.getAuthAPI());
+		public AuthServletFilter authServletFilter(PolarisSDKContextManager polarisSDKContextManager,
+				ObjectProvider<PolarisAuthDecisionCache> polarisAuthDecisionCacheProvider) {
+			return new AuthServletFilter(polarisSDKContextManager.getAuthAPI(), polarisAuthDecisionCacheProvider.getIfAvailable());
 		}
 
 		@Bean
@@ -79,8 +87,40 @@ public class PolarisAuthAutoConfiguration {
 	protected static class AuthReactiveFilterConfig {
 
 		@Bean
-		public AuthReactiveFilter authReactiveFilter(PolarisSDKContextManager polarisSDKContextManager) {
-			return new AuthReactiveFilter(polarisSDKContextManager.getAuthAPI());
+		public AuthReactiveFilter authReactiveFilter(PolarisSDKContextManager polarisSDKContextManager,
+				ObjectProvider<PolarisAuthDecisionCache> polarisAuthDecisionCacheProvider) {
+			return new AuthReactiveFilter(polarisSDKContextManager.getAuthAPI(), polarisAuthDecisionCacheProvider.getIfAvailable());
+		}
+	}
+
+	/**
+	 * Create when auth decision cache is enabled.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(value = "spring.cloud.polaris.auth.decision-cache.enabled", havingValue = "true")
+	protected static class AuthDecisionCacheConfig {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public PolarisAuthDecisionCache polarisAuthDecisionCache(ServiceRuleManager serviceRuleManager,
+				PolarisAuthDecisionCacheProperties polarisAuthDecisionCacheProperties) {
+			return new PolarisAuthDecisionCache(serviceRuleManager, polarisAuthDecisionCacheProperties.getMaxSize(),
+					polarisAuthDecisionCacheProperties.getTtl());
+		}
+
+		/**
+		 * Create when micrometer is present.
+		 */
+		@Configuration(proxyBeanMethods = false)
+		@ConditionalOnClass(MeterBinder.class)
+		protected static class AuthDecisionCacheMeterBinderConfig {
+
+			@Bean
+			@ConditionalOnMissingBean
+			public PolarisAuthDecisionCacheMeterBinder polarisAuthDecisionCacheMeterBinder(
+					PolarisAuthDecisionCache polarisAuthDecisionCache) {
+				return new PolarisAuthDecisionCacheMeterBinder(polarisAuthDecisionCache);
+			}
 		}
 	}
 }
@@ -28,7 +28,7 @@ import org.springframework.context.annotation.Configuration;
  * @author Haotian Zhang
  */
 @Configuration(proxyBeanMethods = false)
-@EnableConfigurationProperties(PolarisAuthProperties.class)
+@EnableConfigurationProperties({PolarisAuthProperties.class, PolarisAuthDecisionCacheProperties.class})
 public class PolarisAuthPropertiesAutoConfiguration {
 
 	@Bean
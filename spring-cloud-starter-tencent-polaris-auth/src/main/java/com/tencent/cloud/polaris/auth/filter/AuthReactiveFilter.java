@@ -19,6 +19,7 @@ package com.tencent.cloud.polaris.auth.filter;
 
 import com.tencent.cloud.common.constant.OrderConstant;
 import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.polaris.auth.PolarisAuthDecisionCache;
 import com.tencent.cloud.polaris.auth.utils.AuthenticateUtils;
 import com.tencent.polaris.api.plugin.auth.AuthResult;
 import com.tencent.polaris.auth.api.core.AuthAPI;
@@ -29,6 +30,7 @@ import org.springframework.core.Ordered;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.lang.Nullable;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
@@ -44,8 +46,18 @@ public class AuthReactiveFilter implements WebFilter, Ordered {
 
 	private final AuthAPI authAPI;
 
+	/**
+	 * Null when auth decision cache is disabled.
+	 */
+	private final PolarisAuthDecisionCache authDecisionCache;
+
 	public AuthReactiveFilter(AuthAPI authAPI) {
+		this(authAPI, null);
+	}
+
+	public AuthReactiveFilter(AuthAPI authAPI, @Nullable PolarisAuthDecisionCache authDecisionCache) {
 		this.authAPI = authAPI;
+		this.authDecisionCache = authDecisionCache;
 	}
 
 	@Override
@@ -55,7 +67,7 @@ public class AuthReactiveFilter implements WebFilter, Ordered {
 
 	@Override
 	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
-		AuthResponse authResponse = AuthenticateUtils.authenticate(authAPI, MetadataContext.LOCAL_NAMESPACE,
+		AuthResponse authResponse = AuthenticateUtils.authenticate(authAPI, authDecisionCache, MetadataContext.LOCAL_NAMESPACE,
 				MetadataContext.LOCAL_SERVICE, exchange.getRequest().getURI().getPath(), "HTTP",
 				exchange.getRequest().getMethod().name());
 		if (authResponse != null && authResponse.getAuthResult().getCode()
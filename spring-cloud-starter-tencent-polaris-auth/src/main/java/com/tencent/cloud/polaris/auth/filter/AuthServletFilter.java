@@ -21,6 +21,7 @@ import java.io.IOException;
 
 import com.tencent.cloud.common.constant.OrderConstant;
 import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.polaris.auth.PolarisAuthDecisionCache;
 import com.tencent.cloud.polaris.auth.utils.AuthenticateUtils;
 import com.tencent.polaris.api.plugin.auth.AuthResult;
 import com.tencent.polaris.auth.api.core.AuthAPI;
@@ -32,6 +33,7 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 /**
@@ -49,13 +51,23 @@ public class AuthServletFilter extends OncePerRequestFilter {
 
 	private final AuthAPI authAPI;
 
+	/**
+	 * Null when auth decision cache is disabled.
+	 */
+	private final PolarisAuthDecisionCache authDecisionCache;
+
 	public AuthServletFilter(AuthAPI authAPI) {
+		this(authAPI, null);
+	}
+
+	public AuthServletFilter(AuthAPI authAPI, @Nullable PolarisAuthDecisionCache authDecisionCache) {
 		this.authAPI = authAPI;
+		this.authDecisionCache = authDecisionCache;
 	}
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-		AuthResponse authResponse = AuthenticateUtils.authenticate(authAPI, MetadataContext.LOCAL_NAMESPACE,
+		AuthResponse authResponse = AuthenticateUtils.authenticate(authAPI, authDecisionCache, MetadataContext.LOCAL_NAMESPACE,
 				MetadataContext.LOCAL_SERVICE, request.getRequestURI(), "HTTP", request.getMethod());
 		if (authResponse != null && authResponse.getAuthResult().getCode()
 				.equals(AuthResult.Code.AuthResultForbidden)) {
@@ -17,7 +17,9 @@
 
 package com.tencent.cloud.polaris.auth.utils;
 
+import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.common.metadata.MetadataContextHolder;
+import com.tencent.cloud.polaris.auth.PolarisAuthDecisionCache;
 import com.tencent.polaris.api.plugin.auth.AuthResult;
 import com.tencent.polaris.auth.api.core.AuthAPI;
 import com.tencent.polaris.auth.api.rpc.AuthRequest;
@@ -50,4 +52,36 @@ public final class AuthenticateUtils {
 			return new AuthResponse(new AuthResult(AuthResult.Code.AuthResultOk));
 		}
 	}
+
+	public static AuthResponse authenticate(AuthAPI authAPI, PolarisAuthDecisionCache authDecisionCache,
+			String namespace, String service, String path, String protocol, String method) {
+		if (authDecisionCache == null) {
+			return authenticate(authAPI, namespace, service, path, protocol, method);
+		}
+		MetadataContext metadataContext = MetadataContextHolder.get();
+		PolarisAuthDecisionCache.CacheKey cacheKey = authDecisionCache.buildCacheKey(namespace, service, path,
+				protocol, method, metadataContext);
+		if (cacheKey != null) {
+			AuthResponse authResponse = authDecisionCache.get(cacheKey);
+			if (authResponse != null) {
+				return authResponse;
+			}
+		}
+
+		// build auth request
+		AuthRequest authRequest = new AuthRequest(namespace, service, path, protocol, method, metadataContext);
+
+		try {
+			AuthResponse authResponse = authAPI.authenticate(authRequest);
+			// decisions of failed invocations are not cached.
+			if (cacheKey != null && authResponse != null) {
+				authDecisionCache.put(cacheKey, authResponse);
+			}
+			return authResponse;
+		}
+		catch (Throwable throwable) {
+			LOG.error("fail to invoke authenticate of AuthAPI with AuthRequest[{}].", authRequest, throwable);
+			return new AuthResponse(new AuthResult(AuthResult.Code.AuthResultOk));
+		}
+	}
 }
@@ -0,0 +1,196 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.auth;
+
+import com.google.protobuf.StringValue;
+import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.polaris.context.ServiceRuleManager;
+import com.tencent.polaris.api.plugin.auth.AuthResult;
+import com.tencent.polaris.api.pojo.ServiceEventKey;
+import com.tencent.polaris.api.pojo.ServiceRule;
+import com.tencent.polaris.auth.api.rpc.AuthResponse;
+import com.tencent.polaris.metadata.core.MessageMetadataContainer;
+import com.tencent.polaris.metadata.core.MetadataType;
+import com.tencent.polaris.metadata.core.TransitiveType;
+import com.tencent.polaris.metadata.core.constant.MetadataConstants;
+import com.tencent.polaris.specification.api.v1.model.ModelProto;
+import com.tencent.polaris.specification.api.v1.security.BlockAllowListProto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link PolarisAuthDecisionCache}.
+ *
+ * @author agent 2026-10-17
+ */
+public class PolarisAuthDecisionCacheTest {
+
+	private static final String NAMESPACE = "default";
+
+	private static final String SERVICE = "TestApp";
+
+	private ServiceRuleManager serviceRuleManager;
+
+	private PolarisAuthDecisionCache cache;
+
+	@BeforeEach
+	void setUp() {
+		serviceRuleManager = mock(ServiceRuleManager.class);
+		cache = new PolarisAuthDecisionCache(serviceRuleManager, 16, 60000L);
+	}
+
+	@Test
+	public void testParseReferencedArguments() {
+		assertThat(PolarisAuthDecisionCache.parseReferencedArguments(null)).isEmpty();
+
+		ServiceRule serviceRule = mockServiceRule("1", headerRule("uid"));
+		assertThat(PolarisAuthDecisionCache.parseReferencedArguments(serviceRule)).containsExactly("HEADER:uid");
+
+		// rules which can not be walked are not cached.
+		serviceRule = mockServiceRule("2", "unknown");
+		when(serviceRuleManager.getServiceRule(anyString(), anyString(), eq(ServiceEventKey.EventType.BLOCK_ALLOW_RULE)))
+				.thenReturn(serviceRule);
+		assertThat(cache.buildCacheKey(NAMESPACE, SERVICE, "/echo", "HTTP", "GET",
+				metadataContext("caller", "1000", "trace-1"))).isNull();
+	}
+
+	@Test
+	public void testCacheKeyByReferencedLabels() {
+		ServiceRule serviceRule = mockServiceRule("1", headerRule("uid"));
+		when(serviceRuleManager.getServiceRule(anyString(), anyString(), eq(ServiceEventKey.EventType.BLOCK_ALLOW_RULE)))
+				.thenReturn(serviceRule);
+
+		PolarisAuthDecisionCache.CacheKey key1 = cache.buildCacheKey(NAMESPACE, SERVICE, "/echo", "HTTP", "GET",
+				metadataContext("caller", "1000", "trace-1"));
+		PolarisAuthDecisionCache.CacheKey key2 = cache.buildCacheKey(NAMESPACE, SERVICE, "/echo", "HTTP", "GET",
+				metadataContext("caller", "1000", "trace-2"));
+		PolarisAuthDecisionCache.CacheKey key3 = cache.buildCacheKey(NAMESPACE, SERVICE, "/echo", "HTTP", "GET",
+				metadataContext("caller", "1001", "trace-1"));
+		PolarisAuthDecisionCache.CacheKey key4 = cache.buildCacheKey(NAMESPACE, SERVICE, "/echo", "HTTP", "GET",
+				metadataContext("other", "1000", "trace-1"));
+		PolarisAuthDecisionCache.CacheKey key5 = cache.buildCacheKey(NAMESPACE, SERVICE, "/echo", "HTTP", "POST",
+				metadataContext("caller", "1000", "trace-1"));
+
+		// labels which rules do not reference are not part of key.
+		assertThat(key1).isEqualTo(key2);
+		assertThat(key1).isNotEqualTo(key3);
+		assertThat(key1).isNotEqualTo(key4);
+		assertThat(key1).isNotEqualTo(key5);
+
+		AuthResponse forbidden = new AuthResponse(new AuthResult(AuthResult.Code.AuthResultForbidden));
+		cache.put(key1, forbidden);
+		assertThat(cache.get(key2)).isSameAs(forbidden);
+		assertThat(cache.get(key3)).isNull();
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(1);
+		assertThat(cache.getHitRate()).isEqualTo(0.5);
+	}
+
+	@Test
+	public void testInvalidateOnRevisionChange() {
+		ServiceRule serviceRule = mockServiceRule("1", headerRule("uid"));
+		when(serviceRuleManager.getServiceRule(anyString(), anyString(), eq(ServiceEventKey.EventType.BLOCK_ALLOW_RULE)))
+				.thenReturn(serviceRule);
+		PolarisAuthDecisionCache.CacheKey key = cache.buildCacheKey(NAMESPACE, SERVICE, "/echo", "HTTP", "GET",
+				metadataContext("caller", "1000", "trace-1"));
+		cache.put(key, new AuthResponse(new AuthResult(AuthResult.Code.AuthResultOk)));
+		assertThat(cache.size()).isEqualTo(1);
+
+		ServiceRule newServiceRule = mockServiceRule("2", headerRule("uid"));
+		when(serviceRuleManager.getServiceRule(anyString(), anyString(), eq(ServiceEventKey.EventType.BLOCK_ALLOW_RULE)))
+				.thenReturn(newServiceRule);
+		PolarisAuthDecisionCache.CacheKey newKey = cache.buildCacheKey(NAMESPACE, SERVICE, "/echo", "HTTP", "GET",
+				metadataContext("caller", "1000", "trace-1"));
+		assertThat(newKey).isNotEqualTo(key);
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	public void testUnsupportedArgument() {
+		ServiceRule serviceRule = mockServiceRule("1", rule(BlockAllowListProto.BlockAllowConfig.MatchArgument.newBuilder()
+				.setTypeValue(100)
+				.setKey("unknown")));
+		when(serviceRuleManager.getServiceRule(anyString(), anyString(), eq(ServiceEventKey.EventType.BLOCK_ALLOW_RULE)))
+				.thenReturn(serviceRule);
+		assertThat(cache.buildCacheKey(NAMESPACE, SERVICE, "/echo", "HTTP", "GET",
+				metadataContext("caller", "1000", "trace-1"))).isNull();
+	}
+
+	@Test
+	public void testUnknownCaller() {
+		ServiceRule serviceRule = mockServiceRule("1", rule(BlockAllowListProto.BlockAllowConfig.MatchArgument.newBuilder()
+				.setType(BlockAllowListProto.BlockAllowConfig.MatchArgument.Type.CALLER_SERVICE)
+				.setKey(NAMESPACE)
+				.setValue(ModelProto.MatchString.newBuilder().setValue(StringValue.of("caller")))));
+		when(serviceRuleManager.getServiceRule(anyString(), anyString(), eq(ServiceEventKey.EventType.BLOCK_ALLOW_RULE)))
+				.thenReturn(serviceRule);
+		assertThat(cache.buildCacheKey(NAMESPACE, SERVICE, "/echo", "HTTP", "GET",
+				metadataContext("caller", "1000", "trace-1"))).isNotNull();
+
+		// application metadata of callee itself is not taken as caller.
+		MetadataContext metadataContext = metadataContext(null, "1000", "trace-1");
+		metadataContext.getMetadataContainer(MetadataType.APPLICATION, false)
+				.putMetadataStringValue(MetadataConstants.LOCAL_SERVICE, SERVICE, TransitiveType.NONE);
+		assertThat(cache.buildCacheKey(NAMESPACE, SERVICE, "/echo", "HTTP", "GET", metadataContext)).isNull();
+	}
+
+	private static BlockAllowListProto.BlockAllowListRule headerRule(String headerKey) {
+		return rule(BlockAllowListProto.BlockAllowConfig.MatchArgument.newBuilder()
+				.setType(BlockAllowListProto.BlockAllowConfig.MatchArgument.Type.HEADER)
+				.setKey(headerKey)
+				.setValue(ModelProto.MatchString.newBuilder().setValue(StringValue.of("1000"))));
+	}
+
+	private static BlockAllowListProto.BlockAllowListRule rule(
+			BlockAllowListProto.BlockAllowConfig.MatchArgument.Builder argument) {
+		return BlockAllowListProto.BlockAllowListRule.newBuilder()
+				.setNamespace(NAMESPACE)
+				.setService(SERVICE)
+				.addBlockAllowConfig(BlockAllowListProto.BlockAllowConfig.newBuilder()
+						.addArguments(argument)
+						.setBlockAllowPolicy(BlockAllowListProto.BlockAllowConfig.BlockAllowPolicy.BLOCK_LIST))
+				.build();
+	}
+
+	private static ServiceRule mockServiceRule(String revision, Object rule) {
+		ServiceRule serviceRule = mock(ServiceRule.class);
+		when(serviceRule.getRevision()).thenReturn(revision);
+		when(serviceRule.getRule()).thenReturn(rule);
+		return serviceRule;
+	}
+
+	private static MetadataContext metadataContext(String callerService, String uid, String traceId) {
+		MetadataContext metadataContext = new MetadataContext();
+		if (callerService != null) {
+			metadataContext.getMetadataContainer(MetadataType.APPLICATION, true)
+					.putMetadataStringValue(MetadataConstants.LOCAL_SERVICE, callerService, TransitiveType.DISPOSABLE);
+		}
+		MessageMetadataContainer messageContainer = metadataContext.getMetadataContainer(MetadataType.MESSAGE, false);
+		messageContainer.putMetadataMapValue(MessageMetadataContainer.LABEL_MAP_KEY_HEADER, "uid", uid,
+				TransitiveType.NONE);
+		messageContainer.putMetadataMapValue(MessageMetadataContainer.LABEL_MAP_KEY_HEADER, "trace-id", traceId,
+				TransitiveType.NONE);
+		return metadataContext;
+	}
+}
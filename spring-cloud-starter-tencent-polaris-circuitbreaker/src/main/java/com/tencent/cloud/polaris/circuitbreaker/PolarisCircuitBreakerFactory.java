@@ -21,11 +21,14 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
+import com.tencent.cloud.polaris.circuitbreaker.common.CircuitBreakerInstanceCache;
 import com.tencent.cloud.polaris.circuitbreaker.common.PolarisCircuitBreakerConfigBuilder;
 import com.tencent.cloud.polaris.circuitbreaker.config.PolarisCircuitBreakerProperties;
 import com.tencent.cloud.polaris.circuitbreaker.util.PolarisCircuitBreakerUtils;
+import com.tencent.cloud.polaris.context.ServiceRuleManager;
 import com.tencent.polaris.api.core.ConsumerAPI;
 import com.tencent.polaris.api.utils.ThreadPoolUtils;
 import com.tencent.polaris.circuitbreak.api.CircuitBreakAPI;
@@ -47,6 +50,8 @@ public class PolarisCircuitBreakerFactory
 
 	private final ConsumerAPI consumerAPI;
 
+	private final CircuitBreakerInstanceCache<CircuitBreaker> instanceCache;
+
 	private final ScheduledExecutorService cleanupService = Executors.newSingleThreadScheduledExecutor(
 			new NamedThreadFactory("sct-circuitbreaker-cleanup", true));
 
@@ -64,21 +69,32 @@ public class PolarisCircuitBreakerFactory
 
 	public PolarisCircuitBreakerFactory(CircuitBreakAPI circuitBreakAPI, ConsumerAPI consumerAPI,
 			PolarisCircuitBreakerProperties polarisCircuitBreakerProperties) {
+		this(circuitBreakAPI, consumerAPI, polarisCircuitBreakerProperties, null);
+	}
+
+	public PolarisCircuitBreakerFactory(CircuitBreakAPI circuitBreakAPI, ConsumerAPI consumerAPI,
+			PolarisCircuitBreakerProperties polarisCircuitBreakerProperties, ServiceRuleManager serviceRuleManager) {
 		this.circuitBreakAPI = circuitBreakAPI;
 		this.consumerAPI = consumerAPI;
+		this.instanceCache = new CircuitBreakerInstanceCache<>(polarisCircuitBreakerProperties.getInstanceCacheMaxSize(),
+				polarisCircuitBreakerProperties.getInstanceCacheIdleTtl(), serviceRuleManager);
 		cleanupService.scheduleWithFixedDelay(
 				() -> {
 					getConfigurations().clear();
 				},
 				polarisCircuitBreakerProperties.getConfigurationCleanupInterval(),
 				polarisCircuitBreakerProperties.getConfigurationCleanupInterval(), TimeUnit.MILLISECONDS);
+		if (serviceRuleManager != null) {
+			cleanupService.scheduleWithFixedDelay(instanceCache::invalidateChangedRules,
+					polarisCircuitBreakerProperties.getInstanceCacheRuleCheckInterval(),
+					polarisCircuitBreakerProperties.getInstanceCacheRuleCheckInterval(), TimeUnit.MILLISECONDS);
+		}
 	}
 
 	@Override
 	public CircuitBreaker create(String id) {
-		PolarisCircuitBreakerConfigBuilder.PolarisCircuitBreakerConfiguration conf = getConfigurations()
-				.computeIfAbsent(id, defaultConfiguration);
-		return new PolarisCircuitBreaker(conf, consumerAPI, circuitBreakAPI);
+		return instanceCache.get(id, getConfigurations().computeIfAbsent(id, defaultConfiguration),
+				conf -> new PolarisCircuitBreaker(conf, consumerAPI, circuitBreakAPI));
 	}
 
 	@Override
@@ -90,6 +106,19 @@ public class PolarisCircuitBreakerFactory
 	@Override
 	public void configureDefault(Function<String, PolarisCircuitBreakerConfigBuilder.PolarisCircuitBreakerConfiguration> defaultConfiguration) {
 		this.defaultConfiguration = defaultConfiguration;
+		instanceCache.invalidateAll();
+	}
+
+	@Override
+	public void configure(Consumer<PolarisCircuitBreakerConfigBuilder> consumer, String... ids) {
+		super.configure(consumer, ids);
+		for (String id : ids) {
+			instanceCache.invalidate(id);
+		}
+	}
+
+	public CircuitBreakerInstanceCache<CircuitBreaker> getInstanceCache() {
+		return instanceCache;
 	}
 
 	@Override
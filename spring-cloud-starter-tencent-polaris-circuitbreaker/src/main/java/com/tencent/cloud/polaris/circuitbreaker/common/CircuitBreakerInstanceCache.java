@@ -0,0 +1,162 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.circuitbreaker.common;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.tencent.cloud.polaris.context.ServiceRuleManager;
+import com.tencent.polaris.api.pojo.ServiceEventKey;
+import com.tencent.polaris.api.pojo.ServiceRule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of ready-to-use circuit breaker instances keyed by circuit breaker id.
+ * <p>
+ * Entries expire after being idle for a while and the least recently used entry is evicted when the cache is full.
+ * Entries are invalidated by {@link #invalidateChangedRules()} when circuit breaker rule of the target service changes.
+ *
+ * @param <T> type of circuit breaker
+ * @author agent 2026-10-17
+ */
+public class CircuitBreakerInstanceCache<T> {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CircuitBreakerInstanceCache.class);
+
+	private final Cache<String, Entry<T>> cache;
+
+	private final ServiceRuleManager serviceRuleManager;
+
+	public CircuitBreakerInstanceCache(long maxSize, long idleTtl, ServiceRuleManager serviceRuleManager) {
+		this.cache = CacheBuilder.newBuilder()
+				.maximumSize(Math.max(1, maxSize))
+				.expireAfterAccess(Math.max(1, idleTtl), TimeUnit.MILLISECONDS)
+				.recordStats()
+				.build();
+		this.serviceRuleManager = serviceRuleManager;
+	}
+
+	/**
+	 * Get cached circuit breaker, or create and cache one.
+	 *
+	 * @param id      circuit breaker id
+	 * @param conf    circuit breaker configuration, used on cache miss
+	 * @param creator create circuit breaker from configuration
+	 * @return circuit breaker
+	 */
+	public T get(String id, PolarisCircuitBreakerConfigBuilder.PolarisCircuitBreakerConfiguration conf,
+			Function<PolarisCircuitBreakerConfigBuilder.PolarisCircuitBreakerConfiguration, T> creator) {
+		Entry<T> entry = cache.getIfPresent(id);
+		if (entry != null) {
+			return entry.instance;
+		}
+		String ruleRevision = ruleRevisionOf(conf.getNamespace(), conf.getService());
+		T instance = creator.apply(conf);
+		cache.put(id, new Entry<>(instance, conf.getNamespace(), conf.getService(), ruleRevision));
+		return instance;
+	}
+
+	/**
+	 * Invalidate circuit breakers whose target service circuit breaker rule revision changed.
+	 */
+	public void invalidateChangedRules() {
+		if (serviceRuleManager == null) {
+			return;
+		}
+		cache.cleanUp();
+		Map<String, String> revisions = new HashMap<>();
+		Iterator<Entry<T>> iterator = cache.asMap().values().iterator();
+		while (iterator.hasNext()) {
+			Entry<T> entry = iterator.next();
+			String revision = revisions.computeIfAbsent(entry.namespace + "#" + entry.service,
+					key -> ruleRevisionOf(entry.namespace, entry.service));
+			if (revision != null && !revision.equals(entry.ruleRevision)) {
+				iterator.remove();
+			}
+		}
+	}
+
+	public void invalidate(String id) {
+		cache.invalidate(id);
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	public long getHitCount() {
+		return cache.stats().hitCount();
+	}
+
+	public long getMissCount() {
+		return cache.stats().missCount();
+	}
+
+	public long getEvictionCount() {
+		return cache.stats().evictionCount();
+	}
+
+	public long size() {
+		return cache.size();
+	}
+
+	/**
+	 * @return revision of circuit breaker rule, empty if there is no rule, null if it cannot be fetched
+	 */
+	private String ruleRevisionOf(String namespace, String service) {
+		if (serviceRuleManager == null) {
+			return null;
+		}
+		try {
+			ServiceRule serviceRule = serviceRuleManager.getServiceRule(namespace, service,
+					ServiceEventKey.EventType.CIRCUIT_BREAKING);
+			if (serviceRule == null || serviceRule.getRevision() == null) {
+				return "";
+			}
+			return serviceRule.getRevision();
+		}
+		catch (Throwable throwable) {
+			LOG.debug("Get circuit breaker rule revision of {}.{} failed.", namespace, service, throwable);
+			return null;
+		}
+	}
+
+	private static final class Entry<T> {
+
+		private final T instance;
+
+		private final String namespace;
+
+		private final String service;
+
+		private final String ruleRevision;
+
+		private Entry(T instance, String namespace, String service, String ruleRevision) {
+			this.instance = instance;
+			this.namespace = namespace;
+			this.service = service;
+			this.ruleRevision = ruleRevision;
+		}
+	}
+}
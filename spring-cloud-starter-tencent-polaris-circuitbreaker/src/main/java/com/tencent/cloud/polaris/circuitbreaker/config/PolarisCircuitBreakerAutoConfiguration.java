@@ -26,9 +26,11 @@ import com.tencent.cloud.polaris.circuitbreaker.instrument.resttemplate.PolarisC
 import com.tencent.cloud.polaris.circuitbreaker.reporter.ExceptionCircuitBreakerReporter;
 import com.tencent.cloud.polaris.circuitbreaker.reporter.SuccessCircuitBreakerReporter;
 import com.tencent.cloud.polaris.context.PolarisSDKContextManager;
+import com.tencent.cloud.polaris.context.ServiceRuleManager;
 import com.tencent.cloud.rpc.enhancement.config.RpcEnhancementAutoConfiguration;
 import com.tencent.cloud.rpc.enhancement.config.RpcEnhancementReporterProperties;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -79,9 +81,11 @@ public class PolarisCircuitBreakerAutoConfiguration {
 	@Bean
 	@ConditionalOnMissingBean(CircuitBreakerFactory.class)
 	public CircuitBreakerFactory polarisCircuitBreakerFactory(PolarisSDKContextManager polarisSDKContextManager,
-			PolarisCircuitBreakerProperties polarisCircuitBreakerProperties) {
+			PolarisCircuitBreakerProperties polarisCircuitBreakerProperties,
+			ObjectProvider<ServiceRuleManager> serviceRuleManagerProvider) {
 		PolarisCircuitBreakerFactory factory = new PolarisCircuitBreakerFactory(
-				polarisSDKContextManager.getCircuitBreakAPI(), polarisSDKContextManager.getConsumerAPI(), polarisCircuitBreakerProperties);
+				polarisSDKContextManager.getCircuitBreakAPI(), polarisSDKContextManager.getConsumerAPI(),
+				polarisCircuitBreakerProperties, serviceRuleManagerProvider.getIfAvailable());
 		customizers.forEach(customizer -> customizer.customize(factory));
 		return factory;
 	}
@@ -39,6 +39,24 @@ public class PolarisCircuitBreakerProperties {
 	@Value("${spring.cloud.polaris.circuitbreaker.configuration-cleanup-interval:#{300000}}")
 	private long configurationCleanupInterval = 300000;
 
+	/**
+	 * Maximum number of cached circuit breaker instances, least recently used instance is evicted when full.
+	 */
+	@Value("${spring.cloud.polaris.circuitbreaker.instance-cache-max-size:#{2048}}")
+	private long instanceCacheMaxSize = 2048;
+
+	/**
+	 * Time that a cached circuit breaker instance can stay unused before expiring, unit millisecond.
+	 */
+	@Value("${spring.cloud.polaris.circuitbreaker.instance-cache-idle-ttl:#{600000}}")
+	private long instanceCacheIdleTtl = 600000;
+
+	/**
+	 * Interval to check circuit breaker rule changes of cached instances, unit millisecond.
+	 */
+	@Value("${spring.cloud.polaris.circuitbreaker.instance-cache-rule-check-interval:#{10000}}")
+	private long instanceCacheRuleCheckInterval = 10000;
+
 	public boolean isEnabled() {
 		return enabled;
 	}
@@ -54,4 +72,28 @@ public class PolarisCircuitBreakerProperties {
 	public void setConfigurationCleanupInterval(long configurationCleanupInterval) {
 		this.configurationCleanupInterval = configurationCleanupInterval;
 	}
+
+	public long getInstanceCacheMaxSize() {
+		return instanceCacheMaxSize;
+	}
+
+	public void setInstanceCacheMaxSize(long instanceCacheMaxSize) {
+		this.instanceCacheMaxSize = instanceCacheMaxSize;
+	}
+
+	public long getInstanceCacheIdleTtl() {
+		return instanceCacheIdleTtl;
+	}
+
+	public void setInstanceCacheIdleTtl(long instanceCacheIdleTtl) {
+		this.instanceCacheIdleTtl = instanceCacheIdleTtl;
+	}
+
+	public long getInstanceCacheRuleCheckInterval() {
+		return instanceCacheRuleCheckInterval;
+	}
+
+	public void setInstanceCacheRuleCheckInterval(long instanceCacheRuleCheckInterval) {
+		this.instanceCacheRuleCheckInterval = instanceCacheRuleCheckInterval;
+	}
 }
@@ -23,6 +23,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -64,6 +65,16 @@ public class PolarisFeignCircuitBreakerInvocationHandler implements InvocationHa
 
 	private final Decoder decoder;
 
+	/**
+	 * Fallback factory used when no fallback is configured, null otherwise.
+	 */
+	private final PolarisCircuitBreakerFallbackFactory defaultFallbackFactory;
+
+	/**
+	 * Method -> circuit breaker name, resolved once on first invocation of method.
+	 */
+	private final Map<Method, String> circuitNameMap = new ConcurrentHashMap<>();
+
 	public PolarisFeignCircuitBreakerInvocationHandler(CircuitBreakerFactory factory, String feignClientName, Target<?> target,
 			Map<Method, InvocationHandlerFactory.MethodHandler> dispatch, FallbackFactory<?> nullableFallbackFactory,
 			CircuitBreakerNameResolver circuitBreakerNameResolver, Decoder decoder) {
@@ -75,6 +86,7 @@ public class PolarisFeignCircuitBreakerInvocationHandler implements InvocationHa
 		this.nullableFallbackFactory = nullableFallbackFactory;
 		this.circuitBreakerNameResolver = circuitBreakerNameResolver;
 		this.decoder = decoder;
+		this.defaultFallbackFactory = nullableFallbackFactory == null ? new PolarisCircuitBreakerFallbackFactory(decoder) : null;
 	}
 
 	/**
@@ -115,7 +127,8 @@ public class PolarisFeignCircuitBreakerInvocationHandler implements InvocationHa
 			return toString();
 		}
 
-		String circuitName = circuitBreakerNameResolver.resolveCircuitBreakerName(feignClientName, target, method);
+		String circuitName = resolveCircuitBreakerName(method);
+		// circuit breaker instances are cached by factory, and invalidated when circuit breaker rule changes.
 		CircuitBreaker circuitBreaker = factory.create(circuitName);
 		Supplier<Object> supplier = asSupplier(method, args);
 		Function<Throwable, Object> fallbackFunction;
@@ -134,7 +147,7 @@ public class PolarisFeignCircuitBreakerInvocationHandler implements InvocationHa
 		else {
 			fallbackFunction = throwable -> {
 				PolarisCircuitBreakerFallbackFactory.DefaultFallback fallback =
-						(PolarisCircuitBreakerFallbackFactory.DefaultFallback) new PolarisCircuitBreakerFallbackFactory(this.decoder).create(throwable);
+						(PolarisCircuitBreakerFallbackFactory.DefaultFallback) this.defaultFallbackFactory.create(throwable);
 				return fallback.fallback(method);
 			};
 		}
@@ -147,6 +160,20 @@ public class PolarisFeignCircuitBreakerInvocationHandler implements InvocationHa
 		}
 	}
 
+	/**
+	 * Resolve circuit breaker name of method once, as the name only depends on target and method.
+	 * @param method invoked method
+	 * @return circuit breaker name
+	 */
+	String resolveCircuitBreakerName(Method method) {
+		String circuitName = circuitNameMap.get(method);
+		if (circuitName == null) {
+			circuitName = circuitNameMap.computeIfAbsent(method,
+					m -> circuitBreakerNameResolver.resolveCircuitBreakerName(feignClientName, target, m));
+		}
+		return circuitName;
+	}
+
 	private void unwrapAndRethrow(Exception exception) {
 		if (exception instanceof InvocationTargetException || exception instanceof NoFallbackAvailableException) {
 			Throwable underlyingException = exception.getCause();
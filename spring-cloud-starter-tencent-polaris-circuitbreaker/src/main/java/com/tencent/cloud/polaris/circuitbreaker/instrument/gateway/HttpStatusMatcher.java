@@ -0,0 +1,81 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.circuitbreaker.instrument.gateway;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Immutable status code matcher backed by a bitset over status codes [0, 1000).
+ * Matching is constant-time and allocation-free, so it can be used on the gateway hot path.
+ *
+ * @author agent 2026-10-17
+ */
+public final class HttpStatusMatcher {
+
+	/**
+	 * Matcher of all known 5xx server error status.
+	 */
+	public static final HttpStatusMatcher SERVER_ERROR = of(Arrays.stream(HttpStatus.values())
+			.filter(HttpStatus::is5xxServerError).toList());
+
+	private static final int MAX_STATUS = 1000;
+
+	private final long[] words;
+
+	private HttpStatusMatcher(long[] words) {
+		this.words = words;
+	}
+
+	public static HttpStatusMatcher of(Collection<HttpStatus> statuses) {
+		long[] words = new long[(MAX_STATUS + 63) >>> 6];
+		for (HttpStatus status : statuses) {
+			if (status != null) {
+				int code = status.value();
+				words[code >>> 6] |= 1L << code;
+			}
+		}
+		return new HttpStatusMatcher(words);
+	}
+
+	public boolean matches(int statusCode) {
+		if (statusCode < 0 || statusCode >= MAX_STATUS) {
+			return false;
+		}
+		return (words[statusCode >>> 6] & (1L << statusCode)) != 0;
+	}
+
+	public boolean isEmpty() {
+		for (long word : words) {
+			if (word != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public HttpStatusMatcher or(HttpStatusMatcher other) {
+		long[] merged = new long[words.length];
+		for (int i = 0; i < words.length; i++) {
+			merged[i] = words[i] | other.words[i];
+		}
+		return new HttpStatusMatcher(merged);
+	}
+}
@@ -22,7 +22,6 @@ import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -154,12 +153,6 @@ public class PolarisCircuitBreakerFilterFactory extends SpringCloudCircuitBreake
 		return Arrays.asList(allHttpStatus);
 	}
 
-	private Set<HttpStatus> getDefaultStatus() {
-		return Arrays.stream(HttpStatus.values())
-				.filter(HttpStatus::is5xxServerError)
-				.collect(Collectors.toSet());
-	}
-
 	@Override
 	public GatewayFilter apply(Config config) {
 		Set<HttpStatus> statuses = config.getStatusCodes().stream()
@@ -175,9 +168,12 @@ public class PolarisCircuitBreakerFilterFactory extends SpringCloudCircuitBreake
 				})
 				.filter(Objects::nonNull)
 				.collect(Collectors.toSet());
-		if (CollectionUtils.isEmpty(statuses)) {
-			statuses.addAll(getDefaultStatus());
-		}
+		// compile status configuration once per route, so status classification on each request is allocation-free.
+		HttpStatusMatcher fallbackStatusMatcher = CollectionUtils.isEmpty(statuses) ?
+				HttpStatusMatcher.SERVER_ERROR : HttpStatusMatcher.of(statuses);
+		// throw CircuitBreakerStatusCodeException by default for all need checking status
+		// so polaris can report right error status
+		HttpStatusMatcher checkStatusMatcher = fallbackStatusMatcher.or(HttpStatusMatcher.SERVER_ERROR);
 		String circuitBreakerId = getCircuitBreakerId(config);
 		return new GatewayFilter() {
 			@Override
@@ -189,20 +185,16 @@ public class PolarisCircuitBreakerFilterFactory extends SpringCloudCircuitBreake
 				}
 				String path = exchange.getRequest().getPath().value();
 				String method = exchange.getRequest().getMethod().name();
+				// circuit breaker instances are cached by factory, and invalidated when circuit breaker rule changes.
 				ReactiveCircuitBreaker cb = reactiveCircuitBreakerFactory.create(MetadataContext.LOCAL_NAMESPACE + "#" + serviceName + "#" + path + "#http#" + method);
 				return cb.run(
 								chain.filter(exchange)
 										.doOnSuccess(v -> {
-											// throw CircuitBreakerStatusCodeException by default for all need checking status
-											// so polaris can report right error status
-											Set<HttpStatus> statusNeedToCheck = new HashSet<>();
-											statusNeedToCheck.addAll(statuses);
-											statusNeedToCheck.addAll(getDefaultStatus());
 											HttpStatusCode status = exchange.getResponse().getStatusCode();
 											if (status == null) {
 												throw new CircuitBreakerStatusCodeException(HttpStatus.INTERNAL_SERVER_ERROR);
 											}
-											if (statusNeedToCheck.contains(HttpStatus.resolve(status.value()))) {
+											if (checkStatusMatcher.matches(status.value())) {
 												throw new CircuitBreakerStatusCodeException(status);
 											}
 										}),
@@ -211,7 +203,7 @@ public class PolarisCircuitBreakerFilterFactory extends SpringCloudCircuitBreake
 									if (t instanceof CircuitBreakerStatusCodeException) {
 										HttpStatusCode status = ((CircuitBreakerStatusCodeException) t).getStatusCode();
 										// no need to fallback
-										if (!statuses.contains(HttpStatus.resolve(status.value()))) {
+										if (!fallbackStatusMatcher.matches(status.value())) {
 											return Mono.error(t);
 										}
 									}
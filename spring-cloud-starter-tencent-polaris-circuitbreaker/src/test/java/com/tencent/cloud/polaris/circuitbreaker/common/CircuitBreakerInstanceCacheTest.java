@@ -0,0 +1,82 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.circuitbreaker.common;
+
+import com.tencent.cloud.polaris.context.ServiceRuleManager;
+import com.tencent.polaris.api.pojo.ServiceEventKey;
+import com.tencent.polaris.api.pojo.ServiceRule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link CircuitBreakerInstanceCache}.
+ *
+ * @author agent 2026-10-17
+ */
+@ExtendWith(MockitoExtension.class)
+public class CircuitBreakerInstanceCacheTest {
+
+	@Mock
+	private ServiceRuleManager serviceRuleManager;
+
+	@Mock
+	private ServiceRule serviceRule;
+
+	private static PolarisCircuitBreakerConfigBuilder.PolarisCircuitBreakerConfiguration conf(String service) {
+		return new PolarisCircuitBreakerConfigBuilder()
+				.namespace("default")
+				.service(service)
+				.build();
+	}
+
+	@Test
+	public void testReuseAndEviction() {
+		CircuitBreakerInstanceCache<Object> cache = new CircuitBreakerInstanceCache<>(1, 60000, null);
+		Object first = cache.get("a", conf("a"), c -> new Object());
+		assertThat(cache.get("a", conf("a"), c -> new Object())).isSameAs(first);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(1);
+
+		cache.get("b", conf("b"), c -> new Object());
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.getEvictionCount()).isEqualTo(1);
+		assertThat(cache.get("a", conf("a"), c -> new Object())).isNotSameAs(first);
+	}
+
+	@Test
+	public void testInvalidateChangedRules() {
+		when(serviceRuleManager.getServiceRule("default", "a", ServiceEventKey.EventType.CIRCUIT_BREAKING))
+				.thenReturn(serviceRule);
+		when(serviceRule.getRevision()).thenReturn("1");
+		CircuitBreakerInstanceCache<Object> cache = new CircuitBreakerInstanceCache<>(16, 60000, serviceRuleManager);
+		Object first = cache.get("a", conf("a"), c -> new Object());
+
+		cache.invalidateChangedRules();
+		assertThat(cache.get("a", conf("a"), c -> new Object())).isSameAs(first);
+
+		when(serviceRule.getRevision()).thenReturn("2");
+		cache.invalidateChangedRules();
+		assertThat(cache.size()).isEqualTo(0);
+		assertThat(cache.get("a", conf("a"), c -> new Object())).isNotSameAs(first);
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.circuitbreaker.instrument.feign;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import feign.InvocationHandlerFactory;
+import feign.Target;
+import feign.codec.Decoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.client.circuitbreaker.CircuitBreaker;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
+import org.springframework.cloud.openfeign.CircuitBreakerNameResolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link PolarisFeignCircuitBreakerInvocationHandler}.
+ *
+ * @author agent 2026-10-17
+ */
+public class PolarisFeignCircuitBreakerInvocationHandlerTest {
+
+	private CircuitBreakerFactory circuitBreakerFactory;
+
+	private CircuitBreakerNameResolver circuitBreakerNameResolver;
+
+	private Target<?> target;
+
+	private Method echoMethod;
+
+	private Method failMethod;
+
+	private Map<Method, InvocationHandlerFactory.MethodHandler> dispatch;
+
+	@BeforeEach
+	void setUp() throws Throwable {
+		circuitBreakerFactory = mock(CircuitBreakerFactory.class);
+		CircuitBreaker circuitBreaker = mock(CircuitBreaker.class);
+		when(circuitBreaker.run(any(), any())).thenAnswer(invocation -> {
+			Supplier<Object> supplier = invocation.getArgument(0);
+			Function<Throwable, Object> fallback = invocation.getArgument(1);
+			try {
+				return supplier.get();
+			}
+			catch (Throwable throwable) {
+				return fallback.apply(throwable);
+			}
+		});
+		when(circuitBreakerFactory.create(anyString())).thenReturn(circuitBreaker);
+
+		circuitBreakerNameResolver = mock(CircuitBreakerNameResolver.class);
+		when(circuitBreakerNameResolver.resolveCircuitBreakerName(anyString(), any(), any(Method.class)))
+				.thenAnswer(invocation -> "default#provider#" + ((Method) invocation.getArgument(2)).getName());
+
+		target = mock(Target.class);
+		echoMethod = TestClient.class.getMethod("echo", String.class);
+		failMethod = TestClient.class.getMethod("fail");
+		InvocationHandlerFactory.MethodHandler echoHandler = mock(InvocationHandlerFactory.MethodHandler.class);
+		when(echoHandler.invoke(any())).thenAnswer(invocation -> ((Object[]) invocation.getArgument(0))[0]);
+		InvocationHandlerFactory.MethodHandler failHandler = mock(InvocationHandlerFactory.MethodHandler.class);
+		when(failHandler.invoke(any())).thenThrow(new IllegalStateException("fail"));
+		dispatch = new HashMap<>();
+		dispatch.put(echoMethod, echoHandler);
+		dispatch.put(failMethod, failHandler);
+	}
+
+	@Test
+	public void testCircuitBreakerNameResolvedOnce() throws Throwable {
+		PolarisFeignCircuitBreakerInvocationHandler handler = new PolarisFeignCircuitBreakerInvocationHandler(
+				circuitBreakerFactory, "provider", target, dispatch, null, circuitBreakerNameResolver, mock(Decoder.class));
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(handler.invoke(null, echoMethod, new Object[] {"hello"})).isEqualTo("hello");
+		}
+
+		verify(circuitBreakerNameResolver, times(1)).resolveCircuitBreakerName("provider", target, echoMethod);
+		verify(circuitBreakerFactory, times(3)).create(eq("default#provider#echo"));
+		assertThat(handler.resolveCircuitBreakerName(failMethod)).isEqualTo("default#provider#fail");
+	}
+
+	@Test
+	public void testDefaultFallback() {
+		PolarisFeignCircuitBreakerInvocationHandler handler = new PolarisFeignCircuitBreakerInvocationHandler(
+				circuitBreakerFactory, "provider", target, dispatch, null, circuitBreakerNameResolver, mock(Decoder.class));
+
+		for (int i = 0; i < 2; i++) {
+			assertThatThrownBy(() -> handler.invoke(null, failMethod, new Object[0]))
+					.isInstanceOf(IllegalStateException.class)
+					.hasMessage("fail");
+		}
+		verify(circuitBreakerNameResolver, times(1)).resolveCircuitBreakerName("provider", target, failMethod);
+	}
+
+	public interface TestClient {
+
+		String echo(String value);
+
+		String fail();
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.circuitbreaker.instrument.gateway;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link HttpStatusMatcher}.
+ *
+ * @author agent 2026-10-17
+ */
+public class HttpStatusMatcherTest {
+
+	@Test
+	public void testServerError() {
+		assertThat(HttpStatusMatcher.SERVER_ERROR.matches(500)).isTrue();
+		assertThat(HttpStatusMatcher.SERVER_ERROR.matches(503)).isTrue();
+		assertThat(HttpStatusMatcher.SERVER_ERROR.matches(404)).isFalse();
+		// unknown status is not matched, same as HttpStatus.resolve
+		assertThat(HttpStatusMatcher.SERVER_ERROR.matches(599)).isFalse();
+		assertThat(HttpStatusMatcher.SERVER_ERROR.isEmpty()).isFalse();
+	}
+
+	@Test
+	public void testOf() {
+		HttpStatusMatcher matcher = HttpStatusMatcher.of(Arrays.asList(HttpStatus.NOT_FOUND, HttpStatus.CONTINUE, null));
+		assertThat(matcher.matches(404)).isTrue();
+		assertThat(matcher.matches(100)).isTrue();
+		assertThat(matcher.matches(500)).isFalse();
+		assertThat(matcher.matches(-1)).isFalse();
+		assertThat(matcher.matches(1000)).isFalse();
+		assertThat(HttpStatusMatcher.of(Collections.emptyList()).isEmpty()).isTrue();
+	}
+
+	@Test
+	public void testOr() {
+		HttpStatusMatcher matcher = HttpStatusMatcher.of(Collections.singletonList(HttpStatus.TOO_MANY_REQUESTS));
+		HttpStatusMatcher merged = matcher.or(HttpStatusMatcher.SERVER_ERROR);
+		assertThat(merged.matches(429)).isTrue();
+		assertThat(merged.matches(502)).isTrue();
+		assertThat(matcher.matches(502)).isFalse();
+	}
+}
@@ -22,12 +22,21 @@ import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import com.tencent.cloud.polaris.config.config.ConfigFileGroup;
+import com.tencent.cloud.polaris.config.config.PolarisConfigProperties;
 import com.tencent.cloud.polaris.config.configdata.PolarisConfigDataLoader;
 import com.tencent.cloud.polaris.config.enums.ConfigFileFormat;
 import com.tencent.cloud.polaris.context.config.PolarisContextProperties;
+import com.tencent.polaris.client.util.NamedThreadFactory;
 import com.tencent.polaris.configuration.api.core.ConfigFileMetadata;
 import com.tencent.polaris.configuration.api.core.ConfigFileService;
 import com.tencent.polaris.configuration.api.core.ConfigKVFile;
@@ -53,6 +62,16 @@ public final class PolarisConfigFilePuller {
 
 	private ConfigFileService configFileService;
 
+	/**
+	 * Max count of config files fetched concurrently.
+	 */
+	private int pullParallelism = 1;
+
+	/**
+	 * Deadline of fetching a batch of config files in milliseconds, no deadline if not greater than 0.
+	 */
+	private long pullTimeout = 0;
+
 	private PolarisConfigFilePuller() {
 	}
 
@@ -71,6 +90,24 @@ public final class PolarisConfigFilePuller {
 		return puller;
 	}
 
+	/**
+	 * Factory method to create PolarisConfigFilePuller which fetches config files concurrently.
+	 *
+	 * @param polarisContextProperties     polarisContextProperties
+	 * @param configFileService            configFileService
+	 * @param polarisConfigProperties      polarisConfigProperties
+	 * @return PolarisConfigFilePuller instance
+	 */
+	public static PolarisConfigFilePuller get(PolarisContextProperties polarisContextProperties,
+			ConfigFileService configFileService, PolarisConfigProperties polarisConfigProperties) {
+		PolarisConfigFilePuller puller = get(polarisContextProperties, configFileService);
+		if (polarisConfigProperties != null) {
+			puller.pullParallelism = polarisConfigProperties.getPullParallelism();
+			puller.pullTimeout = polarisConfigProperties.getPullTimeout();
+		}
+		return puller;
+	}
+
 	/**
 	 * InitInternalConfigFiles for {@link PolarisConfigDataLoader}.
 	 *
@@ -82,13 +119,7 @@ public final class PolarisConfigFilePuller {
 	public void initInternalConfigFiles(CompositePropertySource compositePropertySource, String[] activeProfiles,
 			String[] defaultProfiles, String serviceName) {
 		List<ConfigFileMetadata> internalConfigFiles = getInternalConfigFiles(activeProfiles, defaultProfiles, serviceName);
-		for (ConfigFileMetadata configFile : internalConfigFiles) {
-			PolarisPropertySource polarisPropertySource = loadPolarisPropertySource(
-					configFile.getNamespace(), configFile.getFileGroup(), configFile.getFileName());
-			compositePropertySource.addPropertySource(polarisPropertySource);
-			PolarisPropertySourceManager.addPropertySource(polarisPropertySource);
-			LOGGER.info("[SCT Config] Load and inject polaris config file. file = {}", configFile);
-		}
+		addPropertySources(compositePropertySource, loadPolarisPropertySources(internalConfigFiles));
 	}
 
 	/**
@@ -99,9 +130,9 @@ public final class PolarisConfigFilePuller {
 	 */
 	public void initCustomPolarisConfigFiles(CompositePropertySource compositePropertySource,
 			List<ConfigFileGroup> configFileGroups) {
-		configFileGroups.forEach(
-				configFileGroup -> initCustomPolarisConfigFile(compositePropertySource, configFileGroup)
-		);
+		List<ConfigFileMetadata> customConfigFiles = new ArrayList<>();
+		configFileGroups.forEach(configFileGroup -> collectCustomConfigFiles(configFileGroup, customConfigFiles));
+		addPropertySources(compositePropertySource, loadPolarisPropertySources(customConfigFiles));
 	}
 
 	/**
@@ -112,6 +143,12 @@ public final class PolarisConfigFilePuller {
 	 */
 	public void initCustomPolarisConfigFile(CompositePropertySource compositePropertySource,
 			ConfigFileGroup configFileGroup) {
+		List<ConfigFileMetadata> customConfigFiles = new ArrayList<>();
+		collectCustomConfigFiles(configFileGroup, customConfigFiles);
+		addPropertySources(compositePropertySource, loadPolarisPropertySources(customConfigFiles));
+	}
+
+	private void collectCustomConfigFiles(ConfigFileGroup configFileGroup, List<ConfigFileMetadata> configFiles) {
 		String groupNamespace = configFileGroup.getNamespace();
 		if (!StringUtils.hasText(groupNamespace)) {
 			groupNamespace = polarisContextProperties.getNamespace();
@@ -125,12 +162,75 @@ public final class PolarisConfigFilePuller {
 			return;
 		}
 		for (String fileName : files) {
-			PolarisPropertySource polarisPropertySource = loadPolarisPropertySource(groupNamespace, group, fileName);
+			configFiles.add(new DefaultConfigFileMetadata(groupNamespace, group, fileName));
+		}
+	}
+
+	private void addPropertySources(CompositePropertySource compositePropertySource,
+			List<PolarisPropertySource> polarisPropertySources) {
+		for (PolarisPropertySource polarisPropertySource : polarisPropertySources) {
 			compositePropertySource.addPropertySource(polarisPropertySource);
 			PolarisPropertySourceManager.addPropertySource(polarisPropertySource);
 			LOGGER.info(
 					"[SCT Config] Load and inject polaris config file success. namespace = {}, group = {}, fileName = {}",
-					groupNamespace, group, fileName);
+					polarisPropertySource.getNamespace(), polarisPropertySource.getGroup(),
+					polarisPropertySource.getFileName());
+		}
+	}
+
+	/**
+	 * Load config files concurrently if possible. Property sources are returned in the order of config files.
+	 *
+	 * @param configFiles config files
+	 * @return property sources
+	 */
+	private List<PolarisPropertySource> loadPolarisPropertySources(List<ConfigFileMetadata> configFiles) {
+		List<PolarisPropertySource> polarisPropertySources = new ArrayList<>(configFiles.size());
+		if (configFiles.size() <= 1 || pullParallelism <= 1) {
+			for (ConfigFileMetadata configFile : configFiles) {
+				polarisPropertySources.add(loadPolarisPropertySource(
+						configFile.getNamespace(), configFile.getFileGroup(), configFile.getFileName()));
+			}
+			return polarisPropertySources;
+		}
+
+		List<Callable<PolarisPropertySource>> tasks = new ArrayList<>(configFiles.size());
+		for (ConfigFileMetadata configFile : configFiles) {
+			tasks.add(() -> loadPolarisPropertySource(
+					configFile.getNamespace(), configFile.getFileGroup(), configFile.getFileName()));
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(pullParallelism, configFiles.size()),
+				new NamedThreadFactory("sct-config-file-puller", true));
+		try {
+			List<Future<PolarisPropertySource>> futures = pullTimeout > 0
+					? executor.invokeAll(tasks, pullTimeout, TimeUnit.MILLISECONDS) : executor.invokeAll(tasks);
+			for (int i = 0; i < futures.size(); i++) {
+				try {
+					polarisPropertySources.add(futures.get(i).get());
+				}
+				catch (CancellationException e) {
+					throw new IllegalStateException(String.format("[SCT Config] Load polaris config file timeout after %dms. file = %s",
+							pullTimeout, configFiles.get(i)), e);
+				}
+				catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					}
+					if (cause instanceof Error) {
+						throw (Error) cause;
+					}
+					throw new IllegalStateException("[SCT Config] Load polaris config file failed. file = " + configFiles.get(i), cause);
+				}
+			}
+			return polarisPropertySources;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("[SCT Config] Interrupted while loading polaris config files.", e);
+		}
+		finally {
+			executor.shutdownNow();
 		}
 	}
 
@@ -95,6 +95,16 @@ public class PolarisConfigProperties {
 	 */
 	private boolean internalEnabled = true;
 
+	/**
+	 * Max count of config files fetched concurrently at startup. Files are fetched one by one if not greater than 1.
+	 */
+	private int pullParallelism = 8;
+
+	/**
+	 * Deadline of fetching config files at startup in milliseconds, no deadline if not greater than 0.
+	 */
+	private long pullTimeout = 30000;
+
 	public boolean isEnabled() {
 		return enabled;
 	}
@@ -191,6 +201,22 @@ public class PolarisConfigProperties {
 		this.internalEnabled = internalEnabled;
 	}
 
+	public int getPullParallelism() {
+		return pullParallelism;
+	}
+
+	public void setPullParallelism(int pullParallelism) {
+		this.pullParallelism = pullParallelism;
+	}
+
+	public long getPullTimeout() {
+		return pullTimeout;
+	}
+
+	public void setPullTimeout(long pullTimeout) {
+		this.pullTimeout = pullTimeout;
+	}
+
 	@Override
 	public String toString() {
 		return "PolarisConfigProperties{" +
@@ -206,6 +232,8 @@ public class PolarisConfigProperties {
 				", dataSource='" + dataSource + '\'' +
 				", localFileRootPath='" + localFileRootPath + '\'' +
 				", internalEnabled=" + internalEnabled +
+				", pullParallelism=" + pullParallelism +
+				", pullTimeout=" + pullTimeout +
 				'}';
 	}
 }
@@ -102,7 +102,8 @@ public class PolarisConfigDataLoader implements ConfigDataLoader<PolarisConfigDa
 			this.configFileService = ConfigFileServiceFactory.createConfigFileService(sdkContext);
 		}
 		if (null == this.puller) {
-			this.puller = PolarisConfigFilePuller.get(resource.getPolarisContextProperties(), configFileService);
+			this.puller = PolarisConfigFilePuller.get(resource.getPolarisContextProperties(), configFileService,
+					resource.getPolarisConfigProperties());
 		}
 		// load custom config extension files
 		if (polarisConfigCustomExtensionLayer != null) {
@@ -0,0 +1,148 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.config.listener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Index of {@link ConfigChangeListener} by interested keys and interested key prefixes.
+ * <p>
+ * Exact keys are indexed by hash map and key prefixes by prefix trie, so resolving a batch of changed keys
+ * costs O(keys * key length) regardless of the count of listeners.
+ *
+ * @author agent 2026-10-17
+ */
+final class ConfigChangeListenerIndex {
+
+	/**
+	 * Registration order of listeners, matched listeners are notified in this order.
+	 */
+	private final Map<ConfigChangeListener, Integer> registrations = new ConcurrentHashMap<>();
+
+	/**
+	 * Listeners without interested keys and interested key prefixes, which are notified on every change.
+	 */
+	private final List<ConfigChangeListener> wildcardListeners = new CopyOnWriteArrayList<>();
+
+	private final Map<String, Set<ConfigChangeListener>> keyIndex = new ConcurrentHashMap<>();
+
+	private final PrefixNode prefixRoot = new PrefixNode();
+
+	private int sequence;
+
+	/**
+	 * Add listener to index.
+	 * @param listener the listener will be added
+	 * @param interestedKeys the keys interested in the listener
+	 * @param interestedKeyPrefixes the key prefixes that the listener is interested in
+	 * @return false if listener is added already
+	 */
+	synchronized boolean add(@NonNull ConfigChangeListener listener,
+			@Nullable Set<String> interestedKeys, @Nullable Set<String> interestedKeyPrefixes) {
+		if (registrations.containsKey(listener)) {
+			return false;
+		}
+		registrations.put(listener, sequence++);
+
+		if (CollectionUtils.isEmpty(interestedKeys) && CollectionUtils.isEmpty(interestedKeyPrefixes)) {
+			wildcardListeners.add(listener);
+			return true;
+		}
+		if (interestedKeys != null) {
+			for (String interestedKey : interestedKeys) {
+				keyIndex.computeIfAbsent(interestedKey, key -> new CopyOnWriteArraySet<>()).add(listener);
+			}
+		}
+		if (interestedKeyPrefixes != null) {
+			for (String interestedKeyPrefix : interestedKeyPrefixes) {
+				PrefixNode node = prefixRoot;
+				for (int i = 0; i < interestedKeyPrefix.length(); i++) {
+					node = node.children.computeIfAbsent(interestedKeyPrefix.charAt(i), c -> new PrefixNode());
+				}
+				node.listeners.add(listener);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Resolve listeners interested in changed keys.
+	 * @param changedKeys received changed keys
+	 * @return matched listeners in registration order, with changed keys each listener is interested in
+	 */
+	Map<ConfigChangeListener, Set<String>> resolve(Set<String> changedKeys) {
+		Map<ConfigChangeListener, Set<String>> matched = new HashMap<>();
+		for (ConfigChangeListener listener : wildcardListeners) {
+			matched.put(listener, new HashSet<>());
+		}
+
+		for (String changedKey : changedKeys) {
+			Set<ConfigChangeListener> keyListeners = keyIndex.get(changedKey);
+			if (keyListeners != null) {
+				for (ConfigChangeListener listener : keyListeners) {
+					matched.computeIfAbsent(listener, l -> new HashSet<>()).add(changedKey);
+				}
+			}
+
+			PrefixNode node = prefixRoot;
+			int i = 0;
+			while (node != null) {
+				for (ConfigChangeListener listener : node.listeners) {
+					matched.computeIfAbsent(listener, l -> new HashSet<>()).add(changedKey);
+				}
+				if (i == changedKey.length()) {
+					break;
+				}
+				node = node.children.get(changedKey.charAt(i++));
+			}
+		}
+
+		if (matched.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		List<ConfigChangeListener> matchedListeners = new ArrayList<>(matched.keySet());
+		matchedListeners.sort(Comparator.comparingInt(registrations::get));
+		Map<ConfigChangeListener, Set<String>> result = new LinkedHashMap<>(matchedListeners.size() * 2);
+		for (ConfigChangeListener listener : matchedListeners) {
+			result.put(listener, Collections.unmodifiableSet(matched.get(listener)));
+		}
+		return result;
+	}
+
+	private static final class PrefixNode {
+
+		private final Map<Character, PrefixNode> children = new ConcurrentHashMap<>();
+
+		private final Set<ConfigChangeListener> listeners = new CopyOnWriteArraySet<>();
+	}
+}
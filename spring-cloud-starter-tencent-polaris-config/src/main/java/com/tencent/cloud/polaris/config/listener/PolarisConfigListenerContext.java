@@ -17,9 +17,7 @@
 
 package com.tencent.cloud.polaris.config.listener;
 
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -30,9 +28,7 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 import com.tencent.polaris.configuration.api.core.ConfigKVFileChangeListener;
 import com.tencent.polaris.configuration.api.core.ConfigPropertyChangeInfo;
 import org.slf4j.Logger;
@@ -63,17 +59,9 @@ public final class PolarisConfigListenerContext {
 	 */
 	private static final AtomicReference<ExecutorService> EAR = new AtomicReference<>();
 	/**
-	 * All custom {@link ConfigChangeListener} instance defined in application .
+	 * All custom {@link ConfigChangeListener} instance defined in application, indexed by interested keys and key prefixes .
 	 */
-	private static final List<ConfigChangeListener> listeners = Lists.newCopyOnWriteArrayList();
-	/**
-	 * All custom interested keys defined in application .
-	 */
-	private static final Map<ConfigChangeListener, Set<String>> interestedKeys = Maps.newConcurrentMap();
-	/**
-	 * All custom interested key prefixes defined in application .
-	 */
-	private static final Map<ConfigChangeListener, Set<String>> interestedKeyPrefixes = Maps.newConcurrentMap();
+	private static final ConfigChangeListenerIndex listenerIndex = new ConfigChangeListenerIndex();
 	/**
 	 * Cache all latest configuration information for users in the application environment .
 	 */
@@ -173,11 +161,7 @@ public final class PolarisConfigListenerContext {
 	 */
 	public static void addChangeListener(@NonNull ConfigChangeListener listener,
 			@Nullable Set<String> interestedKeys, @Nullable Set<String> interestedKeyPrefixes) {
-		if (!listeners.contains(listener)) {
-			listeners.add(listener);
-			PolarisConfigListenerContext.interestedKeys.put(listener, interestedKeys == null ? Sets.newHashSet() : interestedKeys);
-			PolarisConfigListenerContext.interestedKeyPrefixes.put(listener, interestedKeyPrefixes == null ? Sets.newHashSet() : interestedKeyPrefixes);
-		}
+		listenerIndex.add(listener, interestedKeys, interestedKeyPrefixes);
 	}
 
 	/**
@@ -186,11 +170,14 @@ public final class PolarisConfigListenerContext {
 	 * @param changes target config file changes info
 	 */
 	public static void fireConfigChange(Set<String> changedKeys, Map<String, ConfigPropertyChangeInfo> changes) {
-		final List<ConfigChangeListener> listeners = findMatchedConfigChangeListeners(changedKeys);
-		for (ConfigChangeListener listener : listeners) {
-			Set<String> interestedChangedKeys = resolveInterestedChangedKeys(listener, changedKeys);
+		final Map<ConfigChangeListener, Set<String>> matchedListeners = listenerIndex.resolve(changedKeys);
+		for (Map.Entry<ConfigChangeListener, Set<String>> entry : matchedListeners.entrySet()) {
+			ConfigChangeListener listener = entry.getKey();
+			Set<String> interestedChangedKeys = entry.getValue();
 			Map<String, ConfigPropertyChangeInfo> modifiedChanges = new HashMap<>(interestedChangedKeys.size());
-			interestedChangedKeys.parallelStream().forEach(key -> modifiedChanges.put(key, changes.get(key)));
+			for (String key : interestedChangedKeys) {
+				modifiedChanges.put(key, changes.get(key));
+			}
 			ConfigChangeEvent event = new ConfigChangeEvent(modifiedChanges, interestedChangedKeys);
 
 			if (listener instanceof SyncConfigChangeListener) {
@@ -204,86 +191,4 @@ public final class PolarisConfigListenerContext {
 			PolarisConfigListenerContext.executor().execute(() -> listener.onChange(event));
 		}
 	}
-
-	/**
-	 * Try to find all matched config change listeners .
-	 * @param changedKeys received changed keys
-	 * @return list of matched {@link ConfigChangeListener}
-	 */
-	private static List<ConfigChangeListener> findMatchedConfigChangeListeners(Set<String> changedKeys) {
-		final List<ConfigChangeListener> configChangeListeners = Lists.newArrayList();
-		for (ConfigChangeListener listener : listeners) {
-			if (isConfigChangeListenerInterested(listener, changedKeys)) {
-				configChangeListeners.add(listener);
-			}
-		}
-		return configChangeListeners;
-	}
-
-	/**
-	 * Check {@link ConfigChangeListener} is interested in custom keys.
-	 * @param listener instance of {@link ConfigChangeListener}
-	 * @param changedKeys received changed keys
-	 * @return true is interested in custom keys
-	 */
-	private static boolean isConfigChangeListenerInterested(ConfigChangeListener listener, Set<String> changedKeys) {
-		Set<String> interestedKeys = PolarisConfigListenerContext.interestedKeys.get(listener);
-		Set<String> interestedKeyPrefixes = PolarisConfigListenerContext.interestedKeyPrefixes.get(listener);
-
-		if ((interestedKeys == null || interestedKeys.isEmpty())
-				&& (interestedKeyPrefixes == null || interestedKeyPrefixes.isEmpty())) {
-			return true;
-		}
-
-		if (interestedKeys != null) {
-			for (String interestedKey : interestedKeys) {
-				if (changedKeys.contains(interestedKey)) {
-					return true;
-				}
-			}
-		}
-
-		if (interestedKeyPrefixes != null) {
-			for (String prefix : interestedKeyPrefixes) {
-				for (final String changedKey : changedKeys) {
-					if (changedKey.startsWith(prefix)) {
-						return true;
-					}
-				}
-			}
-		}
-		return false;
-	}
-
-	/**
-	 * Resolve all interested keys .
-	 * @param listener instance of {@link ConfigChangeListener}
-	 * @param changedKeys received changed keys
-	 * @return set of all interested keys in listener
-	 */
-	private static Set<String> resolveInterestedChangedKeys(ConfigChangeListener listener, Set<String> changedKeys) {
-		Set<String> interestedChangedKeys = Sets.newHashSet();
-
-		if (interestedKeys.containsKey(listener)) {
-			Set<String> interestedKeys = PolarisConfigListenerContext.interestedKeys.get(listener);
-			for (String interestedKey : interestedKeys) {
-				if (changedKeys.contains(interestedKey)) {
-					interestedChangedKeys.add(interestedKey);
-				}
-			}
-		}
-
-		if (interestedKeyPrefixes.containsKey(listener)) {
-			Set<String> interestedKeyPrefixes = PolarisConfigListenerContext.interestedKeyPrefixes.get(listener);
-			for (String interestedKeyPrefix : interestedKeyPrefixes) {
-				for (String changedKey : changedKeys) {
-					if (changedKey.startsWith(interestedKeyPrefix)) {
-						interestedChangedKeys.add(changedKey);
-					}
-				}
-			}
-		}
-
-		return Collections.unmodifiableSet(interestedChangedKeys);
-	}
 }
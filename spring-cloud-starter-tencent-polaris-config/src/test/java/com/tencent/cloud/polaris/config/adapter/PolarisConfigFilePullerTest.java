@@ -24,6 +24,7 @@ import java.util.Map;
 
 import com.google.common.collect.Lists;
 import com.tencent.cloud.polaris.config.config.ConfigFileGroup;
+import com.tencent.cloud.polaris.config.config.PolarisConfigProperties;
 import com.tencent.cloud.polaris.context.config.PolarisContextProperties;
 import com.tencent.polaris.configuration.api.core.ConfigFileService;
 import com.tencent.polaris.configuration.api.core.ConfigKVFile;
@@ -137,6 +138,58 @@ public class PolarisConfigFilePullerTest {
 		assertThat(compositePropertySource.getProperty("k3")).isEqualTo("v3");
 	}
 
+	@Test
+	public void testPullInternalConfigFilesInParallel() {
+		PolarisConfigProperties polarisConfigProperties = new PolarisConfigProperties();
+		polarisConfigProperties.setPullParallelism(4);
+		PolarisConfigFilePuller puller = PolarisConfigFilePuller.get(polarisContextProperties, configFileService,
+				polarisConfigProperties);
+
+		when(polarisContextProperties.getNamespace()).thenReturn(testNamespace);
+		when(polarisContextProperties.getService()).thenReturn(testServiceName);
+
+		// application.properties
+		Map<String, Object> applicationProperties = new HashMap<>();
+		applicationProperties.put("k1", "v1");
+		applicationProperties.put("k2", "v2");
+		ConfigKVFile propertiesFile = new MockedConfigKVFile(applicationProperties);
+		when(configFileService.getConfigPropertiesFile(testNamespace, testServiceName, "application.properties"))
+				.thenReturn(propertiesFile);
+
+		// application-dev.properties
+		Map<String, Object> devProperties = new HashMap<>();
+		devProperties.put("k1", "v11");
+		ConfigKVFile devFile = new MockedConfigKVFile(devProperties);
+		when(configFileService.getConfigPropertiesFile(testNamespace, testServiceName, "application-dev.properties"))
+				.thenReturn(devFile);
+
+		// bootstrap.properties
+		Map<String, Object> bootstrapProperties = new HashMap<>();
+		bootstrapProperties.put("k2", "v22");
+		ConfigKVFile bootstrapFile = new MockedConfigKVFile(bootstrapProperties);
+		when(configFileService.getConfigPropertiesFile(testNamespace, testServiceName, "bootstrap.properties"))
+				.thenReturn(bootstrapFile);
+
+		Map<String, Object> emptyMap = new HashMap<>();
+		ConfigKVFile emptyConfigFile = new MockedConfigKVFile(emptyMap);
+		when(configFileService.getConfigYamlFile(testNamespace, testServiceName, "application.yml")).thenReturn(emptyConfigFile);
+		when(configFileService.getConfigYamlFile(testNamespace, testServiceName, "application.yaml")).thenReturn(emptyConfigFile);
+		when(configFileService.getConfigYamlFile(testNamespace, testServiceName, "application-dev.yml")).thenReturn(emptyConfigFile);
+		when(configFileService.getConfigYamlFile(testNamespace, testServiceName, "application-dev.yaml")).thenReturn(emptyConfigFile);
+		when(configFileService.getConfigPropertiesFile(testNamespace, testServiceName, "bootstrap-dev.properties")).thenReturn(emptyConfigFile);
+		when(configFileService.getConfigYamlFile(testNamespace, testServiceName, "bootstrap.yml")).thenReturn(emptyConfigFile);
+		when(configFileService.getConfigYamlFile(testNamespace, testServiceName, "bootstrap.yaml")).thenReturn(emptyConfigFile);
+		when(configFileService.getConfigYamlFile(testNamespace, testServiceName, "bootstrap-dev.yml")).thenReturn(emptyConfigFile);
+		when(configFileService.getConfigYamlFile(testNamespace, testServiceName, "bootstrap-dev.yaml")).thenReturn(emptyConfigFile);
+		CompositePropertySource compositePropertySource = new CompositePropertySource(polarisConfigPropertySourceName);
+		puller.initInternalConfigFiles(compositePropertySource, new String[] {"dev"}, new String[] {}, testServiceName);
+
+		// priority is kept regardless of the order in which files are fetched
+		assertThat(compositePropertySource.getProperty("k1")).isEqualTo("v11");
+		assertThat(compositePropertySource.getProperty("k2")).isEqualTo("v2");
+		assertThat(PolarisPropertySourceManager.getAllPropertySources()).hasSize(12);
+	}
+
 	@Test
 	public void testPullCustomConfigFilesWithProfile() {
 		PolarisConfigFilePuller puller = PolarisConfigFilePuller.get(polarisContextProperties, configFileService);
@@ -0,0 +1,71 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.config.listener;
+
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link ConfigChangeListenerIndex}.
+ *
+ * @author agent 2026-10-17
+ */
+public class ConfigChangeListenerIndexTest {
+
+	@Test
+	public void testResolve() {
+		ConfigChangeListenerIndex index = new ConfigChangeListenerIndex();
+		ConfigChangeListener wildcardListener = event -> { };
+		ConfigChangeListener keyListener = event -> { };
+		ConfigChangeListener prefixListener = event -> { };
+		ConfigChangeListener mixedListener = event -> { };
+		ConfigChangeListener emptyPrefixListener = event -> { };
+
+		assertThat(index.add(wildcardListener, null, null)).isTrue();
+		assertThat(index.add(keyListener, Sets.newHashSet("timeout", "retry"), null)).isTrue();
+		assertThat(index.add(prefixListener, null, Sets.newHashSet("server.", "server.http."))).isTrue();
+		assertThat(index.add(mixedListener, Sets.newHashSet("timeout"), Sets.newHashSet("db."))).isTrue();
+		assertThat(index.add(emptyPrefixListener, null, Sets.newHashSet(""))).isTrue();
+		assertThat(index.add(keyListener, Sets.newHashSet("other"), null)).isFalse();
+
+		Map<ConfigChangeListener, Set<String>> matched = index.resolve(
+				Sets.newHashSet("timeout", "server.http.port", "server", "db.url", "other"));
+
+		assertThat(matched.keySet()).containsExactly(wildcardListener, keyListener, prefixListener,
+				mixedListener, emptyPrefixListener);
+		assertThat(matched.get(wildcardListener)).isEmpty();
+		assertThat(matched.get(keyListener)).containsExactlyInAnyOrder("timeout");
+		assertThat(matched.get(prefixListener)).containsExactlyInAnyOrder("server.http.port");
+		assertThat(matched.get(mixedListener)).containsExactlyInAnyOrder("timeout", "db.url");
+		assertThat(matched.get(emptyPrefixListener)).containsExactlyInAnyOrder(
+				"timeout", "server.http.port", "server", "db.url", "other");
+	}
+
+	@Test
+	public void testResolveNotMatched() {
+		ConfigChangeListenerIndex index = new ConfigChangeListenerIndex();
+		index.add(event -> { }, Sets.newHashSet("timeout"), Sets.newHashSet("server."));
+
+		assertThat(index.resolve(Sets.newHashSet("timeouts", "server", "db.url"))).isEmpty();
+	}
+}
@@ -95,11 +95,33 @@ public class PolarisDiscoveryProperties {
 	@Value("${spring.cloud.polaris.discovery.health-check-url:}")
 	private String healthCheckUrl;
 
+	/**
+	 * Millis timeout of a single health check probe, including connecting and reading. Default: 2000.
+	 */
+	private Long healthCheckTimeout = 2000L;
+
 	/**
 	 * Millis interval of refresh of service info list. Default: 60000.
 	 */
 	private Long serviceListRefreshInterval = 60000L;
 
+	/**
+	 * Millis window to coalesce instance changes of a service before invoking callbacks. 0 means invoking on
+	 * each change. Default: 100.
+	 */
+	private Long instanceChangeCoalesceWindow = 100L;
+
+	/**
+	 * Millis window to debounce route refresh triggered by change of service status. Default: 1000.
+	 */
+	private Long routeRefreshDebounce = 1000L;
+
+	/**
+	 * Millis interval of periodic route refresh, as safety net against missed change events. 0 means disabled.
+	 * Default: 300000.
+	 */
+	private Long routeRefreshInterval = 300000L;
+
 	/**
 	 * Zero protection switch.
 	 */
@@ -184,6 +206,50 @@ public class PolarisDiscoveryProperties {
 		this.healthCheckUrl = healthCheckUrl;
 	}
 
+	public Long getHealthCheckTimeout() {
+		if (this.healthCheckTimeout == null || this.healthCheckTimeout <= 0) {
+			healthCheckTimeout = 2000L;
+		}
+		return healthCheckTimeout;
+	}
+
+	public void setHealthCheckTimeout(Long healthCheckTimeout) {
+		this.healthCheckTimeout = healthCheckTimeout;
+	}
+
+	public Long getInstanceChangeCoalesceWindow() {
+		if (this.instanceChangeCoalesceWindow == null || this.instanceChangeCoalesceWindow < 0) {
+			instanceChangeCoalesceWindow = 100L;
+		}
+		return instanceChangeCoalesceWindow;
+	}
+
+	public void setInstanceChangeCoalesceWindow(Long instanceChangeCoalesceWindow) {
+		this.instanceChangeCoalesceWindow = instanceChangeCoalesceWindow;
+	}
+
+	public Long getRouteRefreshDebounce() {
+		if (this.routeRefreshDebounce == null || this.routeRefreshDebounce < 0) {
+			routeRefreshDebounce = 1000L;
+		}
+		return routeRefreshDebounce;
+	}
+
+	public void setRouteRefreshDebounce(Long routeRefreshDebounce) {
+		this.routeRefreshDebounce = routeRefreshDebounce;
+	}
+
+	public Long getRouteRefreshInterval() {
+		if (this.routeRefreshInterval == null || this.routeRefreshInterval < 0) {
+			routeRefreshInterval = 300000L;
+		}
+		return routeRefreshInterval;
+	}
+
+	public void setRouteRefreshInterval(Long routeRefreshInterval) {
+		this.routeRefreshInterval = routeRefreshInterval;
+	}
+
 	public Long getServiceListRefreshInterval() {
 		return serviceListRefreshInterval;
 	}
@@ -253,7 +319,11 @@ public class PolarisDiscoveryProperties {
 				", registerEnabled=" + registerEnabled +
 				", heartbeatInterval=" + heartbeatInterval +
 				", healthCheckUrl='" + healthCheckUrl + '\'' +
+				", healthCheckTimeout=" + healthCheckTimeout +
 				", serviceListRefreshInterval=" + serviceListRefreshInterval +
+				", instanceChangeCoalesceWindow=" + instanceChangeCoalesceWindow +
+				", routeRefreshDebounce=" + routeRefreshDebounce +
+				", routeRefreshInterval=" + routeRefreshInterval +
 				", zeroProtectionEnabled=" + zeroProtectionEnabled +
 				", zeroProtectionNeedTestConnectivity=" + zeroProtectionNeedTestConnectivity +
 				'}';
@@ -67,7 +67,8 @@ public class PolarisServiceDiscovery {
 		InstancesResponse filteredInstances = polarisDiscoveryHandler.getHealthyInstances(serviceId);
 		ServiceInstances serviceInstances = filteredInstances.toServiceInstances();
 		for (Instance instance : serviceInstances.getInstances()) {
-			instances.add(new PolarisServiceInstance(instance, filteredInstances.getMetadata()));
+			instances.add(new PolarisServiceInstance(instance, filteredInstances.getMetadata(),
+					serviceInstances.getRevision()));
 		}
 		return instances;
 	}
@@ -18,8 +18,10 @@
 package com.tencent.cloud.polaris.discovery.refresh;
 
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.tencent.cloud.polaris.context.PolarisSDKContextManager;
 import com.tencent.polaris.client.util.NamedThreadFactory;
@@ -37,25 +39,58 @@ import static com.tencent.cloud.polaris.discovery.refresh.PolarisServiceStatusCh
 
 /**
  * Begin refresh when application is ready.
+ * <p>
+ * Route refresh is triggered by change of service status. Changes within debounce window are merged into one
+ * {@link HeartbeatEvent}, and event is skipped if content hash of service status is unchanged. As a safety net against
+ * missed change events, a {@link HeartbeatEvent} is also published at a slow fixed interval.
  *
  * @author Haotian Zhang
  */
 public class PolarisRefreshApplicationReadyEventListener
 		implements ApplicationListener<ApplicationReadyEvent>, ApplicationEventPublisherAware, DisposableBean {
 
+	/**
+	 * Default debounce window of route refresh in milliseconds.
+	 */
+	public static final long DEFAULT_DEBOUNCE_MILLIS = 1000;
+
+	/**
+	 * Default interval of periodic route refresh in milliseconds.
+	 */
+	public static final long DEFAULT_REFRESH_INTERVAL_MILLIS = 300000;
+
 	private static final Logger LOG = LoggerFactory.getLogger(PolarisRefreshApplicationReadyEventListener.class);
-	private static final int DELAY = 60;
 	private final PolarisSDKContextManager polarisSDKContextManager;
 	private final PolarisServiceStatusChangeListener polarisServiceStatusChangeListener;
 	private final ScheduledExecutorService refreshExecutor;
+	private final long debounceMillis;
+	private final long refreshIntervalMillis;
+	private final AtomicBoolean refreshPending = new AtomicBoolean(false);
+	private volatile Long lastContentHash;
 	private ApplicationEventPublisher publisher;
 
 	public PolarisRefreshApplicationReadyEventListener(PolarisSDKContextManager polarisSDKContextManager,
 			PolarisServiceStatusChangeListener polarisServiceStatusChangeListener) {
+		this(polarisSDKContextManager, polarisServiceStatusChangeListener, DEFAULT_DEBOUNCE_MILLIS,
+				DEFAULT_REFRESH_INTERVAL_MILLIS);
+	}
+
+	/**
+	 * @param polarisSDKContextManager           polaris sdk context manager
+	 * @param polarisServiceStatusChangeListener listener of service status
+	 * @param debounceMillis                     window to merge refresh requests
+	 * @param refreshIntervalMillis              interval of periodic refresh, 0 to disable
+	 */
+	public PolarisRefreshApplicationReadyEventListener(PolarisSDKContextManager polarisSDKContextManager,
+			PolarisServiceStatusChangeListener polarisServiceStatusChangeListener, long debounceMillis,
+			long refreshIntervalMillis) {
 		this.polarisSDKContextManager = polarisSDKContextManager;
 		this.polarisServiceStatusChangeListener = polarisServiceStatusChangeListener;
+		this.debounceMillis = Math.max(0, debounceMillis);
+		this.refreshIntervalMillis = Math.max(0, refreshIntervalMillis);
 		this.refreshExecutor = Executors.newSingleThreadScheduledExecutor(
 				new NamedThreadFactory("polaris-service-refresh"));
+		polarisServiceStatusChangeListener.setRefreshTrigger(this::refresh);
 	}
 
 	@Override
@@ -64,23 +99,48 @@ public class PolarisRefreshApplicationReadyEventListener
 		polarisSDKContextManager.getSDKContext().getExtensions().getLocalRegistry()
 				.registerResourceListener(polarisServiceStatusChangeListener);
 
-		// Begin scheduled refresh thread.
-		refresh();
+		// Begin periodic refresh as safety net.
+		if (refreshIntervalMillis > 0) {
+			refreshExecutor.scheduleWithFixedDelay(() -> publishRefresh(true),
+					refreshIntervalMillis, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+		}
 	}
 
 	/**
-	 * Start the refresh thread.
+	 * Request a route refresh, which is published after debounce window.
 	 */
 	public void refresh() {
-		refreshExecutor.scheduleWithFixedDelay(() -> {
-			try {
-				// Trigger reload of gateway route cache.
-				this.publisher.publishEvent(new HeartbeatEvent(this, INDEX.getAndIncrement()));
-			}
-			catch (Exception e) {
-				LOG.error("refresh polaris service error.", e);
+		if (!refreshPending.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			refreshExecutor.schedule(() -> publishRefresh(false), debounceMillis, TimeUnit.MILLISECONDS);
+		}
+		catch (RejectedExecutionException e) {
+			refreshPending.set(false);
+			LOG.debug("refresh executor is shutdown.", e);
+		}
+	}
+
+	/**
+	 * @param force publish even if content hash is unchanged
+	 */
+	private void publishRefresh(boolean force) {
+		if (!force) {
+			refreshPending.set(false);
+		}
+		try {
+			long contentHash = polarisServiceStatusChangeListener.getContentHash();
+			if (!force && lastContentHash != null && lastContentHash == contentHash) {
+				return;
 			}
-		}, DELAY, DELAY, TimeUnit.SECONDS);
+			lastContentHash = contentHash;
+			// Trigger reload of gateway route cache. Value must differ from last one, or heartbeat is ignored.
+			this.publisher.publishEvent(new HeartbeatEvent(this, INDEX.getAndIncrement()));
+		}
+		catch (Exception e) {
+			LOG.error("refresh polaris service error.", e);
+		}
 	}
 
 	@Override
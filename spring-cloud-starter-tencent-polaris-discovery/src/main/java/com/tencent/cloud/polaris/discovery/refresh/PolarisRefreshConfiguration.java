@@ -17,6 +17,7 @@
 
 package com.tencent.cloud.polaris.discovery.refresh;
 
+import com.tencent.cloud.polaris.PolarisDiscoveryProperties;
 import com.tencent.cloud.polaris.context.PolarisSDKContextManager;
 import com.tencent.cloud.polaris.discovery.ConditionalOnPolarisDiscoveryEnabled;
 
@@ -41,15 +42,18 @@ public class PolarisRefreshConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean
-	public ServiceInstanceChangeCallbackManager serviceInstanceChangeCallbackManager() {
-		return new ServiceInstanceChangeCallbackManager();
+	public ServiceInstanceChangeCallbackManager serviceInstanceChangeCallbackManager(
+			PolarisDiscoveryProperties polarisDiscoveryProperties) {
+		return new ServiceInstanceChangeCallbackManager(polarisDiscoveryProperties.getInstanceChangeCoalesceWindow());
 	}
 
 	@Bean
 	@ConditionalOnMissingBean
 	public PolarisRefreshApplicationReadyEventListener polarisServiceStatusApplicationReadyEventListener(
 			PolarisSDKContextManager polarisSDKContextManager,
-			PolarisServiceStatusChangeListener polarisServiceStatusChangeListener) {
-		return new PolarisRefreshApplicationReadyEventListener(polarisSDKContextManager, polarisServiceStatusChangeListener);
+			PolarisServiceStatusChangeListener polarisServiceStatusChangeListener,
+			PolarisDiscoveryProperties polarisDiscoveryProperties) {
+		return new PolarisRefreshApplicationReadyEventListener(polarisSDKContextManager, polarisServiceStatusChangeListener,
+				polarisDiscoveryProperties.getRouteRefreshDebounce(), polarisDiscoveryProperties.getRouteRefreshInterval());
 	}
 }
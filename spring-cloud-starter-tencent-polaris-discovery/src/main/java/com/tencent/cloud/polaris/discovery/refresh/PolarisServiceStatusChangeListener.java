@@ -19,7 +19,11 @@ package com.tencent.cloud.polaris.discovery.refresh;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
@@ -28,6 +32,7 @@ import com.tencent.polaris.api.plugin.registry.AbstractResourceEventListener;
 import com.tencent.polaris.api.pojo.Instance;
 import com.tencent.polaris.api.pojo.RegistryCacheValue;
 import com.tencent.polaris.api.pojo.ServiceEventKey;
+import com.tencent.polaris.api.pojo.ServiceKey;
 import com.tencent.polaris.api.utils.CollectionUtils;
 import com.tencent.polaris.client.pojo.ServiceInstancesByProto;
 import com.tencent.polaris.client.pojo.ServicesByProto;
@@ -40,6 +45,7 @@ import org.springframework.context.ApplicationEventPublisherAware;
 
 /**
  * Change listener of Polaris service info. When service info is created or deleted, or, instance of service is from 0 to
+ * many or from many to 0, route refresh is requested. Content hash of service status is kept for refresh event.
  *
  * @author Haotian Zhang
  */
@@ -47,12 +53,26 @@ public class PolarisServiceStatusChangeListener extends AbstractResourceEventLis
 		implements ApplicationEventPublisherAware {
 
 	/**
-	 * Index of service info status.
+	 * Index of service info status, used as value of {@link HeartbeatEvent}.
 	 */
 	public static final AtomicLong INDEX = new AtomicLong(0);
 
 	private static final Logger LOG = LoggerFactory.getLogger(PolarisServiceStatusChangeListener.class);
+
 	private final ServiceInstanceChangeCallbackManager serviceInstanceChangeCallbackManager;
+
+	/**
+	 * Services of each namespace, in form of namespace::service.
+	 */
+	private final Map<ServiceKey, Set<String>> serviceInfoMap = new ConcurrentHashMap<>();
+
+	/**
+	 * Whether service has instance, in form of namespace::service, for services with instance event received.
+	 */
+	private final Map<String, Boolean> serviceInstanceStatus = new ConcurrentHashMap<>();
+
+	private volatile Runnable refreshTrigger;
+
 	private ApplicationEventPublisher publisher;
 
 	public PolarisServiceStatusChangeListener(ServiceInstanceChangeCallbackManager serviceInstanceChangeCallbackManager) {
@@ -69,6 +89,7 @@ public class PolarisServiceStatusChangeListener extends AbstractResourceEventLis
 						.map(i -> i.getNamespace() + "::" + i.getService()).collect(Collectors.toSet());
 				Set<String> newServiceInfoSet = ((ServicesByProto) newValue).getServices().stream()
 						.map(i -> i.getNamespace() + "::" + i.getService()).collect(Collectors.toSet());
+				serviceInfoMap.put(svcEventKey.getServiceKey(), newServiceInfoSet);
 
 				Sets.SetView<String> addServiceInfoSetView = Sets.difference(newServiceInfoSet, oldServiceInfoSet);
 				Sets.SetView<String> deleteServiceInfoSetView = Sets.difference(oldServiceInfoSet, newServiceInfoSet);
@@ -79,7 +100,7 @@ public class PolarisServiceStatusChangeListener extends AbstractResourceEventLis
 				LOG.info("Service status is update. Add service of {}. Delete service of {}", addServiceInfoSetView, deleteServiceInfoSetView);
 
 				// Trigger reload of gateway route cache.
-				this.publisher.publishEvent(new HeartbeatEvent(this, INDEX.getAndIncrement()));
+				requestRefresh();
 			}
 		}
 		else if (newValue.getEventType() == ServiceEventKey.EventType.INSTANCE) {
@@ -87,12 +108,14 @@ public class PolarisServiceStatusChangeListener extends AbstractResourceEventLis
 				LOG.debug("receive service instances={} change event", svcEventKey);
 				ServiceInstancesByProto oldIns = (ServiceInstancesByProto) oldValue;
 				ServiceInstancesByProto newIns = (ServiceInstancesByProto) newValue;
+				String serviceInfo = svcEventKey.getNamespace() + "::" + svcEventKey.getService();
+				serviceInstanceStatus.put(serviceInfo, !CollectionUtils.isEmpty(newIns.getInstances()));
 				if ((CollectionUtils.isEmpty(oldIns.getInstances()) && !CollectionUtils.isEmpty(newIns.getInstances())) ||
 						(!CollectionUtils.isEmpty(oldIns.getInstances()) && CollectionUtils.isEmpty(newIns.getInstances()))) {
 					LOG.info("Service status of {} is update.", newIns.getService());
 
 					// Trigger reload of gateway route cache.
-					this.publisher.publishEvent(new HeartbeatEvent(this, INDEX.getAndIncrement()));
+					requestRefresh();
 				}
 
 				List<Instance> oldInstances = new ArrayList<>();
@@ -114,8 +137,54 @@ public class PolarisServiceStatusChangeListener extends AbstractResourceEventLis
 		}
 	}
 
+	private void requestRefresh() {
+		Runnable trigger = refreshTrigger;
+		if (trigger != null) {
+			trigger.run();
+		}
+		else if (publisher != null) {
+			// not driven by PolarisRefreshApplicationReadyEventListener, publish on each change as before.
+			publisher.publishEvent(new HeartbeatEvent(this, INDEX.getAndIncrement()));
+		}
+	}
+
+	/**
+	 * Set trigger of route refresh, which is called when service status changes.
+	 *
+	 * @param refreshTrigger trigger of route refresh
+	 */
+	public void setRefreshTrigger(Runnable refreshTrigger) {
+		this.refreshTrigger = refreshTrigger;
+	}
+
+	/**
+	 * Publisher is only used when no refresh trigger is set.
+	 *
+	 * @param applicationEventPublisher publisher of {@link HeartbeatEvent}
+	 */
 	@Override
 	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
 		this.publisher = applicationEventPublisher;
 	}
+
+	/**
+	 * Get hash of known services and whether each service has instance, independent of event order.
+	 *
+	 * @return content hash of service status
+	 */
+	public long getContentHash() {
+		Set<String> services = new TreeSet<>();
+		for (Set<String> serviceInfoSet : serviceInfoMap.values()) {
+			services.addAll(serviceInfoSet);
+		}
+		long hash = 1;
+		for (String service : services) {
+			hash = 31 * hash + service.hashCode();
+		}
+		for (Map.Entry<String, Boolean> entry : new TreeMap<>(serviceInstanceStatus).entrySet()) {
+			hash = 31 * hash + entry.getKey().hashCode();
+			hash = 31 * hash + Boolean.hashCode(entry.getValue());
+		}
+		return hash;
+	}
 }
@@ -18,9 +18,14 @@
 package com.tencent.cloud.polaris.discovery.refresh;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import com.tencent.cloud.common.util.ApplicationContextAwareUtils;
 import com.tencent.cloud.polaris.discovery.PolarisDiscoveryClient;
@@ -39,54 +44,131 @@ import org.springframework.util.CollectionUtils;
 
 /**
  * Call back manager for service instance change.
+ * <p>
+ * Changes of a service within coalesce window are merged, and each callback is invoked once with net change between
+ * instances before first change and instances after last change.
  *
  * @author Haotian Zhang
  */
 public class ServiceInstanceChangeCallbackManager implements ApplicationListener<ApplicationReadyEvent>, BeanPostProcessor {
 
+	/**
+	 * Default coalesce window in milliseconds.
+	 */
+	public static final long DEFAULT_COALESCE_WINDOW_MILLIS = 100;
+
 	private static final Logger LOG = LoggerFactory.getLogger(ServiceInstanceChangeCallbackManager.class);
 
 	private final ConcurrentHashMap<String, List<ServiceInstanceChangeCallback>> callbackMap = new ConcurrentHashMap<>();
 
+	private final ConcurrentHashMap<String, PendingChange> pendingChangeMap = new ConcurrentHashMap<>();
+
 	private final ScheduledThreadPoolExecutor serviceChangeListenerExecutor;
 
+	private final long coalesceWindowMillis;
+
 	public ServiceInstanceChangeCallbackManager() {
+		this(DEFAULT_COALESCE_WINDOW_MILLIS);
+	}
+
+	public ServiceInstanceChangeCallbackManager(long coalesceWindowMillis) {
 		this.serviceChangeListenerExecutor = new ScheduledThreadPoolExecutor(4, new NamedThreadFactory("service-change-listener"));
+		this.coalesceWindowMillis = coalesceWindowMillis;
 	}
 
 	public void handle(String serviceName, List<Instance> oldInstances, List<Instance> newInstances) {
+		if (!callbackMap.containsKey(serviceName)) {
+			return;
+		}
+		if (coalesceWindowMillis <= 0) {
+			dispatch(serviceName, oldInstances, newInstances);
+			return;
+		}
 
+		// keep instances before first change and after last change of window.
+		boolean[] scheduled = new boolean[1];
+		pendingChangeMap.compute(serviceName, (name, pendingChange) -> {
+			if (pendingChange == null) {
+				scheduled[0] = true;
+				return new PendingChange(oldInstances, newInstances);
+			}
+			pendingChange.latestInstances = newInstances;
+			return pendingChange;
+		});
+		if (scheduled[0]) {
+			serviceChangeListenerExecutor.schedule(() -> flush(serviceName), coalesceWindowMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void flush(String serviceName) {
+		PendingChange pendingChange = pendingChangeMap.remove(serviceName);
+		if (pendingChange != null) {
+			dispatch(serviceName, pendingChange.originInstances, pendingChange.latestInstances);
+		}
+	}
+
+	private void dispatch(String serviceName, List<Instance> oldInstances, List<Instance> newInstances) {
 		List<Instance> addInstances = new ArrayList<>();
 		List<Instance> deleteInstances = new ArrayList<>();
+		diff(oldInstances, newInstances, addInstances, deleteInstances);
+
+		List<ServiceInstanceChangeCallback> callbacks = callbackMap.get(serviceName);
+		if ((CollectionUtils.isEmpty(addInstances) && CollectionUtils.isEmpty(deleteInstances))
+				|| CollectionUtils.isEmpty(callbacks)) {
+			return;
+		}
+		for (ServiceInstanceChangeCallback callback : callbacks) {
+			serviceChangeListenerExecutor.execute(() -> {
+				try {
+					callback.callback(newInstances, addInstances, deleteInstances);
+				}
+				catch (Exception e) {
+					LOG.error("exception in callback, service name:{}, ", serviceName, e);
+				}
+			});
+		}
+	}
 
-		// calculate add instances.
+	/**
+	 * Calculate added and deleted instances, indexed by instance id. Instance with same id but different content is
+	 * treated as deleted and added.
+	 *
+	 * @param oldInstances old instances
+	 * @param newInstances new instances
+	 * @param addInstances output of added instances
+	 * @param deleteInstances output of deleted instances
+	 */
+	static void diff(List<Instance> oldInstances, List<Instance> newInstances,
+			List<Instance> addInstances, List<Instance> deleteInstances) {
+		Map<String, Instance> oldInstanceMap = new HashMap<>(oldInstances.size() * 2);
+		for (Instance instance : oldInstances) {
+			oldInstanceMap.put(instanceKey(instance), instance);
+		}
+		Set<String> newInstanceKeys = new HashSet<>(newInstances.size() * 2);
 		for (Instance instance : newInstances) {
-			if (!oldInstances.contains(instance)) {
+			String key = instanceKey(instance);
+			newInstanceKeys.add(key);
+			Instance oldInstance = oldInstanceMap.get(key);
+			if (oldInstance == null) {
 				addInstances.add(instance);
 			}
+			else if (!oldInstance.equals(instance)) {
+				addInstances.add(instance);
+				deleteInstances.add(oldInstance);
+			}
 		}
-		// calculate delete instances.
 		for (Instance instance : oldInstances) {
-			if (!newInstances.contains(instance)) {
+			if (!newInstanceKeys.contains(instanceKey(instance))) {
 				deleteInstances.add(instance);
 			}
 		}
+	}
 
-		if ((!CollectionUtils.isEmpty(addInstances) || !CollectionUtils.isEmpty(deleteInstances))
-				&& callbackMap.containsKey(serviceName)) {
-			List<ServiceInstanceChangeCallback> callbacks = callbackMap.get(serviceName);
-
-			for (ServiceInstanceChangeCallback callback : callbacks) {
-				serviceChangeListenerExecutor.execute(() -> {
-					try {
-						callback.callback(newInstances, addInstances, deleteInstances);
-					}
-					catch (Exception e) {
-						LOG.error("exception in callback, service name:{}, ", serviceName, e);
-					}
-				});
-			}
+	private static String instanceKey(Instance instance) {
+		if (!StringUtils.isBlank(instance.getId())) {
+			return instance.getId();
 		}
+		return instance.getHost() + ":" + instance.getPort();
 	}
 
 	@Override
@@ -142,4 +224,16 @@ public class ServiceInstanceChangeCallbackManager implements ApplicationListener
 			}
 		}
 	}
+
+	private static final class PendingChange {
+
+		private final List<Instance> originInstances;
+
+		private volatile List<Instance> latestInstances;
+
+		private PendingChange(List<Instance> originInstances, List<Instance> latestInstances) {
+			this.originInstances = originInstances;
+			this.latestInstances = latestInstances;
+		}
+	}
 }
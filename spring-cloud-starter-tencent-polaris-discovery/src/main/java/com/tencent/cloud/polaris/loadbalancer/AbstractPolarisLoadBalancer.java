@@ -82,13 +82,13 @@ public abstract class AbstractPolarisLoadBalancer implements ReactorServiceInsta
 				return new EmptyResponse();
 			}
 
-			ProcessLoadBalanceRequest req = new ProcessLoadBalanceRequest();
-			req.setDstInstances(convertToPolarisServiceInstances(serviceInstances));
-			req = setProcessLoadBalanceRequest(req);
-
 			try {
-				ProcessLoadBalanceResponse response = routerAPI.processLoadBalance(req);
-				return new DefaultResponse(new PolarisServiceInstance(response.getTargetInstance()));
+				ServiceInstance targetInstance = chooseInstance(serviceInstances);
+				if (targetInstance == null) {
+					log.warn("No server selected for service: " + this.serviceId);
+					return new EmptyResponse();
+				}
+				return new DefaultResponse(targetInstance);
 			}
 			catch (Exception e) {
 				log.warn("PolarisRoutingLoadbalancer error", e);
@@ -97,5 +97,28 @@ public abstract class AbstractPolarisLoadBalancer implements ReactorServiceInsta
 		});
 	}
 
-	protected abstract ProcessLoadBalanceRequest setProcessLoadBalanceRequest(ProcessLoadBalanceRequest req);
+	/**
+	 * Choose one instance from non-empty instance list. Default implementation selects through polaris router API,
+	 * subclasses can override it to select locally.
+	 *
+	 * @param serviceInstances non-empty instance list
+	 * @return chosen instance
+	 */
+	protected ServiceInstance chooseInstance(List<ServiceInstance> serviceInstances) {
+		ProcessLoadBalanceRequest req = new ProcessLoadBalanceRequest();
+		req.setDstInstances(convertToPolarisServiceInstances(serviceInstances));
+		req = setProcessLoadBalanceRequest(req);
+		ProcessLoadBalanceResponse response = routerAPI.processLoadBalance(req);
+		return new PolarisServiceInstance(response.getTargetInstance());
+	}
+
+	/**
+	 * Set load balance policy of request to polaris router API. Not used if {@link #chooseInstance(List)} is overridden.
+	 *
+	 * @param req request to polaris router API
+	 * @return request to polaris router API
+	 */
+	protected ProcessLoadBalanceRequest setProcessLoadBalanceRequest(ProcessLoadBalanceRequest req) {
+		return req;
+	}
 }
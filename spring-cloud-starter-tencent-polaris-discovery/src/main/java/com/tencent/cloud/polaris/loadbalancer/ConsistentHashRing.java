@@ -0,0 +1,225 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.loadbalancer;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntUnaryOperator;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+/**
+ * Consistent hash ring of instances with virtual nodes, looked up by binary search.
+ * <p>
+ * Count of virtual nodes of each instance is proportional to its weight, and instances of weight 0 are not on ring
+ * unless all instances are of weight 0. Virtual nodes are hashed from host and port of instance, so mapping of key to
+ * instance differs from ring hash load balancer of polaris SDK, and keys are remapped once when switching between them.
+ *
+ * @author agent 2026-10-17
+ */
+final class ConsistentHashRing {
+
+	private final ServiceInstance[] instances;
+
+	private final int[] weights;
+
+	private final ServiceInstance[] source;
+
+	private final long[] hashes;
+
+	private final int[] owners;
+
+	private final int memberCount;
+
+	private ConsistentHashRing(List<ServiceInstance> serviceInstances, int vnodeCount) {
+		this.source = serviceInstances.toArray(new ServiceInstance[0]);
+		this.instances = new LinkedHashSet<>(serviceInstances).toArray(new ServiceInstance[0]);
+		this.weights = new int[instances.length];
+		long totalWeight = 0;
+		int weightedCount = 0;
+		for (int i = 0; i < instances.length; i++) {
+			weights[i] = WeightedAliasTable.getWeight(instances[i]);
+			totalWeight += weights[i];
+			if (weights[i] > 0) {
+				weightedCount++;
+			}
+		}
+		int count = Math.max(1, vnodeCount);
+		int[] vnodeCounts = new int[instances.length];
+		int size = 0;
+		int members = 0;
+		for (int i = 0; i < instances.length; i++) {
+			if (totalWeight == 0) {
+				vnodeCounts[i] = count;
+			}
+			else if (weights[i] > 0) {
+				// scale by weight relative to average weight, so size of ring stays about count of instances times vnodeCount.
+				vnodeCounts[i] = (int) Math.max(1, Math.round((double) count * weights[i] * weightedCount / totalWeight));
+			}
+			if (vnodeCounts[i] > 0) {
+				members++;
+			}
+			size += vnodeCounts[i];
+		}
+		this.memberCount = members;
+		long[][] vnodes = new long[size][];
+		int index = 0;
+		for (int i = 0; i < instances.length; i++) {
+			String instanceKey = instances[i].getHost() + ":" + instances[i].getPort();
+			for (int j = 0; j < vnodeCounts[i]; j++) {
+				vnodes[index++] = new long[] {hash(instanceKey + "#" + j), i};
+			}
+		}
+		Arrays.sort(vnodes, (a, b) -> Long.compare(a[0], b[0]));
+		this.hashes = new long[size];
+		this.owners = new int[size];
+		for (int i = 0; i < size; i++) {
+			hashes[i] = vnodes[i][0];
+			owners[i] = (int) vnodes[i][1];
+		}
+	}
+
+	/**
+	 * Build hash ring of instances.
+	 *
+	 * @param serviceInstances non-empty instance list
+	 * @param vnodeCount count of virtual nodes of instance of average weight
+	 * @return hash ring
+	 */
+	static ConsistentHashRing build(List<ServiceInstance> serviceInstances, int vnodeCount) {
+		return new ConsistentHashRing(serviceInstances, vnodeCount);
+	}
+
+	/**
+	 * FNV-1a hash with murmur3 finalizer for better avalanche.
+	 *
+	 * @param key key
+	 * @return hash of key
+	 */
+	static long hash(String key) {
+		long h = 0xcbf29ce484222325L;
+		for (int i = 0; i < key.length(); i++) {
+			h ^= key.charAt(i);
+			h *= 0x100000001b3L;
+		}
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb93e7c5e8f5bL;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	/**
+	 * Whether this ring is built from same instances with same weights in same order.
+	 *
+	 * @param serviceInstances instance list
+	 * @return true if ring can be reused for instance list
+	 */
+	boolean matches(List<ServiceInstance> serviceInstances) {
+		if (serviceInstances.size() != source.length) {
+			return false;
+		}
+		for (int i = 0; i < source.length; i++) {
+			if (!Objects.equals(source[i], serviceInstances.get(i))) {
+				return false;
+			}
+		}
+		for (int i = 0; i < instances.length; i++) {
+			if (weights[i] != WeightedAliasTable.getWeight(instances[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Count of distinct instances of ring.
+	 *
+	 * @return count of instances
+	 */
+	int size() {
+		return instances.length;
+	}
+
+	/**
+	 * Get distinct instance by index, in range of [0, {@link #size()}).
+	 *
+	 * @param index index of instance
+	 * @return instance
+	 */
+	ServiceInstance getInstance(int index) {
+		return instances[index];
+	}
+
+	private int position(String key) {
+		int index = Arrays.binarySearch(hashes, hash(key));
+		if (index < 0) {
+			index = -index - 1;
+		}
+		return index == hashes.length ? 0 : index;
+	}
+
+	/**
+	 * Get instance of key.
+	 *
+	 * @param key hash key
+	 * @return first instance clockwise from hash of key
+	 */
+	ServiceInstance get(String key) {
+		return instances[owners[position(key)]];
+	}
+
+	/**
+	 * Get instance of key with bounded load. Instances are visited clockwise from hash of key, and the first one whose
+	 * in-flight requests are under capacity is chosen, where capacity is loadFactor times average in-flight requests
+	 * of instances on ring including this one.
+	 *
+	 * @param key hash key
+	 * @param inFlight in-flight requests of instance by index of {@link #getInstance(int)}
+	 * @param totalInFlight in-flight requests of all instances, kept by caller instead of summed for each key
+	 * @param loadFactor bounded load factor
+	 * @return chosen instance
+	 */
+	ServiceInstance get(String key, IntUnaryOperator inFlight, int totalInFlight, double loadFactor) {
+		int start = position(key);
+		double capacity = Math.ceil(loadFactor * (Math.max(0, totalInFlight) + 1) / memberCount);
+		int first = owners[start];
+		if (inFlight.applyAsInt(first) < capacity) {
+			return instances[first];
+		}
+		// only overloaded keys pay for walking the ring.
+		boolean[] visited = new boolean[instances.length];
+		visited[first] = true;
+		int checked = 1;
+		for (int i = 1; i < hashes.length && checked < memberCount; i++) {
+			int owner = owners[(start + i) % hashes.length];
+			if (visited[owner]) {
+				continue;
+			}
+			visited[owner] = true;
+			checked++;
+			if (inFlight.applyAsInt(owner) < capacity) {
+				return instances[owner];
+			}
+		}
+		return instances[first];
+	}
+}
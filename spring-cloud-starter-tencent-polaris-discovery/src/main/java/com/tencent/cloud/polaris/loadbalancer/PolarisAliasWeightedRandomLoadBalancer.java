@@ -0,0 +1,85 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.loadbalancer;
+
+import java.util.List;
+
+import com.tencent.cloud.common.pojo.RevisionedServiceInstanceList;
+import com.tencent.polaris.router.api.core.RouterAPI;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+/**
+ * Weighted random loadbalancer selecting locally in O(1) by alias table.
+ * <p>
+ * Alias table is rebuilt only when instances or weights change. It is reused directly if supplier returns same list or
+ * a list of same {@link RevisionedServiceInstanceList revision}, such as instances discovered from same revision of
+ * polaris SDK by {@link PolarisServiceInstanceListSupplier} or router results served from cache, otherwise instances
+ * and weights are compared with table.
+ *
+ * @author agent 2026-10-17
+ */
+public class PolarisAliasWeightedRandomLoadBalancer extends AbstractPolarisLoadBalancer {
+
+	private volatile AliasTableHolder aliasTableHolder;
+
+	public PolarisAliasWeightedRandomLoadBalancer(String serviceId,
+			ObjectProvider<ServiceInstanceListSupplier> supplierObjectProvider, RouterAPI routerAPI) {
+		super(serviceId, supplierObjectProvider, routerAPI);
+	}
+
+	@Override
+	protected ServiceInstance chooseInstance(List<ServiceInstance> serviceInstances) {
+		return getAliasTable(serviceInstances).next();
+	}
+
+	WeightedAliasTable getAliasTable(List<ServiceInstance> serviceInstances) {
+		long revision = RevisionedServiceInstanceList.revisionOf(serviceInstances);
+		AliasTableHolder holder = aliasTableHolder;
+		if (holder != null) {
+			if (holder.source == serviceInstances
+					|| (revision != RevisionedServiceInstanceList.UNKNOWN_REVISION && holder.revision == revision)) {
+				return holder.aliasTable;
+			}
+			if (holder.aliasTable.matches(serviceInstances)) {
+				aliasTableHolder = new AliasTableHolder(serviceInstances, revision, holder.aliasTable);
+				return holder.aliasTable;
+			}
+		}
+		WeightedAliasTable aliasTable = WeightedAliasTable.build(serviceInstances);
+		aliasTableHolder = new AliasTableHolder(serviceInstances, revision, aliasTable);
+		return aliasTable;
+	}
+
+	private static final class AliasTableHolder {
+
+		private final List<ServiceInstance> source;
+
+		private final long revision;
+
+		private final WeightedAliasTable aliasTable;
+
+		private AliasTableHolder(List<ServiceInstance> source, long revision, WeightedAliasTable aliasTable) {
+			this.source = source;
+			this.revision = revision;
+			this.aliasTable = aliasTable;
+		}
+	}
+}
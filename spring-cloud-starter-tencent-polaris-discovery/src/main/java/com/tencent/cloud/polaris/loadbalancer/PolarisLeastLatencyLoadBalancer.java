@@ -0,0 +1,91 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.loadbalancer;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStats;
+import com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsManager;
+import com.tencent.polaris.router.api.core.RouterAPI;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+/**
+ * Loadbalancer choosing the better of two random instances (power of two choices), scored by moving average of latency
+ * and in-flight request count recorded by enhanced plugins.
+ *
+ * @author agent 2026-10-17
+ */
+public class PolarisLeastLatencyLoadBalancer extends AbstractPolarisLoadBalancer {
+
+	private final ServiceInstanceStatsManager statsManager;
+
+	public PolarisLeastLatencyLoadBalancer(String serviceId, ObjectProvider<ServiceInstanceListSupplier> supplierObjectProvider,
+			RouterAPI routerAPI, ServiceInstanceStatsManager statsManager) {
+		super(serviceId, supplierObjectProvider, routerAPI);
+		this.statsManager = statsManager;
+	}
+
+	@Override
+	protected ServiceInstance chooseInstance(List<ServiceInstance> serviceInstances) {
+		int size = serviceInstances.size();
+		if (size == 1) {
+			return serviceInstances.get(0);
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int first = random.nextInt(size);
+		int second = random.nextInt(size - 1);
+		if (second >= first) {
+			second++;
+		}
+		ServiceInstance firstInstance = serviceInstances.get(first);
+		ServiceInstance secondInstance = serviceInstances.get(second);
+		ServiceInstanceStats firstStats = statsManager.getStats(firstInstance);
+		ServiceInstanceStats secondStats = statsManager.getStats(secondInstance);
+		if (hasLatency(firstStats) && hasLatency(secondStats)) {
+			return score(firstStats) <= score(secondStats) ? firstInstance : secondInstance;
+		}
+		// Instance without latency is neutral, neither preferred nor avoided, so compare in-flight request only.
+		return inFlightOf(firstStats) <= inFlightOf(secondStats) ? firstInstance : secondInstance;
+	}
+
+	/**
+	 * Score of instance with latency recorded, lower is better.
+	 *
+	 * @param serviceInstance instance
+	 * @return score of instance
+	 */
+	double score(ServiceInstance serviceInstance) {
+		return score(statsManager.getStats(serviceInstance));
+	}
+
+	private static double score(ServiceInstanceStats stats) {
+		return (stats.getEwmaLatency() + 1) * (stats.getInFlight() + 1);
+	}
+
+	private static boolean hasLatency(ServiceInstanceStats stats) {
+		return stats != null && stats.hasLatency();
+	}
+
+	private static int inFlightOf(ServiceInstanceStats stats) {
+		return stats == null ? 0 : stats.getInFlight();
+	}
+}
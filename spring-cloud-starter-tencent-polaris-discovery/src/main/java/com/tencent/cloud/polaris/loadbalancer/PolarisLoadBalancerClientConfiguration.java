@@ -19,7 +19,11 @@ package com.tencent.cloud.polaris.loadbalancer;
 
 import com.tencent.cloud.polaris.context.ConditionalOnPolarisEnabled;
 import com.tencent.cloud.polaris.context.PolarisSDKContextManager;
+import com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -50,6 +54,8 @@ import org.springframework.core.env.Environment;
 @ConditionalOnDiscoveryEnabled
 public class PolarisLoadBalancerClientConfiguration {
 
+	private static final Logger LOG = LoggerFactory.getLogger(PolarisLoadBalancerClientConfiguration.class);
+
 	/**
 	 * Order of reactive discovery service instance supplier.
 	 */
@@ -85,14 +91,42 @@ public class PolarisLoadBalancerClientConfiguration {
 				loadBalancerClientFactory.getLazyProvider(name, ServiceInstanceListSupplier.class), polarisSDKContextManager.getRouterAPI());
 	}
 
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(value = "spring.cloud.polaris.loadbalancer.strategy", havingValue = "polarisAliasWeightedRandom")
+	public ReactorLoadBalancer<ServiceInstance> polarisAliasWeightedRandomLoadBalancer(Environment environment,
+			LoadBalancerClientFactory loadBalancerClientFactory, PolarisSDKContextManager polarisSDKContextManager) {
+		String name = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+		return new PolarisAliasWeightedRandomLoadBalancer(name,
+				loadBalancerClientFactory.getLazyProvider(name, ServiceInstanceListSupplier.class), polarisSDKContextManager.getRouterAPI());
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(value = "spring.cloud.polaris.loadbalancer.strategy", havingValue = "polarisLeastLatency")
+	public ReactorLoadBalancer<ServiceInstance> polarisLeastLatencyLoadBalancer(Environment environment,
+			LoadBalancerClientFactory loadBalancerClientFactory, PolarisSDKContextManager polarisSDKContextManager,
+			ObjectProvider<ServiceInstanceStatsManager> statsManagerProvider) {
+		String name = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+		return new PolarisLeastLatencyLoadBalancer(name,
+				loadBalancerClientFactory.getLazyProvider(name, ServiceInstanceListSupplier.class), polarisSDKContextManager.getRouterAPI(),
+				getStatsManager(statsManagerProvider, name, "polarisLeastLatency", true));
+	}
+
 	@Bean
 	@ConditionalOnMissingBean
 	@ConditionalOnProperty(value = "spring.cloud.polaris.loadbalancer.strategy", havingValue = "polarisRingHash")
 	public ReactorLoadBalancer<ServiceInstance> polarisRingHashLoadBalancer(Environment environment,
-			LoadBalancerClientFactory loadBalancerClientFactory, PolarisSDKContextManager polarisSDKContextManager) {
+			LoadBalancerClientFactory loadBalancerClientFactory, PolarisSDKContextManager polarisSDKContextManager,
+			ObjectProvider<PolarisRingHashLoadBalancerProperties> propertiesProvider,
+			ObjectProvider<ServiceInstanceStatsManager> statsManagerProvider) {
 		String name = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+		PolarisRingHashLoadBalancerProperties properties = propertiesProvider.getIfAvailable(PolarisRingHashLoadBalancerProperties::new);
+		ServiceInstanceStatsManager statsManager = properties.getLoadFactor() > 0
+				? getStatsManager(statsManagerProvider, name, "polarisRingHash with bounded load", false) : null;
 		return new PolarisRingHashLoadBalancer(name,
-				loadBalancerClientFactory.getLazyProvider(name, ServiceInstanceListSupplier.class), polarisSDKContextManager.getRouterAPI());
+				loadBalancerClientFactory.getLazyProvider(name, ServiceInstanceListSupplier.class), polarisSDKContextManager.getRouterAPI(),
+				properties, statsManager);
 	}
 
 	@Bean
@@ -135,4 +169,27 @@ public class PolarisLoadBalancerClientConfiguration {
 					ServiceInstanceListSupplier.builder().withBlockingDiscoveryClient().build(context));
 		}
 	}
+
+	/**
+	 * Get shared stats manager fed by enhanced plugins. Without it, load balancer sees no in-flight requests or
+	 * latency, so it is warned instead of silently balancing on empty stats.
+	 *
+	 * @param statsManagerProvider provider of stats manager
+	 * @param serviceId service of load balancer
+	 * @param strategy load balancer strategy
+	 * @param required whether to fall back to an empty stats manager if absent
+	 * @return stats manager, or null if absent and not required
+	 */
+	private static ServiceInstanceStatsManager getStatsManager(ObjectProvider<ServiceInstanceStatsManager> statsManagerProvider,
+			String serviceId, String strategy, boolean required) {
+		ServiceInstanceStatsManager statsManager = statsManagerProvider.getIfAvailable();
+		if (statsManager == null) {
+			LOG.warn("No shared ServiceInstanceStatsManager found for load balancer {} of service {}, "
+					+ "check that rpc enhancement is enabled. Load balancer works without call statistics.", strategy, serviceId);
+			if (required) {
+				statsManager = new ServiceInstanceStatsManager();
+			}
+		}
+		return statsManager;
+	}
 }
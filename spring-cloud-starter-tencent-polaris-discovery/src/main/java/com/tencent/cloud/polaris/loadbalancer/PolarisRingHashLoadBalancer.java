@@ -17,28 +17,71 @@
 
 package com.tencent.cloud.polaris.loadbalancer;
 
+import java.util.List;
 import java.util.Optional;
 
+import com.tencent.cloud.common.pojo.RevisionedServiceInstanceList;
+import com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStats;
+import com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsManager;
 import com.tencent.polaris.api.config.consumer.LoadBalanceConfig;
 import com.tencent.polaris.api.rpc.Criteria;
 import com.tencent.polaris.router.api.core.RouterAPI;
 import com.tencent.polaris.router.api.rpc.ProcessLoadBalanceRequest;
 
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
 
 /**
  * PolarisRingHashLoadBalancer.
+ * <p>
+ * By default, instance is chosen by ring hash load balancer of polaris SDK with hash key from
+ * {@link PolarisLoadBalancerRingHashKeyProvider}. If {@link PolarisRingHashLoadBalancerProperties#isLocalRing() local
+ * ring} is enabled, hash ring is built locally once for each instance list and looked up by binary search instead, and
+ * with bounded load, key spills to next instance on ring when an instance is overloaded. Local ring is reused for same
+ * list, or a list of same {@link RevisionedServiceInstanceList revision} such as router results served from cache.
  *
  * @author sean yu
  * @author <a href="mailto:veteranchen@tencent.com">veteranchen</a>
  */
 public class PolarisRingHashLoadBalancer extends AbstractPolarisLoadBalancer {
 
+	private final String serviceId;
+
+	private final PolarisRingHashLoadBalancerProperties properties;
+
+	private final ServiceInstanceStatsManager statsManager;
+
+	private volatile RingHolder ringHolder;
+
 	public PolarisRingHashLoadBalancer(String serviceId,
 			ObjectProvider<ServiceInstanceListSupplier> supplierObjectProvider,
 			RouterAPI routerAPI) {
+		this(serviceId, supplierObjectProvider, routerAPI, new PolarisRingHashLoadBalancerProperties(), null);
+	}
+
+	public PolarisRingHashLoadBalancer(String serviceId,
+			ObjectProvider<ServiceInstanceListSupplier> supplierObjectProvider,
+			RouterAPI routerAPI, PolarisRingHashLoadBalancerProperties properties,
+			ServiceInstanceStatsManager statsManager) {
 		super(serviceId, supplierObjectProvider, routerAPI);
+		this.serviceId = serviceId;
+		this.properties = properties;
+		this.statsManager = statsManager;
+	}
+
+	@Override
+	protected ServiceInstance chooseInstance(List<ServiceInstance> serviceInstances) {
+		if (!properties.isLocalRing()) {
+			return super.chooseInstance(serviceInstances);
+		}
+		String hashKey = Optional.ofNullable(PolarisLoadBalancerRingHashKeyProvider.getHashKey()).orElse("");
+		RingHolder holder = getRingHolder(serviceInstances);
+		if (statsManager != null && properties.getLoadFactor() > 0) {
+			return holder.ring.get(hashKey, index -> getInFlight(holder.statsKeys[index]),
+					statsManager.getServiceInFlight(serviceId), properties.getLoadFactor());
+		}
+		return holder.ring.get(hashKey);
 	}
 
 	@Override
@@ -50,4 +93,55 @@ public class PolarisRingHashLoadBalancer extends AbstractPolarisLoadBalancer {
 		req.setCriteria(criteria);
 		return req;
 	}
+
+	ConsistentHashRing getRing(List<ServiceInstance> serviceInstances) {
+		return getRingHolder(serviceInstances).ring;
+	}
+
+	private RingHolder getRingHolder(List<ServiceInstance> serviceInstances) {
+		long revision = RevisionedServiceInstanceList.revisionOf(serviceInstances);
+		RingHolder holder = ringHolder;
+		if (holder != null) {
+			if (holder.source == serviceInstances
+					|| (revision != RevisionedServiceInstanceList.UNKNOWN_REVISION && holder.revision == revision)) {
+				return holder;
+			}
+			if (holder.ring.matches(serviceInstances)) {
+				holder = new RingHolder(serviceInstances, revision, holder.ring, holder.statsKeys);
+				ringHolder = holder;
+				return holder;
+			}
+		}
+		ConsistentHashRing ring = ConsistentHashRing.build(serviceInstances, properties.getVnodeCount());
+		String[] statsKeys = new String[ring.size()];
+		for (int i = 0; i < statsKeys.length; i++) {
+			statsKeys[i] = ServiceInstanceStatsManager.keyOf(ring.getInstance(i));
+		}
+		holder = new RingHolder(serviceInstances, revision, ring, statsKeys);
+		ringHolder = holder;
+		return holder;
+	}
+
+	private int getInFlight(String statsKey) {
+		ServiceInstanceStats stats = statsManager.getStats(statsKey);
+		return stats == null ? 0 : stats.getInFlight();
+	}
+
+	private static final class RingHolder {
+
+		private final List<ServiceInstance> source;
+
+		private final long revision;
+
+		private final ConsistentHashRing ring;
+
+		private final String[] statsKeys;
+
+		private RingHolder(List<ServiceInstance> source, long revision, ConsistentHashRing ring, String[] statsKeys) {
+			this.source = source;
+			this.revision = revision;
+			this.ring = ring;
+			this.statsKeys = statsKeys;
+		}
+	}
 }
@@ -0,0 +1,96 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.loadbalancer;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Properties of {@link PolarisRingHashLoadBalancer}.
+ *
+ * @author agent 2026-10-17
+ */
+@Validated
+@ConfigurationProperties("spring.cloud.polaris.loadbalancer.ring-hash")
+public class PolarisRingHashLoadBalancerProperties {
+
+	/**
+	 * Whether to choose instance on hash ring built locally instead of ring hash load balancer of polaris SDK. Keys
+	 * are remapped once when switching, since virtual nodes are hashed differently.
+	 */
+	private boolean localRing = false;
+
+	/**
+	 * Count of virtual nodes of instance of average weight on local hash ring.
+	 */
+	@Min(1)
+	private int vnodeCount = 128;
+
+	/**
+	 * Bounded load factor of local hash ring. If greater than 0, an instance whose in-flight requests exceed this
+	 * multiple of average in-flight requests is skipped, and key spills to next instance on ring. Must be 0 (disabled)
+	 * or greater than 1.
+	 */
+	private double loadFactor = 0;
+
+	public boolean isLocalRing() {
+		return localRing;
+	}
+
+	public void setLocalRing(boolean localRing) {
+		this.localRing = localRing;
+	}
+
+	public int getVnodeCount() {
+		return vnodeCount;
+	}
+
+	public void setVnodeCount(int vnodeCount) {
+		this.vnodeCount = vnodeCount;
+	}
+
+	public double getLoadFactor() {
+		return loadFactor;
+	}
+
+	public void setLoadFactor(double loadFactor) {
+		this.loadFactor = loadFactor;
+	}
+
+	@AssertTrue(message = "load-factor must be 0 (disabled) or greater than 1")
+	public boolean isLoadFactorValid() {
+		return loadFactor == 0 || loadFactor > 1;
+	}
+
+	@AssertTrue(message = "load-factor greater than 0 requires local-ring to be true")
+	public boolean isBoundedLoadOnLocalRing() {
+		return loadFactor == 0 || localRing;
+	}
+
+	@Override
+	public String toString() {
+		return "PolarisRingHashLoadBalancerProperties{" +
+				"localRing=" + localRing +
+				", vnodeCount=" + vnodeCount +
+				", loadFactor=" + loadFactor +
+				'}';
+	}
+}
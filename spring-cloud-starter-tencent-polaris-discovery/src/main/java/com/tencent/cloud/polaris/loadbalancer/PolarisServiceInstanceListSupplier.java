@@ -19,6 +19,8 @@ package com.tencent.cloud.polaris.loadbalancer;
 
 import java.util.List;
 
+import com.tencent.cloud.common.pojo.PolarisServiceInstance;
+import com.tencent.cloud.common.pojo.RevisionedServiceInstanceList;
 import reactor.core.publisher.Flux;
 
 import org.springframework.cloud.client.ServiceInstance;
@@ -28,22 +30,68 @@ import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
 
 /**
  * Service instance list supplier of Polaris.
+ * <p>
+ * Instance lists discovered from polaris carry revision of polaris SDK, which is mapped to a
+ * {@link RevisionedServiceInstanceList revision} unique in current process, so load balancers can reuse state built
+ * from a list without comparing instances.
  *
  * @author Haotian Zhang
  */
 public class PolarisServiceInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
 
+	private volatile DiscoveryRevision discoveryRevision;
+
 	public PolarisServiceInstanceListSupplier(ServiceInstanceListSupplier delegate) {
 		super(delegate);
 	}
 
 	@Override
 	public Flux<List<ServiceInstance>> get() {
-		return getDelegate().get();
+		return getDelegate().get().map(this::withRevision);
 	}
 
 	@Override
 	public Flux<List<ServiceInstance>> get(Request request) {
-		return super.get(request);
+		return super.get(request).map(this::withRevision);
+	}
+
+	List<ServiceInstance> withRevision(List<ServiceInstance> serviceInstances) {
+		if (serviceInstances.isEmpty() || serviceInstances instanceof RevisionedServiceInstanceList) {
+			return serviceInstances;
+		}
+		String serviceRevision = serviceRevisionOf(serviceInstances.get(0));
+		// instances of one list are discovered together, so checking both ends is enough.
+		if (serviceRevision == null || serviceRevision.isEmpty()
+				|| !serviceRevision.equals(serviceRevisionOf(serviceInstances.get(serviceInstances.size() - 1)))) {
+			return serviceInstances;
+		}
+		DiscoveryRevision holder = discoveryRevision;
+		if (holder == null || !holder.serviceRevision.equals(serviceRevision) || holder.size != serviceInstances.size()) {
+			holder = new DiscoveryRevision(serviceRevision, serviceInstances.size(), RevisionedServiceInstanceList.nextRevision());
+			discoveryRevision = holder;
+		}
+		return new RevisionedServiceInstanceList(serviceInstances, holder.revision);
+	}
+
+	private static String serviceRevisionOf(ServiceInstance serviceInstance) {
+		if (serviceInstance instanceof PolarisServiceInstance) {
+			return ((PolarisServiceInstance) serviceInstance).getServiceRevision();
+		}
+		return null;
+	}
+
+	private static final class DiscoveryRevision {
+
+		private final String serviceRevision;
+
+		private final int size;
+
+		private final long revision;
+
+		private DiscoveryRevision(String serviceRevision, int size, long revision) {
+			this.serviceRevision = serviceRevision;
+			this.size = size;
+			this.revision = revision;
+		}
 	}
 }
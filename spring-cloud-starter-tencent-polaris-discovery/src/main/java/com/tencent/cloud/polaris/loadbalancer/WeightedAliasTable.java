@@ -0,0 +1,163 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.loadbalancer;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.tencent.cloud.common.pojo.PolarisServiceInstance;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+/**
+ * Alias table of weighted instances, built by Vose's alias method in O(n) and sampled in O(1).
+ *
+ * @author agent 2026-10-17
+ */
+final class WeightedAliasTable {
+
+	/**
+	 * Weight of instance which is not polaris instance, same as default weight of polaris instance.
+	 */
+	static final int DEFAULT_WEIGHT = 100;
+
+	private final ServiceInstance[] instances;
+
+	private final int[] weights;
+
+	private final double[] probabilities;
+
+	private final int[] aliases;
+
+	private WeightedAliasTable(ServiceInstance[] instances, int[] weights) {
+		this.instances = instances;
+		this.weights = weights;
+		int n = instances.length;
+		this.probabilities = new double[n];
+		this.aliases = new int[n];
+
+		long totalWeight = 0;
+		for (int weight : weights) {
+			totalWeight += weight;
+		}
+		// all weights are zero, choose uniformly.
+		if (totalWeight == 0) {
+			for (int i = 0; i < n; i++) {
+				probabilities[i] = 1.0;
+				aliases[i] = i;
+			}
+			return;
+		}
+
+		double[] scaled = new double[n];
+		int[] small = new int[n];
+		int[] large = new int[n];
+		int smallSize = 0;
+		int largeSize = 0;
+		for (int i = 0; i < n; i++) {
+			scaled[i] = (double) weights[i] * n / totalWeight;
+			if (scaled[i] < 1.0) {
+				small[smallSize++] = i;
+			}
+			else {
+				large[largeSize++] = i;
+			}
+		}
+		while (smallSize > 0 && largeSize > 0) {
+			int less = small[--smallSize];
+			int more = large[--largeSize];
+			probabilities[less] = scaled[less];
+			aliases[less] = more;
+			scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+			if (scaled[more] < 1.0) {
+				small[smallSize++] = more;
+			}
+			else {
+				large[largeSize++] = more;
+			}
+		}
+		// remaining columns are full, except for rounding error.
+		while (largeSize > 0) {
+			int index = large[--largeSize];
+			probabilities[index] = 1.0;
+			aliases[index] = index;
+		}
+		while (smallSize > 0) {
+			int index = small[--smallSize];
+			probabilities[index] = 1.0;
+			aliases[index] = index;
+		}
+	}
+
+	/**
+	 * Build alias table of instances.
+	 *
+	 * @param serviceInstances non-empty instance list
+	 * @return alias table
+	 */
+	static WeightedAliasTable build(List<ServiceInstance> serviceInstances) {
+		ServiceInstance[] instances = serviceInstances.toArray(new ServiceInstance[0]);
+		int[] weights = new int[instances.length];
+		for (int i = 0; i < instances.length; i++) {
+			weights[i] = getWeight(instances[i]);
+		}
+		return new WeightedAliasTable(instances, weights);
+	}
+
+	static int getWeight(ServiceInstance serviceInstance) {
+		if (serviceInstance instanceof PolarisServiceInstance) {
+			return Math.max(0, ((PolarisServiceInstance) serviceInstance).getPolarisInstance().getWeight());
+		}
+		return DEFAULT_WEIGHT;
+	}
+
+	/**
+	 * Whether this table is built from same instances with same weights in same order.
+	 *
+	 * @param serviceInstances instance list
+	 * @return true if table can be reused for instance list
+	 */
+	boolean matches(List<ServiceInstance> serviceInstances) {
+		if (serviceInstances.size() != instances.length) {
+			return false;
+		}
+		for (int i = 0; i < instances.length; i++) {
+			ServiceInstance serviceInstance = serviceInstances.get(i);
+			if (!Objects.equals(instances[i], serviceInstance) || weights[i] != getWeight(serviceInstance)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Choose instance randomly by weight.
+	 *
+	 * @return chosen instance
+	 */
+	ServiceInstance next() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int column = random.nextInt(instances.length);
+		return random.nextDouble() < probabilities[column] ? instances[column] : instances[aliases[column]];
+	}
+
+	int size() {
+		return instances.length;
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.registry;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.tencent.polaris.client.util.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+
+/**
+ * Non-blocking health probe of local instance before heartbeat.
+ * Probes share one {@link HttpClient}, so connections are kept alive between probes,
+ * and each probe is bounded by timeout.
+ *
+ * @author agent 2026-10-17
+ */
+public class PolarisHealthProbe implements DisposableBean {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PolarisHealthProbe.class);
+
+	private final String healthCheckUrl;
+
+	private final Duration timeout;
+
+	private final ExecutorService probeExecutor;
+
+	private final HttpClient httpClient;
+
+	private final LongAdder count = new LongAdder();
+
+	private final LongAdder failureCount = new LongAdder();
+
+	private final LongAdder totalNanos = new LongAdder();
+
+	private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+	private volatile long lastNanos;
+
+	public PolarisHealthProbe(String healthCheckUrl, long timeoutMillis) {
+		this.healthCheckUrl = healthCheckUrl.startsWith("/") ? healthCheckUrl : "/" + healthCheckUrl;
+		this.timeout = Duration.ofMillis(timeoutMillis);
+		this.probeExecutor = Executors.newSingleThreadExecutor(new NamedThreadFactory("polaris-health-probe"));
+		this.httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(timeout)
+				.executor(probeExecutor)
+				.build();
+	}
+
+	/**
+	 * Probe health check url of instance.
+	 *
+	 * @param host host of instance
+	 * @param port port of instance
+	 * @return future completed with true if status is 200 and body is not empty, never completed exceptionally
+	 */
+	public CompletableFuture<Boolean> probe(String host, int port) {
+		String url = String.format("http://%s:%s%s", host, port, healthCheckUrl);
+		long start = System.nanoTime();
+		CompletableFuture<HttpResponse<String>> future;
+		try {
+			HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+					.timeout(timeout)
+					.header(HttpHeaders.USER_AGENT, "polaris")
+					.GET()
+					.build();
+			future = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+		}
+		catch (Exception e) {
+			future = CompletableFuture.failedFuture(e);
+		}
+		return future.handle((response, throwable) -> {
+			long nanos = System.nanoTime() - start;
+			boolean healthy = throwable == null && response.statusCode() == 200 && StringUtils.hasText(response.body());
+			record(nanos, healthy);
+			if (throwable != null) {
+				LOGGER.error("exec health check request, url: {} failed!", url, throwable);
+			}
+			else if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("exec health check request, url: {}, status: {}, cost {} ms.", url,
+						response.statusCode(), nanos / 1000000);
+			}
+			return healthy;
+		});
+	}
+
+	private void record(long nanos, boolean healthy) {
+		count.increment();
+		if (!healthy) {
+			failureCount.increment();
+		}
+		totalNanos.add(nanos);
+		maxNanos.accumulate(nanos);
+		lastNanos = nanos;
+	}
+
+	public String getHealthCheckUrl() {
+		return healthCheckUrl;
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getFailureCount() {
+		return failureCount.sum();
+	}
+
+	public long getTotalNanos() {
+		return totalNanos.sum();
+	}
+
+	public long getMaxNanos() {
+		return maxNanos.get();
+	}
+
+	public long getLastNanos() {
+		return lastNanos;
+	}
+
+	@Override
+	public void destroy() {
+		probeExecutor.shutdown();
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.registry;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Bind latency of health check probes recorded by {@link PolarisHealthProbe} to micrometer.
+ *
+ * @author agent 2026-10-17
+ */
+public class PolarisHealthProbeMeterBinder implements MeterBinder {
+
+	/**
+	 * Timer of health check probe.
+	 */
+	public static final String PROBE_TIMER = "sct.discovery.health.probe";
+
+	/**
+	 * Max latency of health check probe.
+	 */
+	public static final String PROBE_MAX = "sct.discovery.health.probe.max";
+
+	/**
+	 * Failure count of health check probe.
+	 */
+	public static final String PROBE_FAILURE = "sct.discovery.health.probe.failure";
+
+	private final PolarisServiceRegistry polarisServiceRegistry;
+
+	public PolarisHealthProbeMeterBinder(PolarisServiceRegistry polarisServiceRegistry) {
+		this.polarisServiceRegistry = polarisServiceRegistry;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		PolarisHealthProbe healthProbe = polarisServiceRegistry.getHealthProbe();
+		if (healthProbe == null) {
+			return;
+		}
+		Tags tags = Tags.of("url", healthProbe.getHealthCheckUrl());
+		FunctionTimer.builder(PROBE_TIMER, healthProbe,
+						PolarisHealthProbe::getCount,
+						PolarisHealthProbe::getTotalNanos,
+						TimeUnit.NANOSECONDS)
+				.tags(tags)
+				.description("Latency of health check probe before heartbeat")
+				.register(registry);
+		Gauge.builder(PROBE_MAX, healthProbe, p -> p.getMaxNanos() / 1e9)
+				.tags(tags)
+				.baseUnit("seconds")
+				.description("Max latency of health check probe before heartbeat")
+				.register(registry);
+		FunctionCounter.builder(PROBE_FAILURE, healthProbe, PolarisHealthProbe::getFailureCount)
+				.tags(tags)
+				.description("Failure count of health check probe before heartbeat")
+				.register(registry);
+	}
+}
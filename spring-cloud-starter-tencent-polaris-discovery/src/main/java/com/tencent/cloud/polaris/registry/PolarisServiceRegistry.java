@@ -17,14 +17,13 @@
 
 package com.tencent.cloud.polaris.registry;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.tencent.cloud.common.metadata.StaticMetadataManager;
-import com.tencent.cloud.common.util.OkHttpUtil;
 import com.tencent.cloud.common.util.OtUtils;
 import com.tencent.cloud.polaris.PolarisDiscoveryProperties;
 import com.tencent.cloud.polaris.context.PolarisSDKContextManager;
@@ -54,7 +53,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cloud.client.serviceregistry.ServiceRegistry;
-import org.springframework.http.HttpHeaders;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.springframework.util.ReflectionUtils.rethrowRuntimeException;
@@ -78,9 +76,21 @@ public class PolarisServiceRegistry implements ServiceRegistry<PolarisRegistrati
 	private final PolarisStatProperties polarisStatProperties;
 	private final ScheduledExecutorService heartbeatExecutor;
 
+	private final PolarisHealthProbe healthProbe;
+
+	private final AtomicBoolean probing = new AtomicBoolean(false);
+
 	public PolarisServiceRegistry(PolarisDiscoveryProperties polarisDiscoveryProperties,
 			PolarisSDKContextManager polarisSDKContextManager, PolarisDiscoveryHandler polarisDiscoveryHandler,
 			StaticMetadataManager staticMetadataManager, PolarisStatProperties polarisStatProperties) {
+		this(polarisDiscoveryProperties, polarisSDKContextManager, polarisDiscoveryHandler, staticMetadataManager,
+				polarisStatProperties, null);
+	}
+
+	public PolarisServiceRegistry(PolarisDiscoveryProperties polarisDiscoveryProperties,
+			PolarisSDKContextManager polarisSDKContextManager, PolarisDiscoveryHandler polarisDiscoveryHandler,
+			StaticMetadataManager staticMetadataManager, PolarisStatProperties polarisStatProperties,
+			PolarisHealthProbe healthProbe) {
 		this.polarisDiscoveryProperties = polarisDiscoveryProperties;
 		this.polarisSDKContextManager = polarisSDKContextManager;
 		this.polarisDiscoveryHandler = polarisDiscoveryHandler;
@@ -89,9 +99,12 @@ public class PolarisServiceRegistry implements ServiceRegistry<PolarisRegistrati
 		if (StringUtils.isNotBlank(polarisDiscoveryProperties.getHealthCheckUrl())) {
 			this.heartbeatExecutor = Executors
 					.newSingleThreadScheduledExecutor(new NamedThreadFactory("polaris-heartbeat"));
+			this.healthProbe = healthProbe != null ? healthProbe : new PolarisHealthProbe(
+					polarisDiscoveryProperties.getHealthCheckUrl(), polarisDiscoveryProperties.getHealthCheckTimeout());
 		}
 		else {
 			this.heartbeatExecutor = null;
+			this.healthProbe = null;
 		}
 
 		this.polarisStatProperties = polarisStatProperties;
@@ -248,38 +261,71 @@ public class PolarisServiceRegistry implements ServiceRegistry<PolarisRegistrati
 
 	/**
 	 * Start the heartbeat thread.
+	 * The health check is probed asynchronously, so a slow backend can not stall the heartbeat schedule.
 	 * @param heartbeatRequest heartbeat request
 	 */
 	public void heartbeat(InstanceHeartbeatRequest heartbeatRequest) {
 		heartbeatExecutor.scheduleWithFixedDelay(() -> {
+			// Skip this round if the last probe has not finished yet.
+			if (!probing.compareAndSet(false, true)) {
+				LOGGER.warn("backend service health check is still in progress, skip this heartbeat. health check endpoint = {}",
+						polarisDiscoveryProperties.getHealthCheckUrl());
+				return;
+			}
 			try {
-				// If the health check passes, the heartbeat will be reported.
-				// If it does not pass, the heartbeat will not be reported.
-				Map<String, String> headers = new HashMap<>(1);
-				headers.put(HttpHeaders.USER_AGENT, "polaris");
-				if (!OkHttpUtil.checkUrl(heartbeatRequest.getHost(), heartbeatRequest.getPort(),
-						polarisDiscoveryProperties.getHealthCheckUrl(), headers)) {
-					LOGGER.error("backend service health check failed. health check endpoint = {}",
-							polarisDiscoveryProperties.getHealthCheckUrl());
-					return;
-				}
-
-				polarisSDKContextManager.getProviderAPI().heartbeat(heartbeatRequest);
-				LOGGER.trace("Polaris heartbeat is sent");
+				healthProbe.probe(heartbeatRequest.getHost(), heartbeatRequest.getPort())
+						.whenCompleteAsync((healthy, throwable) -> {
+							try {
+								sendHeartbeat(heartbeatRequest, Boolean.TRUE.equals(healthy));
+							}
+							finally {
+								probing.set(false);
+							}
+						}, heartbeatExecutor);
 			}
-			catch (PolarisException e) {
-				LOGGER.error("polaris heartbeat error with code [{}]", e.getCode(), e);
+			catch (RejectedExecutionException e) {
+				probing.set(false);
+				LOGGER.debug("polaris heartbeat executor is shutdown");
 			}
 			catch (Exception e) {
+				probing.set(false);
 				LOGGER.error("polaris heartbeat runtime error", e);
 			}
 		}, polarisDiscoveryProperties.getHeartbeatInterval(), polarisDiscoveryProperties.getHeartbeatInterval(), SECONDS);
 	}
 
+	private void sendHeartbeat(InstanceHeartbeatRequest heartbeatRequest, boolean healthy) {
+		try {
+			// If the health check passes, the heartbeat will be reported.
+			// If it does not pass, the heartbeat will not be reported.
+			if (!healthy) {
+				LOGGER.error("backend service health check failed. health check endpoint = {}",
+						polarisDiscoveryProperties.getHealthCheckUrl());
+				return;
+			}
+
+			polarisSDKContextManager.getProviderAPI().heartbeat(heartbeatRequest);
+			LOGGER.trace("Polaris heartbeat is sent");
+		}
+		catch (PolarisException e) {
+			LOGGER.error("polaris heartbeat error with code [{}]", e.getCode(), e);
+		}
+		catch (Exception e) {
+			LOGGER.error("polaris heartbeat runtime error", e);
+		}
+	}
+
+	public PolarisHealthProbe getHealthProbe() {
+		return healthProbe;
+	}
+
 	@Override
 	public void destroy() {
 		if (heartbeatExecutor != null) {
 			heartbeatExecutor.shutdown();
 		}
+		if (healthProbe != null) {
+			healthProbe.destroy();
+		}
 	}
 }
@@ -28,11 +28,14 @@ import com.tencent.cloud.polaris.discovery.PolarisDiscoveryHandler;
 import com.tencent.cloud.polaris.extend.consul.ConsulDiscoveryProperties;
 import com.tencent.cloud.polaris.extend.nacos.NacosContextProperties;
 import com.tencent.cloud.rpc.enhancement.stat.config.PolarisStatProperties;
+import io.micrometer.core.instrument.binder.MeterBinder;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
 import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
@@ -95,4 +98,15 @@ public class PolarisServiceRegistryAutoConfiguration {
 	public PolarisWebApplicationCheck polarisWebApplicationCheck() {
 		return new PolarisWebApplicationCheck();
 	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterBinder.class)
+	protected static class PolarisHealthProbeMeterBinderConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public PolarisHealthProbeMeterBinder polarisHealthProbeMeterBinder(PolarisServiceRegistry polarisServiceRegistry) {
+			return new PolarisHealthProbeMeterBinder(polarisServiceRegistry);
+		}
+	}
 }
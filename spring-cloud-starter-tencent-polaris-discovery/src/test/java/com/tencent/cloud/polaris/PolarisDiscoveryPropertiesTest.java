@@ -84,6 +84,12 @@ public class PolarisDiscoveryPropertiesTest {
 		polarisDiscoveryProperties.setServiceListRefreshInterval(1000L);
 		assertThat(polarisDiscoveryProperties.getServiceListRefreshInterval()).isEqualTo(1000L);
 
+		// InstanceChangeCoalesceWindow
+		polarisDiscoveryProperties.setInstanceChangeCoalesceWindow(-1L);
+		assertThat(polarisDiscoveryProperties.getInstanceChangeCoalesceWindow()).isEqualTo(100L);
+		polarisDiscoveryProperties.setInstanceChangeCoalesceWindow(0L);
+		assertThat(polarisDiscoveryProperties.getInstanceChangeCoalesceWindow()).isEqualTo(0L);
+
 		// InstanceId
 		polarisDiscoveryProperties.setInstanceId("test-ins-id");
 		assertThat(polarisDiscoveryProperties.getInstanceId()).isEqualTo("test-ins-id");
@@ -100,7 +106,11 @@ public class PolarisDiscoveryPropertiesTest {
 						+ ", registerEnabled=true"
 						+ ", heartbeatInterval=20"
 						+ ", healthCheckUrl='/health'"
+						+ ", healthCheckTimeout=2000"
 						+ ", serviceListRefreshInterval=1000"
+						+ ", instanceChangeCoalesceWindow=0"
+						+ ", routeRefreshDebounce=1000"
+						+ ", routeRefreshInterval=300000"
 						+ ", zeroProtectionEnabled=false"
 						+ ", zeroProtectionNeedTestConnectivity=false}");
 	}
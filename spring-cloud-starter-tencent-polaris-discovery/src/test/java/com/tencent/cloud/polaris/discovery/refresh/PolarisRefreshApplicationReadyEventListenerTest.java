@@ -0,0 +1,95 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.discovery.refresh;
+
+import com.tencent.cloud.polaris.context.PolarisSDKContextManager;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link PolarisRefreshApplicationReadyEventListener}.
+ *
+ * @author agent 2026-10-17
+ */
+public class PolarisRefreshApplicationReadyEventListenerTest {
+
+	@Test
+	public void testDebounceAndSkipUnchangedContent() throws Exception {
+		PolarisServiceStatusChangeListener statusChangeListener = mock(PolarisServiceStatusChangeListener.class);
+		when(statusChangeListener.getContentHash()).thenReturn(1L, 1L, 2L);
+		ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+		PolarisRefreshApplicationReadyEventListener listener = new PolarisRefreshApplicationReadyEventListener(
+				mock(PolarisSDKContextManager.class), statusChangeListener, 50, 0);
+		listener.setApplicationEventPublisher(publisher);
+		verify(statusChangeListener).setRefreshTrigger(any());
+
+		try {
+			// changes in window are merged.
+			for (int i = 0; i < 10; i++) {
+				listener.refresh();
+			}
+			verify(publisher, timeout(2000).times(1)).publishEvent(any(HeartbeatEvent.class));
+
+			// unchanged content is skipped.
+			listener.refresh();
+			Thread.sleep(300);
+			verify(publisher, times(1)).publishEvent(any(HeartbeatEvent.class));
+
+			listener.refresh();
+			ArgumentCaptor<HeartbeatEvent> captor = ArgumentCaptor.forClass(HeartbeatEvent.class);
+			verify(publisher, timeout(2000).times(2)).publishEvent(captor.capture());
+			// heartbeat with same value is ignored by heartbeat monitor.
+			assertThat(captor.getAllValues().get(0).getValue()).isNotEqualTo(captor.getAllValues().get(1).getValue());
+		}
+		finally {
+			listener.destroy();
+		}
+	}
+
+	@Test
+	public void testPeriodicRefresh() {
+		PolarisServiceStatusChangeListener statusChangeListener = mock(PolarisServiceStatusChangeListener.class);
+		when(statusChangeListener.getContentHash()).thenReturn(1L);
+		ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+		PolarisRefreshApplicationReadyEventListener listener = new PolarisRefreshApplicationReadyEventListener(
+				mock(PolarisSDKContextManager.class, RETURNS_DEEP_STUBS), statusChangeListener, 50, 100);
+		listener.setApplicationEventPublisher(publisher);
+
+		try {
+			listener.onApplicationEvent(mock(ApplicationReadyEvent.class));
+			// published even though content hash is unchanged.
+			verify(publisher, timeout(2000).atLeast(2)).publishEvent(any(HeartbeatEvent.class));
+		}
+		finally {
+			listener.destroy();
+		}
+	}
+}
@@ -30,7 +30,7 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import org.springframework.context.ApplicationEvent;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
 import org.springframework.context.ApplicationEventPublisher;
 
 import static com.tencent.polaris.test.common.Consts.HOST;
@@ -38,7 +38,6 @@ import static com.tencent.polaris.test.common.Consts.NAMESPACE_TEST;
 import static com.tencent.polaris.test.common.Consts.PORT;
 import static com.tencent.polaris.test.common.Consts.SERVICE_PROVIDER;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -50,19 +49,18 @@ import static org.mockito.Mockito.verify;
  */
 public class PolarisServiceStatusChangeListenerTest {
 
-	private ApplicationEventPublisher publisher;
+	private Runnable refreshTrigger;
 
 
 	@BeforeEach
 	void setUp() {
-		publisher = mock(ApplicationEventPublisher.class);
-		doNothing().when(publisher).publishEvent(any(ApplicationEvent.class));
+		refreshTrigger = mock(Runnable.class);
 	}
 
 	@Test
 	public void testOnResourceUpdated() {
 		PolarisServiceStatusChangeListener polarisServiceStatusChangeListener = new PolarisServiceStatusChangeListener(mock(ServiceInstanceChangeCallbackManager.class));
-		polarisServiceStatusChangeListener.setApplicationEventPublisher(publisher);
+		polarisServiceStatusChangeListener.setRefreshTrigger(refreshTrigger);
 
 		// Service update event
 		ServiceEventKey serviceUpdateEventKey = new ServiceEventKey(
@@ -70,16 +68,19 @@ public class PolarisServiceStatusChangeListenerTest {
 		ServiceInfo serviceInfo = new ServiceInfo();
 		serviceInfo.setNamespace(NAMESPACE_TEST);
 		serviceInfo.setService(SERVICE_PROVIDER);
+		long emptyHash = polarisServiceStatusChangeListener.getContentHash();
 		// Need update
 		ServicesByProto oldServices = new ServicesByProto(Collections.emptyList());
 		ServicesByProto newServices = new ServicesByProto(Collections.singletonList(serviceInfo));
 		polarisServiceStatusChangeListener.onResourceUpdated(serviceUpdateEventKey, oldServices, newServices);
-		verify(publisher, times(1)).publishEvent(any(ApplicationEvent.class));
+		verify(refreshTrigger, times(1)).run();
+		long serviceHash = polarisServiceStatusChangeListener.getContentHash();
+		Assertions.assertThat(serviceHash).isNotEqualTo(emptyHash);
 		// No need update
 		oldServices = new ServicesByProto(Collections.singletonList(serviceInfo));
 		newServices = new ServicesByProto(Collections.singletonList(serviceInfo));
 		polarisServiceStatusChangeListener.onResourceUpdated(serviceUpdateEventKey, oldServices, newServices);
-		verify(publisher, times(1)).publishEvent(any(ApplicationEvent.class));
+		verify(refreshTrigger, times(1)).run();
 
 
 		// Instance update event
@@ -100,7 +101,10 @@ public class PolarisServiceStatusChangeListenerTest {
 			ServiceInstancesByProto newInstances = new ServiceInstancesByProto();
 			instances.set(newInstances, Collections.singletonList(instance));
 			polarisServiceStatusChangeListener.onResourceUpdated(instanceUpdateEventKey, oldInstances, newInstances);
-			verify(publisher, times(2)).publishEvent(any(ApplicationEvent.class));
+			verify(refreshTrigger, times(2)).run();
+			// instance from 0 to many changes content hash, or the refresh would be skipped.
+			long withInstanceHash = polarisServiceStatusChangeListener.getContentHash();
+			Assertions.assertThat(withInstanceHash).isNotEqualTo(serviceHash);
 
 			// No need update
 			oldInstances = new ServiceInstancesByProto();
@@ -108,10 +112,36 @@ public class PolarisServiceStatusChangeListenerTest {
 			newInstances = new ServiceInstancesByProto();
 			instances.set(newInstances, Collections.singletonList(instance));
 			polarisServiceStatusChangeListener.onResourceUpdated(instanceUpdateEventKey, oldInstances, newInstances);
-			verify(publisher, times(2)).publishEvent(any(ApplicationEvent.class));
+			verify(refreshTrigger, times(2)).run();
+			Assertions.assertThat(polarisServiceStatusChangeListener.getContentHash()).isEqualTo(withInstanceHash);
+
+			// Need update, instance from many to 0
+			oldInstances = new ServiceInstancesByProto();
+			instances.set(oldInstances, Collections.singletonList(instance));
+			newInstances = new ServiceInstancesByProto();
+			instances.set(newInstances, Collections.emptyList());
+			polarisServiceStatusChangeListener.onResourceUpdated(instanceUpdateEventKey, oldInstances, newInstances);
+			verify(refreshTrigger, times(3)).run();
+			Assertions.assertThat(polarisServiceStatusChangeListener.getContentHash()).isNotEqualTo(withInstanceHash);
 		}
 		catch (NoSuchFieldException | IllegalAccessException e) {
 			Assertions.fail("Exception encountered.", e);
 		}
 	}
+
+	@Test
+	public void testPublishWithoutRefreshTrigger() {
+		PolarisServiceStatusChangeListener polarisServiceStatusChangeListener = new PolarisServiceStatusChangeListener(mock(ServiceInstanceChangeCallbackManager.class));
+		ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+		polarisServiceStatusChangeListener.setApplicationEventPublisher(publisher);
+
+		ServiceEventKey serviceUpdateEventKey = new ServiceEventKey(
+				new ServiceKey(NAMESPACE_TEST, SERVICE_PROVIDER), ServiceEventKey.EventType.SERVICE);
+		ServiceInfo serviceInfo = new ServiceInfo();
+		serviceInfo.setNamespace(NAMESPACE_TEST);
+		serviceInfo.setService(SERVICE_PROVIDER);
+		polarisServiceStatusChangeListener.onResourceUpdated(serviceUpdateEventKey,
+				new ServicesByProto(Collections.emptyList()), new ServicesByProto(Collections.singletonList(serviceInfo)));
+		verify(publisher, times(1)).publishEvent(any(HeartbeatEvent.class));
+	}
 }
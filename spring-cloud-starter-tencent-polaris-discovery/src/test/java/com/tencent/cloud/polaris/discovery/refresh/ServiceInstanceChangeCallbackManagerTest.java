@@ -0,0 +1,130 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.discovery.refresh;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.tencent.polaris.api.pojo.DefaultInstance;
+import com.tencent.polaris.api.pojo.Instance;
+import org.junit.jupiter.api.Test;
+
+import static com.tencent.polaris.test.common.Consts.NAMESPACE_TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link ServiceInstanceChangeCallbackManager}.
+ *
+ * @author agent 2026-10-17
+ */
+public class ServiceInstanceChangeCallbackManagerTest {
+
+	private static final String SERVICE_PROVIDER = "test-provider";
+
+	private static Instance instance(String id, String host, int weight) {
+		DefaultInstance instance = new DefaultInstance();
+		instance.setNamespace(NAMESPACE_TEST);
+		instance.setService(SERVICE_PROVIDER);
+		instance.setId(id);
+		instance.setHost(host);
+		instance.setPort(8080);
+		instance.setWeight(weight);
+		return instance;
+	}
+
+	@Test
+	public void testDiff() {
+		Instance a = instance("a", "127.0.0.1", 100);
+		Instance b = instance("b", "127.0.0.2", 100);
+		Instance c = instance("c", "127.0.0.3", 100);
+		Instance b2 = instance("b", "127.0.0.2", 50);
+
+		List<Instance> addInstances = new ArrayList<>();
+		List<Instance> deleteInstances = new ArrayList<>();
+		ServiceInstanceChangeCallbackManager.diff(Arrays.asList(a, b), Arrays.asList(b2, c),
+				addInstances, deleteInstances);
+
+		assertThat(addInstances).containsExactlyInAnyOrder(b2, c);
+		assertThat(deleteInstances).containsExactlyInAnyOrder(a, b);
+
+		addInstances.clear();
+		deleteInstances.clear();
+		ServiceInstanceChangeCallbackManager.diff(Arrays.asList(a, b), Arrays.asList(b, a),
+				addInstances, deleteInstances);
+		assertThat(addInstances).isEmpty();
+		assertThat(deleteInstances).isEmpty();
+	}
+
+	@Test
+	public void testCoalesceChanges() throws InterruptedException {
+		Instance a = instance("a", "127.0.0.1", 100);
+		Instance b = instance("b", "127.0.0.2", 100);
+		Instance c = instance("c", "127.0.0.3", 100);
+
+		ServiceInstanceChangeCallbackManager manager = new ServiceInstanceChangeCallbackManager(200);
+		TestCallback callback = new TestCallback();
+		manager.postProcessAfterInitialization(callback, "testCallback");
+
+		// a -> a,b -> b,c -> b,c,a: net change is add b and c.
+		manager.handle(SERVICE_PROVIDER, Collections.singletonList(a), Arrays.asList(a, b));
+		manager.handle(SERVICE_PROVIDER, Arrays.asList(a, b), Arrays.asList(b, c));
+		manager.handle(SERVICE_PROVIDER, Arrays.asList(b, c), Arrays.asList(b, c, a));
+		manager.handle("other-service", Collections.emptyList(), Collections.singletonList(a));
+
+		assertThat(callback.latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(callback.count.get()).isEqualTo(1);
+		assertThat(callback.current).containsExactly(b, c, a);
+		assertThat(callback.added).containsExactlyInAnyOrder(b, c);
+		assertThat(callback.deleted).isEmpty();
+
+		// changes reverted in window are not dispatched.
+		manager.handle(SERVICE_PROVIDER, Arrays.asList(b, c, a), Arrays.asList(b, c));
+		manager.handle(SERVICE_PROVIDER, Arrays.asList(b, c), Arrays.asList(b, c, a));
+		Thread.sleep(500);
+		assertThat(callback.count.get()).isEqualTo(1);
+	}
+
+	@ServiceInstanceChangeListener(serviceName = SERVICE_PROVIDER)
+	static class TestCallback implements ServiceInstanceChangeCallback {
+
+		private final CountDownLatch latch = new CountDownLatch(1);
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		private volatile List<Instance> current;
+
+		private volatile List<Instance> added;
+
+		private volatile List<Instance> deleted;
+
+		@Override
+		public void callback(List<Instance> currentServiceInstances, List<Instance> addServiceInstances,
+				List<Instance> deleteServiceInstances) {
+			current = currentServiceInstances;
+			added = addServiceInstances;
+			deleted = deleteServiceInstances;
+			count.incrementAndGet();
+			latch.countDown();
+		}
+	}
+}
@@ -0,0 +1,216 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.loadbalancer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.tencent.cloud.common.pojo.PolarisServiceInstance;
+import com.tencent.cloud.common.pojo.RevisionedServiceInstanceList;
+import com.tencent.cloud.common.util.ApplicationContextAwareUtils;
+import com.tencent.polaris.api.pojo.DefaultInstance;
+import com.tencent.polaris.router.api.core.RouterAPI;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import static com.tencent.cloud.common.metadata.MetadataContext.LOCAL_NAMESPACE;
+import static com.tencent.cloud.common.metadata.MetadataContext.LOCAL_SERVICE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link PolarisAliasWeightedRandomLoadBalancer}.
+ *
+ * @author agent 2026-10-17
+ */
+@ExtendWith(MockitoExtension.class)
+public class PolarisAliasWeightedRandomLoadBalancerTest {
+
+	private static MockedStatic<ApplicationContextAwareUtils> mockedApplicationContextAwareUtils;
+	@Mock
+	private RouterAPI routerAPI;
+	@Mock
+	private ObjectProvider<ServiceInstanceListSupplier> supplierObjectProvider;
+
+	@BeforeAll
+	static void beforeAll() {
+		mockedApplicationContextAwareUtils = Mockito.mockStatic(ApplicationContextAwareUtils.class);
+		mockedApplicationContextAwareUtils.when(() -> ApplicationContextAwareUtils.getProperties(anyString()))
+				.thenReturn("unit-test");
+	}
+
+	@AfterAll
+	static void afterAll() {
+		mockedApplicationContextAwareUtils.close();
+	}
+
+	private static ServiceInstance instance(String id, int weight) {
+		DefaultInstance instance = new DefaultInstance();
+		instance.setNamespace(LOCAL_NAMESPACE);
+		instance.setService(LOCAL_SERVICE);
+		instance.setId(id);
+		instance.setHost("127.0.0.1");
+		instance.setPort(8080);
+		instance.setWeight(weight);
+		return new PolarisServiceInstance(instance);
+	}
+
+	@Test
+	public void testChooseByWeight() {
+		List<ServiceInstance> instances = new ArrayList<>();
+		instances.add(instance("a", 100));
+		instances.add(instance("b", 300));
+		instances.add(instance("c", 0));
+
+		Request request = Mockito.mock(Request.class);
+		ServiceInstanceListSupplier serviceInstanceListSupplier = Mockito.mock(ServiceInstanceListSupplier.class);
+		when(serviceInstanceListSupplier.get(request)).thenReturn(Flux.just(instances));
+		when(supplierObjectProvider.getIfAvailable(any())).thenReturn(serviceInstanceListSupplier);
+
+		PolarisAliasWeightedRandomLoadBalancer loadBalancer = new PolarisAliasWeightedRandomLoadBalancer(
+				LOCAL_SERVICE, supplierObjectProvider, routerAPI);
+		Map<String, Integer> counts = new HashMap<>();
+		int total = 20000;
+		for (int i = 0; i < total; i++) {
+			ServiceInstance serviceInstance = loadBalancer.choose(request).block().getServer();
+			counts.merge(serviceInstance.getInstanceId(), 1, Integer::sum);
+		}
+
+		assertThat(counts).doesNotContainKey("c");
+		assertThat(counts.get("b") / (double) total).isBetween(0.70, 0.80);
+		verifyNoInteractions(routerAPI);
+	}
+
+	@Test
+	public void testRebuildOnlyWhenChanged() {
+		PolarisAliasWeightedRandomLoadBalancer loadBalancer = new PolarisAliasWeightedRandomLoadBalancer(
+				LOCAL_SERVICE, supplierObjectProvider, routerAPI);
+		List<ServiceInstance> instances = new ArrayList<>();
+		instances.add(instance("a", 100));
+		instances.add(instance("b", 100));
+		WeightedAliasTable aliasTable = loadBalancer.getAliasTable(instances);
+
+		assertThat(loadBalancer.getAliasTable(instances)).isSameAs(aliasTable);
+		assertThat(loadBalancer.getAliasTable(new ArrayList<>(instances))).isSameAs(aliasTable);
+
+		List<ServiceInstance> reweighted = new ArrayList<>();
+		reweighted.add(instance("a", 100));
+		reweighted.add(instance("b", 200));
+		assertThat(loadBalancer.getAliasTable(reweighted)).isNotSameAs(aliasTable);
+
+		List<ServiceInstance> shrunk = new ArrayList<>();
+		shrunk.add(instance("a", 100));
+		assertThat(loadBalancer.getAliasTable(shrunk).size()).isEqualTo(1);
+	}
+
+	@Test
+	public void testReuseByRevision() {
+		PolarisAliasWeightedRandomLoadBalancer loadBalancer = new PolarisAliasWeightedRandomLoadBalancer(
+				LOCAL_SERVICE, supplierObjectProvider, routerAPI);
+		List<ServiceInstance> instances = new ArrayList<>();
+		instances.add(instance("a", 100));
+		instances.add(instance("b", 100));
+		long revision = RevisionedServiceInstanceList.nextRevision();
+		List<ServiceInstance> cachedInstances = new RevisionedServiceInstanceList(instances, revision);
+
+		// supplier output shared by router result cache hits.
+		ServiceInstanceListSupplier delegate = Mockito.mock(ServiceInstanceListSupplier.class);
+		when(delegate.get()).thenReturn(Flux.just(cachedInstances));
+		List<ServiceInstance> supplied = new PolarisServiceInstanceListSupplier(delegate).get().blockFirst();
+		WeightedAliasTable aliasTable = loadBalancer.getAliasTable(supplied);
+		assertThat(loadBalancer.getAliasTable(new PolarisServiceInstanceListSupplier(delegate).get().blockFirst()))
+				.isSameAs(aliasTable);
+
+		// same revision is reused without comparing instances.
+		List<ServiceInstance> sameRevision = new ArrayList<>();
+		sameRevision.add(instance("c", 100));
+		assertThat(loadBalancer.getAliasTable(new RevisionedServiceInstanceList(sameRevision, revision)))
+				.isSameAs(aliasTable);
+
+		// new revision with same content is compared and reused.
+		assertThat(loadBalancer.getAliasTable(new RevisionedServiceInstanceList(new ArrayList<>(instances),
+				RevisionedServiceInstanceList.nextRevision()))).isSameAs(aliasTable);
+
+		// new revision with new content is rebuilt.
+		assertThat(loadBalancer.getAliasTable(new RevisionedServiceInstanceList(sameRevision,
+				RevisionedServiceInstanceList.nextRevision()))).isNotSameAs(aliasTable);
+	}
+
+	@Test
+	public void testReuseByDiscoveryRevision() {
+		PolarisAliasWeightedRandomLoadBalancer loadBalancer = new PolarisAliasWeightedRandomLoadBalancer(
+				LOCAL_SERVICE, supplierObjectProvider, routerAPI);
+		PolarisServiceInstanceListSupplier supplier = new PolarisServiceInstanceListSupplier(
+				Mockito.mock(ServiceInstanceListSupplier.class));
+
+		// each discovery builds a new list of new instances.
+		List<ServiceInstance> discovered = supplier.withRevision(discover("rev-1"));
+		List<ServiceInstance> rediscovered = supplier.withRevision(discover("rev-1"));
+		assertThat(RevisionedServiceInstanceList.revisionOf(discovered))
+				.isNotEqualTo(RevisionedServiceInstanceList.UNKNOWN_REVISION)
+				.isEqualTo(RevisionedServiceInstanceList.revisionOf(rediscovered));
+		WeightedAliasTable aliasTable = loadBalancer.getAliasTable(discovered);
+		assertThat(loadBalancer.getAliasTable(rediscovered)).isSameAs(aliasTable);
+
+		List<ServiceInstance> changed = supplier.withRevision(discover("rev-2"));
+		assertThat(RevisionedServiceInstanceList.revisionOf(changed))
+				.isNotEqualTo(RevisionedServiceInstanceList.revisionOf(discovered));
+
+		// lists without revision of polaris SDK are passed through.
+		List<ServiceInstance> unknown = new ArrayList<>();
+		unknown.add(instance("a", 100));
+		assertThat(supplier.withRevision(unknown)).isSameAs(unknown);
+	}
+
+	private static List<ServiceInstance> discover(String serviceRevision) {
+		List<ServiceInstance> instances = new ArrayList<>();
+		for (String id : new String[] {"a", "b"}) {
+			instances.add(new PolarisServiceInstance(((PolarisServiceInstance) instance(id, 100)).getPolarisInstance(),
+					null, serviceRevision));
+		}
+		return instances;
+	}
+
+	@Test
+	public void testAllZeroWeight() {
+		List<ServiceInstance> instances = new ArrayList<>();
+		instances.add(instance("a", 0));
+		instances.add(instance("b", 0));
+		WeightedAliasTable aliasTable = WeightedAliasTable.build(instances);
+		for (int i = 0; i < 100; i++) {
+			assertThat(aliasTable.next()).isIn(instances);
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.loadbalancer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsFinallyPlugin;
+import com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsManager;
+import com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsPrePlugin;
+import com.tencent.polaris.router.api.core.RouterAPI;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Test for {@link PolarisLeastLatencyLoadBalancer}.
+ *
+ * @author agent 2026-10-17
+ */
+public class PolarisLeastLatencyLoadBalancerTest {
+
+	private final ServiceInstanceStatsManager statsManager = new ServiceInstanceStatsManager();
+
+	private final ServiceInstanceStatsPrePlugin prePlugin = new ServiceInstanceStatsPrePlugin(statsManager);
+
+	private final ServiceInstanceStatsFinallyPlugin finallyPlugin = new ServiceInstanceStatsFinallyPlugin();
+
+	@Test
+	public void testPreferFastInstance() {
+		ServiceInstance fast = new DefaultServiceInstance("fast", "svc", "127.0.0.1", 8080, false);
+		ServiceInstance slow = new DefaultServiceInstance("slow", "svc", "127.0.0.2", 8080, false);
+		call(fast, 10);
+		call(slow, 500);
+
+		RouterAPI routerAPI = mock(RouterAPI.class);
+		PolarisLeastLatencyLoadBalancer loadBalancer = new PolarisLeastLatencyLoadBalancer("svc",
+				mock(ObjectProvider.class), routerAPI, statsManager);
+		List<ServiceInstance> instances = new ArrayList<>();
+		instances.add(fast);
+		instances.add(slow);
+		for (int i = 0; i < 100; i++) {
+			assertThat(loadBalancer.chooseInstance(instances)).isSameAs(fast);
+		}
+		verifyNoInteractions(routerAPI);
+	}
+
+	@Test
+	public void testPreferLessInFlightInstance() {
+		ServiceInstance busy = new DefaultServiceInstance("busy", "svc", "127.0.0.1", 8080, false);
+		ServiceInstance idle = new DefaultServiceInstance("idle", "svc", "127.0.0.2", 8080, false);
+		call(busy, 10);
+		call(idle, 10);
+		for (int i = 0; i < 5; i++) {
+			EnhancedPluginContext context = new EnhancedPluginContext();
+			context.setTargetServiceInstance(busy, null);
+			prePlugin.run(context);
+		}
+
+		PolarisLeastLatencyLoadBalancer loadBalancer = new PolarisLeastLatencyLoadBalancer("svc",
+				mock(ObjectProvider.class), mock(RouterAPI.class), statsManager);
+		List<ServiceInstance> instances = new ArrayList<>();
+		instances.add(busy);
+		instances.add(idle);
+		assertThat(loadBalancer.chooseInstance(instances)).isSameAs(idle);
+		assertThat(loadBalancer.score(busy)).isGreaterThan(loadBalancer.score(idle));
+	}
+
+	@Test
+	public void testUnknownInstanceIsNeutral() {
+		ServiceInstance known = new DefaultServiceInstance("known", "svc", "127.0.0.1", 8080, false);
+		ServiceInstance unknown = new DefaultServiceInstance("unknown", "svc", "127.0.0.2", 8080, false);
+		call(known, 10);
+
+		PolarisLeastLatencyLoadBalancer loadBalancer = new PolarisLeastLatencyLoadBalancer("svc",
+				mock(ObjectProvider.class), mock(RouterAPI.class), statsManager);
+		List<ServiceInstance> instances = new ArrayList<>();
+		instances.add(known);
+		instances.add(unknown);
+		Map<String, Integer> counts = new HashMap<>();
+		for (int i = 0; i < 300; i++) {
+			counts.merge(loadBalancer.chooseInstance(instances).getInstanceId(), 1, Integer::sum);
+		}
+		// neither always probed nor starved.
+		assertThat(counts.get("known")).isGreaterThan(50);
+		assertThat(counts.get("unknown")).isGreaterThan(50);
+
+		// unknown instance with in-flight request loses to idle known instance.
+		EnhancedPluginContext context = new EnhancedPluginContext();
+		context.setTargetServiceInstance(unknown, null);
+		prePlugin.run(context);
+		for (int i = 0; i < 10; i++) {
+			assertThat(loadBalancer.chooseInstance(instances)).isSameAs(known);
+		}
+	}
+
+	@Test
+	public void testChooseAmongUnknownInstances() {
+		PolarisLeastLatencyLoadBalancer loadBalancer = new PolarisLeastLatencyLoadBalancer("svc",
+				mock(ObjectProvider.class), mock(RouterAPI.class), statsManager);
+		List<ServiceInstance> instances = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			instances.add(new DefaultServiceInstance("ins" + i, "svc", "127.0.0." + i, 8080, false));
+		}
+		Map<String, Integer> counts = new HashMap<>();
+		for (int i = 0; i < 300; i++) {
+			counts.merge(loadBalancer.chooseInstance(instances).getInstanceId(), 1, Integer::sum);
+		}
+		assertThat(counts).hasSize(3);
+		assertThat(loadBalancer.chooseInstance(instances.subList(0, 1))).isSameAs(instances.get(0));
+	}
+
+	private void call(ServiceInstance instance, long delay) {
+		EnhancedPluginContext context = new EnhancedPluginContext();
+		context.setTargetServiceInstance(instance, null);
+		prePlugin.run(context);
+		context.setDelay(delay);
+		finallyPlugin.run(context);
+	}
+}
@@ -18,12 +18,20 @@
 package com.tencent.cloud.polaris.loadbalancer;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import com.tencent.cloud.common.metadata.MetadataContextHolder;
 import com.tencent.cloud.common.metadata.StaticMetadataManager;
 import com.tencent.cloud.common.metadata.config.MetadataLocalProperties;
 import com.tencent.cloud.common.pojo.PolarisServiceInstance;
+import com.tencent.cloud.common.pojo.RevisionedServiceInstanceList;
 import com.tencent.cloud.common.util.ApplicationContextAwareUtils;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsManager;
+import com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsPrePlugin;
+import com.tencent.polaris.api.pojo.DefaultInstance;
 import com.tencent.polaris.api.pojo.Instance;
 import com.tencent.polaris.router.api.core.RouterAPI;
 import com.tencent.polaris.router.api.rpc.ProcessLoadBalanceResponse;
@@ -40,6 +48,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
 import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.cloud.client.loadbalancer.Request;
 import org.springframework.cloud.client.loadbalancer.Response;
@@ -53,6 +62,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -125,4 +135,144 @@ public class PolarisRingHashLoadBalancerTest {
 		Assertions.assertThat(polarisServiceInstance.getPolarisInstance().getHost()).isEqualTo("host");
 		Assertions.assertThat(polarisServiceInstance.getPolarisInstance().getPort()).isEqualTo(8090);
 	}
+
+	@Test
+	public void testConsistentAndReusedRing() {
+		List<ServiceInstance> instances = instances(5);
+		PolarisRingHashLoadBalancer loadBalancer = localRingLoadBalancer();
+		ConsistentHashRing ring = loadBalancer.getRing(instances);
+		Assertions.assertThat(loadBalancer.getRing(instances)).isSameAs(ring);
+		Assertions.assertThat(loadBalancer.getRing(new ArrayList<>(instances))).isSameAs(ring);
+
+		Set<ServiceInstance> chosen = new HashSet<>();
+		for (int i = 0; i < 100; i++) {
+			ServiceInstance instance = ring.get("user-" + i);
+			Assertions.assertThat(ring.get("user-" + i)).isSameAs(instance);
+			chosen.add(instance);
+		}
+		Assertions.assertThat(chosen).hasSizeGreaterThan(1);
+
+		// only keys of removed instance move.
+		List<ServiceInstance> shrunk = new ArrayList<>(instances.subList(0, 4));
+		ConsistentHashRing shrunkRing = loadBalancer.getRing(shrunk);
+		Assertions.assertThat(shrunkRing).isNotSameAs(ring);
+		for (int i = 0; i < 100; i++) {
+			ServiceInstance instance = ring.get("user-" + i);
+			if (!instance.equals(instances.get(4))) {
+				Assertions.assertThat(shrunkRing.get("user-" + i)).isEqualTo(instance);
+			}
+		}
+		verifyNoInteractions(routerAPI);
+	}
+
+	@Test
+	public void testBoundedLoad() {
+		List<ServiceInstance> instances = instances(3);
+		ServiceInstanceStatsManager statsManager = new ServiceInstanceStatsManager();
+		PolarisRingHashLoadBalancerProperties properties = new PolarisRingHashLoadBalancerProperties();
+		properties.setLocalRing(true);
+		properties.setLoadFactor(1.25);
+		PolarisRingHashLoadBalancer loadBalancer = new PolarisRingHashLoadBalancer(LOCAL_SERVICE,
+				supplierObjectProvider, routerAPI, properties, statsManager);
+		ConsistentHashRing ring = loadBalancer.getRing(instances);
+		ServiceInstance hot = ring.get("hot-key");
+
+		ServiceInstanceStatsPrePlugin prePlugin = new ServiceInstanceStatsPrePlugin(statsManager);
+		for (int i = 0; i < 10; i++) {
+			EnhancedPluginContext context = new EnhancedPluginContext();
+			context.setTargetServiceInstance(hot, null);
+			prePlugin.run(context);
+		}
+
+		Assertions.assertThat(statsManager.getServiceInFlight(LOCAL_SERVICE)).isEqualTo(10);
+		ServiceInstance spilled = ring.get("hot-key", index -> statsManager.getStats(ring.getInstance(index)) == null
+				? 0 : statsManager.getStats(ring.getInstance(index)).getInFlight(),
+				statsManager.getServiceInFlight(LOCAL_SERVICE), properties.getLoadFactor());
+		Assertions.assertThat(spilled).isNotEqualTo(hot);
+		Assertions.assertThat(ring.get("hot-key", index -> 0, 0, properties.getLoadFactor())).isEqualTo(hot);
+
+		PolarisLoadBalancerRingHashKeyProvider.hashKey("hot-key");
+		try {
+			Assertions.assertThat(loadBalancer.chooseInstance(instances)).isEqualTo(spilled);
+		}
+		finally {
+			MetadataContextHolder.remove();
+		}
+	}
+
+	@Test
+	public void testLoadFactorValidation() {
+		PolarisRingHashLoadBalancerProperties properties = new PolarisRingHashLoadBalancerProperties();
+		Assertions.assertThat(properties.isLocalRing()).isFalse();
+		Assertions.assertThat(properties.isLoadFactorValid()).isTrue();
+		Assertions.assertThat(properties.isBoundedLoadOnLocalRing()).isTrue();
+
+		properties.setLoadFactor(1.25);
+		Assertions.assertThat(properties.isLoadFactorValid()).isTrue();
+		Assertions.assertThat(properties.isBoundedLoadOnLocalRing()).isFalse();
+		properties.setLocalRing(true);
+		Assertions.assertThat(properties.isBoundedLoadOnLocalRing()).isTrue();
+
+		properties.setLoadFactor(1);
+		Assertions.assertThat(properties.isLoadFactorValid()).isFalse();
+		properties.setLoadFactor(-1);
+		Assertions.assertThat(properties.isLoadFactorValid()).isFalse();
+	}
+
+	@Test
+	public void testWeightedRing() {
+		List<ServiceInstance> instances = new ArrayList<>();
+		instances.add(weightedInstance("127.0.0.1", 300));
+		instances.add(weightedInstance("127.0.0.2", 100));
+		instances.add(weightedInstance("127.0.0.3", 0));
+		ConsistentHashRing ring = ConsistentHashRing.build(instances, 128);
+
+		int heavy = 0;
+		for (int i = 0; i < 10000; i++) {
+			ServiceInstance instance = ring.get("user-" + i);
+			Assertions.assertThat(instance).isNotEqualTo(instances.get(2));
+			if (instance.equals(instances.get(0))) {
+				heavy++;
+			}
+		}
+		Assertions.assertThat(heavy).isBetween(6500, 8500);
+
+		List<ServiceInstance> reweighted = new ArrayList<>(instances);
+		reweighted.set(1, weightedInstance("127.0.0.2", 200));
+		Assertions.assertThat(ring.matches(reweighted)).isFalse();
+	}
+
+	@Test
+	public void testReuseRingByRevision() {
+		List<ServiceInstance> instances = instances(3);
+		PolarisRingHashLoadBalancer loadBalancer = localRingLoadBalancer();
+		long revision = RevisionedServiceInstanceList.nextRevision();
+		ConsistentHashRing ring = loadBalancer.getRing(new RevisionedServiceInstanceList(instances, revision));
+		Assertions.assertThat(loadBalancer.getRing(new RevisionedServiceInstanceList(instances, revision))).isSameAs(ring);
+	}
+
+	private PolarisRingHashLoadBalancer localRingLoadBalancer() {
+		PolarisRingHashLoadBalancerProperties properties = new PolarisRingHashLoadBalancerProperties();
+		properties.setLocalRing(true);
+		return new PolarisRingHashLoadBalancer(LOCAL_SERVICE, supplierObjectProvider, routerAPI, properties, null);
+	}
+
+	private static ServiceInstance weightedInstance(String host, int weight) {
+		DefaultInstance instance = new DefaultInstance();
+		instance.setNamespace(LOCAL_NAMESPACE);
+		instance.setService(LOCAL_SERVICE);
+		instance.setId(host);
+		instance.setHost(host);
+		instance.setPort(8080);
+		instance.setWeight(weight);
+		return new PolarisServiceInstance(instance);
+	}
+
+	private static List<ServiceInstance> instances(int count) {
+		List<ServiceInstance> instances = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			instances.add(new DefaultServiceInstance("ins" + i, LOCAL_SERVICE, "127.0.0." + i, 8080, false));
+		}
+		return instances;
+	}
 }
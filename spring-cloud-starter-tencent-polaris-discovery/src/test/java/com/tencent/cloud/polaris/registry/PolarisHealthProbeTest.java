@@ -0,0 +1,135 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.registry;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link PolarisHealthProbe}.
+ *
+ * @author agent 2026-10-17
+ */
+public class PolarisHealthProbeTest {
+
+	private final CountDownLatch slowLatch = new CountDownLatch(1);
+
+	private HttpServer server;
+
+	private int port;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/health", exchange -> {
+			byte[] body = "UP".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream os = exchange.getResponseBody()) {
+				os.write(body);
+			}
+		});
+		server.createContext("/empty", exchange -> {
+			exchange.sendResponseHeaders(200, -1);
+			exchange.close();
+		});
+		server.createContext("/down", exchange -> {
+			byte[] body = "DOWN".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(503, body.length);
+			try (OutputStream os = exchange.getResponseBody()) {
+				os.write(body);
+			}
+		});
+		server.createContext("/slow", exchange -> {
+			try {
+				slowLatch.await(5, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			exchange.close();
+		});
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.start();
+		port = server.getAddress().getPort();
+	}
+
+	@AfterEach
+	void tearDown() {
+		slowLatch.countDown();
+		server.stop(0);
+	}
+
+	@Test
+	public void testHealthy() throws Exception {
+		PolarisHealthProbe probe = new PolarisHealthProbe("health", 2000);
+		try {
+			assertThat(probe.getHealthCheckUrl()).isEqualTo("/health");
+			assertThat(probe.probe("127.0.0.1", port).get(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(probe.probe("127.0.0.1", port).get(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(probe.getCount()).isEqualTo(2);
+			assertThat(probe.getFailureCount()).isZero();
+			assertThat(probe.getTotalNanos()).isPositive();
+			assertThat(probe.getMaxNanos()).isPositive();
+			assertThat(probe.getLastNanos()).isPositive();
+		}
+		finally {
+			probe.destroy();
+		}
+	}
+
+	@Test
+	public void testUnhealthy() throws Exception {
+		PolarisHealthProbe emptyProbe = new PolarisHealthProbe("/empty", 2000);
+		PolarisHealthProbe downProbe = new PolarisHealthProbe("/down", 2000);
+		try {
+			assertThat(emptyProbe.probe("127.0.0.1", port).get(5, TimeUnit.SECONDS)).isFalse();
+			assertThat(downProbe.probe("127.0.0.1", port).get(5, TimeUnit.SECONDS)).isFalse();
+			assertThat(emptyProbe.getFailureCount()).isEqualTo(1);
+			assertThat(downProbe.getFailureCount()).isEqualTo(1);
+		}
+		finally {
+			emptyProbe.destroy();
+			downProbe.destroy();
+		}
+	}
+
+	@Test
+	public void testTimeout() throws Exception {
+		PolarisHealthProbe probe = new PolarisHealthProbe("/slow", 200);
+		try {
+			long start = System.nanoTime();
+			assertThat(probe.probe("127.0.0.1", port).get(5, TimeUnit.SECONDS)).isFalse();
+			assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(3000);
+			assertThat(probe.getFailureCount()).isEqualTo(1);
+		}
+		finally {
+			probe.destroy();
+		}
+	}
+}
@@ -19,14 +19,17 @@ package com.tencent.cloud.polaris.ratelimit.config;
 
 import com.tencent.cloud.common.constant.OrderConstant;
 import com.tencent.cloud.polaris.context.PolarisSDKContextManager;
+import com.tencent.cloud.polaris.context.ServiceRuleManager;
 import com.tencent.cloud.polaris.context.config.PolarisContextAutoConfiguration;
 import com.tencent.cloud.polaris.ratelimit.filter.QuotaCheckReactiveFilter;
 import com.tencent.cloud.polaris.ratelimit.filter.QuotaCheckServletFilter;
 import com.tencent.cloud.polaris.ratelimit.spi.PolarisRateLimiterLimitedFallback;
+import com.tencent.cloud.polaris.ratelimit.utils.LocalQuotaManager;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -50,6 +53,14 @@ import static jakarta.servlet.DispatcherType.REQUEST;
 @ConditionalOnPolarisRateLimitEnabled
 public class PolarisRateLimitAutoConfiguration {
 
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(value = "spring.cloud.polaris.ratelimit.local-quota-enabled", havingValue = "true")
+	public LocalQuotaManager localQuotaManager(PolarisSDKContextManager polarisSDKContextManager,
+			ServiceRuleManager serviceRuleManager, PolarisRateLimitProperties polarisRateLimitProperties) {
+		return new LocalQuotaManager(polarisSDKContextManager.getLimitAPI(), serviceRuleManager, polarisRateLimitProperties);
+	}
+
 	/**
 	 * Create when web application type is SERVLET.
 	 */
@@ -61,9 +72,10 @@ public class PolarisRateLimitAutoConfiguration {
 		@ConditionalOnMissingBean
 		public QuotaCheckServletFilter quotaCheckFilter(PolarisSDKContextManager polarisSDKContextManager,
 				PolarisRateLimitProperties polarisRateLimitProperties,
-				@Autowired(required = false) PolarisRateLimiterLimitedFallback polarisRateLimiterLimitedFallback) {
+				@Autowired(required = false) PolarisRateLimiterLimitedFallback polarisRateLimiterLimitedFallback,
+				@Autowired(required = false) LocalQuotaManager localQuotaManager) {
 			return new QuotaCheckServletFilter(polarisSDKContextManager.getLimitAPI(), polarisSDKContextManager.getAssemblyAPI(),
-					polarisRateLimitProperties, polarisRateLimiterLimitedFallback);
+					polarisRateLimitProperties, polarisRateLimiterLimitedFallback, localQuotaManager);
 		}
 
 		@Bean
@@ -89,9 +101,10 @@ public class PolarisRateLimitAutoConfiguration {
 		@Bean
 		public QuotaCheckReactiveFilter quotaCheckReactiveFilter(PolarisSDKContextManager polarisSDKContextManager,
 				PolarisRateLimitProperties polarisRateLimitProperties,
-				@Nullable PolarisRateLimiterLimitedFallback polarisRateLimiterLimitedFallback) {
+				@Nullable PolarisRateLimiterLimitedFallback polarisRateLimiterLimitedFallback,
+				@Nullable LocalQuotaManager localQuotaManager) {
 			return new QuotaCheckReactiveFilter(polarisSDKContextManager.getLimitAPI(), polarisSDKContextManager.getAssemblyAPI(),
-					polarisRateLimitProperties, polarisRateLimiterLimitedFallback);
+					polarisRateLimitProperties, polarisRateLimiterLimitedFallback, localQuotaManager);
 		}
 	}
 }
@@ -48,6 +48,26 @@ public class PolarisRateLimitProperties {
 	 */
 	private long maxQueuingTime = 1000L;
 
+	/**
+	 * How servlet requests wait when using unirate.
+	 */
+	private QueuingMode queuingMode = QueuingMode.BLOCKING;
+
+	/**
+	 * Admit requests from local token leases prefetched in batches from rate limit SDK.
+	 */
+	private boolean localQuotaEnabled = false;
+
+	/**
+	 * Number of tokens prefetched in one lease.
+	 */
+	private int localQuotaBatchSize = 10;
+
+	/**
+	 * Millis a prefetched lease is valid for.
+	 */
+	private long localQuotaLeaseTime = 1000L;
+
 	public String getRejectRequestTips() {
 		return rejectRequestTips;
 	}
@@ -79,4 +99,53 @@ public class PolarisRateLimitProperties {
 	public void setMaxQueuingTime(long maxQueuingTime) {
 		this.maxQueuingTime = maxQueuingTime;
 	}
+
+	public QueuingMode getQueuingMode() {
+		return queuingMode;
+	}
+
+	public void setQueuingMode(QueuingMode queuingMode) {
+		this.queuingMode = queuingMode;
+	}
+
+	public boolean isLocalQuotaEnabled() {
+		return localQuotaEnabled;
+	}
+
+	public void setLocalQuotaEnabled(boolean localQuotaEnabled) {
+		this.localQuotaEnabled = localQuotaEnabled;
+	}
+
+	public int getLocalQuotaBatchSize() {
+		return localQuotaBatchSize;
+	}
+
+	public void setLocalQuotaBatchSize(int localQuotaBatchSize) {
+		this.localQuotaBatchSize = localQuotaBatchSize;
+	}
+
+	public long getLocalQuotaLeaseTime() {
+		return localQuotaLeaseTime;
+	}
+
+	public void setLocalQuotaLeaseTime(long localQuotaLeaseTime) {
+		this.localQuotaLeaseTime = localQuotaLeaseTime;
+	}
+
+	/**
+	 * Mode of servlet requests waiting when using unirate.
+	 */
+	public enum QueuingMode {
+
+		/**
+		 * Sleep in container worker thread.
+		 */
+		BLOCKING,
+
+		/**
+		 * Suspend request with servlet async and dispatch it again from a shared timer once the wait elapses.
+		 * Filters after rate limit filter run in the async dispatch, so they must not skip async dispatches.
+		 */
+		ASYNC
+	}
 }
@@ -28,6 +28,7 @@ import com.tencent.cloud.common.constant.OrderConstant;
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.polaris.ratelimit.config.PolarisRateLimitProperties;
 import com.tencent.cloud.polaris.ratelimit.spi.PolarisRateLimiterLimitedFallback;
+import com.tencent.cloud.polaris.ratelimit.utils.LocalQuotaManager;
 import com.tencent.cloud.polaris.ratelimit.utils.QuotaCheckUtils;
 import com.tencent.cloud.polaris.ratelimit.utils.RateLimitUtils;
 import com.tencent.polaris.api.pojo.RetStatus;
@@ -70,15 +71,28 @@ public class QuotaCheckReactiveFilter implements WebFilter, Ordered {
 
 	private final PolarisRateLimiterLimitedFallback polarisRateLimiterLimitedFallback;
 
+	/**
+	 * Null when local quota is disabled.
+	 */
+	private final LocalQuotaManager localQuotaManager;
+
 	private String rejectTips;
 
 	public QuotaCheckReactiveFilter(LimitAPI limitAPI, AssemblyAPI assemblyAPI,
 			PolarisRateLimitProperties polarisRateLimitProperties,
 			@Nullable PolarisRateLimiterLimitedFallback polarisRateLimiterLimitedFallback) {
+		this(limitAPI, assemblyAPI, polarisRateLimitProperties, polarisRateLimiterLimitedFallback, null);
+	}
+
+	public QuotaCheckReactiveFilter(LimitAPI limitAPI, AssemblyAPI assemblyAPI,
+			PolarisRateLimitProperties polarisRateLimitProperties,
+			@Nullable PolarisRateLimiterLimitedFallback polarisRateLimiterLimitedFallback,
+			@Nullable LocalQuotaManager localQuotaManager) {
 		this.limitAPI = limitAPI;
 		this.assemblyAPI = assemblyAPI;
 		this.polarisRateLimitProperties = polarisRateLimitProperties;
 		this.polarisRateLimiterLimitedFallback = polarisRateLimiterLimitedFallback;
+		this.localQuotaManager = localQuotaManager;
 	}
 
 	@PostConstruct
@@ -100,7 +114,12 @@ public class QuotaCheckReactiveFilter implements WebFilter, Ordered {
 		QuotaResponse quotaResponse = null;
 		try {
 			String path = exchange.getRequest().getURI().getPath();
-			quotaResponse = QuotaCheckUtils.getQuota(limitAPI, localNamespace, localService, 1, path);
+			if (localQuotaManager != null) {
+				quotaResponse = localQuotaManager.getQuota(localNamespace, localService, path);
+			}
+			else {
+				quotaResponse = QuotaCheckUtils.getQuota(limitAPI, localNamespace, localService, 1, path);
+			}
 
 			if (quotaResponse.getCode() == QuotaResultCode.QuotaResultLimited) {
 				ServerHttpResponse response = exchange.getResponse();
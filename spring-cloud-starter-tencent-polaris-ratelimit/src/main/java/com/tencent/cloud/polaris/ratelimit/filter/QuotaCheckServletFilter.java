@@ -21,14 +21,19 @@ import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.tencent.cloud.common.constant.HeaderConstant;
 import com.tencent.cloud.common.constant.OrderConstant;
 import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.common.metadata.MetadataContextHolder;
 import com.tencent.cloud.polaris.ratelimit.config.PolarisRateLimitProperties;
 import com.tencent.cloud.polaris.ratelimit.spi.PolarisRateLimiterLimitedFallback;
+import com.tencent.cloud.polaris.ratelimit.utils.LocalQuotaManager;
 import com.tencent.cloud.polaris.ratelimit.utils.QuotaCheckUtils;
 import com.tencent.cloud.polaris.ratelimit.utils.RateLimitUtils;
+import com.tencent.cloud.polaris.ratelimit.utils.UnirateWaitScheduler;
 import com.tencent.polaris.api.pojo.RetStatus;
 import com.tencent.polaris.api.utils.StringUtils;
 import com.tencent.polaris.assembly.api.AssemblyAPI;
@@ -36,6 +41,10 @@ import com.tencent.polaris.ratelimit.api.core.LimitAPI;
 import com.tencent.polaris.ratelimit.api.rpc.QuotaResponse;
 import com.tencent.polaris.ratelimit.api.rpc.QuotaResultCode;
 import jakarta.annotation.PostConstruct;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -64,6 +73,8 @@ public class QuotaCheckServletFilter extends OncePerRequestFilter {
 	 */
 	public static final String QUOTA_FILTER_BEAN_NAME = "quotaFilterRegistrationBean";
 	private static final Logger LOG = LoggerFactory.getLogger(QuotaCheckServletFilter.class);
+	private static final String QUEUED_QUOTA_RESPONSE_ATTRIBUTE = QuotaCheckServletFilter.class.getName() + ".QUEUED_QUOTA_RESPONSE";
+	private static final String QUEUED_METADATA_CONTEXT_ATTRIBUTE = QuotaCheckServletFilter.class.getName() + ".QUEUED_METADATA_CONTEXT";
 	private final LimitAPI limitAPI;
 
 	private final AssemblyAPI assemblyAPI;
@@ -72,15 +83,39 @@ public class QuotaCheckServletFilter extends OncePerRequestFilter {
 
 	private final PolarisRateLimiterLimitedFallback polarisRateLimiterLimitedFallback;
 
+	/**
+	 * Null when unirate waits block container worker thread.
+	 */
+	private final UnirateWaitScheduler unirateWaitScheduler;
+
+	/**
+	 * Null when local quota is disabled.
+	 */
+	private final LocalQuotaManager localQuotaManager;
+
 	private String rejectTips;
 
 	public QuotaCheckServletFilter(LimitAPI limitAPI, AssemblyAPI assemblyAPI,
 			PolarisRateLimitProperties polarisRateLimitProperties,
 			@Nullable PolarisRateLimiterLimitedFallback polarisRateLimiterLimitedFallback) {
+		this(limitAPI, assemblyAPI, polarisRateLimitProperties, polarisRateLimiterLimitedFallback, null);
+	}
+
+	public QuotaCheckServletFilter(LimitAPI limitAPI, AssemblyAPI assemblyAPI,
+			PolarisRateLimitProperties polarisRateLimitProperties,
+			@Nullable PolarisRateLimiterLimitedFallback polarisRateLimiterLimitedFallback,
+			@Nullable LocalQuotaManager localQuotaManager) {
 		this.limitAPI = limitAPI;
 		this.assemblyAPI = assemblyAPI;
 		this.polarisRateLimitProperties = polarisRateLimitProperties;
 		this.polarisRateLimiterLimitedFallback = polarisRateLimiterLimitedFallback;
+		this.localQuotaManager = localQuotaManager;
+		if (polarisRateLimitProperties.getQueuingMode() == PolarisRateLimitProperties.QueuingMode.ASYNC) {
+			this.unirateWaitScheduler = new UnirateWaitScheduler();
+		}
+		else {
+			this.unirateWaitScheduler = null;
+		}
 	}
 
 	@PostConstruct
@@ -91,50 +126,32 @@ public class QuotaCheckServletFilter extends OncePerRequestFilter {
 	@Override
 	protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
 			@NonNull FilterChain filterChain) throws ServletException, IOException {
+		if (request.getDispatcherType() == DispatcherType.ASYNC) {
+			doFilterAsyncDispatch(request, response, filterChain);
+			return;
+		}
 		String localNamespace = MetadataContext.LOCAL_NAMESPACE;
 		String localService = MetadataContext.LOCAL_SERVICE;
 		QuotaResponse quotaResponse = null;
 		try {
-			quotaResponse = QuotaCheckUtils.getQuota(limitAPI, localNamespace, localService, 1, request.getRequestURI());
+			if (localQuotaManager != null) {
+				quotaResponse = localQuotaManager.getQuota(localNamespace, localService, request.getRequestURI());
+			}
+			else {
+				quotaResponse = QuotaCheckUtils.getQuota(limitAPI, localNamespace, localService, 1, request.getRequestURI());
+			}
 			if (quotaResponse.getCode() == QuotaResultCode.QuotaResultLimited) {
-				if (Objects.nonNull(quotaResponse.getActiveRule())
-						&& StringUtils.isNotBlank(quotaResponse.getActiveRule().getCustomResponse().getBody())) {
-					response.setStatus(polarisRateLimitProperties.getRejectHttpCode());
-					response.setContentType("text/plain;charset=UTF-8");
-					response.getWriter().write(quotaResponse.getActiveRule().getCustomResponse().getBody());
-				}
-				else if (!Objects.isNull(polarisRateLimiterLimitedFallback)) {
-					response.setStatus(polarisRateLimiterLimitedFallback.rejectHttpCode());
-					String contentType = new MediaType(polarisRateLimiterLimitedFallback.mediaType(), polarisRateLimiterLimitedFallback.charset()).toString();
-					response.setContentType(contentType);
-					response.getWriter().write(polarisRateLimiterLimitedFallback.rejectTips());
-				}
-				else {
-					response.setStatus(polarisRateLimitProperties.getRejectHttpCode());
-					response.setContentType("text/html;charset=UTF-8");
-					response.getWriter().write(rejectTips);
-				}
-				// set flow control to header
-				response.addHeader(HeaderConstant.INTERNAL_CALLEE_RET_STATUS, RetStatus.RetFlowControl.getDesc());
-				// set trace span
-				RateLimitUtils.reportTrace(assemblyAPI, quotaResponse.getActiveRule().getId().getValue());
-				if (Objects.nonNull(quotaResponse.getActiveRule())) {
-					try {
-						String encodedActiveRuleName = URLEncoder.encode(
-								quotaResponse.getActiveRuleName(), UTF_8);
-						response.addHeader(HeaderConstant.INTERNAL_ACTIVE_RULE_NAME, encodedActiveRuleName);
-					}
-					catch (UnsupportedEncodingException e) {
-						LOG.error("Cannot encode {} for header internal-callee-activerule.",
-								quotaResponse.getActiveRuleName(), e);
-					}
-				}
+				reject(response, quotaResponse);
 				RateLimitUtils.release(quotaResponse);
 				return;
 			}
 			// Unirate
 			if (quotaResponse.getCode() == QuotaResultCode.QuotaResultOk && quotaResponse.getWaitMs() > 0) {
 				LOG.debug("The request of [{}] will waiting for {}ms.", request.getRequestURI(), quotaResponse.getWaitMs());
+				if (unirateWaitScheduler != null && request.isAsyncSupported()) {
+					queue(request, quotaResponse);
+					return;
+				}
 				Thread.sleep(quotaResponse.getWaitMs());
 			}
 
@@ -149,8 +166,155 @@ public class QuotaCheckServletFilter extends OncePerRequestFilter {
 			filterChain.doFilter(request, response);
 		}
 		finally {
-			RateLimitUtils.release(quotaResponse);
+			if (quotaResponse != null && request.isAsyncStarted()) {
+				// request goes on asynchronously, quota is released once it completes, times out or fails.
+				request.getAsyncContext().addListener(new QuotaReleaseAsyncListener(quotaResponse));
+			}
+			else {
+				RateLimitUtils.release(quotaResponse);
+			}
+		}
+	}
+
+	/**
+	 * Suspend request and dispatch it again after unirate wait elapses. Quota is released when the request ends.
+	 */
+	private void queue(HttpServletRequest request, QuotaResponse quotaResponse) {
+		AsyncContext asyncContext = request.startAsync();
+		asyncContext.addListener(new QuotaReleaseAsyncListener(quotaResponse));
+		request.setAttribute(QUEUED_QUOTA_RESPONSE_ATTRIBUTE, quotaResponse);
+		// metadata context is bound to current thread, and the filters before are skipped in async dispatch.
+		request.setAttribute(QUEUED_METADATA_CONTEXT_ATTRIBUTE, MetadataContextHolder.get());
+		Runnable resume = () -> {
+			try {
+				asyncContext.dispatch();
+			}
+			catch (Throwable throwable) {
+				LOG.error("fail to resume queued request of [{}].", request.getRequestURI(), throwable);
+				asyncContext.complete();
+			}
+		};
+		try {
+			unirateWaitScheduler.schedule(resume, quotaResponse.getWaitMs());
+		}
+		catch (RejectedExecutionException e) {
+			// scheduler is shut down, resume without waiting.
+			resume.run();
 		}
 	}
 
+	/**
+	 * Resume request queued by unirate without checking quota again.
+	 */
+	private void doFilterAsyncDispatch(HttpServletRequest request, HttpServletResponse response,
+			FilterChain filterChain) throws ServletException, IOException {
+		if (request.getAttribute(QUEUED_QUOTA_RESPONSE_ATTRIBUTE) == null) {
+			// async dispatch not started by unirate queuing.
+			filterChain.doFilter(request, response);
+			return;
+		}
+		request.removeAttribute(QUEUED_QUOTA_RESPONSE_ATTRIBUTE);
+		Object metadataContext = request.getAttribute(QUEUED_METADATA_CONTEXT_ATTRIBUTE);
+		request.removeAttribute(QUEUED_METADATA_CONTEXT_ATTRIBUTE);
+		if (metadataContext instanceof MetadataContext) {
+			MetadataContextHolder.set((MetadataContext) metadataContext);
+		}
+		try {
+			filterChain.doFilter(request, response);
+		}
+		finally {
+			if (metadataContext instanceof MetadataContext) {
+				MetadataContextHolder.remove();
+			}
+		}
+	}
+
+	@Override
+	protected boolean shouldNotFilterAsyncDispatch() {
+		// resume requests queued by unirate.
+		return unirateWaitScheduler == null;
+	}
+
+	@Override
+	public void destroy() {
+		if (unirateWaitScheduler != null) {
+			unirateWaitScheduler.shutdown();
+		}
+	}
+
+	private void reject(HttpServletResponse response, QuotaResponse quotaResponse) throws IOException {
+		if (Objects.nonNull(quotaResponse.getActiveRule())
+				&& StringUtils.isNotBlank(quotaResponse.getActiveRule().getCustomResponse().getBody())) {
+			response.setStatus(polarisRateLimitProperties.getRejectHttpCode());
+			response.setContentType("text/plain;charset=UTF-8");
+			response.getWriter().write(quotaResponse.getActiveRule().getCustomResponse().getBody());
+		}
+		else if (!Objects.isNull(polarisRateLimiterLimitedFallback)) {
+			response.setStatus(polarisRateLimiterLimitedFallback.rejectHttpCode());
+			String contentType = new MediaType(polarisRateLimiterLimitedFallback.mediaType(), polarisRateLimiterLimitedFallback.charset()).toString();
+			response.setContentType(contentType);
+			response.getWriter().write(polarisRateLimiterLimitedFallback.rejectTips());
+		}
+		else {
+			response.setStatus(polarisRateLimitProperties.getRejectHttpCode());
+			response.setContentType("text/html;charset=UTF-8");
+			response.getWriter().write(rejectTips);
+		}
+		// set flow control to header
+		response.addHeader(HeaderConstant.INTERNAL_CALLEE_RET_STATUS, RetStatus.RetFlowControl.getDesc());
+		if (Objects.nonNull(quotaResponse.getActiveRule())) {
+			// set trace span
+			RateLimitUtils.reportTrace(assemblyAPI, quotaResponse.getActiveRule().getId().getValue());
+			try {
+				String encodedActiveRuleName = URLEncoder.encode(
+						quotaResponse.getActiveRuleName(), UTF_8);
+				response.addHeader(HeaderConstant.INTERNAL_ACTIVE_RULE_NAME, encodedActiveRuleName);
+			}
+			catch (UnsupportedEncodingException e) {
+				LOG.error("Cannot encode {} for header internal-callee-activerule.",
+						quotaResponse.getActiveRuleName(), e);
+			}
+		}
+	}
+
+	/**
+	 * Release quota of a request when its async processing ends.
+	 */
+	private static final class QuotaReleaseAsyncListener implements AsyncListener {
+
+		private final QuotaResponse quotaResponse;
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private QuotaReleaseAsyncListener(QuotaResponse quotaResponse) {
+			this.quotaResponse = quotaResponse;
+		}
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+			release();
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+			release();
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+			release();
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+			// listeners are cleared when async is started again in a later dispatch.
+			event.getAsyncContext().addListener(this);
+		}
+
+		private void release() {
+			if (released.compareAndSet(false, true)) {
+				RateLimitUtils.release(quotaResponse);
+			}
+		}
+	}
 }
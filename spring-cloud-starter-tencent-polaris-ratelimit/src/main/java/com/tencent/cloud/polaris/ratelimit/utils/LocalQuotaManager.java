@@ -0,0 +1,404 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.ratelimit.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.common.metadata.MetadataContextHolder;
+import com.tencent.cloud.polaris.context.ServiceRuleManager;
+import com.tencent.cloud.polaris.ratelimit.config.PolarisRateLimitProperties;
+import com.tencent.polaris.api.plugin.ratelimiter.QuotaResult;
+import com.tencent.polaris.api.utils.CollectionUtils;
+import com.tencent.polaris.api.utils.ThreadPoolUtils;
+import com.tencent.polaris.client.util.NamedThreadFactory;
+import com.tencent.polaris.ratelimit.api.core.LimitAPI;
+import com.tencent.polaris.ratelimit.api.rpc.QuotaRequest;
+import com.tencent.polaris.ratelimit.api.rpc.QuotaResponse;
+import com.tencent.polaris.ratelimit.api.rpc.QuotaResultCode;
+import com.tencent.polaris.specification.api.v1.traffic.manage.RateLimitProto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Admits requests from local token leases, which are prefetched in batches from {@link LimitAPI}.
+ * <p>
+ * Each method has a lock-free token bucket. A request takes one token with a CAS, and a lease of
+ * {@code batchSize} tokens is prefetched in background when the bucket runs low. Requests fall back to
+ * {@link QuotaCheckUtils#getQuota} when the bucket is empty or the lease expired, so local admission never
+ * exceeds the quota granted by rate limit SDK. A lease expires at the end of the rate limit window it is granted in,
+ * so tokens are never carried over to next window.
+ * <p>
+ * SDK counts a refused batch as {@code batchSize} limited requests, so after a refusal the batch of the bucket is
+ * halved and prefetch is paused until next window, and the batch grows back on success.
+ * <p>
+ * Buckets are keyed by method, and idle buckets are evicted when the number of buckets reaches the limit, so
+ * requests of new methods are leased again once old methods go idle.
+ * <p>
+ * Leasing only applies while all rate limit rules of the service are QPS rules that reject and match on method
+ * only, because labels of other rules can not be evaluated before asking the SDK. A lease is dropped once the revision
+ * of rules changes, and leasability is checked again on next prefetch.
+ *
+ * @author agent 2026-10-17
+ */
+public class LocalQuotaManager {
+
+	/**
+	 * Response of request admitted by local lease.
+	 */
+	public static final QuotaResponse LOCAL_QUOTA_RESPONSE = new QuotaResponse(
+			new QuotaResult(QuotaResult.Code.QuotaResultOk, 0, "local quota lease"));
+
+	/**
+	 * Max number of buckets, requests of other methods ask the SDK until idle buckets are evicted.
+	 */
+	static final int MAX_BUCKET_SIZE = 1024;
+
+	private static final long EVICT_INTERVAL_NANOS = 1000000000L;
+
+	private static final long ACCESS_GRANULARITY_NANOS = 10000000L;
+
+	private static final Logger LOG = LoggerFactory.getLogger(LocalQuotaManager.class);
+
+	private static final String UNIRATE_ACTION = "unirate";
+
+	private final LimitAPI limitAPI;
+
+	private final ServiceRuleManager serviceRuleManager;
+
+	private final int batchSize;
+
+	private final long leaseTimeNanos;
+
+	private final long accessGranularityNanos;
+
+	private final Map<String, TokenBucket> bucketMap = new ConcurrentHashMap<>();
+
+	private final ExecutorService prefetchExecutor;
+
+	private final AtomicLong lastEvictNanos = new AtomicLong(System.nanoTime() - EVICT_INTERVAL_NANOS);
+
+	public LocalQuotaManager(LimitAPI limitAPI, ServiceRuleManager serviceRuleManager,
+			PolarisRateLimitProperties polarisRateLimitProperties) {
+		this.limitAPI = limitAPI;
+		this.serviceRuleManager = serviceRuleManager;
+		this.batchSize = Math.max(1, polarisRateLimitProperties.getLocalQuotaBatchSize());
+		this.leaseTimeNanos = Math.max(1L, polarisRateLimitProperties.getLocalQuotaLeaseTime()) * 1000000L;
+		this.accessGranularityNanos = Math.min(ACCESS_GRANULARITY_NANOS, leaseTimeNanos / 4);
+		this.prefetchExecutor = Executors.newSingleThreadExecutor(new NamedThreadFactory("sct-ratelimit-prefetch", true));
+	}
+
+	/**
+	 * Get one quota, from local lease if possible.
+	 *
+	 * @param namespace namespace of service
+	 * @param service   service
+	 * @param method    method
+	 * @return quota response
+	 */
+	public QuotaResponse getQuota(String namespace, String service, String method) {
+		long now = System.nanoTime();
+		TokenBucket bucket = getBucket(namespace, service, method, now);
+		if (bucket != null) {
+			if (bucket.hasLease(now)) {
+				// rules may change within a lease, tokens are only used while the rules they were granted under hold.
+				bucket.checkRule(serviceRuleManager.getServiceRateLimitRule(namespace, service), now);
+			}
+			boolean acquired = bucket.tryAcquire(now);
+			if (bucket.needPrefetch(now)) {
+				prefetch(bucket, now);
+			}
+			if (acquired) {
+				return LOCAL_QUOTA_RESPONSE;
+			}
+		}
+		return QuotaCheckUtils.getQuota(limitAPI, namespace, service, 1, method);
+	}
+
+	private TokenBucket getBucket(String namespace, String service, String method, long now) {
+		String key = namespace + "#" + service + "#" + method;
+		TokenBucket bucket = bucketMap.get(key);
+		if (bucket == null) {
+			if (bucketMap.size() >= MAX_BUCKET_SIZE && !evictIdleBuckets(now)) {
+				return null;
+			}
+			bucket = bucketMap.computeIfAbsent(key, k -> new TokenBucket(namespace, service, method, batchSize));
+		}
+		// access time is only used to find idle buckets, so it is not written on every request.
+		if (now - bucket.lastAccessNanos > accessGranularityNanos) {
+			bucket.lastAccessNanos = now;
+		}
+		return bucket;
+	}
+
+	/**
+	 * Evict buckets whose lease expired and which are not accessed within lease time, at most once a second.
+	 *
+	 * @param now current nano time
+	 * @return true if there is room for a new bucket
+	 */
+	boolean evictIdleBuckets(long now) {
+		long last = lastEvictNanos.get();
+		if (now - last >= EVICT_INTERVAL_NANOS && lastEvictNanos.compareAndSet(last, now)) {
+			bucketMap.values().removeIf(bucket -> !bucket.prefetching.get()
+					&& now - bucket.expireAtNanos >= 0 && now - bucket.lastAccessNanos >= leaseTimeNanos);
+		}
+		return bucketMap.size() < MAX_BUCKET_SIZE;
+	}
+
+	private void prefetch(TokenBucket bucket, long now) {
+		if (!bucket.prefetching.compareAndSet(false, true)) {
+			return;
+		}
+		MetadataContext metadataContext = MetadataContextHolder.get();
+		try {
+			prefetchExecutor.execute(() -> {
+				try {
+					doPrefetch(bucket, metadataContext);
+				}
+				catch (Throwable throwable) {
+					LOG.warn("[RateLimit] Prefetch quota of {} failed.", bucket.method, throwable);
+					bucket.retryAfter(System.nanoTime() + leaseTimeNanos);
+				}
+				finally {
+					bucket.prefetching.set(false);
+				}
+			});
+		}
+		catch (RejectedExecutionException e) {
+			bucket.prefetching.set(false);
+			bucket.retryAfter(now + leaseTimeNanos);
+		}
+	}
+
+	private void doPrefetch(TokenBucket bucket, MetadataContext metadataContext) {
+		RateLimitProto.RateLimit rateLimit = serviceRuleManager.getServiceRateLimitRule(bucket.namespace, bucket.service);
+		if (!isLeasable(rateLimit)) {
+			bucket.retryAfter(System.nanoTime() + leaseTimeNanos);
+			return;
+		}
+		long windowMillis = getWindowMillis(rateLimit);
+		int count = bucket.batchSize;
+		QuotaRequest quotaRequest = new QuotaRequest();
+		quotaRequest.setNamespace(bucket.namespace);
+		quotaRequest.setService(bucket.service);
+		quotaRequest.setCount(count);
+		quotaRequest.setMetadataContext(metadataContext);
+		quotaRequest.setMethod(bucket.method);
+		// window is taken before asking, so tokens granted in a window never outlive it.
+		long expireAt = System.nanoTime() + Math.min(leaseTimeNanos, nanosToWindowEnd(windowMillis));
+		QuotaResponse quotaResponse = limitAPI.getQuota(quotaRequest);
+		if (quotaResponse.getCode() == QuotaResultCode.QuotaResultOk && quotaResponse.getWaitMs() <= 0
+				&& CollectionUtils.isEmpty(quotaResponse.getReleaseList())) {
+			bucket.lease(count, expireAt, rateLimit);
+			bucket.batchSize = Math.min(batchSize, count * 2);
+		}
+		else {
+			RateLimitUtils.release(quotaResponse);
+			// quota of current window is nearly used up, ask for less and only from next window.
+			bucket.batchSize = Math.max(1, count / 2);
+			bucket.retryAfter(expireAt);
+		}
+	}
+
+	/**
+	 * Nanos from now to end of current rate limit window, windows are aligned to epoch as in rate limit SDK.
+	 *
+	 * @param windowMillis length of window, or non-positive if unknown
+	 * @return nanos to end of window, or {@link Long#MAX_VALUE} if window is unknown
+	 */
+	static long nanosToWindowEnd(long windowMillis) {
+		if (windowMillis <= 0) {
+			return Long.MAX_VALUE;
+		}
+		long nowMillis = System.currentTimeMillis();
+		return (windowMillis - nowMillis % windowMillis) * 1000000L;
+	}
+
+	/**
+	 * Shortest window of enabled rules, leases of any method end no later than it.
+	 *
+	 * @param rateLimit rate limit rules of service
+	 * @return window in millis, or 0 if no rule has a window
+	 */
+	static long getWindowMillis(RateLimitProto.RateLimit rateLimit) {
+		long windowMillis = 0;
+		if (rateLimit == null) {
+			return windowMillis;
+		}
+		for (RateLimitProto.Rule rule : rateLimit.getRulesList()) {
+			if (rule.getDisable().getValue()) {
+				continue;
+			}
+			for (RateLimitProto.Amount amount : rule.getAmountsList()) {
+				long millis = amount.getValidDuration().getSeconds() * 1000L + amount.getValidDuration().getNanos() / 1000000;
+				if (millis > 0 && (windowMillis == 0 || millis < windowMillis)) {
+					windowMillis = millis;
+				}
+			}
+		}
+		return windowMillis;
+	}
+
+	/**
+	 * Whether requests of service can be admitted from local lease.
+	 *
+	 * @param namespace namespace of service
+	 * @param service   service
+	 * @return true if all rules are QPS rules which reject and match on method only
+	 */
+	boolean isLeasable(String namespace, String service) {
+		return isLeasable(serviceRuleManager.getServiceRateLimitRule(namespace, service));
+	}
+
+	private static boolean isLeasable(RateLimitProto.RateLimit rateLimit) {
+		if (rateLimit == null) {
+			return true;
+		}
+		for (RateLimitProto.Rule rule : rateLimit.getRulesList()) {
+			if (rule.getDisable().getValue()) {
+				continue;
+			}
+			if (rule.getArgumentsCount() > 0 || rule.getLabelsCount() > 0
+					|| rule.getResource() != RateLimitProto.Rule.Resource.QPS
+					|| UNIRATE_ACTION.equalsIgnoreCase(rule.getAction().getValue())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	int getBucketSize() {
+		return bucketMap.size();
+	}
+
+	public void shutdown() {
+		ThreadPoolUtils.waitAndStopThreadPools(new ExecutorService[] {prefetchExecutor});
+	}
+
+	/**
+	 * Local token bucket of a method.
+	 */
+	static final class TokenBucket {
+
+		private final String namespace;
+
+		private final String service;
+
+		private final String method;
+
+		private final AtomicLong tokens = new AtomicLong();
+
+		private final AtomicBoolean prefetching = new AtomicBoolean(false);
+
+		private volatile long expireAtNanos;
+
+		private volatile long retryAtNanos;
+
+		private volatile long lowWatermark;
+
+		private volatile long lastAccessNanos;
+
+		/**
+		 * rules which current lease is granted under.
+		 */
+		private volatile RateLimitProto.RateLimit leasedRule;
+
+		private volatile int batchSize;
+
+		private TokenBucket(String namespace, String service, String method, int batchSize) {
+			this.namespace = namespace;
+			this.service = service;
+			this.method = method;
+			this.batchSize = batchSize;
+			this.retryAtNanos = System.nanoTime();
+			this.expireAtNanos = retryAtNanos;
+		}
+
+		boolean tryAcquire(long now) {
+			if (now - expireAtNanos >= 0) {
+				return false;
+			}
+			while (true) {
+				long current = tokens.get();
+				if (current <= 0) {
+					return false;
+				}
+				if (tokens.compareAndSet(current, current - 1)) {
+					return true;
+				}
+			}
+		}
+
+		boolean hasLease(long now) {
+			return now - expireAtNanos < 0 && tokens.get() > 0;
+		}
+
+		/**
+		 * Drop the lease if rules changed since it was granted, so the next prefetch checks leasability again.
+		 *
+		 * @param rateLimit current rate limit rules of service
+		 * @param now       current nano time
+		 */
+		void checkRule(RateLimitProto.RateLimit rateLimit, long now) {
+			RateLimitProto.RateLimit leased = leasedRule;
+			if (rateLimit == leased || revisionOf(rateLimit).equals(revisionOf(leased))) {
+				return;
+			}
+			tokens.set(0);
+			expireAtNanos = now;
+			retryAtNanos = now;
+		}
+
+		private static String revisionOf(RateLimitProto.RateLimit rateLimit) {
+			return rateLimit == null ? "" : rateLimit.getRevision().getValue();
+		}
+
+		boolean needPrefetch(long now) {
+			if (prefetching.get() || now - retryAtNanos < 0) {
+				return false;
+			}
+			return now - expireAtNanos >= 0 || tokens.get() <= lowWatermark;
+		}
+
+		void lease(long count, long expireAt, RateLimitProto.RateLimit rateLimit) {
+			if (System.nanoTime() - expireAtNanos >= 0) {
+				// tokens of expired lease are dropped.
+				tokens.set(0);
+			}
+			leasedRule = rateLimit;
+			lowWatermark = count / 2;
+			expireAtNanos = expireAt;
+			tokens.addAndGet(count);
+		}
+
+		void retryAfter(long retryAt) {
+			retryAtNanos = retryAt;
+		}
+
+		long getTokens() {
+			return tokens.get();
+		}
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.ratelimit.utils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.polaris.api.utils.ThreadPoolUtils;
+import com.tencent.polaris.client.util.NamedThreadFactory;
+
+/**
+ * Runs tasks after unirate wait elapses without occupying the caller thread.
+ * <p>
+ * All waits share one timer thread. Waits are bounded by max queuing time, so tasks must be short, such as
+ * resuming a suspended request.
+ *
+ * @author agent 2026-10-17
+ */
+public class UnirateWaitScheduler {
+
+	private final ScheduledThreadPoolExecutor timer;
+
+	public UnirateWaitScheduler() {
+		this.timer = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("sct-ratelimit-unirate", true));
+		this.timer.setRemoveOnCancelPolicy(true);
+	}
+
+	/**
+	 * Run task after wait elapses.
+	 *
+	 * @param task   task to run
+	 * @param waitMs wait time in milliseconds
+	 */
+	public void schedule(Runnable task, long waitMs) {
+		timer.schedule(task, waitMs, TimeUnit.MILLISECONDS);
+	}
+
+	public void shutdown() {
+		ThreadPoolUtils.waitAndStopThreadPools(new ExecutorService[] {timer});
+	}
+}
@@ -23,6 +23,10 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import com.google.protobuf.InvalidProtocolBufferException;
@@ -37,7 +41,9 @@ import com.tencent.polaris.api.plugin.ratelimiter.QuotaResult;
 import com.tencent.polaris.ratelimit.api.core.LimitAPI;
 import com.tencent.polaris.ratelimit.api.rpc.QuotaRequest;
 import com.tencent.polaris.ratelimit.api.rpc.QuotaResponse;
+import com.tencent.polaris.ratelimit.api.rpc.QuotaResultCode;
 import com.tencent.polaris.specification.api.v1.traffic.manage.RateLimitProto;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,6 +53,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -75,12 +82,13 @@ public class QuotaCheckServletFilterTest {
 	private QuotaCheckServletFilter quotaCheckWithHtmlRejectTipsServletFilter;
 	private QuotaCheckServletFilter quotaCheckWithRateLimiterLimitedFallbackFilter;
 	private PolarisRateLimiterLimitedFallback polarisRateLimiterLimitedFallback;
+	private LimitAPI limitAPI;
 
 	@BeforeEach
 	void setUp() throws InvalidProtocolBufferException {
 		MetadataContext.LOCAL_NAMESPACE = "TEST";
 
-		LimitAPI limitAPI = mock(LimitAPI.class);
+		limitAPI = mock(LimitAPI.class);
 		when(limitAPI.getQuota(any(QuotaRequest.class))).thenAnswer(invocationOnMock -> {
 			String serviceName = ((QuotaRequest) invocationOnMock.getArgument(0)).getService();
 			if (serviceName.equals("TestApp1")) {
@@ -241,6 +249,70 @@ public class QuotaCheckServletFilterTest {
 		}
 	}
 
+	@Test
+	public void testUnirateAsyncQueuing() throws Exception {
+		PolarisRateLimitProperties polarisRateLimitProperties = new PolarisRateLimitProperties();
+		polarisRateLimitProperties.setQueuingMode(PolarisRateLimitProperties.QueuingMode.ASYNC);
+		QuotaCheckServletFilter asyncQuotaCheckServletFilter = new QuotaCheckServletFilter(limitAPI, null,
+				polarisRateLimitProperties, null);
+		asyncQuotaCheckServletFilter.init();
+		try {
+			AtomicInteger chainCount = new AtomicInteger();
+			FilterChain filterChain = (servletRequest, servletResponse) -> chainCount.incrementAndGet();
+
+			// Unirate waiting 1000ms without holding current thread
+			MetadataContext.LOCAL_SERVICE = "TestApp2";
+			MockHttpServletRequest request = new MockHttpServletRequest();
+			request.setAsyncSupported(true);
+			MockHttpServletResponse response = new MockHttpServletResponse();
+			long startTimestamp = System.currentTimeMillis();
+			asyncQuotaCheckServletFilter.doFilterInternal(request, response, filterChain);
+			assertThat(System.currentTimeMillis() - startTimestamp).isLessThan(1000L);
+			assertThat(request.isAsyncStarted()).isTrue();
+			assertThat(chainCount.get()).isZero();
+
+			CountDownLatch dispatched = new CountDownLatch(1);
+			((MockAsyncContext) request.getAsyncContext()).addDispatchHandler(dispatched::countDown);
+			assertThat(dispatched.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(System.currentTimeMillis() - startTimestamp).isGreaterThanOrEqualTo(1000L);
+
+			// Resumed in async dispatch without checking quota again
+			MetadataContext.LOCAL_SERVICE = "TestApp3";
+			request.setDispatcherType(DispatcherType.ASYNC);
+			asyncQuotaCheckServletFilter.doFilterInternal(request, response, filterChain);
+			assertThat(chainCount.get()).isEqualTo(1);
+			assertThat(response.getStatus()).isEqualTo(200);
+		}
+		finally {
+			asyncQuotaCheckServletFilter.destroy();
+		}
+	}
+
+	@Test
+	public void testReleaseQuotaWhenAsyncCompletes() throws Exception {
+		AtomicInteger released = new AtomicInteger();
+		QuotaResponse quotaResponse = mock(QuotaResponse.class);
+		when(quotaResponse.getCode()).thenReturn(QuotaResultCode.QuotaResultOk);
+		when(quotaResponse.getReleaseList()).thenReturn(Collections.singletonList(released::incrementAndGet));
+		LimitAPI releasableLimitAPI = mock(LimitAPI.class);
+		when(releasableLimitAPI.getQuota(any(QuotaRequest.class))).thenReturn(quotaResponse);
+		QuotaCheckServletFilter filter = new QuotaCheckServletFilter(releasableLimitAPI, null,
+				new PolarisRateLimitProperties(), null);
+		filter.init();
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setAsyncSupported(true);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		FilterChain asyncFilterChain = (servletRequest, servletResponse) -> servletRequest.startAsync();
+
+		filter.doFilterInternal(request, response, asyncFilterChain);
+		assertThat(request.isAsyncStarted()).isTrue();
+		assertThat(released.get()).isZero();
+
+		((MockAsyncContext) request.getAsyncContext()).complete();
+		assertThat(released.get()).isEqualTo(1);
+	}
+
 	@SpringBootApplication
 	protected static class TestApplication {
 	}
@@ -0,0 +1,277 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.ratelimit.utils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import com.google.protobuf.BoolValue;
+import com.google.protobuf.Duration;
+import com.google.protobuf.StringValue;
+import com.tencent.cloud.polaris.context.ServiceRuleManager;
+import com.tencent.cloud.polaris.ratelimit.config.PolarisRateLimitProperties;
+import com.tencent.polaris.api.plugin.ratelimiter.QuotaResult;
+import com.tencent.polaris.ratelimit.api.core.LimitAPI;
+import com.tencent.polaris.ratelimit.api.rpc.QuotaRequest;
+import com.tencent.polaris.ratelimit.api.rpc.QuotaResponse;
+import com.tencent.polaris.ratelimit.api.rpc.QuotaResultCode;
+import com.tencent.polaris.specification.api.v1.model.ModelProto;
+import com.tencent.polaris.specification.api.v1.traffic.manage.RateLimitProto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link LocalQuotaManager}.
+ *
+ * @author agent 2026-10-17
+ */
+public class LocalQuotaManagerTest {
+
+	private static final String NAMESPACE = "default";
+
+	private static final String SERVICE = "TestApp";
+
+	private final AtomicInteger singleCount = new AtomicInteger();
+
+	private final AtomicInteger batchCount = new AtomicInteger();
+
+	private LimitAPI limitAPI;
+
+	private ServiceRuleManager serviceRuleManager;
+
+	private LocalQuotaManager localQuotaManager;
+
+	private final List<Integer> batchCounts = new CopyOnWriteArrayList<>();
+
+	private volatile QuotaResult.Code batchResultCode = QuotaResult.Code.QuotaResultOk;
+
+	@BeforeEach
+	void setUp() {
+		limitAPI = mock(LimitAPI.class);
+		when(limitAPI.getQuota(any(QuotaRequest.class))).thenAnswer(invocationOnMock -> {
+			QuotaRequest quotaRequest = invocationOnMock.getArgument(0);
+			if (quotaRequest.getCount() > 1) {
+				batchCount.incrementAndGet();
+				batchCounts.add(quotaRequest.getCount());
+				return new QuotaResponse(new QuotaResult(batchResultCode, 0, "batch"));
+			}
+			singleCount.incrementAndGet();
+			return new QuotaResponse(new QuotaResult(QuotaResult.Code.QuotaResultOk, 0, "single"));
+		});
+		serviceRuleManager = mock(ServiceRuleManager.class);
+		PolarisRateLimitProperties properties = new PolarisRateLimitProperties();
+		properties.setLocalQuotaBatchSize(10);
+		properties.setLocalQuotaLeaseTime(60000L);
+		localQuotaManager = new LocalQuotaManager(limitAPI, serviceRuleManager, properties);
+	}
+
+	@AfterEach
+	void tearDown() {
+		localQuotaManager.shutdown();
+	}
+
+	@Test
+	public void testLeaseAndFallback() throws InterruptedException {
+		when(serviceRuleManager.getServiceRateLimitRule(anyString(), anyString())).thenReturn(
+				RateLimitProto.RateLimit.newBuilder().addRules(RateLimitProto.Rule.newBuilder()
+						.setResource(RateLimitProto.Rule.Resource.QPS)
+						.setAction(StringValue.of("REJECT"))).build());
+
+		// first request asks the SDK and triggers prefetch.
+		QuotaResponse quotaResponse = localQuotaManager.getQuota(NAMESPACE, SERVICE, "/test");
+		assertThat(quotaResponse.getInfo()).isEqualTo("single");
+		waitFor(() -> batchCount.get() == 1);
+
+		int local = 0;
+		for (int i = 0; i < 5; i++) {
+			quotaResponse = localQuotaManager.getQuota(NAMESPACE, SERVICE, "/test");
+			assertThat(quotaResponse.getCode()).isEqualTo(QuotaResultCode.QuotaResultOk);
+			if (quotaResponse == LocalQuotaManager.LOCAL_QUOTA_RESPONSE) {
+				local++;
+			}
+		}
+		assertThat(local).isEqualTo(5);
+		assertThat(singleCount.get()).isEqualTo(1);
+		assertThat(localQuotaManager.getBucketSize()).isEqualTo(1);
+
+		// refill in background when bucket runs low.
+		waitFor(() -> batchCount.get() == 2);
+	}
+
+	@Test
+	public void testBatchLimited() throws InterruptedException {
+		batchResultCode = QuotaResult.Code.QuotaResultLimited;
+
+		localQuotaManager.getQuota(NAMESPACE, SERVICE, "/test");
+		waitFor(() -> batchCount.get() == 1);
+		Thread.sleep(100);
+
+		for (int i = 0; i < 5; i++) {
+			assertThat(localQuotaManager.getQuota(NAMESPACE, SERVICE, "/test").getInfo()).isEqualTo("single");
+		}
+		// no prefetch until lease time elapses.
+		assertThat(batchCount.get()).isEqualTo(1);
+		assertThat(singleCount.get()).isEqualTo(6);
+	}
+
+	@Test
+	public void testIsLeasable() {
+		assertThat(localQuotaManager.isLeasable(NAMESPACE, SERVICE)).isTrue();
+
+		RateLimitProto.Rule argumentRule = RateLimitProto.Rule.newBuilder()
+				.addArguments(RateLimitProto.MatchArgument.newBuilder()
+						.setType(RateLimitProto.MatchArgument.Type.HEADER).setKey("uid")
+						.setValue(ModelProto.MatchString.newBuilder().setValue(StringValue.of("1"))))
+				.build();
+		RateLimitProto.Rule unirateRule = RateLimitProto.Rule.newBuilder()
+				.setAction(StringValue.of("UNIRATE")).build();
+		RateLimitProto.Rule concurrencyRule = RateLimitProto.Rule.newBuilder()
+				.setResource(RateLimitProto.Rule.Resource.CONCURRENCY).build();
+
+		when(serviceRuleManager.getServiceRateLimitRule(anyString(), anyString())).thenReturn(
+				RateLimitProto.RateLimit.newBuilder().addRules(argumentRule).build());
+		assertThat(localQuotaManager.isLeasable(NAMESPACE, SERVICE)).isFalse();
+
+		when(serviceRuleManager.getServiceRateLimitRule(anyString(), anyString())).thenReturn(
+				RateLimitProto.RateLimit.newBuilder().addRules(unirateRule).build());
+		assertThat(localQuotaManager.isLeasable(NAMESPACE, SERVICE)).isFalse();
+
+		when(serviceRuleManager.getServiceRateLimitRule(anyString(), anyString())).thenReturn(
+				RateLimitProto.RateLimit.newBuilder().addRules(concurrencyRule).build());
+		assertThat(localQuotaManager.isLeasable(NAMESPACE, SERVICE)).isFalse();
+
+		// disabled rules are ignored.
+		when(serviceRuleManager.getServiceRateLimitRule(anyString(), anyString())).thenReturn(
+				RateLimitProto.RateLimit.newBuilder()
+						.addRules(argumentRule.toBuilder().setDisable(BoolValue.of(true))).build());
+		assertThat(localQuotaManager.isLeasable(NAMESPACE, SERVICE)).isTrue();
+	}
+
+	@Test
+	public void testNotLeasable() throws InterruptedException {
+		when(serviceRuleManager.getServiceRateLimitRule(anyString(), anyString())).thenReturn(
+				RateLimitProto.RateLimit.newBuilder().addRules(RateLimitProto.Rule.newBuilder()
+						.setAction(StringValue.of("UNIRATE"))).build());
+
+		localQuotaManager.getQuota(NAMESPACE, SERVICE, "/test");
+		Thread.sleep(100);
+		for (int i = 0; i < 5; i++) {
+			assertThat(localQuotaManager.getQuota(NAMESPACE, SERVICE, "/test").getInfo()).isEqualTo("single");
+		}
+		assertThat(batchCount.get()).isZero();
+	}
+
+	@Test
+	public void testLeaseDroppedWhenRuleChanges() throws InterruptedException {
+		when(serviceRuleManager.getServiceRateLimitRule(anyString(), anyString())).thenReturn(
+				RateLimitProto.RateLimit.newBuilder().setRevision(StringValue.of("1"))
+						.addRules(qpsRule(Duration.newBuilder().setSeconds(60))).build());
+		localQuotaManager.getQuota(NAMESPACE, SERVICE, "/test");
+		waitFor(() -> batchCount.get() == 1);
+		assertThat(localQuotaManager.getQuota(NAMESPACE, SERVICE, "/test")).isSameAs(LocalQuotaManager.LOCAL_QUOTA_RESPONSE);
+
+		// same revision keeps the lease.
+		when(serviceRuleManager.getServiceRateLimitRule(anyString(), anyString())).thenReturn(
+				RateLimitProto.RateLimit.newBuilder().setRevision(StringValue.of("1"))
+						.addRules(qpsRule(Duration.newBuilder().setSeconds(60))).build());
+		assertThat(localQuotaManager.getQuota(NAMESPACE, SERVICE, "/test")).isSameAs(LocalQuotaManager.LOCAL_QUOTA_RESPONSE);
+
+		// new revision with a rule which can not be leased drops the lease.
+		when(serviceRuleManager.getServiceRateLimitRule(anyString(), anyString())).thenReturn(
+				RateLimitProto.RateLimit.newBuilder().setRevision(StringValue.of("2")).addRules(RateLimitProto.Rule.newBuilder()
+						.setAction(StringValue.of("UNIRATE"))).build());
+		for (int i = 0; i < 5; i++) {
+			assertThat(localQuotaManager.getQuota(NAMESPACE, SERVICE, "/test").getInfo()).isEqualTo("single");
+		}
+		Thread.sleep(100);
+		assertThat(batchCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void testBatchHalvedAndPausedToNextWindow() throws InterruptedException {
+		batchResultCode = QuotaResult.Code.QuotaResultLimited;
+		when(serviceRuleManager.getServiceRateLimitRule(anyString(), anyString())).thenReturn(
+				RateLimitProto.RateLimit.newBuilder().addRules(qpsRule(Duration.newBuilder().setNanos(200000000))).build());
+
+		localQuotaManager.getQuota(NAMESPACE, SERVICE, "/test");
+		waitFor(() -> batchCount.get() == 1);
+		// paused until end of 200ms window, not for the whole lease time.
+		for (int i = 0; i < 100 && batchCount.get() < 2; i++) {
+			localQuotaManager.getQuota(NAMESPACE, SERVICE, "/test");
+			Thread.sleep(20);
+		}
+		assertThat(batchCounts).startsWith(10, 5);
+	}
+
+	@Test
+	public void testWindow() {
+		RateLimitProto.RateLimit rateLimit = RateLimitProto.RateLimit.newBuilder()
+				.addRules(qpsRule(Duration.newBuilder().setSeconds(60)))
+				.addRules(qpsRule(Duration.newBuilder().setSeconds(1)))
+				.addRules(qpsRule(Duration.newBuilder().setNanos(100000000)).toBuilder().setDisable(BoolValue.of(true)))
+				.build();
+		assertThat(LocalQuotaManager.getWindowMillis(rateLimit)).isEqualTo(1000L);
+		assertThat(LocalQuotaManager.getWindowMillis(null)).isZero();
+		assertThat(LocalQuotaManager.nanosToWindowEnd(1000L)).isBetween(1L, 1000000000L);
+		assertThat(LocalQuotaManager.nanosToWindowEnd(0)).isEqualTo(Long.MAX_VALUE);
+	}
+
+	@Test
+	public void testEvictIdleBuckets() throws InterruptedException {
+		localQuotaManager.shutdown();
+		PolarisRateLimitProperties properties = new PolarisRateLimitProperties();
+		properties.setLocalQuotaBatchSize(10);
+		properties.setLocalQuotaLeaseTime(1L);
+		localQuotaManager = new LocalQuotaManager(limitAPI, serviceRuleManager, properties);
+
+		for (int i = 0; i < LocalQuotaManager.MAX_BUCKET_SIZE; i++) {
+			localQuotaManager.getQuota(NAMESPACE, SERVICE, "/test/" + i);
+		}
+		assertThat(localQuotaManager.getBucketSize()).isEqualTo(LocalQuotaManager.MAX_BUCKET_SIZE);
+		waitFor(() -> batchCount.get() == LocalQuotaManager.MAX_BUCKET_SIZE);
+		Thread.sleep(50);
+
+		// idle buckets are evicted, so new method is leased again.
+		localQuotaManager.getQuota(NAMESPACE, SERVICE, "/new");
+		assertThat(localQuotaManager.getBucketSize()).isEqualTo(1);
+	}
+
+	private static RateLimitProto.Rule qpsRule(Duration.Builder validDuration) {
+		return RateLimitProto.Rule.newBuilder()
+				.setResource(RateLimitProto.Rule.Resource.QPS)
+				.setAction(StringValue.of("REJECT"))
+				.addAmounts(RateLimitProto.Amount.newBuilder().setValidDuration(validDuration))
+				.build();
+	}
+
+	private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+		for (int i = 0; i < 100 && !condition.getAsBoolean(); i++) {
+			Thread.sleep(20);
+		}
+		assertThat(condition.getAsBoolean()).isTrue();
+	}
+}
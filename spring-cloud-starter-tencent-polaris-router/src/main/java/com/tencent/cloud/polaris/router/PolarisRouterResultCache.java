@@ -0,0 +1,423 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.router;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.tencent.cloud.common.constant.RouterConstant;
+import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.common.pojo.PolarisServiceInstance;
+import com.tencent.cloud.common.pojo.RevisionedServiceInstanceList;
+import com.tencent.cloud.polaris.context.ServiceRuleManager;
+import com.tencent.polaris.api.plugin.registry.AbstractResourceEventListener;
+import com.tencent.polaris.api.pojo.RegistryCacheValue;
+import com.tencent.polaris.api.pojo.ServiceEventKey;
+import com.tencent.polaris.api.pojo.ServiceRule;
+import com.tencent.polaris.metadata.core.MessageMetadataContainer;
+import com.tencent.polaris.metadata.core.MetadataContainer;
+import com.tencent.polaris.metadata.core.MetadataMapValue;
+import com.tencent.polaris.metadata.core.MetadataStringValue;
+import com.tencent.polaris.metadata.core.MetadataType;
+import com.tencent.polaris.specification.api.v1.traffic.manage.RoutingProto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+/**
+ * Cache of router results.
+ * <p>
+ * Key of the cache is made of the generation of callee service, the revision of instance list (taken from discovery,
+ * so results of instances without a known revision are not cached) and the fingerprint of the labels which the router
+ * rules reference. The custom metadata (which carries router switches and metadata router labels) and the router labels
+ * are always part of the fingerprint. Only v1 rules(inbounds and outbounds) can be analyzed, so the router result is not cached when v2 rules
+ * exist.
+ * <p>
+ * Router rules are only loaded when the state of callee service is built. The state is dropped, so a new generation is
+ * built, when routing rules or instances of callee service change in local registry, or when a call to callee service
+ * fails (circuit breaker status is not visible in instance list). Cached results also expire after ttl.
+ *
+ * @author agent 2026-10-17
+ */
+public class PolarisRouterResultCache extends AbstractResourceEventListener {
+
+	private static final Logger LOG = LoggerFactory.getLogger(PolarisRouterResultCache.class);
+
+	private static final String LABEL_HEADER_PREFIX = "$header.";
+
+	private static final String LABEL_QUERY_PREFIX = "$query.";
+
+	private static final String LABEL_COOKIE_PREFIX = "$cookie.";
+
+	private static final String LABEL_PREFIX = "$";
+
+	/**
+	 * Marks router rules which can not be analyzed.
+	 */
+	private static final Set<String> UNSUPPORTED_RULES = Collections.unmodifiableSet(new TreeSet<>());
+
+	private final ServiceRuleManager serviceRuleManager;
+
+	private final Cache<CacheKey, List<ServiceInstance>> cache;
+
+	/**
+	 * service -> generation and label keys referenced by router rules.
+	 */
+	private final Cache<String, ServiceState> serviceStates;
+
+	private final AtomicLong generation = new AtomicLong();
+
+	public PolarisRouterResultCache(ServiceRuleManager serviceRuleManager, int maxSize) {
+		this(serviceRuleManager, maxSize, 1000);
+	}
+
+	public PolarisRouterResultCache(ServiceRuleManager serviceRuleManager, int maxSize, long ttl) {
+		this.serviceRuleManager = serviceRuleManager;
+		long expireMillis = Math.max(1, ttl);
+		this.cache = CacheBuilder.newBuilder().maximumSize(Math.max(1, maxSize))
+				.expireAfterWrite(expireMillis, TimeUnit.MILLISECONDS).recordStats().build();
+		this.serviceStates = CacheBuilder.newBuilder().maximumSize(Math.max(1, maxSize))
+				.expireAfterWrite(expireMillis, TimeUnit.MILLISECONDS).build();
+	}
+
+	/**
+	 * Build cache key of current request.
+	 *
+	 * @param service callee service
+	 * @param instances all instances of callee service
+	 * @param routerContext router context
+	 * @param metadataContext metadata context of current request
+	 * @return cache key, or null if result of current request can not be cached
+	 */
+	public CacheKey buildCacheKey(String service, List<ServiceInstance> instances,
+			PolarisRouterContext routerContext, MetadataContext metadataContext) {
+		if (service == null || instances.isEmpty()) {
+			return null;
+		}
+		ServiceState serviceState;
+		try {
+			serviceState = serviceStates.get(service, () -> loadServiceState(service));
+		}
+		catch (ExecutionException | RuntimeException e) {
+			LOG.debug("Get router rules of service {} failed, skip router result cache.", service, e);
+			return null;
+		}
+		if (serviceState.labelKeys == UNSUPPORTED_RULES) {
+			return null;
+		}
+
+		String instanceRevision = instanceRevisionOf(instances);
+		if (instanceRevision == null) {
+			return null;
+		}
+		String labelFingerprint = labelFingerprintOf(serviceState.labelKeys, routerContext, metadataContext);
+		return new CacheKey(service, serviceState.generation, instanceRevision, labelFingerprint);
+	}
+
+	public List<ServiceInstance> get(CacheKey key) {
+		return cache.getIfPresent(key);
+	}
+
+	/**
+	 * Cache router result. Cached list is shared by all hits, and carries a revision so that load balancers can reuse
+	 * state built from it.
+	 *
+	 * @param key               cache key
+	 * @param filteredInstances router result
+	 * @return read-only cached list
+	 */
+	public List<ServiceInstance> put(CacheKey key, List<ServiceInstance> filteredInstances) {
+		List<ServiceInstance> cachedInstances = new RevisionedServiceInstanceList(
+				new ArrayList<>(filteredInstances), RevisionedServiceInstanceList.nextRevision());
+		cache.put(key, cachedInstances);
+		return cachedInstances;
+	}
+
+	/**
+	 * Invalidate all cached router results of service. Results of old generation are not reachable any more and will
+	 * be evicted by size or ttl.
+	 *
+	 * @param service callee service
+	 */
+	public void invalidate(String service) {
+		if (service != null) {
+			serviceStates.invalidate(service);
+		}
+	}
+
+	public void invalidateAll() {
+		serviceStates.invalidateAll();
+		cache.invalidateAll();
+	}
+
+	@Override
+	public void onResourceAdded(ServiceEventKey svcEventKey, RegistryCacheValue newValue) {
+		onResourceChanged(svcEventKey);
+	}
+
+	@Override
+	public void onResourceUpdated(ServiceEventKey svcEventKey, RegistryCacheValue oldValue,
+			RegistryCacheValue newValue) {
+		onResourceChanged(svcEventKey);
+	}
+
+	@Override
+	public void onResourceDeleted(ServiceEventKey svcEventKey, RegistryCacheValue oldValue) {
+		onResourceChanged(svcEventKey);
+	}
+
+	private void onResourceChanged(ServiceEventKey svcEventKey) {
+		if (svcEventKey == null || !Objects.equals(svcEventKey.getNamespace(), MetadataContext.LOCAL_NAMESPACE)) {
+			return;
+		}
+		if (svcEventKey.getEventType() == ServiceEventKey.EventType.ROUTING) {
+			if (Objects.equals(svcEventKey.getService(), MetadataContext.LOCAL_SERVICE)) {
+				// outbound rules of local service apply to every callee service.
+				serviceStates.invalidateAll();
+			}
+			else {
+				invalidate(svcEventKey.getService());
+			}
+		}
+		else if (svcEventKey.getEventType() == ServiceEventKey.EventType.INSTANCE) {
+			invalidate(svcEventKey.getService());
+		}
+	}
+
+	public long getHitCount() {
+		return cache.stats().hitCount();
+	}
+
+	public long getMissCount() {
+		return cache.stats().missCount();
+	}
+
+	public long getEvictionCount() {
+		return cache.stats().evictionCount();
+	}
+
+	public long size() {
+		return cache.size();
+	}
+
+	private ServiceState loadServiceState(String service) {
+		ServiceRule sourceRule = serviceRuleManager.getServiceRule(MetadataContext.LOCAL_NAMESPACE,
+				MetadataContext.LOCAL_SERVICE, ServiceEventKey.EventType.ROUTING);
+		ServiceRule destRule = serviceRuleManager.getServiceRule(MetadataContext.LOCAL_NAMESPACE,
+				service, ServiceEventKey.EventType.ROUTING);
+		return new ServiceState(generation.incrementAndGet(), parseReferencedLabelKeys(sourceRule, destRule));
+	}
+
+	/**
+	 * Parse label keys referenced by source outbound rules and destination inbound rules.
+	 */
+	private static Set<String> parseReferencedLabelKeys(ServiceRule sourceRule, ServiceRule destRule) {
+		Set<String> labelKeys = new TreeSet<>();
+		if (!collectLabelKeys(sourceRule, true, labelKeys) || !collectLabelKeys(destRule, false, labelKeys)) {
+			return UNSUPPORTED_RULES;
+		}
+		return Collections.unmodifiableSet(labelKeys);
+	}
+
+	private static boolean collectLabelKeys(ServiceRule serviceRule, boolean outbound, Set<String> labelKeys) {
+		if (serviceRule == null || serviceRule.getRule() == null) {
+			return true;
+		}
+		if (!(serviceRule.getRule() instanceof RoutingProto.Routing)) {
+			return false;
+		}
+		RoutingProto.Routing routing = (RoutingProto.Routing) serviceRule.getRule();
+		if (routing.getRulesCount() > 0) {
+			return false;
+		}
+		List<RoutingProto.Route> routes = outbound ? routing.getOutboundsList() : routing.getInboundsList();
+		for (RoutingProto.Route route : routes) {
+			for (RoutingProto.Source source : route.getSourcesList()) {
+				labelKeys.addAll(source.getMetadataMap().keySet());
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Revision of instance list, reused from discovery instead of walking the instances. The list carries a revision
+	 * assigned by {@link RevisionedServiceInstanceList}, otherwise instances carry the revision of service instances
+	 * which polaris sdk changes on every change of instances (including health, isolation and weight).
+	 *
+	 * @return revision of instance list, or null if it is unknown
+	 */
+	private static String instanceRevisionOf(List<ServiceInstance> instances) {
+		long listRevision = RevisionedServiceInstanceList.revisionOf(instances);
+		if (listRevision != RevisionedServiceInstanceList.UNKNOWN_REVISION) {
+			return "list:" + listRevision;
+		}
+		String serviceRevision = serviceRevisionOf(instances.get(0));
+		// instances of one list are discovered together, so checking both ends is enough.
+		if (serviceRevision == null || serviceRevision.isEmpty()
+				|| !serviceRevision.equals(serviceRevisionOf(instances.get(instances.size() - 1)))) {
+			return null;
+		}
+		return "sdk:" + serviceRevision + ":" + instances.size();
+	}
+
+	private static String serviceRevisionOf(ServiceInstance serviceInstance) {
+		if (serviceInstance instanceof PolarisServiceInstance) {
+			return ((PolarisServiceInstance) serviceInstance).getServiceRevision();
+		}
+		return null;
+	}
+
+	private static String labelFingerprintOf(Set<String> labelKeys, PolarisRouterContext routerContext,
+			MetadataContext metadataContext) {
+		StringBuilder fingerprint = new StringBuilder();
+		if (routerContext != null) {
+			fingerprint.append(new TreeMap<>(routerContext.getLabels(RouterConstant.ROUTER_LABELS)));
+		}
+
+		MetadataContainer messageContainer = metadataContext.getOverlayMetadataContainer(MetadataType.MESSAGE, false);
+		for (String labelKey : labelKeys) {
+			fingerprint.append('|').append(labelKey).append('=').append(resolveMessageLabel(messageContainer, labelKey));
+		}
+
+		Map<String, String> customMetadata = new TreeMap<>();
+		// static metadata is the same for every request, so only metadata of this context is part of the key.
+		MetadataContainer customContainer = metadataContext.getOverlayMetadataContainer(MetadataType.CUSTOM, false);
+		customContainer.iterateMetadataValues((key, value) -> {
+			if (value instanceof MetadataStringValue) {
+				customMetadata.put(key, ((MetadataStringValue) value).getStringValue());
+			}
+			else if (value instanceof MetadataMapValue) {
+				((MetadataMapValue) value).iterateMapValues((mapKey, mapValue) -> {
+					if (mapValue instanceof MetadataStringValue) {
+						customMetadata.put(key + "." + mapKey, ((MetadataStringValue) mapValue).getStringValue());
+					}
+				});
+			}
+		});
+		fingerprint.append('|').append(customMetadata);
+		return fingerprint.toString();
+	}
+
+	private static String resolveMessageLabel(MetadataContainer messageContainer, String labelKey) {
+		if (labelKey.startsWith(LABEL_HEADER_PREFIX)) {
+			return messageContainer.getRawMetadataMapValue(MessageMetadataContainer.LABEL_MAP_KEY_HEADER,
+					labelKey.substring(LABEL_HEADER_PREFIX.length()));
+		}
+		if (labelKey.startsWith(LABEL_QUERY_PREFIX)) {
+			return messageContainer.getRawMetadataMapValue(MessageMetadataContainer.LABEL_MAP_KEY_QUERY,
+					labelKey.substring(LABEL_QUERY_PREFIX.length()));
+		}
+		if (labelKey.startsWith(LABEL_COOKIE_PREFIX)) {
+			return messageContainer.getRawMetadataMapValue(MessageMetadataContainer.LABEL_MAP_KEY_COOKIE,
+					labelKey.substring(LABEL_COOKIE_PREFIX.length()));
+		}
+		if (labelKey.startsWith(LABEL_PREFIX)) {
+			return messageContainer.getRawMetadataStringValue(labelKey);
+		}
+		// custom labels are covered by the custom metadata fingerprint.
+		return "";
+	}
+
+	@Override
+	public String toString() {
+		return "PolarisRouterResultCache{" +
+				"size=" + size() +
+				", hitCount=" + getHitCount() +
+				", missCount=" + getMissCount() +
+				", evictionCount=" + getEvictionCount() +
+				'}';
+	}
+
+	/**
+	 * Key of router result cache.
+	 */
+	public static final class CacheKey {
+
+		private final String service;
+
+		private final long generation;
+
+		private final String instanceRevision;
+
+		private final String labelFingerprint;
+
+		private final int hash;
+
+		CacheKey(String service, long generation, String instanceRevision, String labelFingerprint) {
+			this.service = service;
+			this.generation = generation;
+			this.instanceRevision = instanceRevision;
+			this.labelFingerprint = labelFingerprint;
+			this.hash = Objects.hash(service, generation, instanceRevision, labelFingerprint);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey that = (CacheKey) o;
+			return generation == that.generation
+					&& Objects.equals(service, that.service)
+					&& Objects.equals(instanceRevision, that.instanceRevision)
+					&& Objects.equals(labelFingerprint, that.labelFingerprint);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public String toString() {
+			return "CacheKey{" +
+					"service='" + service + '\'' +
+					", generation=" + generation +
+					", instanceRevision='" + instanceRevision + '\'' +
+					", labelFingerprint='" + labelFingerprint + '\'' +
+					'}';
+		}
+	}
+
+	private static final class ServiceState {
+
+		private final long generation;
+
+		private final Set<String> labelKeys;
+
+		private ServiceState(long generation, Set<String> labelKeys) {
+			this.generation = generation;
+			this.labelKeys = labelKeys;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.router;
+
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPlugin;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedResponseContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.core.Ordered;
+
+/**
+ * Invalidate cached router results of callee service when a call fails, as the failure may open circuit breaker of
+ * the instance, which is not visible in instance list.
+ *
+ * @author agent 2026-10-17
+ */
+public class PolarisRouterResultCacheEvictPlugin implements EnhancedPlugin {
+
+	private static final Logger LOG = LoggerFactory.getLogger(PolarisRouterResultCacheEvictPlugin.class);
+
+	private final PolarisRouterResultCache routerResultCache;
+
+	public PolarisRouterResultCacheEvictPlugin(PolarisRouterResultCache routerResultCache) {
+		this.routerResultCache = routerResultCache;
+	}
+
+	@Override
+	public String getName() {
+		return PolarisRouterResultCacheEvictPlugin.class.getName();
+	}
+
+	@Override
+	public EnhancedPluginType getType() {
+		return EnhancedPluginType.Client.FINALLY;
+	}
+
+	@Override
+	public void run(EnhancedPluginContext context) {
+		ServiceInstance targetServiceInstance = context.getTargetServiceInstance();
+		if (targetServiceInstance == null) {
+			return;
+		}
+		EnhancedResponseContext response = context.getResponse();
+		boolean failed = context.getThrowable() != null
+				|| (response != null && response.getHttpStatus() != null && response.getHttpStatus() >= 500);
+		if (failed) {
+			routerResultCache.invalidate(targetServiceInstance.getServiceId());
+		}
+	}
+
+	@Override
+	public void handlerThrowable(EnhancedPluginContext context, Throwable throwable) {
+		LOG.error("PolarisRouterResultCacheEvictPlugin runs failed. context=[{}].", context, throwable);
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.LOWEST_PRECEDENCE;
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.router;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Bind stats of {@link PolarisRouterResultCache} to micrometer.
+ *
+ * @author agent 2026-10-17
+ */
+public class PolarisRouterResultCacheMeterBinder implements MeterBinder {
+
+	/**
+	 * Requests of router result cache, tagged by result of hit or miss.
+	 */
+	public static final String CACHE_REQUESTS = "sct.router.result.cache.requests";
+
+	/**
+	 * Size of router result cache.
+	 */
+	public static final String CACHE_SIZE = "sct.router.result.cache.size";
+
+	/**
+	 * Evictions of router result cache.
+	 */
+	public static final String CACHE_EVICTIONS = "sct.router.result.cache.evictions";
+
+	private final PolarisRouterResultCache routerResultCache;
+
+	public PolarisRouterResultCacheMeterBinder(PolarisRouterResultCache routerResultCache) {
+		this.routerResultCache = routerResultCache;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder(CACHE_REQUESTS, routerResultCache, PolarisRouterResultCache::getHitCount)
+				.tag("result", "hit")
+				.description("Requests which hit router result cache")
+				.register(registry);
+		FunctionCounter.builder(CACHE_REQUESTS, routerResultCache, PolarisRouterResultCache::getMissCount)
+				.tag("result", "miss")
+				.description("Requests which miss router result cache")
+				.register(registry);
+		FunctionCounter.builder(CACHE_EVICTIONS, routerResultCache, PolarisRouterResultCache::getEvictionCount)
+				.description("Evictions of router result cache")
+				.register(registry);
+		Gauge.builder(CACHE_SIZE, routerResultCache, PolarisRouterResultCache::size)
+				.description("Size of router result cache")
+				.register(registry);
+	}
+}
@@ -74,15 +74,24 @@ public class PolarisRouterServiceInstanceListSupplier extends DelegatingServiceI
 	private final List<RouterRequestInterceptor> requestInterceptors;
 	private final List<RouterResponseInterceptor> responseInterceptors;
 	private final InstanceTransformer instanceTransformer;
+	private final PolarisRouterResultCache routerResultCache;
 
 	public PolarisRouterServiceInstanceListSupplier(ServiceInstanceListSupplier delegate,
 			RouterAPI routerAPI, List<RouterRequestInterceptor> requestInterceptors,
 			List<RouterResponseInterceptor> responseInterceptors, InstanceTransformer instanceTransformer) {
+		this(delegate, routerAPI, requestInterceptors, responseInterceptors, instanceTransformer, null);
+	}
+
+	public PolarisRouterServiceInstanceListSupplier(ServiceInstanceListSupplier delegate,
+			RouterAPI routerAPI, List<RouterRequestInterceptor> requestInterceptors,
+			List<RouterResponseInterceptor> responseInterceptors, InstanceTransformer instanceTransformer,
+			PolarisRouterResultCache routerResultCache) {
 		super(delegate);
 		this.routerAPI = routerAPI;
 		this.requestInterceptors = requestInterceptors;
 		this.responseInterceptors = responseInterceptors;
 		this.instanceTransformer = instanceTransformer;
+		this.routerResultCache = routerResultCache;
 	}
 
 	@Override
@@ -136,6 +145,11 @@ public class PolarisRouterServiceInstanceListSupplier extends DelegatingServiceI
 	}
 
 	Flux<List<ServiceInstance>> doRouter(Flux<List<ServiceInstance>> allServers, PolarisRouterContext routerContext) {
+		// router result can not be reused when response interceptors exist.
+		if (routerResultCache != null && CollectionUtils.isEmpty(responseInterceptors)) {
+			return doRouterWithCache(allServers, routerContext);
+		}
+
 		ServiceInstances serviceInstances = RouterUtils.transferServersToServiceInstances(allServers, instanceTransformer);
 
 		List<ServiceInstance> filteredInstances = new ArrayList<>();
@@ -147,6 +161,7 @@ public class PolarisRouterServiceInstanceListSupplier extends DelegatingServiceI
 			processRouterRequestInterceptors(processRoutersRequest, routerContext);
 
 			// process router chain
+			processRoutersRequest.setMetadataContainerGroup(MetadataContextHolder.get().getMetadataContainerGroup(false));
 			ProcessRoutersResponse processRoutersResponse = routerAPI.processRouters(processRoutersRequest);
 
 			// process response interceptors
@@ -161,6 +176,41 @@ public class PolarisRouterServiceInstanceListSupplier extends DelegatingServiceI
 		return Flux.fromIterable(Collections.singletonList(filteredInstances));
 	}
 
+	Flux<List<ServiceInstance>> doRouterWithCache(Flux<List<ServiceInstance>> allServers, PolarisRouterContext routerContext) {
+		List<ServiceInstance> servers = RouterUtils.collectServers(allServers);
+
+		List<ServiceInstance> filteredInstances = new ArrayList<>();
+		if (servers.size() > 0) {
+			// request interceptors only set router switches and arguments, so they are processed before cache lookup.
+			ProcessRoutersRequest processRoutersRequest = buildProcessRoutersRequest(null, routerContext);
+			processRouterRequestInterceptors(processRoutersRequest, routerContext);
+
+			PolarisRouterResultCache.CacheKey cacheKey = routerResultCache.buildCacheKey(servers.get(0).getServiceId(),
+					servers, routerContext, MetadataContextHolder.get());
+			if (cacheKey != null) {
+				List<ServiceInstance> cachedInstances = routerResultCache.get(cacheKey);
+				if (cachedInstances != null) {
+					// shared read-only list, so load balancers can reuse state built from it by revision.
+					return Flux.fromIterable(Collections.singletonList(cachedInstances));
+				}
+			}
+
+			// process router chain, static metadata is only copied into the request context on cache miss.
+			processRoutersRequest.setDstInstances(RouterUtils.transferServersToServiceInstances(servers, instanceTransformer));
+			processRoutersRequest.setMetadataContainerGroup(MetadataContextHolder.get().getMetadataContainerGroup(false));
+			ProcessRoutersResponse processRoutersResponse = routerAPI.processRouters(processRoutersRequest);
+
+			// transfer polaris server to ServiceInstance
+			for (Instance instance : processRoutersResponse.getServiceInstances().getInstances()) {
+				filteredInstances.add(new PolarisServiceInstance(instance));
+			}
+			if (cacheKey != null) {
+				return Flux.fromIterable(Collections.singletonList(routerResultCache.put(cacheKey, filteredInstances)));
+			}
+		}
+		return Flux.fromIterable(Collections.singletonList(filteredInstances));
+	}
+
 	ProcessRoutersRequest buildProcessRoutersRequest(ServiceInstances serviceInstances, PolarisRouterContext key) {
 		ProcessRoutersRequest processRoutersRequest = new ProcessRoutersRequest();
 		processRoutersRequest.setDstInstances(serviceInstances);
@@ -168,7 +218,6 @@ public class PolarisRouterServiceInstanceListSupplier extends DelegatingServiceI
 		serviceInfo.setNamespace(MetadataContext.LOCAL_NAMESPACE);
 		serviceInfo.setService(MetadataContext.LOCAL_SERVICE);
 		processRoutersRequest.setSourceService(serviceInfo);
-		processRoutersRequest.setMetadataContainerGroup(MetadataContextHolder.get().getMetadataContainerGroup(false));
 		return processRoutersRequest;
 	}
 
@@ -22,8 +22,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.rpc.enhancement.transformer.InstanceTransformer;
@@ -31,7 +29,6 @@ import com.tencent.polaris.api.pojo.DefaultServiceInstances;
 import com.tencent.polaris.api.pojo.Instance;
 import com.tencent.polaris.api.pojo.ServiceInstances;
 import com.tencent.polaris.api.pojo.ServiceKey;
-import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
@@ -59,11 +56,20 @@ public final class RouterUtils {
 	 * @return ServiceInstances
 	 */
 	public static ServiceInstances transferServersToServiceInstances(Flux<List<ServiceInstance>> servers, InstanceTransformer instanceTransformer) {
-		List<Instance> instanceList = Collections.synchronizedList(new ArrayList<>());
-		servers.flatMap((Function<List<ServiceInstance>, Publisher<?>>) serviceInstances ->
-				Flux.fromIterable(serviceInstances.stream()
-						.map(instanceTransformer::transform)
-						.collect(Collectors.toList()))).subscribe(instance -> instanceList.add((Instance) instance));
+		return transferServersToServiceInstances(collectServers(servers), instanceTransformer);
+	}
+
+	/**
+	 * transfer servers to ServiceInstances.
+	 *
+	 * @param servers servers
+	 * @return ServiceInstances
+	 */
+	public static ServiceInstances transferServersToServiceInstances(List<ServiceInstance> servers, InstanceTransformer instanceTransformer) {
+		List<Instance> instanceList = new ArrayList<>(servers.size());
+		for (ServiceInstance server : servers) {
+			instanceList.add(instanceTransformer.transform(server));
+		}
 
 		String serviceName = "";
 		Map<String, String> serviceMetadata = new HashMap<>();
@@ -76,4 +82,16 @@ public final class RouterUtils {
 
 		return new DefaultServiceInstances(serviceKey, instanceList, serviceMetadata);
 	}
+
+	/**
+	 * collect servers from flux.
+	 *
+	 * @param servers servers
+	 * @return list of servers
+	 */
+	public static List<ServiceInstance> collectServers(Flux<List<ServiceInstance>> servers) {
+		List<ServiceInstance> serverList = Collections.synchronizedList(new ArrayList<>());
+		servers.subscribe(serverList::addAll);
+		return serverList;
+	}
 }
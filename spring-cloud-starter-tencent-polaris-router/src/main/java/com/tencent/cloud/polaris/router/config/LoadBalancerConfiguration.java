@@ -20,11 +20,13 @@ package com.tencent.cloud.polaris.router.config;
 import java.util.List;
 
 import com.tencent.cloud.polaris.context.PolarisSDKContextManager;
+import com.tencent.cloud.polaris.router.PolarisRouterResultCache;
 import com.tencent.cloud.polaris.router.PolarisRouterServiceInstanceListSupplier;
 import com.tencent.cloud.polaris.router.spi.RouterRequestInterceptor;
 import com.tencent.cloud.polaris.router.spi.RouterResponseInterceptor;
 import com.tencent.cloud.rpc.enhancement.transformer.InstanceTransformer;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.cloud.client.ConditionalOnBlockingDiscoveryEnabled;
 import org.springframework.cloud.client.ConditionalOnDiscoveryEnabled;
@@ -61,13 +63,15 @@ public class LoadBalancerConfiguration {
 		public ServiceInstanceListSupplier polarisRouterDiscoveryClientServiceInstanceListSupplier(
 				ConfigurableApplicationContext context,
 				PolarisSDKContextManager polarisSDKContextManager, List<RouterRequestInterceptor> requestInterceptors,
-				List<RouterResponseInterceptor> responseInterceptors, InstanceTransformer instanceTransformer) {
+				List<RouterResponseInterceptor> responseInterceptors, InstanceTransformer instanceTransformer,
+				ObjectProvider<PolarisRouterResultCache> routerResultCacheProvider) {
 			return new PolarisRouterServiceInstanceListSupplier(
 					ServiceInstanceListSupplier.builder().withDiscoveryClient().build(context),
 					polarisSDKContextManager.getRouterAPI(),
 					requestInterceptors,
 					responseInterceptors,
-					instanceTransformer);
+					instanceTransformer,
+					routerResultCacheProvider.getIfAvailable());
 		}
 
 	}
@@ -82,13 +86,15 @@ public class LoadBalancerConfiguration {
 		public ServiceInstanceListSupplier polarisRouterDiscoveryClientServiceInstanceListSupplier(
 				ConfigurableApplicationContext context,
 				PolarisSDKContextManager polarisSDKContextManager, List<RouterRequestInterceptor> requestInterceptors,
-				List<RouterResponseInterceptor> responseInterceptors, InstanceTransformer instanceTransformer) {
+				List<RouterResponseInterceptor> responseInterceptors, InstanceTransformer instanceTransformer,
+				ObjectProvider<PolarisRouterResultCache> routerResultCacheProvider) {
 			return new PolarisRouterServiceInstanceListSupplier(
 					ServiceInstanceListSupplier.builder().withBlockingDiscoveryClient().build(context),
 					polarisSDKContextManager.getRouterAPI(),
 					requestInterceptors,
 					responseInterceptors,
-					instanceTransformer);
+					instanceTransformer,
+					routerResultCacheProvider.getIfAvailable());
 		}
 	}
 }
@@ -21,9 +21,15 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import com.tencent.cloud.polaris.context.PolarisSDKContextManager;
+import com.tencent.cloud.polaris.context.ServiceRuleManager;
+import com.tencent.cloud.polaris.router.PolarisRouterResultCache;
+import com.tencent.cloud.polaris.router.PolarisRouterResultCacheEvictPlugin;
+import com.tencent.cloud.polaris.router.PolarisRouterResultCacheMeterBinder;
 import com.tencent.cloud.polaris.router.config.properties.PolarisMetadataRouterProperties;
 import com.tencent.cloud.polaris.router.config.properties.PolarisNamespaceRouterProperties;
 import com.tencent.cloud.polaris.router.config.properties.PolarisNearByRouterProperties;
+import com.tencent.cloud.polaris.router.config.properties.PolarisRouterResultCacheProperties;
 import com.tencent.cloud.polaris.router.config.properties.PolarisRuleBasedRouterProperties;
 import com.tencent.cloud.polaris.router.instrument.resttemplate.RouterLabelRestTemplateInterceptor;
 import com.tencent.cloud.polaris.router.instrument.scg.RouterLabelGlobalFilter;
@@ -36,6 +42,7 @@ import com.tencent.cloud.rpc.enhancement.instrument.resttemplate.EnhancedRestTem
 import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 import org.springframework.context.annotation.Bean;
@@ -77,6 +84,43 @@ public class RouterAutoConfiguration {
 		return new NamespaceRouterRequestInterceptor(polarisNamespaceRouterProperties);
 	}
 
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(value = "spring.cloud.polaris.router.result-cache.enabled", havingValue = "true")
+	public PolarisRouterResultCache polarisRouterResultCache(ServiceRuleManager serviceRuleManager,
+			PolarisSDKContextManager polarisSDKContextManager,
+			PolarisRouterResultCacheProperties polarisRouterResultCacheProperties) {
+		PolarisRouterResultCache routerResultCache = new PolarisRouterResultCache(serviceRuleManager,
+				polarisRouterResultCacheProperties.getMaxSize(), polarisRouterResultCacheProperties.getTtl());
+		// invalidate cached results when routing rules or instances change.
+		polarisSDKContextManager.getSDKContext().getExtensions().getLocalRegistry()
+				.registerResourceListener(routerResultCache);
+		return routerResultCache;
+	}
+
+	@Bean
+	@ConditionalOnProperty(value = "spring.cloud.polaris.router.result-cache.enabled", havingValue = "true")
+	public PolarisRouterResultCacheEvictPlugin polarisRouterResultCacheEvictPlugin(
+			PolarisRouterResultCache polarisRouterResultCache) {
+		return new PolarisRouterResultCacheEvictPlugin(polarisRouterResultCache);
+	}
+
+	/**
+	 * Create when micrometer is present.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+	@ConditionalOnProperty(value = "spring.cloud.polaris.router.result-cache.enabled", havingValue = "true")
+	protected static class RouterResultCacheMeterBinderConfig {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public PolarisRouterResultCacheMeterBinder polarisRouterResultCacheMeterBinder(
+				PolarisRouterResultCache polarisRouterResultCache) {
+			return new PolarisRouterResultCacheMeterBinder(polarisRouterResultCache);
+		}
+	}
+
 	/**
 	 * Create when gateway application is SCG.
 	 */
@@ -21,6 +21,7 @@ import com.tencent.cloud.polaris.router.RouterConfigModifier;
 import com.tencent.cloud.polaris.router.config.properties.PolarisMetadataRouterProperties;
 import com.tencent.cloud.polaris.router.config.properties.PolarisNamespaceRouterProperties;
 import com.tencent.cloud.polaris.router.config.properties.PolarisNearByRouterProperties;
+import com.tencent.cloud.polaris.router.config.properties.PolarisRouterResultCacheProperties;
 import com.tencent.cloud.polaris.router.config.properties.PolarisRuleBasedRouterProperties;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -36,7 +37,7 @@ import org.springframework.context.annotation.Import;
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnPolarisRouterEnabled
 @Import({PolarisNearByRouterProperties.class, PolarisMetadataRouterProperties.class, PolarisRuleBasedRouterProperties.class,
-		PolarisNamespaceRouterProperties.class})
+		PolarisNamespaceRouterProperties.class, PolarisRouterResultCacheProperties.class})
 public class RouterConfigModifierAutoConfiguration {
 
 	@Bean
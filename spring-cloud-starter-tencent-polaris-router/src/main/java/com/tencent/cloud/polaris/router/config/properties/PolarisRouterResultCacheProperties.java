@@ -0,0 +1,71 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.router.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * the configuration for router result cache.
+ *
+ * @author agent 2026-10-17
+ */
+@ConfigurationProperties(prefix = "spring.cloud.polaris.router.result-cache")
+public class PolarisRouterResultCacheProperties {
+
+	private boolean enabled = false;
+
+	private int maxSize = 1024;
+
+	/**
+	 * Expire time in milliseconds of cached router results.
+	 */
+	private long ttl = 1000;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public void setMaxSize(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	public long getTtl() {
+		return ttl;
+	}
+
+	public void setTtl(long ttl) {
+		this.ttl = ttl;
+	}
+
+	@Override
+	public String toString() {
+		return "PolarisRouterResultCacheProperties{" +
+				"enabled=" + enabled +
+				", maxSize=" + maxSize +
+				", ttl=" + ttl +
+				'}';
+	}
+}
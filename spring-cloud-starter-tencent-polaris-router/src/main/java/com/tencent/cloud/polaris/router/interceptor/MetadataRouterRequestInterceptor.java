@@ -17,6 +17,7 @@
 
 package com.tencent.cloud.polaris.router.interceptor;
 
+import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.common.metadata.MetadataContextHolder;
 import com.tencent.cloud.polaris.router.PolarisRouterContext;
 import com.tencent.cloud.polaris.router.config.properties.PolarisMetadataRouterProperties;
@@ -47,9 +48,9 @@ public class MetadataRouterRequestInterceptor implements RouterRequestIntercepto
 		}
 
 		// set metadata router label keys
-		MetadataContainer metadataContainer = MetadataContextHolder.get()
-				.getMetadataContainer(MetadataType.CUSTOM, false);
-		String metadataRouteKeys = metadataContainer.getRawMetadataStringValue(LABEL_KEY_METADATA_ROUTER_KEYS);
+		MetadataContext metadataContext = MetadataContextHolder.get();
+		MetadataContainer metadataContainer = metadataContext.getOverlayMetadataContainer(MetadataType.CUSTOM, false);
+		String metadataRouteKeys = metadataContext.getRawCustomMetadataStringValue(LABEL_KEY_METADATA_ROUTER_KEYS);
 		metadataContainer.putMetadataMapValue(MetadataRouter.ROUTER_TYPE_METADATA, MetadataRouter.KEY_METADATA_KEYS, metadataRouteKeys, TransitiveType.NONE);
 	}
 }
@@ -44,7 +44,7 @@ public class NamespaceRouterRequestInterceptor implements RouterRequestIntercept
 	public void apply(ProcessRoutersRequest request, PolarisRouterContext routerContext) {
 		// set namespace router enable
 		MetadataContainer metadataContainer = MetadataContextHolder.get()
-				.getMetadataContainer(MetadataType.CUSTOM, false);
+				.getOverlayMetadataContainer(MetadataType.CUSTOM, false);
 		metadataContainer.putMetadataMapValue(NamespaceRouter.ROUTER_TYPE_NAMESPACE, NamespaceRouter.ROUTER_ENABLED,
 				String.valueOf(polarisNamespaceRouterProperties.isEnabled()), TransitiveType.NONE);
 
@@ -44,7 +44,7 @@ public class NearbyRouterRequestInterceptor implements RouterRequestInterceptor
 		// set nearby router enable
 		boolean nearbyRouterEnabled = polarisNearByRouterProperties.isEnabled();
 		MetadataContainer metadataContainer = MetadataContextHolder.get()
-				.getMetadataContainer(MetadataType.CUSTOM, false);
+				.getOverlayMetadataContainer(MetadataType.CUSTOM, false);
 		metadataContainer.putMetadataMapValue(NearbyRouter.ROUTER_TYPE_NEAR_BY, NearbyRouter.ROUTER_ENABLED, String.valueOf(nearbyRouterEnabled), TransitiveType.NONE);
 	}
 }
@@ -44,7 +44,7 @@ public class RuleBasedRouterRequestInterceptor implements RouterRequestIntercept
 		// set rule based router enable
 		boolean ruleBasedRouterEnabled = polarisRuleBasedRouterProperties.isEnabled();
 		MetadataContainer metadataContainer = MetadataContextHolder.get()
-				.getMetadataContainer(MetadataType.CUSTOM, false);
+				.getOverlayMetadataContainer(MetadataType.CUSTOM, false);
 		metadataContainer.putMetadataMapValue(RuleBasedRouter.ROUTER_TYPE_RULE_BASED, RuleBasedRouter.ROUTER_ENABLED, String.valueOf(ruleBasedRouterEnabled), TransitiveType.NONE);
 		// set rule based router fail over type.
 		request.setRuleBasedRouterFailoverType(polarisRuleBasedRouterProperties.getFailOver());
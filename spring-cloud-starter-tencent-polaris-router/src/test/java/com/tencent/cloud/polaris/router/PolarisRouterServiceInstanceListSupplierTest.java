@@ -29,7 +29,9 @@ import com.tencent.cloud.common.constant.RouterConstant;
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.common.metadata.MetadataContextHolder;
 import com.tencent.cloud.common.pojo.PolarisServiceInstance;
+import com.tencent.cloud.common.pojo.RevisionedServiceInstanceList;
 import com.tencent.cloud.common.util.ApplicationContextAwareUtils;
+import com.tencent.cloud.polaris.context.ServiceRuleManager;
 import com.tencent.cloud.polaris.router.config.properties.PolarisMetadataRouterProperties;
 import com.tencent.cloud.polaris.router.config.properties.PolarisNearByRouterProperties;
 import com.tencent.cloud.polaris.router.config.properties.PolarisRuleBasedRouterProperties;
@@ -38,11 +40,13 @@ import com.tencent.cloud.polaris.router.interceptor.NearbyRouterRequestIntercept
 import com.tencent.cloud.polaris.router.interceptor.RuleBasedRouterRequestInterceptor;
 import com.tencent.cloud.polaris.router.spi.RouterRequestInterceptor;
 import com.tencent.cloud.polaris.router.spi.RouterResponseInterceptor;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
 import com.tencent.cloud.rpc.enhancement.transformer.PolarisInstanceTransformer;
 import com.tencent.polaris.api.exception.PolarisException;
 import com.tencent.polaris.api.pojo.DefaultInstance;
 import com.tencent.polaris.api.pojo.DefaultServiceInstances;
 import com.tencent.polaris.api.pojo.Instance;
+import com.tencent.polaris.api.pojo.ServiceEventKey;
 import com.tencent.polaris.api.pojo.ServiceInstances;
 import com.tencent.polaris.api.pojo.ServiceKey;
 import com.tencent.polaris.metadata.core.MetadataContainer;
@@ -54,6 +58,7 @@ import com.tencent.polaris.plugins.router.rule.RuleBasedRouter;
 import com.tencent.polaris.router.api.core.RouterAPI;
 import com.tencent.polaris.router.api.rpc.ProcessRoutersRequest;
 import com.tencent.polaris.router.api.rpc.ProcessRoutersResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -75,6 +80,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -100,6 +108,8 @@ public class PolarisRouterServiceInstanceListSupplierTest {
 	private PolarisRuleBasedRouterProperties polarisRuleBasedRouterProperties;
 	@Mock
 	private RouterAPI routerAPI;
+	@Mock
+	private ServiceRuleManager serviceRuleManager;
 
 	@BeforeEach
 	void setUp() {
@@ -211,6 +221,97 @@ public class PolarisRouterServiceInstanceListSupplierTest {
 		}
 	}
 
+	@Test
+	public void testRouterWithCache() {
+		try (MockedStatic<ApplicationContextAwareUtils> mockedApplicationContextAwareUtils = Mockito.mockStatic(ApplicationContextAwareUtils.class)) {
+			mockedApplicationContextAwareUtils.when(() -> ApplicationContextAwareUtils.getProperties(anyString()))
+					.thenReturn(testCallerService);
+			MetadataContextHolder.set(new MetadataContext());
+
+			PolarisRouterResultCache routerResultCache = new PolarisRouterResultCache(serviceRuleManager, 16);
+			PolarisRouterServiceInstanceListSupplier polarisSupplier = new PolarisRouterServiceInstanceListSupplier(
+					delegate, routerAPI, requestInterceptors, null, new PolarisInstanceTransformer(), routerResultCache);
+
+			ProcessRoutersResponse assembleResponse = assembleProcessRoutersResponse();
+			when(routerAPI.processRouters(any())).thenReturn(assembleResponse);
+
+			List<ServiceInstance> servers = new ArrayList<>();
+			for (int i = 0; i < 3; i++) {
+				DefaultInstance instance = new DefaultInstance();
+				instance.setId("id-" + i);
+				instance.setService(testCalleeService);
+				instance.setHost("127.0.0." + i);
+				instance.setPort(8080);
+				servers.add(new PolarisServiceInstance(instance, null, "revision-1"));
+			}
+
+			List<ServiceInstance> first = polarisSupplier.doRouter(Flux.just(servers), assembleRouterContext()).blockFirst();
+			List<ServiceInstance> second = polarisSupplier.doRouter(Flux.just(servers), assembleRouterContext()).blockFirst();
+
+			assertThat(first).hasSize(assembleResponse.getServiceInstances().getInstances().size());
+			assertThat(second).hasSize(assembleResponse.getServiceInstances().getInstances().size());
+			// hits share cached list with revision.
+			assertThat(second).isSameAs(first);
+			assertThat(RevisionedServiceInstanceList.revisionOf(second))
+					.isNotEqualTo(RevisionedServiceInstanceList.UNKNOWN_REVISION);
+			verify(routerAPI, times(1)).processRouters(any());
+			assertThat(routerResultCache.getHitCount()).isEqualTo(1);
+			assertThat(routerResultCache.getMissCount()).isEqualTo(1);
+
+			// router labels change
+			PolarisRouterContext routerContext = assembleRouterContext();
+			routerContext.putLabels(RouterConstant.ROUTER_LABELS, Collections.singletonMap("k2", "v4"));
+			polarisSupplier.doRouter(Flux.just(servers), routerContext);
+			verify(routerAPI, times(2)).processRouters(any());
+
+			// instances change
+			servers.remove(0);
+			polarisSupplier.doRouter(Flux.just(servers), assembleRouterContext());
+			verify(routerAPI, times(3)).processRouters(any());
+
+			// instance health changes, so sdk assigns a new revision
+			DefaultInstance instance = (DefaultInstance) ((PolarisServiceInstance) servers.get(0)).getPolarisInstance();
+			instance.setHealthy(!instance.isHealthy());
+			servers.replaceAll(server -> new PolarisServiceInstance(
+					((PolarisServiceInstance) server).getPolarisInstance(), null, "revision-2"));
+			polarisSupplier.doRouter(Flux.just(servers), assembleRouterContext());
+			verify(routerAPI, times(4)).processRouters(any());
+
+			// router rules are loaded once until routing rules change
+			verify(serviceRuleManager, times(1)).getServiceRule(any(), eq(testCalleeService), any());
+			routerResultCache.onResourceUpdated(new ServiceEventKey(new ServiceKey(MetadataContext.LOCAL_NAMESPACE,
+					testCalleeService), ServiceEventKey.EventType.ROUTING), null, null);
+			polarisSupplier.doRouter(Flux.just(servers), assembleRouterContext());
+			verify(routerAPI, times(5)).processRouters(any());
+			verify(serviceRuleManager, times(2)).getServiceRule(any(), eq(testCalleeService), any());
+
+			// call fails
+			new PolarisRouterResultCacheEvictPlugin(routerResultCache).run(failedCallContext(servers.get(0)));
+			polarisSupplier.doRouter(Flux.just(servers), assembleRouterContext());
+			verify(routerAPI, times(6)).processRouters(any());
+
+			// instances without revision are not cached
+			List<ServiceInstance> unknownRevisionServers = new ArrayList<>();
+			unknownRevisionServers.add(new PolarisServiceInstance(instance));
+			polarisSupplier.doRouter(Flux.just(unknownRevisionServers), assembleRouterContext());
+			polarisSupplier.doRouter(Flux.just(unknownRevisionServers), assembleRouterContext());
+			verify(routerAPI, times(8)).processRouters(any());
+			assertThat(routerResultCache.getHitCount()).isEqualTo(1);
+
+			SimpleMeterRegistry registry = new SimpleMeterRegistry();
+			new PolarisRouterResultCacheMeterBinder(routerResultCache).bindTo(registry);
+			assertThat(registry.get(PolarisRouterResultCacheMeterBinder.CACHE_REQUESTS).tag("result", "hit")
+					.functionCounter().count()).isEqualTo(1);
+		}
+	}
+
+	private EnhancedPluginContext failedCallContext(ServiceInstance serviceInstance) {
+		EnhancedPluginContext context = new EnhancedPluginContext();
+		context.setTargetServiceInstance(serviceInstance, null);
+		context.setThrowable(new RuntimeException("mock failure"));
+		return context;
+	}
+
 	@Test
 	public void buildRouterContext() {
 		PolarisRouterServiceInstanceListSupplier polarisSupplier = new PolarisRouterServiceInstanceListSupplier(
@@ -0,0 +1,101 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.tencent.cloud.common.metadata.StaticMetadataManager;
+import com.tencent.cloud.common.metadata.config.MetadataLocalProperties;
+import com.tencent.cloud.common.pojo.PolarisServiceInstance;
+import com.tencent.cloud.common.util.ApplicationContextAwareUtils;
+import com.tencent.polaris.api.pojo.Instance;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.context.support.StaticApplicationContext;
+
+/**
+ * Process wide environment of benchmarks, replacing the Spring application context of a real application.
+ *
+ * @author agent 2026-10-17
+ */
+final class BenchmarkEnvironment {
+
+	static final String NAMESPACE = "default";
+
+	static final String LOCAL_SERVICE = "benchmark-caller";
+
+	static final String CALLEE_SERVICE = "benchmark-callee";
+
+	private static boolean initialized;
+
+	private BenchmarkEnvironment() {
+	}
+
+	/**
+	 * Initialize local service properties and static metadata. Must be called before first access of
+	 * {@link com.tencent.cloud.common.metadata.MetadataContext}.
+	 */
+	static synchronized void init() {
+		if (initialized) {
+			return;
+		}
+		System.setProperty("spring.cloud.polaris.namespace", NAMESPACE);
+		System.setProperty("spring.cloud.polaris.service", LOCAL_SERVICE);
+
+		Map<String, String> content = new HashMap<>();
+		content.put("version", "v1");
+		content.put("env", "benchmark");
+		content.put("lane", "blue");
+		content.put("owner", "sct");
+		MetadataLocalProperties metadataLocalProperties = new MetadataLocalProperties();
+		metadataLocalProperties.setContent(content);
+		metadataLocalProperties.setTransitive(Arrays.asList("version", "lane"));
+		metadataLocalProperties.setDisposable(Collections.singletonList("env"));
+		metadataLocalProperties.setHeaders(Collections.singletonList("x-benchmark-header"));
+		StaticMetadataManager staticMetadataManager = new StaticMetadataManager(metadataLocalProperties,
+				Collections.emptyList());
+
+		StaticApplicationContext applicationContext = new StaticApplicationContext();
+		applicationContext.getBeanFactory().registerSingleton("staticMetadataManager", staticMetadataManager);
+		applicationContext.refresh();
+		new ApplicationContextAwareUtils().setApplicationContext(applicationContext);
+		initialized = true;
+	}
+
+	/**
+	 * Build instances of callee service with the same weight.
+	 *
+	 * @param count count of instances
+	 * @return instances
+	 */
+	static List<ServiceInstance> calleeInstances(int count) {
+		List<ServiceInstance> instances = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Instance instance = Instance.createDefaultInstance("instance-" + i, NAMESPACE, CALLEE_SERVICE,
+					"10.0." + (i / 250) + "." + (i % 250 + 1), 8080);
+			// revision of service instances, as polaris discovery sets it.
+			instances.add(new PolarisServiceInstance(instance, null, "revision-" + count));
+		}
+		return instances;
+	}
+}
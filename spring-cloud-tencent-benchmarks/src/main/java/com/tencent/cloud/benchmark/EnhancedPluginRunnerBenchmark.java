@@ -0,0 +1,132 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.rpc.enhancement.plugin.DefaultEnhancedPluginRunner;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPlugin;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginRunner;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.serviceregistry.Registration;
+
+/**
+ * Benchmark of running enhanced plugins of a client request.
+ *
+ * @author agent 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EnhancedPluginRunnerBenchmark {
+
+	private static final EnhancedPluginType[] CLIENT_TYPES = {
+			EnhancedPluginType.Client.PRE,
+			EnhancedPluginType.Client.POST,
+			EnhancedPluginType.Client.EXCEPTION,
+			EnhancedPluginType.Client.FINALLY
+	};
+
+	/**
+	 * Count of plugins of each client plugin type.
+	 */
+	@Param({"1", "4"})
+	public int pluginsPerType;
+
+	private EnhancedPluginRunner pluginRunner;
+
+	private EnhancedPluginContext context;
+
+	@Setup
+	public void setup() {
+		List<EnhancedPlugin> plugins = new ArrayList<>();
+		for (EnhancedPluginType type : CLIENT_TYPES) {
+			for (int i = 0; i < pluginsPerType; i++) {
+				plugins.add(new CountingPlugin(type, i));
+			}
+		}
+		DefaultServiceInstance localServiceInstance = new LocalRegistration();
+		localServiceInstance.setServiceId(BenchmarkEnvironment.LOCAL_SERVICE);
+		localServiceInstance.setHost("10.0.0.1");
+		localServiceInstance.setPort(8080);
+		pluginRunner = new DefaultEnhancedPluginRunner(plugins, (Registration) localServiceInstance, null);
+		context = new EnhancedPluginContext();
+		context.setLocalServiceInstance(pluginRunner.getLocalServiceInstance());
+	}
+
+	/**
+	 * Run plugins of a successful client request.
+	 */
+	@Benchmark
+	public long run() {
+		pluginRunner.run(EnhancedPluginType.Client.PRE, context);
+		pluginRunner.run(EnhancedPluginType.Client.POST, context);
+		pluginRunner.run(EnhancedPluginType.Client.FINALLY, context);
+		return context.getDelay();
+	}
+
+	private static final class CountingPlugin implements EnhancedPlugin {
+
+		private final EnhancedPluginType type;
+
+		private final int order;
+
+		private CountingPlugin(EnhancedPluginType type, int order) {
+			this.type = type;
+			this.order = order;
+		}
+
+		@Override
+		public EnhancedPluginType getType() {
+			return type;
+		}
+
+		@Override
+		public void run(EnhancedPluginContext context) {
+			context.setDelay(context.getDelay() + 1);
+		}
+
+		@Override
+		public int getOrder() {
+			return order;
+		}
+	}
+
+	private static final class LocalRegistration extends DefaultServiceInstance implements Registration {
+
+	}
+}
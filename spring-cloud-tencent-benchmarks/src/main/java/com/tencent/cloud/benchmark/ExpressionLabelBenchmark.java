@@ -0,0 +1,98 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark;
+
+import java.net.URI;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.common.util.expresstion.ExpressionLabelUtils;
+import com.tencent.cloud.common.util.expresstion.SpringWebExpressionLabelUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+/**
+ * Benchmark of resolving expression labels from request.
+ *
+ * @author agent 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExpressionLabelBenchmark {
+
+	private static final String QUERY_STRING = "a=1&b=2&uid=10086&lang=zh&region=gz";
+
+	private Set<String> labelKeys;
+
+	private MockClientHttpRequest clientRequest;
+
+	private MockServerWebExchange exchange;
+
+	@Setup
+	public void setup() {
+		labelKeys = new LinkedHashSet<>();
+		labelKeys.add("$header.user-agent");
+		labelKeys.add("$header.x-lane");
+		labelKeys.add("$query.uid");
+		labelKeys.add("$method");
+		labelKeys.add("$path");
+		labelKeys.add("static-label");
+
+		clientRequest = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://callee/users/10086?" + QUERY_STRING));
+		clientRequest.getHeaders().add("user-agent", "benchmark");
+		clientRequest.getHeaders().add("x-lane", "blue");
+
+		exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/users/10086?" + QUERY_STRING)
+				.header("user-agent", "benchmark")
+				.header("x-lane", "blue"));
+	}
+
+	@Benchmark
+	public Map<String, String> resolveHttpRequest() {
+		return SpringWebExpressionLabelUtils.resolve(clientRequest, labelKeys);
+	}
+
+	@Benchmark
+	public Map<String, String> resolveServerWebExchange() {
+		return SpringWebExpressionLabelUtils.resolve(exchange, labelKeys);
+	}
+
+	@Benchmark
+	public String getQueryValue() {
+		return ExpressionLabelUtils.getQueryValue(QUERY_STRING, "region");
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.tencent.cloud.polaris.context.ServiceRuleManager;
+import com.tencent.polaris.api.config.consumer.LoadBalanceConfig;
+import com.tencent.polaris.api.plugin.ratelimiter.QuotaResult;
+import com.tencent.polaris.api.pojo.Instance;
+import com.tencent.polaris.api.pojo.ServiceEventKey;
+import com.tencent.polaris.api.pojo.ServiceRule;
+import com.tencent.polaris.ratelimit.api.core.LimitAPI;
+import com.tencent.polaris.ratelimit.api.rpc.QuotaRequest;
+import com.tencent.polaris.ratelimit.api.rpc.QuotaResponse;
+import com.tencent.polaris.router.api.core.RouterAPI;
+import com.tencent.polaris.router.api.rpc.ProcessLoadBalanceRequest;
+import com.tencent.polaris.router.api.rpc.ProcessLoadBalanceResponse;
+import com.tencent.polaris.router.api.rpc.ProcessRoutersRequest;
+import com.tencent.polaris.router.api.rpc.ProcessRoutersResponse;
+
+/**
+ * In-memory stand-ins of Polaris SDK APIs, so that benchmarks run offline and measure the cost of
+ * Spring Cloud Tencent rather than the cost of Polaris server.
+ * <p>
+ * The stand-ins are JDK dynamic proxies, which only answer the methods used on request hot paths and throw
+ * {@link UnsupportedOperationException} for others.
+ *
+ * @author agent 2026-10-17
+ */
+final class InMemoryPolarisApis {
+
+	private static final Object UNSUPPORTED = new Object();
+
+	private InMemoryPolarisApis() {
+	}
+
+	/**
+	 * Router API which keeps all instances in router chain, and chooses instance with simple weighted random,
+	 * round robin or hash strategy according to load balance policy.
+	 *
+	 * @return router API
+	 */
+	static RouterAPI routerAPI() {
+		AtomicInteger roundRobinIndex = new AtomicInteger();
+		return proxy(RouterAPI.class, (method, args) -> {
+			switch (method.getName()) {
+			case "processRouters":
+				return new ProcessRoutersResponse(((ProcessRoutersRequest) args[0]).getDstInstances());
+			case "processLoadBalance":
+				return new ProcessLoadBalanceResponse(choose((ProcessLoadBalanceRequest) args[0], roundRobinIndex));
+			default:
+				return UNSUPPORTED;
+			}
+		});
+	}
+
+	/**
+	 * Limit API which always passes.
+	 *
+	 * @return limit API
+	 */
+	static LimitAPI limitAPI() {
+		QuotaResponse passed = new QuotaResponse(new QuotaResult(QuotaResult.Code.QuotaResultOk, 0, "QuotaResultOk"));
+		return proxy(LimitAPI.class, (method, args) -> {
+			if ("getQuota".equals(method.getName()) && args != null && args[0] instanceof QuotaRequest) {
+				return passed;
+			}
+			return UNSUPPORTED;
+		});
+	}
+
+	/**
+	 * Service rule manager without any rule.
+	 *
+	 * @return service rule manager
+	 */
+	static ServiceRuleManager emptyServiceRuleManager() {
+		return new ServiceRuleManager(null, null) {
+			@Override
+			public ServiceRule getServiceRule(String namespace, String service, ServiceEventKey.EventType eventType) {
+				return null;
+			}
+		};
+	}
+
+	private static Instance choose(ProcessLoadBalanceRequest request, AtomicInteger roundRobinIndex) {
+		List<Instance> instances = request.getDstInstances().getInstances();
+		String lbPolicy = request.getLbPolicy();
+		if (LoadBalanceConfig.LOAD_BALANCE_RING_HASH.equals(lbPolicy)) {
+			String hashKey = request.getCriteria() == null ? "" : request.getCriteria().getHashKey();
+			return instances.get(Math.floorMod(String.valueOf(hashKey).hashCode(), instances.size()));
+		}
+		if (LoadBalanceConfig.LOAD_BALANCE_WEIGHTED_ROUND_ROBIN.equals(lbPolicy)) {
+			return instances.get(Math.floorMod(roundRobinIndex.getAndIncrement(), instances.size()));
+		}
+		int totalWeight = 0;
+		for (Instance instance : instances) {
+			totalWeight += instance.getWeight();
+		}
+		if (totalWeight <= 0) {
+			return instances.get(ThreadLocalRandom.current().nextInt(instances.size()));
+		}
+		int random = ThreadLocalRandom.current().nextInt(totalWeight);
+		for (Instance instance : instances) {
+			random -= instance.getWeight();
+			if (random < 0) {
+				return instance;
+			}
+		}
+		return instances.get(instances.size() - 1);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> apiClass, Answer answer) {
+		InvocationHandler handler = (proxy, method, args) -> {
+			if (method.getDeclaringClass() == Object.class) {
+				switch (method.getName()) {
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				default:
+					return "InMemory" + apiClass.getSimpleName();
+				}
+			}
+			Object result = answer.answer(method, args);
+			if (result == UNSUPPORTED) {
+				if ("close".equals(method.getName()) || "destroy".equals(method.getName())) {
+					return null;
+				}
+				throw new UnsupportedOperationException(method.getName() + " is not supported by in-memory "
+						+ apiClass.getSimpleName());
+			}
+			return result;
+		};
+		return (T) Proxy.newProxyInstance(InMemoryPolarisApis.class.getClassLoader(), new Class<?>[] {apiClass}, handler);
+	}
+
+	private interface Answer {
+
+		Object answer(Method method, Object[] args);
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.common.metadata.MetadataContextHolder;
+import com.tencent.cloud.polaris.loadbalancer.AbstractPolarisLoadBalancer;
+import com.tencent.cloud.polaris.loadbalancer.PolarisAliasWeightedRandomLoadBalancer;
+import com.tencent.cloud.polaris.loadbalancer.PolarisLeastLatencyLoadBalancer;
+import com.tencent.cloud.polaris.loadbalancer.PolarisLoadBalancerRingHashKeyProvider;
+import com.tencent.cloud.polaris.loadbalancer.PolarisRingHashLoadBalancer;
+import com.tencent.cloud.polaris.loadbalancer.PolarisRingHashLoadBalancerProperties;
+import com.tencent.cloud.polaris.loadbalancer.PolarisWeightedRandomLoadBalancer;
+import com.tencent.cloud.polaris.loadbalancer.PolarisWeightedRoundRobinLoadBalancer;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsFinallyPlugin;
+import com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsManager;
+import com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsPrePlugin;
+import com.tencent.polaris.router.api.core.RouterAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+/**
+ * Benchmark of choosing instance by each strategy of {@link AbstractPolarisLoadBalancer}, with in-memory router API.
+ *
+ * @author agent 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LoadBalancerBenchmark {
+
+	@Param({"weightedRandom", "aliasWeightedRandom", "weightedRoundRobin", "ringHash", "localRingHash",
+			"boundedLoadRingHash", "leastLatency"})
+	public String strategy;
+
+	@Param({"10", "100"})
+	public int instanceCount;
+
+	private AbstractPolarisLoadBalancer loadBalancer;
+
+	private Request<?> request;
+
+	@Setup
+	public void setup() {
+		BenchmarkEnvironment.init();
+		List<ServiceInstance> instances = BenchmarkEnvironment.calleeInstances(instanceCount);
+		ServiceInstanceListSupplier supplier = new ServiceInstanceListSupplier() {
+			@Override
+			public String getServiceId() {
+				return BenchmarkEnvironment.CALLEE_SERVICE;
+			}
+
+			@Override
+			public Flux<List<ServiceInstance>> get() {
+				return Flux.just(instances);
+			}
+		};
+		ObjectProvider<ServiceInstanceListSupplier> supplierObjectProvider = new StaticListableBeanFactory(
+				Collections.singletonMap("serviceInstanceListSupplier", supplier))
+				.getBeanProvider(ServiceInstanceListSupplier.class);
+		RouterAPI routerAPI = InMemoryPolarisApis.routerAPI();
+		String serviceId = BenchmarkEnvironment.CALLEE_SERVICE;
+		switch (strategy) {
+		case "aliasWeightedRandom":
+			loadBalancer = new PolarisAliasWeightedRandomLoadBalancer(serviceId, supplierObjectProvider, routerAPI);
+			break;
+		case "weightedRoundRobin":
+			loadBalancer = new PolarisWeightedRoundRobinLoadBalancer(serviceId, supplierObjectProvider, routerAPI);
+			break;
+		case "ringHash":
+			loadBalancer = new PolarisRingHashLoadBalancer(serviceId, supplierObjectProvider, routerAPI);
+			PolarisLoadBalancerRingHashKeyProvider.hashKey("user-10086");
+			break;
+		case "localRingHash":
+		case "boundedLoadRingHash":
+			PolarisRingHashLoadBalancerProperties properties = new PolarisRingHashLoadBalancerProperties();
+			properties.setLocalRing(true);
+			ServiceInstanceStatsManager statsManager = null;
+			if ("boundedLoadRingHash".equals(strategy)) {
+				properties.setLoadFactor(1.25);
+				statsManager = statsManagerOf(instances);
+			}
+			loadBalancer = new PolarisRingHashLoadBalancer(serviceId, supplierObjectProvider, routerAPI, properties,
+					statsManager);
+			PolarisLoadBalancerRingHashKeyProvider.hashKey("user-10086");
+			break;
+		case "leastLatency":
+			loadBalancer = new PolarisLeastLatencyLoadBalancer(serviceId, supplierObjectProvider, routerAPI,
+					statsManagerOf(instances));
+			break;
+		default:
+			loadBalancer = new PolarisWeightedRandomLoadBalancer(serviceId, supplierObjectProvider, routerAPI);
+			break;
+		}
+		request = new DefaultRequest<>();
+	}
+
+	/**
+	 * Stats manager with one call recorded for each instance, as after warm up.
+	 */
+	private static ServiceInstanceStatsManager statsManagerOf(List<ServiceInstance> instances) {
+		ServiceInstanceStatsManager statsManager = new ServiceInstanceStatsManager();
+		ServiceInstanceStatsPrePlugin prePlugin = new ServiceInstanceStatsPrePlugin(statsManager);
+		ServiceInstanceStatsFinallyPlugin finallyPlugin = new ServiceInstanceStatsFinallyPlugin();
+		for (int i = 0; i < instances.size(); i++) {
+			EnhancedPluginContext context = new EnhancedPluginContext();
+			context.setTargetServiceInstance(instances.get(i), null);
+			prePlugin.run(context);
+			context.setDelay(10 + i % 10);
+			finallyPlugin.run(context);
+		}
+		return statsManager;
+	}
+
+	@TearDown
+	public void tearDown() {
+		MetadataContextHolder.remove();
+	}
+
+	@Benchmark
+	public Response<ServiceInstance> choose() {
+		return loadBalancer.choose(request).block();
+	}
+}
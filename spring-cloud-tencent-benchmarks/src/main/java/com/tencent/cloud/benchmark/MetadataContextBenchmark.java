@@ -0,0 +1,101 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.common.metadata.MetadataContextHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of creating metadata context of a request.
+ *
+ * @author agent 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MetadataContextBenchmark {
+
+	private Map<String, String> dynamicTransitiveMetadata;
+
+	private Map<String, String> dynamicDisposableMetadata;
+
+	private Map<String, String> dynamicApplicationMetadata;
+
+	@Setup
+	public void setup() {
+		BenchmarkEnvironment.init();
+		dynamicTransitiveMetadata = new HashMap<>();
+		dynamicTransitiveMetadata.put("user-id", "10086");
+		dynamicTransitiveMetadata.put("lane", "green");
+		dynamicDisposableMetadata = new HashMap<>();
+		dynamicDisposableMetadata.put("trace-tag", "benchmark");
+		dynamicApplicationMetadata = new HashMap<>();
+		dynamicApplicationMetadata.put("caller-ip", "10.0.0.1");
+	}
+
+	@TearDown
+	public void tearDown() {
+		MetadataContextHolder.remove();
+	}
+
+	/**
+	 * Create an empty metadata context with static metadata.
+	 */
+	@Benchmark
+	public MetadataContext create() {
+		MetadataContextHolder.remove();
+		return MetadataContextHolder.get();
+	}
+
+	/**
+	 * Create metadata context and read transitive metadata, which is what metadata transfer does for each request.
+	 */
+	@Benchmark
+	public String createAndRead() {
+		MetadataContextHolder.remove();
+		return MetadataContextHolder.get().getTransitiveMetadata().get("version");
+	}
+
+	/**
+	 * Create metadata context with metadata of upstream, which is what inbound filters do for each request.
+	 */
+	@Benchmark
+	public MetadataContext init() {
+		MetadataContextHolder.remove();
+		MetadataContextHolder.init(dynamicTransitiveMetadata, dynamicDisposableMetadata, dynamicApplicationMetadata, null);
+		return MetadataContextHolder.get();
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.metadata.core.MetadataHeaderCodec;
+import com.tencent.polaris.metadata.core.constant.MetadataConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of encoding and decoding metadata http headers.
+ *
+ * @author agent 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MetadataHeaderCodecBenchmark {
+
+	@Param({"false", "true"})
+	public boolean compact;
+
+	@Param({"4", "16"})
+	public int customCount;
+
+	private Map<String, String> metadata;
+
+	private String headerValue;
+
+	@Setup
+	public void setup() {
+		metadata = new HashMap<>();
+		metadata.put(MetadataConstants.LOCAL_NAMESPACE, BenchmarkEnvironment.NAMESPACE);
+		metadata.put(MetadataConstants.LOCAL_SERVICE, BenchmarkEnvironment.LOCAL_SERVICE);
+		metadata.put(MetadataConstants.LOCAL_IP, "10.0.0.1");
+		for (int i = 0; i < customCount; i++) {
+			metadata.put("custom-key-" + i, "custom-value-" + i);
+		}
+		headerValue = MetadataHeaderCodec.encode(metadata, compact);
+	}
+
+	@Benchmark
+	public String encode() {
+		return MetadataHeaderCodec.encode(metadata, compact);
+	}
+
+	@Benchmark
+	public Map<String, String> decode() {
+		return MetadataHeaderCodec.decode(headerValue);
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.common.rule.Operation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of matching label values by rule operations.
+ *
+ * @author agent 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OperationBenchmark {
+
+	@Param({"EQUALS", "NOT_EQUALS", "IN", "NOT_IN", "REGEX", "BLANK"})
+	public String operation;
+
+	private List<String> expectedValues;
+
+	private String actualValue;
+
+	@Setup
+	public void setup() {
+		actualValue = "user-10086";
+		if (Operation.REGEX.getValue().equals(operation)) {
+			expectedValues = Collections.singletonList("user-[0-9]+");
+		}
+		else if (Operation.IN.getValue().equals(operation) || Operation.NOT_IN.getValue().equals(operation)) {
+			expectedValues = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				expectedValues.add("user-" + (10080 + i));
+			}
+		}
+		else {
+			expectedValues = Collections.singletonList(actualValue);
+		}
+	}
+
+	@Benchmark
+	public boolean match() {
+		return Operation.match(expectedValues, actualValue, operation);
+	}
+}
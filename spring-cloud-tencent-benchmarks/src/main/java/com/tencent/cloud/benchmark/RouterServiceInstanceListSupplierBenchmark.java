@@ -0,0 +1,128 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.common.constant.RouterConstant;
+import com.tencent.cloud.common.metadata.MetadataContextHolder;
+import com.tencent.cloud.common.util.JacksonUtils;
+import com.tencent.cloud.common.util.UrlUtils;
+import com.tencent.cloud.polaris.router.PolarisRouterResultCache;
+import com.tencent.cloud.polaris.router.PolarisRouterServiceInstanceListSupplier;
+import com.tencent.cloud.rpc.enhancement.transformer.PolarisInstanceTransformer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+/**
+ * Benchmark of routing instances of callee service, with in-memory router API that keeps all instances.
+ *
+ * @author agent 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RouterServiceInstanceListSupplierBenchmark {
+
+	@Param({"10", "100"})
+	public int instanceCount;
+
+	/**
+	 * Whether router result cache is enabled.
+	 */
+	@Param({"false", "true"})
+	public boolean resultCache;
+
+	private PolarisRouterServiceInstanceListSupplier supplier;
+
+	private Request<RequestDataContext> request;
+
+	@Setup
+	public void setup() {
+		BenchmarkEnvironment.init();
+		List<ServiceInstance> instances = BenchmarkEnvironment.calleeInstances(instanceCount);
+		ServiceInstanceListSupplier delegate = new StaticServiceInstanceListSupplier(instances);
+		PolarisRouterResultCache routerResultCache = resultCache
+				? new PolarisRouterResultCache(InMemoryPolarisApis.emptyServiceRuleManager(), 1024, 60000) : null;
+		supplier = new PolarisRouterServiceInstanceListSupplier(delegate, InMemoryPolarisApis.routerAPI(),
+				Collections.emptyList(), Collections.emptyList(), new PolarisInstanceTransformer(), routerResultCache);
+
+		Map<String, String> labels = new HashMap<>();
+		labels.put("${http.header.uid}", "10086");
+		labels.put("${http.query.lang}", "zh");
+		MockServerHttpRequest httpRequest = MockServerHttpRequest.get("/" + BenchmarkEnvironment.CALLEE_SERVICE + "/users")
+				.header(RouterConstant.ROUTER_LABEL_HEADER, UrlUtils.encode(JacksonUtils.serialize2Json(labels)))
+				.build();
+		request = new DefaultRequest<>(new RequestDataContext(new RequestData(httpRequest), "default"));
+	}
+
+	@TearDown
+	public void tearDown() {
+		MetadataContextHolder.remove();
+	}
+
+	@Benchmark
+	public List<ServiceInstance> get() {
+		return supplier.get(request).blockFirst();
+	}
+
+	private static final class StaticServiceInstanceListSupplier implements ServiceInstanceListSupplier {
+
+		private final List<ServiceInstance> instances;
+
+		private StaticServiceInstanceListSupplier(List<ServiceInstance> instances) {
+			this.instances = instances;
+		}
+
+		@Override
+		public String getServiceId() {
+			return BenchmarkEnvironment.CALLEE_SERVICE;
+		}
+
+		@Override
+		public Flux<List<ServiceInstance>> get() {
+			return Flux.just(instances);
+		}
+	}
+}
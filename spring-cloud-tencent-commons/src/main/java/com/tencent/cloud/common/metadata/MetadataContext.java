@@ -21,18 +21,18 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import com.tencent.cloud.common.constant.MetadataConstant;
 import com.tencent.cloud.common.util.ApplicationContextAwareUtils;
 import com.tencent.cloud.common.util.DiscoveryUtil;
 import com.tencent.polaris.metadata.core.MetadataContainer;
-import com.tencent.polaris.metadata.core.MetadataMapValue;
 import com.tencent.polaris.metadata.core.MetadataObjectValue;
 import com.tencent.polaris.metadata.core.MetadataStringValue;
 import com.tencent.polaris.metadata.core.MetadataType;
 import com.tencent.polaris.metadata.core.MetadataValue;
 import com.tencent.polaris.metadata.core.TransitiveType;
+import com.tencent.polaris.metadata.core.manager.MetadataContainerGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -121,59 +121,146 @@ public class MetadataContext extends com.tencent.polaris.metadata.core.manager.M
 		LOCAL_SERVICE = serviceName;
 	}
 
+	/**
+	 * Shared static metadata of local instance. Containers only hold metadata of this context until the
+	 * static layer is copied into them on direct access.
+	 */
+	private StaticMetadataLayer staticMetadataLayer;
+
+	/**
+	 * Set only after the static layer is fully copied, so that readers fall back to the layer until then.
+	 * The context may be handed over between threads in reactive pipelines.
+	 */
+	private volatile boolean customStaticMetadataMaterialized;
+
+	private volatile boolean applicationStaticMetadataMaterialized;
+
 	public MetadataContext() {
 		super(MetadataConstant.POLARIS_TRANSITIVE_HEADER_PREFIX);
 	}
 
-	private Map<String, String> getMetadataAsMap(MetadataType metadataType, TransitiveType transitiveType, boolean caller) {
-		MetadataContainer metadataContainer = getMetadataContainer(metadataType, caller);
-		Map<String, String> values = new HashMap<>();
-		metadataContainer.iterateMetadataValues(new BiConsumer<String, MetadataValue>() {
-			@Override
-			public void accept(String s, MetadataValue metadataValue) {
-				if (metadataValue instanceof MetadataStringValue) {
-					MetadataStringValue metadataStringValue = (MetadataStringValue) metadataValue;
-					if (metadataStringValue.getTransitiveType() == transitiveType) {
-						values.put(s, metadataStringValue.getStringValue());
-					}
+	void setStaticMetadataLayer(StaticMetadataLayer staticMetadataLayer) {
+		this.staticMetadataLayer = staticMetadataLayer;
+	}
+
+	@Override
+	public <T extends MetadataContainer> T getMetadataContainer(MetadataType metadataType, boolean caller) {
+		if (!caller) {
+			materializeStaticMetadata(metadataType);
+		}
+		return super.getMetadataContainer(metadataType, caller);
+	}
+
+	@Override
+	public MetadataContainerGroup getMetadataContainerGroup(boolean caller) {
+		if (!caller) {
+			materializeStaticMetadata(MetadataType.CUSTOM);
+			materializeStaticMetadata(MetadataType.APPLICATION);
+		}
+		return super.getMetadataContainerGroup(caller);
+	}
+
+	private void materializeStaticMetadata(MetadataType metadataType) {
+		if (staticMetadataLayer == null) {
+			return;
+		}
+		if (metadataType == MetadataType.CUSTOM && !customStaticMetadataMaterialized) {
+			synchronized (this) {
+				if (!customStaticMetadataMaterialized) {
+					staticMetadataLayer.materializeCustomMetadata(getOverlayMetadataContainer(MetadataType.CUSTOM, false));
+					customStaticMetadataMaterialized = true;
 				}
 			}
-		});
-		return values;
+		}
+		else if (metadataType == MetadataType.APPLICATION && !applicationStaticMetadataMaterialized) {
+			synchronized (this) {
+				if (!applicationStaticMetadataMaterialized) {
+					staticMetadataLayer.materializeApplicationMetadata(getOverlayMetadataContainer(MetadataType.APPLICATION, false));
+					applicationStaticMetadataMaterialized = true;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get container without copying static metadata into it. Use it on hot paths that only write metadata
+	 * of this context, and read through {@link #getRawCustomMetadataStringValue(String)} or
+	 * {@link #getFragmentContext(String)} which fall back to static metadata.
+	 *
+	 * @param metadataType metadata type
+	 * @param caller       whether container of caller
+	 * @return container holding metadata of this context
+	 */
+	public MetadataContainer getOverlayMetadataContainer(MetadataType metadataType, boolean caller) {
+		return super.getMetadataContainer(metadataType, caller);
+	}
+
+	/**
+	 * Get raw string value of custom metadata, falling back to static metadata without copying it.
+	 *
+	 * @param key metadata key
+	 * @return metadata value, or null if absent
+	 */
+	public String getRawCustomMetadataStringValue(String key) {
+		String value = getOverlayMetadataContainer(MetadataType.CUSTOM, false).getRawMetadataStringValue(key);
+		if (value == null && staticMetadataLayer != null && !customStaticMetadataMaterialized) {
+			value = staticMetadataLayer.getCustomMetadataValue(key);
+		}
+		return value;
+	}
+
+	private Map<String, String> getStaticMetadata(MetadataType metadataType, TransitiveType transitiveType, boolean caller) {
+		if (staticMetadataLayer == null || caller) {
+			return Collections.emptyMap();
+		}
+		if (metadataType == MetadataType.CUSTOM && !customStaticMetadataMaterialized) {
+			return staticMetadataLayer.getCustomMetadata(transitiveType);
+		}
+		if (metadataType == MetadataType.APPLICATION && transitiveType == TransitiveType.DISPOSABLE
+				&& !applicationStaticMetadataMaterialized) {
+			return staticMetadataLayer.getApplicationMetadata();
+		}
+		return Collections.emptyMap();
+	}
+
+	private Map<String, String> getMetadataAsMap(MetadataType metadataType, TransitiveType transitiveType, boolean caller) {
+		MetadataContainer metadataContainer = getOverlayMetadataContainer(metadataType, caller);
+		return new MetadataValueMapView<>(metadataContainer, null, stringValueMapper(transitiveType),
+				getStaticMetadata(metadataType, transitiveType, caller));
 	}
 
 	public void putMetadataAsMap(MetadataType metadataType, TransitiveType transitiveType, boolean caller, Map<String, String> values) {
-		MetadataContainer metadataContainer = getMetadataContainer(metadataType, caller);
+		MetadataContainer metadataContainer = getOverlayMetadataContainer(metadataType, caller);
 		for (Map.Entry<String, String> entry : values.entrySet()) {
 			metadataContainer.putMetadataStringValue(entry.getKey(), entry.getValue(), transitiveType);
 		}
 	}
 
 	private Map<String, String> getMapMetadataAsMap(MetadataType metadataType, String mapKey, TransitiveType transitiveType, boolean caller) {
-		MetadataContainer metadataContainer = getMetadataContainer(metadataType, caller);
-		Map<String, String> values = new HashMap<>();
-		MetadataValue metadataValue = metadataContainer.getMetadataValue(mapKey);
-		if (!(metadataValue instanceof MetadataMapValue)) {
-			return values;
+		MetadataContainer metadataContainer = getOverlayMetadataContainer(metadataType, caller);
+		Map<String, String> staticMetadata = Collections.emptyMap();
+		if (staticMetadataLayer != null && metadataType == MetadataType.CUSTOM && !caller
+				&& FRAGMENT_RAW_TRANSHEADERS.equals(mapKey) && !customStaticMetadataMaterialized) {
+			staticMetadata = staticMetadataLayer.getTransHeaders();
 		}
-		MetadataMapValue metadataMapValue = (MetadataMapValue) metadataValue;
-		metadataMapValue.iterateMapValues(new BiConsumer<String, MetadataValue>() {
-			@Override
-			public void accept(String s, MetadataValue metadataValue) {
-				if (metadataValue instanceof MetadataStringValue) {
-					MetadataStringValue metadataStringValue = (MetadataStringValue) metadataValue;
-					if (metadataStringValue.getTransitiveType() == transitiveType) {
-						values.put(s, metadataStringValue.getStringValue());
-					}
+		return new MetadataValueMapView<>(metadataContainer, mapKey, stringValueMapper(transitiveType), staticMetadata);
+	}
+
+	private static Function<MetadataValue, String> stringValueMapper(TransitiveType transitiveType) {
+		return metadataValue -> {
+			if (metadataValue instanceof MetadataStringValue) {
+				MetadataStringValue metadataStringValue = (MetadataStringValue) metadataValue;
+				if (metadataStringValue.getTransitiveType() == transitiveType) {
+					return metadataStringValue.getStringValue();
 				}
 			}
-		});
-		return values;
+			return null;
+		};
 	}
 
 	private void putMapMetadataAsMap(MetadataType metadataType, String mapKey,
 			TransitiveType transitiveType, boolean caller, Map<String, String> values) {
-		MetadataContainer metadataContainer = getMetadataContainer(metadataType, caller);
+		MetadataContainer metadataContainer = getOverlayMetadataContainer(metadataType, caller);
 		for (Map.Entry<String, String> entry : values.entrySet()) {
 			metadataContainer.putMetadataMapValue(mapKey, entry.getKey(), entry.getValue(), transitiveType);
 		}
@@ -199,17 +286,14 @@ public class MetadataContext extends com.tencent.polaris.metadata.core.manager.M
 		return getFragmentContext(FRAGMENT_APPLICATION);
 	}
 
+	/**
+	 * Transitive metadata without one-time metadata coming from upstream. A key of the custom container
+	 * holds exactly one transitive type, so it is the same read-only view as {@link #getTransitiveMetadata()}.
+	 *
+	 * @return read-only view of custom metadata
+	 */
 	public Map<String, String> getCustomMetadata() {
-		Map<String, String> transitiveMetadata = this.getTransitiveMetadata();
-		Map<String, String> disposableMetadata = this.getDisposableMetadata();
-		Map<String, String> customMetadata = new HashMap<>();
-		// Clean up one-time metadata coming from upstream .
-		transitiveMetadata.forEach((key, value) -> {
-			if (!disposableMetadata.containsKey(key)) {
-				customMetadata.put(key, value);
-			}
-		});
-		return Collections.unmodifiableMap(customMetadata);
+		return getTransitiveMetadata();
 	}
 
 	public Map<String, String> getTransHeaders() {
@@ -221,26 +305,18 @@ public class MetadataContext extends com.tencent.polaris.metadata.core.manager.M
 	}
 
 	public Map<String, Object> getLoadbalancerMetadata() {
-		MetadataContainer metadataContainer = getMetadataContainer(MetadataType.APPLICATION, false);
-		MetadataValue metadataValue = metadataContainer.getMetadataValue(FRAGMENT_LB_METADATA);
-		Map<String, Object> values = new HashMap<>();
-		if (metadataValue instanceof MetadataMapValue) {
-			MetadataMapValue metadataMapValue = (MetadataMapValue) metadataValue;
-			metadataMapValue.iterateMapValues(new BiConsumer<String, MetadataValue>() {
-				@Override
-				public void accept(String s, MetadataValue metadataValue) {
-					if (metadataValue instanceof MetadataObjectValue) {
-						Optional<?> objectValue = ((MetadataObjectValue<?>) metadataValue).getObjectValue();
-						objectValue.ifPresent(o -> values.put(s, o));
-					}
-				}
-			});
-		}
-		return values;
+		MetadataContainer metadataContainer = getOverlayMetadataContainer(MetadataType.APPLICATION, false);
+		return new MetadataValueMapView<>(metadataContainer, FRAGMENT_LB_METADATA, metadataValue -> {
+			if (metadataValue instanceof MetadataObjectValue) {
+				Optional<?> objectValue = ((MetadataObjectValue<?>) metadataValue).getObjectValue();
+				return objectValue.orElse(null);
+			}
+			return null;
+		});
 	}
 
 	public void setLoadbalancer(String key, Object value) {
-		MetadataContainer metadataContainer = getMetadataContainer(MetadataType.APPLICATION, false);
+		MetadataContainer metadataContainer = getOverlayMetadataContainer(MetadataType.APPLICATION, false);
 		metadataContainer.putMetadataMapObjectValue(FRAGMENT_LB_METADATA, key, value);
 	}
 
@@ -256,6 +332,12 @@ public class MetadataContext extends com.tencent.polaris.metadata.core.manager.M
 		putContext(FRAGMENT_RAW_TRANSHEADERS, key, value);
 	}
 
+	/**
+	 * Get read-only live view of fragment context. Use {@link #getFragmentContextSnapshot(String)} if a copy is needed.
+	 *
+	 * @param fragment fragment name
+	 * @return read-only view of fragment context
+	 */
 	public Map<String, String> getFragmentContext(String fragment) {
 		switch (fragment) {
 		case FRAGMENT_TRANSITIVE:
@@ -277,12 +359,20 @@ public class MetadataContext extends com.tencent.polaris.metadata.core.manager.M
 		}
 	}
 
+	/**
+	 * Get a modifiable copy of fragment context.
+	 *
+	 * @param fragment fragment name
+	 * @return copy of fragment context
+	 */
+	public Map<String, String> getFragmentContextSnapshot(String fragment) {
+		Map<String, String> values = new HashMap<>();
+		getFragmentContext(fragment).forEach(values::put);
+		return values;
+	}
+
 	public String getContext(String fragment, String key) {
-		Map<String, String> fragmentContext = getFragmentContext(fragment);
-		if (fragmentContext == null) {
-			return null;
-		}
-		return fragmentContext.get(key);
+		return getFragmentContext(fragment).get(key);
 	}
 
 	public void putContext(String fragment, String key, String value) {
@@ -32,7 +32,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.util.CollectionUtils;
-import org.springframework.util.StringUtils;
 
 import static com.tencent.cloud.common.metadata.MetadataContext.FRAGMENT_DISPOSABLE;
 import static com.tencent.cloud.common.metadata.MetadataContext.FRAGMENT_UPSTREAM_DISPOSABLE;
@@ -46,7 +45,9 @@ public final class MetadataContextHolder {
 
 	private static final Logger LOG = LoggerFactory.getLogger(MetadataContextHolder.class);
 
-	private static StaticMetadataManager staticMetadataManager;
+	private static volatile StaticMetadataManager staticMetadataManager;
+
+	private static volatile StaticMetadataLayer staticMetadataLayer;
 
 	static {
 		com.tencent.polaris.metadata.core.manager.MetadataContextHolder.setInitializer(MetadataContextHolder::createMetadataManager);
@@ -61,6 +62,18 @@ public final class MetadataContextHolder {
 
 	private static MetadataContext createMetadataManager() {
 		MetadataContext metadataManager = new MetadataContext();
+		StaticMetadataLayer layer = getStaticMetadataLayer();
+		if (layer != null) {
+			metadataManager.setStaticMetadataLayer(layer);
+		}
+		return metadataManager;
+	}
+
+	private static StaticMetadataLayer getStaticMetadataLayer() {
+		StaticMetadataLayer layer = staticMetadataLayer;
+		if (layer != null) {
+			return layer;
+		}
 		if (staticMetadataManager == null) {
 			if (ApplicationContextAwareUtils.getApplicationContext() != null) {
 				staticMetadataManager = ApplicationContextAwareUtils.getApplicationContext()
@@ -68,38 +81,12 @@ public final class MetadataContextHolder {
 			}
 			else {
 				// for junit test.
-				return metadataManager;
+				return null;
 			}
 		}
-		// local custom metadata
-		MetadataContainer metadataContainer = metadataManager.getMetadataContainer(MetadataType.CUSTOM, false);
-		Map<String, String> mergedStaticMetadata = staticMetadataManager.getMergedStaticMetadata();
-		for (Map.Entry<String, String> entry : mergedStaticMetadata.entrySet()) {
-			metadataContainer.putMetadataStringValue(entry.getKey(), entry.getValue(), TransitiveType.NONE);
-		}
-		// local custom transitive metadata
-		Map<String, String> mergedStaticTransitiveMetadata = staticMetadataManager.getMergedStaticTransitiveMetadata();
-		for (Map.Entry<String, String> entry : mergedStaticTransitiveMetadata.entrySet()) {
-			metadataContainer.putMetadataStringValue(entry.getKey(), entry.getValue(), TransitiveType.PASS_THROUGH);
-		}
-		// local custom disposable metadata
-		Map<String, String> mergedStaticDisposableMetadata = staticMetadataManager.getMergedStaticDisposableMetadata();
-		for (Map.Entry<String, String> entry : mergedStaticDisposableMetadata.entrySet()) {
-			metadataContainer.putMetadataStringValue(entry.getKey(), entry.getValue(), TransitiveType.DISPOSABLE);
-		}
-		// local trans header
-		if (StringUtils.hasText(staticMetadataManager.getTransHeader())) {
-			String transHeader = staticMetadataManager.getTransHeader();
-			metadataContainer.putMetadataMapValue(MetadataContext.FRAGMENT_RAW_TRANSHEADERS, transHeader, "", TransitiveType.NONE);
-		}
-
-		// local application disposable metadata
-		MetadataContainer applicationMetadataContainer = metadataManager.getMetadataContainer(MetadataType.APPLICATION, false);
-		Map<String, String> mergedApplicationMetadata = staticMetadataManager.getMergedStaticMetadata();
-		for (Map.Entry<String, String> entry : mergedApplicationMetadata.entrySet()) {
-			applicationMetadataContainer.putMetadataStringValue(entry.getKey(), entry.getValue(), TransitiveType.DISPOSABLE);
-		}
-		return metadataManager;
+		layer = new StaticMetadataLayer(staticMetadataManager);
+		staticMetadataLayer = layer;
+		return layer;
 	}
 
 	/**
@@ -129,10 +116,10 @@ public final class MetadataContextHolder {
 		Map<String, String> disposables = new HashMap<>();
 		MetadataContext context = get();
 		if (upstream) {
-			disposables.putAll(context.getFragmentContext(FRAGMENT_UPSTREAM_DISPOSABLE));
+			context.getFragmentContext(FRAGMENT_UPSTREAM_DISPOSABLE).forEach(disposables::put);
 		}
 		else {
-			disposables.putAll(context.getFragmentContext(FRAGMENT_DISPOSABLE));
+			context.getFragmentContext(FRAGMENT_DISPOSABLE).forEach(disposables::put);
 		}
 		return Collections.unmodifiableMap(disposables);
 	}
@@ -158,7 +145,9 @@ public final class MetadataContextHolder {
 			Map<String, String> dynamicApplicationMetadata, MetadataProvider callerMetadataProvider) {
 		com.tencent.polaris.metadata.core.manager.MetadataContextHolder.refresh(metadataManager -> {
 			// caller transitive metadata to local custom transitive metadata
-			MetadataContainer calleeCustomMetadataContainer = metadataManager.getMetadataContainer(MetadataType.CUSTOM, false);
+			MetadataContainer calleeCustomMetadataContainer = metadataManager instanceof MetadataContext
+					? ((MetadataContext) metadataManager).getOverlayMetadataContainer(MetadataType.CUSTOM, false)
+					: metadataManager.getMetadataContainer(MetadataType.CUSTOM, false);
 			if (!CollectionUtils.isEmpty(dynamicTransitiveMetadata)) {
 				for (Map.Entry<String, String> entry : dynamicTransitiveMetadata.entrySet()) {
 					calleeCustomMetadataContainer.putMetadataStringValue(entry.getKey(), entry.getValue(), TransitiveType.PASS_THROUGH);
@@ -0,0 +1,226 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.metadata;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.tencent.polaris.metadata.core.MetadataContainer;
+import com.tencent.polaris.metadata.core.MetadataMapValue;
+import com.tencent.polaris.metadata.core.MetadataValue;
+
+/**
+ * Read-only live view over values of a {@link MetadataContainer}, or over values of a map value in it.
+ * Base values, such as static metadata shared by all contexts, are visible unless the key is in the container.
+ * <p>
+ * {@link #get(Object)} and {@link #containsKey(Object)} look up the container directly,
+ * {@link #forEach(BiConsumer)} iterates the container without copying and {@link #isEmpty()} stops at the first
+ * visible value. Only iterators of {@link #entrySet()} and {@link #snapshot()} materialize a copy.
+ *
+ * @param <V> type of view values
+ * @author agent 2026-10-17
+ */
+final class MetadataValueMapView<V> extends AbstractMap<String, V> {
+
+	private final MetadataContainer metadataContainer;
+
+	/**
+	 * key of the map value in container, null means viewing values of container itself.
+	 */
+	private final String mapKey;
+
+	/**
+	 * convert metadata value to view value, return null if the value is not visible in this view.
+	 */
+	private final Function<MetadataValue, V> valueMapper;
+
+	/**
+	 * values visible when the key is not in container.
+	 */
+	private final Map<String, V> baseValues;
+
+	MetadataValueMapView(MetadataContainer metadataContainer, String mapKey, Function<MetadataValue, V> valueMapper) {
+		this(metadataContainer, mapKey, valueMapper, Collections.emptyMap());
+	}
+
+	MetadataValueMapView(MetadataContainer metadataContainer, String mapKey,
+			Function<MetadataValue, V> valueMapper, Map<String, V> baseValues) {
+		this.metadataContainer = metadataContainer;
+		this.mapKey = mapKey;
+		this.valueMapper = valueMapper;
+		this.baseValues = baseValues;
+	}
+
+	@Override
+	public V get(Object key) {
+		if (!(key instanceof String)) {
+			return null;
+		}
+		MetadataValue metadataValue = getMetadataValue((String) key);
+		if (metadataValue == null) {
+			return baseValues.get(key);
+		}
+		return valueMapper.apply(metadataValue);
+	}
+
+	private MetadataValue getMetadataValue(String key) {
+		if (mapKey == null) {
+			return metadataContainer.getMetadataValue(key);
+		}
+		MetadataValue mapValue = metadataContainer.getMetadataValue(mapKey);
+		if (!(mapValue instanceof MetadataMapValue)) {
+			return null;
+		}
+		return ((MetadataMapValue) mapValue).getMapValue(key);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get(key) != null;
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super String, ? super V> action) {
+		forEachMetadataValue((key, metadataValue) -> {
+			V value = valueMapper.apply(metadataValue);
+			if (value != null) {
+				action.accept(key, value);
+			}
+		});
+		if (!baseValues.isEmpty()) {
+			baseValues.forEach((key, value) -> {
+				if (getMetadataValue(key) == null) {
+					action.accept(key, value);
+				}
+			});
+		}
+	}
+
+	private void forEachMetadataValue(BiConsumer<String, MetadataValue> iterator) {
+		if (mapKey == null) {
+			metadataContainer.iterateMetadataValues(iterator);
+		}
+		else {
+			MetadataValue mapValue = metadataContainer.getMetadataValue(mapKey);
+			if (mapValue instanceof MetadataMapValue) {
+				((MetadataMapValue) mapValue).iterateMapValues(iterator);
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		int[] size = new int[1];
+		forEach((key, value) -> size[0]++);
+		return size[0];
+	}
+
+	@Override
+	public boolean isEmpty() {
+		for (String key : baseValues.keySet()) {
+			if (getMetadataValue(key) == null) {
+				return false;
+			}
+		}
+		try {
+			// base values are checked above, only values of container are iterated here.
+			forEachMetadataValue((key, metadataValue) -> {
+				if (valueMapper.apply(metadataValue) != null) {
+					throw StopIteration.INSTANCE;
+				}
+			});
+		}
+		catch (StopIteration e) {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public Set<Entry<String, V>> entrySet() {
+		return new EntrySetView();
+	}
+
+	/**
+	 * Copy current values of the view.
+	 *
+	 * @return modifiable copy
+	 */
+	Map<String, V> snapshot() {
+		Map<String, V> values = new HashMap<>();
+		forEach(values::put);
+		return values;
+	}
+
+	/**
+	 * Entry set backed by the view. Lookups and {@link #forEach} go to the container, only {@link #iterator()} copies
+	 * current values, since the container can only be iterated by callback.
+	 */
+	private final class EntrySetView extends AbstractSet<Entry<String, V>> {
+
+		@Override
+		public Iterator<Entry<String, V>> iterator() {
+			return Collections.unmodifiableMap(snapshot()).entrySet().iterator();
+		}
+
+		@Override
+		public void forEach(Consumer<? super Entry<String, V>> action) {
+			MetadataValueMapView.this.forEach((key, value) -> action.accept(new SimpleImmutableEntry<>(key, value)));
+		}
+
+		@Override
+		public int size() {
+			return MetadataValueMapView.this.size();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return MetadataValueMapView.this.isEmpty();
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if (!(o instanceof Entry)) {
+				return false;
+			}
+			Entry<?, ?> entry = (Entry<?, ?>) o;
+			V value = get(entry.getKey());
+			return value != null && value.equals(entry.getValue());
+		}
+	}
+
+	/**
+	 * Stops iterating container by callback. Shared and without stack trace, so stopping is cheap.
+	 */
+	private static final class StopIteration extends RuntimeException {
+
+		private static final StopIteration INSTANCE = new StopIteration();
+
+		private StopIteration() {
+			super(null, null, false, false);
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.metadata;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.tencent.polaris.metadata.core.MetadataContainer;
+import com.tencent.polaris.metadata.core.TransitiveType;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Immutable static metadata of local instance, shared by all {@link MetadataContext}.
+ * <p>
+ * Each key appears with a single transitive type, the same as putting merged static metadata,
+ * transitive metadata and disposable metadata into a container in turn.
+ *
+ * @author agent 2026-10-17
+ */
+final class StaticMetadataLayer {
+
+	private final Map<String, String> customMetadata;
+
+	private final Map<String, String> customTransitiveMetadata;
+
+	private final Map<String, String> customDisposableMetadata;
+
+	private final Map<String, String> transHeaders;
+
+	private final Map<String, String> applicationMetadata;
+
+	StaticMetadataLayer(StaticMetadataManager staticMetadataManager) {
+		Map<String, String> disposable = new HashMap<>(staticMetadataManager.getMergedStaticDisposableMetadata());
+		Map<String, String> transitive = new HashMap<>(staticMetadataManager.getMergedStaticTransitiveMetadata());
+		transitive.keySet().removeAll(disposable.keySet());
+		Map<String, String> custom = new HashMap<>(staticMetadataManager.getMergedStaticMetadata());
+		custom.keySet().removeAll(transitive.keySet());
+		custom.keySet().removeAll(disposable.keySet());
+		this.customMetadata = Collections.unmodifiableMap(custom);
+		this.customTransitiveMetadata = Collections.unmodifiableMap(transitive);
+		this.customDisposableMetadata = Collections.unmodifiableMap(disposable);
+
+		String transHeader = staticMetadataManager.getTransHeader();
+		this.transHeaders = StringUtils.hasText(transHeader)
+				? Collections.singletonMap(transHeader, "") : Collections.emptyMap();
+
+		this.applicationMetadata = Collections.unmodifiableMap(
+				new HashMap<>(staticMetadataManager.getMergedStaticMetadata()));
+	}
+
+	/**
+	 * Get static custom metadata of transitive type.
+	 *
+	 * @param transitiveType transitive type
+	 * @return read-only static custom metadata
+	 */
+	Map<String, String> getCustomMetadata(TransitiveType transitiveType) {
+		switch (transitiveType) {
+		case PASS_THROUGH:
+			return customTransitiveMetadata;
+		case DISPOSABLE:
+			return customDisposableMetadata;
+		case NONE:
+			return customMetadata;
+		default:
+			return Collections.emptyMap();
+		}
+	}
+
+	/**
+	 * Get static custom metadata value of any transitive type.
+	 *
+	 * @param key metadata key
+	 * @return metadata value, or null if absent
+	 */
+	String getCustomMetadataValue(String key) {
+		String value = customMetadata.get(key);
+		if (value == null) {
+			value = customTransitiveMetadata.get(key);
+		}
+		if (value == null) {
+			value = customDisposableMetadata.get(key);
+		}
+		return value;
+	}
+
+	/**
+	 * @return read-only static trans headers, stored as map value of {@link MetadataContext#FRAGMENT_RAW_TRANSHEADERS}
+	 */
+	Map<String, String> getTransHeaders() {
+		return transHeaders;
+	}
+
+	/**
+	 * @return read-only static application metadata, which is disposable
+	 */
+	Map<String, String> getApplicationMetadata() {
+		return applicationMetadata;
+	}
+
+	/**
+	 * Copy static custom metadata into container. Keys already in container are kept.
+	 *
+	 * @param metadataContainer custom metadata container
+	 */
+	void materializeCustomMetadata(MetadataContainer metadataContainer) {
+		putAbsent(metadataContainer, customMetadata, TransitiveType.NONE);
+		putAbsent(metadataContainer, customTransitiveMetadata, TransitiveType.PASS_THROUGH);
+		putAbsent(metadataContainer, customDisposableMetadata, TransitiveType.DISPOSABLE);
+		for (Map.Entry<String, String> entry : transHeaders.entrySet()) {
+			if (metadataContainer.getRawMetadataMapValue(MetadataContext.FRAGMENT_RAW_TRANSHEADERS, entry.getKey()) == null) {
+				metadataContainer.putMetadataMapValue(MetadataContext.FRAGMENT_RAW_TRANSHEADERS,
+						entry.getKey(), entry.getValue(), TransitiveType.NONE);
+			}
+		}
+	}
+
+	/**
+	 * Copy static application metadata into container. Keys already in container are kept.
+	 *
+	 * @param metadataContainer application metadata container
+	 */
+	void materializeApplicationMetadata(MetadataContainer metadataContainer) {
+		putAbsent(metadataContainer, applicationMetadata, TransitiveType.DISPOSABLE);
+	}
+
+	private static void putAbsent(MetadataContainer metadataContainer, Map<String, String> values, TransitiveType transitiveType) {
+		for (Map.Entry<String, String> entry : values.entrySet()) {
+			if (metadataContainer.getMetadataValue(entry.getKey()) == null) {
+				metadataContainer.putMetadataStringValue(entry.getKey(), entry.getValue(), transitiveType);
+			}
+		}
+	}
+}
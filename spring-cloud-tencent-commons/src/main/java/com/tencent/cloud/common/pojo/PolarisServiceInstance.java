@@ -44,12 +44,22 @@ public class PolarisServiceInstance implements ServiceInstance {
 
 	private final Map<String, String> serviceMetadata;
 
+	/**
+	 * Revision of instance list of service which this instance is discovered in.
+	 */
+	private final String serviceRevision;
+
 	public PolarisServiceInstance(Instance instance) {
 		this(instance, null);
 	}
 
 	public PolarisServiceInstance(Instance instance, Map<String, String> metadata) {
+		this(instance, metadata, null);
+	}
+
+	public PolarisServiceInstance(Instance instance, Map<String, String> metadata, String serviceRevision) {
 		this.instance = instance;
+		this.serviceRevision = serviceRevision;
 		this.isSecure = StringUtils.equalsIgnoreCase(instance.getProtocol(), "https");
 		if (isSecure) {
 			scheme = "https";
@@ -111,6 +121,15 @@ public class PolarisServiceInstance implements ServiceInstance {
 		return serviceMetadata;
 	}
 
+	/**
+	 * Get revision of instance list of service which this instance is discovered in.
+	 *
+	 * @return revision from polaris SDK, or null if unknown
+	 */
+	public String getServiceRevision() {
+		return serviceRevision;
+	}
+
 	/**
 	 * To fix loadbalancer not working bug when importing spring-retry.
 	 * @param o object
@@ -0,0 +1,90 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.pojo;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+/**
+ * Read-only list of service instances carrying revision of its content.
+ * <p>
+ * Lists with same revision hold same instances in same order, so consumers such as load balancers can reuse state
+ * built from a list without comparing instances.
+ *
+ * @author agent 2026-10-17
+ */
+public final class RevisionedServiceInstanceList extends AbstractList<ServiceInstance> implements RandomAccess {
+
+	/**
+	 * Revision of lists without revision.
+	 */
+	public static final long UNKNOWN_REVISION = 0;
+
+	private static final AtomicLong REVISION = new AtomicLong(UNKNOWN_REVISION);
+
+	private final List<ServiceInstance> instances;
+
+	private final long revision;
+
+	/**
+	 * @param instances instances, should not be modified afterwards
+	 * @param revision  revision from {@link #nextRevision()}
+	 */
+	public RevisionedServiceInstanceList(List<ServiceInstance> instances, long revision) {
+		this.instances = instances;
+		this.revision = revision;
+	}
+
+	/**
+	 * @return revision unique in current process
+	 */
+	public static long nextRevision() {
+		return REVISION.incrementAndGet();
+	}
+
+	/**
+	 * Get revision of list.
+	 *
+	 * @param instances instance list
+	 * @return revision, or {@link #UNKNOWN_REVISION} if list carries no revision
+	 */
+	public static long revisionOf(List<?> instances) {
+		if (instances instanceof RevisionedServiceInstanceList) {
+			return ((RevisionedServiceInstanceList) instances).revision;
+		}
+		return UNKNOWN_REVISION;
+	}
+
+	public long getRevision() {
+		return revision;
+	}
+
+	@Override
+	public ServiceInstance get(int index) {
+		return instances.get(index);
+	}
+
+	@Override
+	public int size() {
+		return instances.size();
+	}
+}
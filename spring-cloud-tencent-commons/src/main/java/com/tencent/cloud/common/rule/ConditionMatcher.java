@@ -0,0 +1,104 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.rule;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang.StringUtils;
+
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Immutable matcher compiled from {@link Condition}, with operation resolved, regex pattern compiled
+ * and expected values of IN / NOT_IN held in hash set.
+ * @author agent 2026-10-17
+ */
+public final class ConditionMatcher {
+
+	private final String key;
+
+	private final Operation operation;
+
+	private final String firstExpectedValue;
+
+	private final Set<String> expectedValues;
+
+	private final Pattern pattern;
+
+	private ConditionMatcher(String key, Operation operation, List<String> expectedValues) {
+		this.key = key;
+		this.operation = operation;
+		this.firstExpectedValue = CollectionUtils.isEmpty(expectedValues) ? null : expectedValues.get(0);
+		this.expectedValues = CollectionUtils.isEmpty(expectedValues)
+				? Collections.emptySet() : Collections.unmodifiableSet(new HashSet<>(expectedValues));
+		this.pattern = operation == Operation.REGEX && firstExpectedValue != null
+				? Pattern.compile(firstExpectedValue) : null;
+	}
+
+	/**
+	 * Compile condition to matcher.
+	 * @param condition condition
+	 * @return compiled matcher
+	 */
+	public static ConditionMatcher compile(Condition condition) {
+		return new ConditionMatcher(condition.getKey(), Operation.getOperation(condition.getOperation()),
+				condition.getValues());
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	public Operation getOperation() {
+		return operation;
+	}
+
+	public boolean match(String actualValue) {
+		switch (operation) {
+		case EQUALS:
+			return firstExpectedValue != null && StringUtils.equals(actualValue, firstExpectedValue);
+		case NOT_EQUALS:
+			return firstExpectedValue == null || !StringUtils.equals(actualValue, firstExpectedValue);
+		case BLANK:
+			return StringUtils.isBlank(actualValue);
+		case NOT_BLANK:
+			return !StringUtils.isBlank(actualValue);
+		case IN:
+			return expectedValues.contains(actualValue);
+		case NOT_IN:
+			return !expectedValues.contains(actualValue);
+		case REGEX:
+			return pattern != null && actualValue != null && pattern.matcher(actualValue).matches();
+		default:
+			return false;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ConditionMatcher{" +
+				"key='" + key + '\'' +
+				", operation=" + operation +
+				", expectedValues=" + expectedValues +
+				'}';
+	}
+}
@@ -17,29 +17,52 @@
 
 package com.tencent.cloud.common.rule;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.util.ConcurrentReferenceHashMap;
+
 /**
  * The util for condition expression.
  * @author lepdou 2022-07-11
  */
 public final class ConditionUtils {
 
+	/**
+	 * Compiled matchers of conditions. Condition does not override equals, so conditions of the same rule definition
+	 * share matchers, and matchers of stale rules are soft referenced to be collected.
+	 */
+	private static final Map<List<Condition>, List<ConditionMatcher>> MATCHERS = new ConcurrentReferenceHashMap<>();
+
 	private ConditionUtils() {
 	}
 
 	public static boolean match(Map<String, String> actualValues, List<Condition> conditions) {
-		for (Condition condition : conditions) {
-			List<String> expectedValues = condition.getValues();
-			String operation = condition.getOperation();
-			String key = condition.getKey();
-			String actualValue = actualValues.get(key);
-
-			if (!Operation.match(expectedValues, actualValue, operation)) {
+		for (ConditionMatcher matcher : compile(conditions)) {
+			if (!matcher.match(actualValues.get(matcher.getKey()))) {
 				return false;
 			}
 		}
 		return true;
 	}
+
+	/**
+	 * Get compiled matchers of conditions.
+	 * @param conditions conditions of rule
+	 * @return compiled matchers
+	 */
+	public static List<ConditionMatcher> compile(List<Condition> conditions) {
+		List<ConditionMatcher> matchers = MATCHERS.get(conditions);
+		if (matchers == null) {
+			List<ConditionMatcher> compiled = new ArrayList<>(conditions.size());
+			for (Condition condition : conditions) {
+				compiled.add(ConditionMatcher.compile(condition));
+			}
+			matchers = Collections.unmodifiableList(compiled);
+			MATCHERS.put(new ArrayList<>(conditions), matchers);
+		}
+		return matchers;
+	}
 }
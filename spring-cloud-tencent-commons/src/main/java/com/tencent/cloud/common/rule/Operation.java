@@ -17,12 +17,16 @@
 
 package com.tencent.cloud.common.rule;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
 
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * The condition operation.
@@ -59,6 +63,19 @@ public enum Operation {
 	 */
 	NOT_BLANK("NOT_BLANK");
 
+	private static final Map<String, Operation> OPERATIONS = new HashMap<>();
+
+	/**
+	 * Compiled regex patterns, soft referenced.
+	 */
+	private static final Map<String, Pattern> PATTERNS = new ConcurrentReferenceHashMap<>();
+
+	static {
+		for (Operation operation : values()) {
+			OPERATIONS.put(operation.value, operation);
+		}
+	}
+
 	private final String value;
 
 	Operation(String value) {
@@ -94,7 +111,7 @@ public enum Operation {
 			if (firstExpectedValue == null) {
 				return false;
 			}
-			Pattern r = Pattern.compile(firstExpectedValue);
+			Pattern r = PATTERNS.computeIfAbsent(firstExpectedValue, Pattern::compile);
 			return r.matcher(actualValue).matches();
 		default:
 			return false;
@@ -102,28 +119,11 @@ public enum Operation {
 	}
 
 	public static Operation getOperation(String operation) {
-		if (StringUtils.equalsIgnoreCase(operation, EQUALS.value)) {
-			return EQUALS;
-		}
-		if (StringUtils.equalsIgnoreCase(operation, NOT_EQUALS.value)) {
-			return NOT_EQUALS;
-		}
-		if (StringUtils.equalsIgnoreCase(operation, IN.value)) {
-			return IN;
-		}
-		if (StringUtils.equalsIgnoreCase(operation, NOT_IN.value)) {
-			return NOT_IN;
-		}
-		if (StringUtils.equalsIgnoreCase(operation, REGEX.value)) {
-			return REGEX;
-		}
-		if (StringUtils.equalsIgnoreCase(operation, BLANK.value)) {
-			return BLANK;
-		}
-		if (StringUtils.equalsIgnoreCase(operation, NOT_BLANK.value)) {
-			return NOT_BLANK;
+		Operation result = operation == null ? null : OPERATIONS.get(operation.toUpperCase(Locale.ROOT));
+		if (result == null) {
+			throw new RuntimeException("Unsupported operation. operation = " + operation);
 		}
-		throw new RuntimeException("Unsupported operation. operation = " + operation);
+		return result;
 	}
 
 	public String getValue() {
@@ -19,6 +19,8 @@ package com.tencent.cloud.common.util.expresstion;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -157,6 +159,42 @@ public final class ExpressionLabelUtils {
 		return defaultValue;
 	}
 
+	/**
+	 * Parse all queries of query string once. The first value wins if a key appears more than once.
+	 * @param queryString query string
+	 * @return map of query key and value
+	 */
+	public static Map<String, String> parseQueryString(String queryString) {
+		return parseKeyValues(queryString, "&");
+	}
+
+	/**
+	 * Parse all cookies of cookie header once. The first value wins if a key appears more than once.
+	 * @param cookieHeader value of cookie header
+	 * @return map of cookie key and value
+	 */
+	public static Map<String, String> parseCookieHeader(String cookieHeader) {
+		return parseKeyValues(cookieHeader, ";");
+	}
+
+	private static Map<String, String> parseKeyValues(String value, String separator) {
+		if (StringUtils.isBlank(value)) {
+			return Collections.emptyMap();
+		}
+		String[] pairs = StringUtils.split(value, separator);
+		if (pairs == null || pairs.length == 0) {
+			return Collections.emptyMap();
+		}
+		Map<String, String> keyValues = new HashMap<>(pairs.length * 2);
+		for (String pair : pairs) {
+			String[] kv = StringUtils.split(pair, "=");
+			if (kv != null && kv.length == 2) {
+				keyValues.putIfAbsent(kv[0], kv[1]);
+			}
+		}
+		return keyValues;
+	}
+
 	public static String getFirstValue(Map<String, Collection<String>> valueMaps, String key) {
 		if (CollectionUtils.isEmpty(valueMaps)) {
 			return null;
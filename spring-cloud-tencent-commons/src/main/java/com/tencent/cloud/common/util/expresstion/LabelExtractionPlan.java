@@ -0,0 +1,200 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.util.expresstion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang.StringUtils;
+
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Label keys compiled into typed extractors, so label expressions are parsed once instead of on every request.
+ * <p>
+ * Plans are cached by label keys. Executors of plan are expected to parse each source of request, such as
+ * query string and cookies, at most once.
+ *
+ * @author agent 2026-10-17
+ */
+public final class LabelExtractionPlan {
+
+	private static final LabelExtractionPlan EMPTY = new LabelExtractionPlan(Collections.emptyList());
+
+	private static final Map<Set<String>, LabelExtractionPlan> PLANS = new ConcurrentReferenceHashMap<>();
+
+	private final List<Extractor> extractors;
+
+	private final boolean queryRequired;
+
+	private final boolean cookieRequired;
+
+	private LabelExtractionPlan(List<Extractor> extractors) {
+		this.extractors = extractors;
+		boolean queryRequired = false;
+		boolean cookieRequired = false;
+		for (Extractor extractor : extractors) {
+			queryRequired |= extractor.getSource() == Source.QUERY;
+			cookieRequired |= extractor.getSource() == Source.COOKIE;
+		}
+		this.queryRequired = queryRequired;
+		this.cookieRequired = cookieRequired;
+	}
+
+	/**
+	 * Get compiled plan of label keys.
+	 * @param labelKeys label keys
+	 * @return compiled plan
+	 */
+	public static LabelExtractionPlan compile(Set<String> labelKeys) {
+		if (CollectionUtils.isEmpty(labelKeys)) {
+			return EMPTY;
+		}
+		LabelExtractionPlan plan = PLANS.get(labelKeys);
+		if (plan == null) {
+			plan = doCompile(labelKeys);
+			// copy label keys to avoid the cached key being changed by caller
+			PLANS.put(Collections.unmodifiableSet(new HashSet<>(labelKeys)), plan);
+		}
+		return plan;
+	}
+
+	private static LabelExtractionPlan doCompile(Set<String> labelKeys) {
+		List<Extractor> extractors = new ArrayList<>(labelKeys.size());
+		for (String labelKey : labelKeys) {
+			if (!ExpressionLabelUtils.isExpressionLabel(labelKey)) {
+				continue;
+			}
+			if (ExpressionLabelUtils.isHeaderLabel(labelKey)) {
+				String headerKey = ExpressionLabelUtils.parseHeaderKey(labelKey);
+				if (StringUtils.isNotBlank(headerKey)) {
+					extractors.add(new Extractor(labelKey, Source.HEADER, headerKey));
+				}
+			}
+			else if (ExpressionLabelUtils.isQueryLabel(labelKey)) {
+				String queryKey = ExpressionLabelUtils.parseQueryKey(labelKey);
+				if (StringUtils.isNotBlank(queryKey)) {
+					extractors.add(new Extractor(labelKey, Source.QUERY, queryKey));
+				}
+			}
+			else if (ExpressionLabelUtils.isCookieLabel(labelKey)) {
+				String cookieKey = ExpressionLabelUtils.parseCookieKey(labelKey);
+				if (StringUtils.isNotBlank(cookieKey)) {
+					extractors.add(new Extractor(labelKey, Source.COOKIE, cookieKey));
+				}
+			}
+			else if (ExpressionLabelUtils.isMethodLabel(labelKey)) {
+				extractors.add(new Extractor(labelKey, Source.METHOD, null));
+			}
+			else if (ExpressionLabelUtils.isUriLabel(labelKey)) {
+				extractors.add(new Extractor(labelKey, Source.URI, null));
+			}
+		}
+		return new LabelExtractionPlan(Collections.unmodifiableList(extractors));
+	}
+
+	public List<Extractor> getExtractors() {
+		return extractors;
+	}
+
+	public boolean isEmpty() {
+		return extractors.isEmpty();
+	}
+
+	public boolean isQueryRequired() {
+		return queryRequired;
+	}
+
+	public boolean isCookieRequired() {
+		return cookieRequired;
+	}
+
+	/**
+	 * Source of label value in request.
+	 */
+	public enum Source {
+		/**
+		 * Header.
+		 */
+		HEADER,
+		/**
+		 * Query parameter.
+		 */
+		QUERY,
+		/**
+		 * Cookie.
+		 */
+		COOKIE,
+		/**
+		 * Http method.
+		 */
+		METHOD,
+		/**
+		 * Uri path.
+		 */
+		URI
+	}
+
+	/**
+	 * Extract value of a label from request.
+	 */
+	public static final class Extractor {
+
+		private final String labelKey;
+
+		private final Source source;
+
+		private final String key;
+
+		private Extractor(String labelKey, Source source, String key) {
+			this.labelKey = labelKey;
+			this.source = source;
+			this.key = key;
+		}
+
+		public String getLabelKey() {
+			return labelKey;
+		}
+
+		public Source getSource() {
+			return source;
+		}
+
+		/**
+		 * Get key of header, query parameter or cookie.
+		 * @return key in source, null for method and uri
+		 */
+		public String getKey() {
+			return key;
+		}
+
+		@Override
+		public String toString() {
+			return "Extractor{" +
+					"labelKey='" + labelKey + '\'' +
+					", source=" + source +
+					", key='" + key + '\'' +
+					'}';
+		}
+	}
+}
@@ -42,45 +42,59 @@ public final class ServletExpressionLabelUtils {
 		if (CollectionUtils.isEmpty(labelKeys)) {
 			return Collections.emptyMap();
 		}
+		return resolve(request, LabelExtractionPlan.compile(labelKeys));
+	}
 
+	public static Map<String, String> resolve(HttpServletRequest request, LabelExtractionPlan plan) {
 		Map<String, String> labels = new HashMap<>();
+		// query string and cookies are parsed at most once
+		Map<String, String> queries = null;
+		Map<String, String> cookies = null;
 
-		for (String labelKey : labelKeys) {
-			if (!ExpressionLabelUtils.isExpressionLabel(labelKey)) {
-				continue;
-			}
-			if (ExpressionLabelUtils.isHeaderLabel(labelKey)) {
-				String headerKey = ExpressionLabelUtils.parseHeaderKey(labelKey);
-				if (StringUtils.isBlank(headerKey)) {
-					continue;
-				}
-				labels.put(labelKey, request.getHeader(headerKey));
-			}
-			else if (ExpressionLabelUtils.isQueryLabel(labelKey)) {
-				String queryKey = ExpressionLabelUtils.parseQueryKey(labelKey);
-				if (StringUtils.isBlank(queryKey)) {
-					continue;
+		for (LabelExtractionPlan.Extractor extractor : plan.getExtractors()) {
+			switch (extractor.getSource()) {
+			case HEADER:
+				labels.put(extractor.getLabelKey(), request.getHeader(extractor.getKey()));
+				break;
+			case QUERY:
+				if (queries == null) {
+					queries = ExpressionLabelUtils.parseQueryString(request.getQueryString());
 				}
-				labels.put(labelKey, ExpressionLabelUtils.getQueryValue(request.getQueryString(), queryKey));
-			}
-			else if (ExpressionLabelUtils.isCookieLabel(labelKey)) {
-				String cookieKey = ExpressionLabelUtils.parseCookieKey(labelKey);
-				if (StringUtils.isBlank(cookieKey)) {
-					continue;
+				labels.put(extractor.getLabelKey(), queries.get(extractor.getKey()));
+				break;
+			case COOKIE:
+				if (cookies == null) {
+					cookies = getCookieValues(request.getCookies());
 				}
-				labels.put(labelKey, getCookieValue(request.getCookies(), cookieKey));
-			}
-			else if (ExpressionLabelUtils.isMethodLabel(labelKey)) {
-				labels.put(labelKey, request.getMethod());
-			}
-			else if (ExpressionLabelUtils.isUriLabel(labelKey)) {
-				labels.put(labelKey, request.getRequestURI());
+				labels.put(extractor.getLabelKey(), cookies.getOrDefault(extractor.getKey(), StringUtils.EMPTY));
+				break;
+			case METHOD:
+				labels.put(extractor.getLabelKey(), request.getMethod());
+				break;
+			case URI:
+				labels.put(extractor.getLabelKey(), request.getRequestURI());
+				break;
+			default:
+				break;
 			}
 		}
 
 		return labels;
 	}
 
+	private static Map<String, String> getCookieValues(Cookie[] cookies) {
+		if (cookies == null || cookies.length == 0) {
+			return Collections.emptyMap();
+		}
+		Map<String, String> cookieValues = new HashMap<>(cookies.length * 2);
+		for (Cookie cookie : cookies) {
+			if (cookie.getName() != null) {
+				cookieValues.putIfAbsent(cookie.getName(), cookie.getValue());
+			}
+		}
+		return cookieValues;
+	}
+
 	public static String getCookieValue(Cookie[] cookies, String key) {
 		return getCookieValue(cookies, key, StringUtils.EMPTY);
 	}
@@ -45,39 +45,33 @@ public final class SpringWebExpressionLabelUtils {
 		if (CollectionUtils.isEmpty(labelKeys)) {
 			return Collections.emptyMap();
 		}
+		return resolve(exchange, LabelExtractionPlan.compile(labelKeys));
+	}
 
+	public static Map<String, String> resolve(ServerWebExchange exchange, LabelExtractionPlan plan) {
 		Map<String, String> labels = new HashMap<>();
-
-		for (String labelKey : labelKeys) {
-			if (!ExpressionLabelUtils.isExpressionLabel(labelKey)) {
-				continue;
-			}
-			if (ExpressionLabelUtils.isHeaderLabel(labelKey)) {
-				String headerKey = ExpressionLabelUtils.parseHeaderKey(labelKey);
-				if (StringUtils.isBlank(headerKey)) {
-					continue;
-				}
-				labels.put(labelKey, getHeaderValue(exchange.getRequest(), headerKey));
-			}
-			else if (ExpressionLabelUtils.isQueryLabel(labelKey)) {
-				String queryKey = ExpressionLabelUtils.parseQueryKey(labelKey);
-				if (StringUtils.isBlank(queryKey)) {
-					continue;
-				}
-				labels.put(labelKey, getQueryValue(exchange.getRequest(), queryKey));
-			}
-			else if (ExpressionLabelUtils.isCookieLabel(labelKey)) {
-				String cookieKey = ExpressionLabelUtils.parseCookieKey(labelKey);
-				if (StringUtils.isBlank(cookieKey)) {
-					continue;
-				}
-				labels.put(labelKey, getCookieValue(exchange.getRequest(), cookieKey));
-			}
-			else if (ExpressionLabelUtils.isMethodLabel(labelKey)) {
-				labels.put(labelKey, exchange.getRequest().getMethod().toString());
-			}
-			else if (ExpressionLabelUtils.isUriLabel(labelKey)) {
-				labels.put(labelKey, exchange.getRequest().getURI().getPath());
+		// query params and cookies of ServerHttpRequest are parsed and cached by request itself
+		ServerHttpRequest request = exchange.getRequest();
+
+		for (LabelExtractionPlan.Extractor extractor : plan.getExtractors()) {
+			switch (extractor.getSource()) {
+			case HEADER:
+				labels.put(extractor.getLabelKey(), getHeaderValue(request, extractor.getKey()));
+				break;
+			case QUERY:
+				labels.put(extractor.getLabelKey(), getQueryValue(request, extractor.getKey()));
+				break;
+			case COOKIE:
+				labels.put(extractor.getLabelKey(), getCookieValue(request, extractor.getKey()));
+				break;
+			case METHOD:
+				labels.put(extractor.getLabelKey(), request.getMethod().toString());
+				break;
+			case URI:
+				labels.put(extractor.getLabelKey(), request.getURI().getPath());
+				break;
+			default:
+				break;
 			}
 		}
 
@@ -88,39 +82,40 @@ public final class SpringWebExpressionLabelUtils {
 		if (CollectionUtils.isEmpty(labelKeys)) {
 			return Collections.emptyMap();
 		}
+		return resolve(request, LabelExtractionPlan.compile(labelKeys));
+	}
 
+	public static Map<String, String> resolve(HttpRequest request, LabelExtractionPlan plan) {
 		Map<String, String> labels = new HashMap<>();
-
-		for (String labelKey : labelKeys) {
-			if (!ExpressionLabelUtils.isExpressionLabel(labelKey)) {
-				continue;
-			}
-			if (ExpressionLabelUtils.isHeaderLabel(labelKey)) {
-				String headerKey = ExpressionLabelUtils.parseHeaderKey(labelKey);
-				if (StringUtils.isBlank(headerKey)) {
-					continue;
+		// query string and cookie header are parsed at most once
+		Map<String, String> queries = null;
+		Map<String, String> cookies = null;
+
+		for (LabelExtractionPlan.Extractor extractor : plan.getExtractors()) {
+			switch (extractor.getSource()) {
+			case HEADER:
+				labels.put(extractor.getLabelKey(), getHeaderValue(request, extractor.getKey()));
+				break;
+			case QUERY:
+				if (queries == null) {
+					queries = ExpressionLabelUtils.parseQueryString(request.getURI().getQuery());
 				}
-				labels.put(labelKey, getHeaderValue(request, headerKey));
-			}
-			else if (ExpressionLabelUtils.isQueryLabel(labelKey)) {
-				String queryKey = ExpressionLabelUtils.parseQueryKey(labelKey);
-				if (StringUtils.isBlank(queryKey)) {
-					continue;
+				labels.put(extractor.getLabelKey(), queries.get(extractor.getKey()));
+				break;
+			case COOKIE:
+				if (cookies == null) {
+					cookies = ExpressionLabelUtils.parseCookieHeader(request.getHeaders().getFirst(HttpHeaders.COOKIE));
 				}
-				labels.put(labelKey, getQueryValue(request, queryKey));
-			}
-			else if (ExpressionLabelUtils.isCookieLabel(labelKey)) {
-				String cookieKey = ExpressionLabelUtils.parseCookieKey(labelKey);
-				if (StringUtils.isBlank(cookieKey)) {
-					continue;
-				}
-				labels.put(labelKey, getCookieValue(request, cookieKey));
-			}
-			else if (ExpressionLabelUtils.isMethodLabel(labelKey)) {
-				labels.put(labelKey, request.getMethod().toString());
-			}
-			else if (ExpressionLabelUtils.isUriLabel(labelKey)) {
-				labels.put(labelKey, request.getURI().getPath());
+				labels.put(extractor.getLabelKey(), cookies.get(extractor.getKey()));
+				break;
+			case METHOD:
+				labels.put(extractor.getLabelKey(), request.getMethod().toString());
+				break;
+			case URI:
+				labels.put(extractor.getLabelKey(), request.getURI().getPath());
+				break;
+			default:
+				break;
 			}
 		}
 
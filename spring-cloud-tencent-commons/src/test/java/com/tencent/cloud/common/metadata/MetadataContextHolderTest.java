@@ -17,9 +17,14 @@
 
 package com.tencent.cloud.common.metadata;
 
+import java.util.AbstractMap;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
+import com.tencent.polaris.metadata.core.MetadataContainer;
+import com.tencent.polaris.metadata.core.MetadataType;
+import com.tencent.polaris.metadata.core.TransitiveType;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -82,6 +87,82 @@ public class MetadataContextHolderTest {
 		Assertions.assertThat(MetadataContext.LOCAL_SERVICE).isEqualTo("test");
 	}
 
+	@Test
+	public void testFragmentContextView() {
+		MetadataContextHolder.remove();
+		MetadataContext metadataContext = MetadataContextHolder.get();
+		metadataContext.putContext(MetadataContext.FRAGMENT_TRANSITIVE, "view-a", "1");
+		metadataContext.putContext(MetadataContext.FRAGMENT_DISPOSABLE, "view-b", "2");
+
+		Map<String, String> transitiveView = metadataContext.getFragmentContext(MetadataContext.FRAGMENT_TRANSITIVE);
+		Map<String, String> snapshot = metadataContext.getFragmentContextSnapshot(MetadataContext.FRAGMENT_TRANSITIVE);
+		Assertions.assertThat(transitiveView.get("view-a")).isEqualTo("1");
+		Assertions.assertThat(transitiveView.containsKey("view-b")).isFalse();
+		Assertions.assertThat(metadataContext.getCustomMetadata()).doesNotContainKey("view-b");
+
+		// view is live while snapshot is a copy.
+		metadataContext.putContext(MetadataContext.FRAGMENT_TRANSITIVE, "view-c", "3");
+		Assertions.assertThat(transitiveView.get("view-c")).isEqualTo("3");
+		Assertions.assertThat(snapshot).doesNotContainKey("view-c");
+		Assertions.assertThatThrownBy(() -> transitiveView.put("view-d", "4"))
+				.isInstanceOf(UnsupportedOperationException.class);
+
+		// entry set is backed by the view.
+		Set<Map.Entry<String, String>> entries = transitiveView.entrySet();
+		metadataContext.putContext(MetadataContext.FRAGMENT_TRANSITIVE, "view-e", "5");
+		Assertions.assertThat(entries).contains(new AbstractMap.SimpleImmutableEntry<>("view-e", "5"));
+		Assertions.assertThat(entries).hasSize(transitiveView.size());
+		Assertions.assertThat(transitiveView.isEmpty()).isFalse();
+		Assertions.assertThat(metadataContext.getFragmentContext(MetadataContext.FRAGMENT_UPSTREAM_DISPOSABLE).isEmpty())
+				.isTrue();
+
+		metadataContext.setLoadbalancer("lb-key", 1L);
+		Assertions.assertThat(metadataContext.getLoadbalancerMetadata().get("lb-key")).isEqualTo(1L);
+		MetadataContextHolder.remove();
+	}
+
+	@Test
+	public void testStaticMetadataLayer() {
+		MetadataContextHolder.remove();
+		MetadataContext metadataContext = MetadataContextHolder.get();
+		Assertions.assertThat(metadataContext.getTransitiveMetadata().get("b")).isEqualTo("2");
+		Assertions.assertThat(metadataContext.getApplicationMetadata().get("a")).isEqualTo("1");
+
+		// metadata of context overrides static metadata.
+		metadataContext.putContext(MetadataContext.FRAGMENT_TRANSITIVE, "b", "3");
+		Assertions.assertThat(metadataContext.getTransitiveMetadata().get("b")).isEqualTo("3");
+
+		// static metadata is copied into container on direct access without overriding metadata of context.
+		MetadataContainer metadataContainer = metadataContext.getMetadataContainer(MetadataType.CUSTOM, false);
+		Assertions.assertThat(metadataContainer.getRawMetadataStringValue("a")).isEqualTo("1");
+		Assertions.assertThat(metadataContainer.getRawMetadataStringValue("b")).isEqualTo("3");
+		Assertions.assertThat(metadataContext.getTransitiveMetadata().get("b")).isEqualTo("3");
+		MetadataContextHolder.remove();
+	}
+
+	@Test
+	public void testOverlayMetadataContainer() {
+		MetadataContextHolder.remove();
+		MetadataContext metadataContext = MetadataContextHolder.get();
+
+		// overlay container only holds metadata of context, static metadata is read through fallback.
+		MetadataContainer overlayContainer = metadataContext.getOverlayMetadataContainer(MetadataType.CUSTOM, false);
+		Assertions.assertThat(overlayContainer.getRawMetadataStringValue("a")).isNull();
+		Assertions.assertThat(metadataContext.getRawCustomMetadataStringValue("a")).isEqualTo("1");
+		Assertions.assertThat(metadataContext.getRawCustomMetadataStringValue("b")).isEqualTo("2");
+		Assertions.assertThat(metadataContext.getRawCustomMetadataStringValue("x")).isNull();
+
+		overlayContainer.putMetadataStringValue("b", "3", TransitiveType.PASS_THROUGH);
+		Assertions.assertThat(metadataContext.getRawCustomMetadataStringValue("b")).isEqualTo("3");
+		Assertions.assertThat(overlayContainer.getRawMetadataStringValue("a")).isNull();
+
+		// same result after static metadata is copied into container.
+		metadataContext.getMetadataContainer(MetadataType.CUSTOM, false);
+		Assertions.assertThat(overlayContainer.getRawMetadataStringValue("a")).isEqualTo("1");
+		Assertions.assertThat(metadataContext.getRawCustomMetadataStringValue("b")).isEqualTo("3");
+		MetadataContextHolder.remove();
+	}
+
 	@SpringBootApplication
 	protected static class TestApplication {
 
@@ -0,0 +1,81 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.rule;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link ConditionMatcher} and {@link ConditionUtils}.
+ * @author agent 2026-10-17
+ */
+public class ConditionMatcherTest {
+
+	@Test
+	public void testMatch() {
+		assertThat(matcher("equals", "v1").match("v1")).isTrue();
+		assertThat(matcher("EQUALS").match("v1")).isFalse();
+		assertThat(matcher("NOT_EQUALS", "v1").match(null)).isTrue();
+		assertThat(matcher("IN", "v1", "v2").match("v2")).isTrue();
+		assertThat(matcher("IN").match(null)).isFalse();
+		assertThat(matcher("NOT_IN", "v1", "v2").match("v3")).isTrue();
+		assertThat(matcher("NOT_IN").match(null)).isTrue();
+		assertThat(matcher("BLANK").match(" ")).isTrue();
+		assertThat(matcher("NOT_BLANK").match("v1")).isTrue();
+		assertThat(matcher("REGEX", "v[1~10]").match("v1")).isTrue();
+		assertThat(matcher("REGEX", "v[1~10]").match("v12")).isFalse();
+		assertThat(matcher("REGEX", "v[1~10]").match(null)).isFalse();
+		assertThat(matcher("regex").match("v1")).isFalse();
+		assertThatThrownBy(() -> matcher("LIKE", "v1")).isInstanceOf(RuntimeException.class);
+	}
+
+	@Test
+	public void testConditionUtils() {
+		List<Condition> conditions = Arrays.asList(condition("uid", "IN", "1", "2"), condition("lang", "REGEX", "zh.*"));
+		Map<String, String> actualValues = new HashMap<>();
+		actualValues.put("uid", "2");
+		actualValues.put("lang", "zh_CN");
+
+		assertThat(ConditionUtils.match(actualValues, conditions)).isTrue();
+		assertThat(ConditionUtils.compile(conditions)).isSameAs(ConditionUtils.compile(conditions));
+
+		actualValues.put("lang", "en");
+		assertThat(ConditionUtils.match(actualValues, conditions)).isFalse();
+		assertThat(ConditionUtils.match(actualValues, Collections.emptyList())).isTrue();
+	}
+
+	private static ConditionMatcher matcher(String operation, String... values) {
+		return ConditionMatcher.compile(condition("key", operation, values));
+	}
+
+	private static Condition condition(String key, String operation, String... values) {
+		Condition condition = new Condition();
+		condition.setKey(key);
+		condition.setOperation(operation);
+		condition.setValues(Arrays.asList(values));
+		return condition;
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.util;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.tencent.cloud.common.util.expresstion.ExpressionLabelUtils;
+import com.tencent.cloud.common.util.expresstion.LabelExtractionPlan;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link LabelExtractionPlan}.
+ *
+ * @author agent 2026-10-17
+ */
+public class LabelExtractionPlanTest {
+
+	@Test
+	public void testCompile() {
+		Set<String> labelKeys = Stream.of("${http.header.uid}", "$query.lang", "${http.cookie.token}",
+				"${http.method}", "$path", "${http.header.}", "$caller_ip", "plain").collect(Collectors.toSet());
+
+		LabelExtractionPlan plan = LabelExtractionPlan.compile(labelKeys);
+
+		Map<String, LabelExtractionPlan.Extractor> extractors = plan.getExtractors().stream()
+				.collect(Collectors.toMap(LabelExtractionPlan.Extractor::getLabelKey, extractor -> extractor));
+		assertThat(extractors).containsOnlyKeys("${http.header.uid}", "$query.lang", "${http.cookie.token}",
+				"${http.method}", "$path");
+		assertThat(extractors.get("${http.header.uid}").getSource()).isEqualTo(LabelExtractionPlan.Source.HEADER);
+		assertThat(extractors.get("${http.header.uid}").getKey()).isEqualTo("uid");
+		assertThat(extractors.get("$query.lang").getSource()).isEqualTo(LabelExtractionPlan.Source.QUERY);
+		assertThat(extractors.get("$query.lang").getKey()).isEqualTo("lang");
+		assertThat(extractors.get("${http.cookie.token}").getSource()).isEqualTo(LabelExtractionPlan.Source.COOKIE);
+		assertThat(extractors.get("${http.cookie.token}").getKey()).isEqualTo("token");
+		assertThat(extractors.get("${http.method}").getSource()).isEqualTo(LabelExtractionPlan.Source.METHOD);
+		assertThat(extractors.get("$path").getSource()).isEqualTo(LabelExtractionPlan.Source.URI);
+		assertThat(plan.isQueryRequired()).isTrue();
+		assertThat(plan.isCookieRequired()).isTrue();
+	}
+
+	@Test
+	public void testCompileCached() {
+		Set<String> labelKeys = new HashSet<>();
+		labelKeys.add("${http.header.uid}");
+		LabelExtractionPlan plan = LabelExtractionPlan.compile(labelKeys);
+
+		assertThat(LabelExtractionPlan.compile(Collections.singleton("${http.header.uid}"))).isSameAs(plan);
+
+		// change of label keys by caller does not pollute cached plan
+		labelKeys.add("$query.lang");
+		assertThat(LabelExtractionPlan.compile(labelKeys)).isNotSameAs(plan);
+		assertThat(LabelExtractionPlan.compile(Collections.singleton("${http.header.uid}")).getExtractors()).hasSize(1);
+		assertThat(LabelExtractionPlan.compile(Collections.emptySet()).isEmpty()).isTrue();
+	}
+
+	@Test
+	public void testParseQueryString() {
+		Map<String, String> queries = ExpressionLabelUtils.parseQueryString("a=1&b=2&a=3&c&d=4=5");
+
+		assertThat(queries).containsOnlyKeys("a", "b");
+		assertThat(queries.get("a")).isEqualTo("1");
+		assertThat(queries.get("b")).isEqualTo("2");
+		assertThat(ExpressionLabelUtils.parseQueryString(" ")).isEmpty();
+	}
+
+	@Test
+	public void testParseCookieHeader() {
+		Map<String, String> cookies = ExpressionLabelUtils.parseCookieHeader("uid=1;token=abc");
+
+		assertThat(cookies.get("uid")).isEqualTo("1");
+		assertThat(cookies.get("token")).isEqualTo("abc");
+		assertThat(ExpressionLabelUtils.parseCookieHeader(null)).isEmpty();
+	}
+}
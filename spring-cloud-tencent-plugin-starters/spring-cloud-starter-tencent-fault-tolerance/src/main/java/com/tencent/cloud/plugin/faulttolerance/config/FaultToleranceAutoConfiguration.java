@@ -18,9 +18,14 @@
 package com.tencent.cloud.plugin.faulttolerance.config;
 
 import com.tencent.cloud.plugin.faulttolerance.instrument.FaultToleranceAspect;
+import com.tencent.cloud.plugin.faulttolerance.instrument.ForkingExecutor;
+import com.tencent.cloud.plugin.faulttolerance.instrument.ForkingExecutorMeterBinder;
+import io.micrometer.core.instrument.binder.MeterBinder;
 
 import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Role;
@@ -32,11 +37,29 @@ import org.springframework.context.annotation.Role;
  */
 @Configuration(proxyBeanMethods = false)
 @Role(RootBeanDefinition.ROLE_INFRASTRUCTURE)
+@EnableConfigurationProperties(FaultToleranceProperties.class)
 public class FaultToleranceAutoConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean
-	public FaultToleranceAspect faultToleranceAspect() {
-		return new FaultToleranceAspect();
+	public ForkingExecutor forkingExecutor(FaultToleranceProperties faultToleranceProperties) {
+		return new ForkingExecutor(faultToleranceProperties);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public FaultToleranceAspect faultToleranceAspect(ForkingExecutor forkingExecutor) {
+		return new FaultToleranceAspect(forkingExecutor);
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterBinder.class)
+	protected static class ForkingExecutorMeterBinderConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public ForkingExecutorMeterBinder forkingExecutorMeterBinder(ForkingExecutor forkingExecutor) {
+			return new ForkingExecutorMeterBinder(forkingExecutor);
+		}
 	}
 }
@@ -0,0 +1,95 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.plugin.faulttolerance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The properties for fault tolerance.
+ *
+ * @author agent 2026-10-17
+ */
+@ConfigurationProperties("spring.cloud.tencent.plugin.fault-tolerance")
+public class FaultToleranceProperties {
+
+	/**
+	 * Max threads of forking executor.
+	 */
+	private int forkMaxThreads = 64;
+
+	/**
+	 * Capacity of waiting queue of forking executor. 0 means forks are handed off to idle threads only, and forks
+	 * rejected by busy threads or a full queue are skipped. Queued forks only run after a thread is free, so a
+	 * positive capacity should come with a deadline.
+	 */
+	private int forkQueueCapacity = 0;
+
+	/**
+	 * Max parallel forks of one call. Parallelism of annotation larger than it, such as parallelism 10 with the
+	 * default 8, is truncated to it. This changes behavior of annotations with parallelism above 8, which forked
+	 * without limit before, so raise it to keep them.
+	 */
+	private int forkMaxParallelism = 8;
+
+	/**
+	 * Deadline in milliseconds of one forking call. Non-positive value, the default, means no deadline.
+	 */
+	private long forkTimeout = 0;
+
+	public int getForkMaxThreads() {
+		return forkMaxThreads;
+	}
+
+	public void setForkMaxThreads(int forkMaxThreads) {
+		this.forkMaxThreads = forkMaxThreads;
+	}
+
+	public int getForkQueueCapacity() {
+		return forkQueueCapacity;
+	}
+
+	public void setForkQueueCapacity(int forkQueueCapacity) {
+		this.forkQueueCapacity = forkQueueCapacity;
+	}
+
+	public int getForkMaxParallelism() {
+		return forkMaxParallelism;
+	}
+
+	public void setForkMaxParallelism(int forkMaxParallelism) {
+		this.forkMaxParallelism = forkMaxParallelism;
+	}
+
+	public long getForkTimeout() {
+		return forkTimeout;
+	}
+
+	public void setForkTimeout(long forkTimeout) {
+		this.forkTimeout = forkTimeout;
+	}
+
+	@Override
+	public String toString() {
+		return "FaultToleranceProperties{" +
+				"forkMaxThreads=" + forkMaxThreads +
+				", forkQueueCapacity=" + forkQueueCapacity +
+				", forkMaxParallelism=" + forkMaxParallelism +
+				", forkTimeout=" + forkTimeout +
+				'}';
+	}
+}
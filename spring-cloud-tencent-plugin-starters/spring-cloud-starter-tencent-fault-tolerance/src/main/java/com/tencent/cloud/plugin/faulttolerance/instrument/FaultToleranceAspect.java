@@ -24,11 +24,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import com.tencent.cloud.plugin.faulttolerance.annotation.FaultTolerance;
 import com.tencent.cloud.plugin.faulttolerance.common.FallbackMethod;
+import com.tencent.cloud.plugin.faulttolerance.config.FaultToleranceProperties;
 import com.tencent.cloud.plugin.faulttolerance.model.FaultToleranceStrategy;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -38,6 +37,7 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cloud.tsf.faulttolerance.annotation.TsfFaultTolerance;
 import org.springframework.cloud.tsf.faulttolerance.model.TsfFaultToleranceStragety;
 
@@ -47,12 +47,33 @@ import org.springframework.cloud.tsf.faulttolerance.model.TsfFaultToleranceStrag
  * @author zhixinzxliu, Haotian Zhang
  */
 @Aspect
-public class FaultToleranceAspect {
+public class FaultToleranceAspect implements DisposableBean {
 
 	private static final Logger logger = LoggerFactory.getLogger(FaultToleranceAspect.class);
 
 	private final Map<Method, FallbackMethod> fallbackMethodMap = new ConcurrentHashMap<>();
-	private final ExecutorService executorService = Executors.newCachedThreadPool();
+	private final ForkingExecutor forkingExecutor;
+	private final boolean ownForkingExecutor;
+
+	public FaultToleranceAspect() {
+		this.forkingExecutor = new ForkingExecutor(new FaultToleranceProperties());
+		this.ownForkingExecutor = true;
+	}
+
+	public FaultToleranceAspect(ForkingExecutor forkingExecutor) {
+		this.forkingExecutor = forkingExecutor;
+		this.ownForkingExecutor = false;
+	}
+
+	/**
+	 * Shut down forking executor created by this aspect. Shared executor is left to its owner.
+	 */
+	@Override
+	public void destroy() {
+		if (ownForkingExecutor) {
+			forkingExecutor.destroy();
+		}
+	}
 
 	@Pointcut("@annotation(org.springframework.cloud.tsf.faulttolerance.annotation.TsfFaultTolerance)"
 			+ " || @annotation(com.tencent.cloud.plugin.faulttolerance.annotation.FaultTolerance)")
@@ -68,19 +89,19 @@ public class FaultToleranceAspect {
 		Object result;
 		try {
 			// Invoke job in parallel. Whoever returns the result first will use it.
-			// The latter result will be ignored directly.
+			// The others will be interrupted directly.
 			// If all exceptions occur, an exception will be thrown.
 			if (faultTolerance != null
 					&& faultTolerance.strategy() == FaultToleranceStrategy.FORKING
 					&& faultTolerance.parallelism() > 1) {
 				List<Callable<Object>> jobs = generateJobs(faultTolerance.parallelism(), joinPoint);
-				result = executorService.invokeAny(jobs);
+				result = forkingExecutor.invokeAny(jobs);
 			}
 			else if (tsfFaultTolerance != null &&
 					tsfFaultTolerance.strategy() == TsfFaultToleranceStragety.FORKING &&
 					tsfFaultTolerance.parallelism() > 1) {
 				List<Callable<Object>> jobs = generateJobs(tsfFaultTolerance.parallelism(), joinPoint);
-				result = executorService.invokeAny(jobs);
+				result = forkingExecutor.invokeAny(jobs);
 			}
 			else {
 				result = joinPoint.proceed();
@@ -0,0 +1,251 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.plugin.faulttolerance.instrument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.tencent.cloud.plugin.faulttolerance.config.FaultToleranceProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Bounded executor for {@link com.tencent.cloud.plugin.faulttolerance.model.FaultToleranceStrategy}.FORKING strategy.
+ * Forks of one call are truncated to max parallelism, forks rejected by a full pool are skipped,
+ * and losers are interrupted as soon as one fork wins or the deadline of call expires.
+ * <p>
+ * By default forks are handed off to idle threads without queueing, so every accepted fork is running and caller
+ * never waits for a fork stuck in queue. Forking calls made inside a fork run inline in that fork, so nested forking
+ * can not starve the pool.
+ *
+ * @author agent 2026-10-17
+ */
+public class ForkingExecutor implements DisposableBean {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ForkingExecutor.class);
+
+	private static final ThreadLocal<Boolean> IN_FORK = new ThreadLocal<>();
+
+	private final ThreadPoolExecutor executor;
+
+	private final int maxParallelism;
+
+	private final long timeoutNanos;
+
+	private final LongAdder callCount = new LongAdder();
+
+	private final LongAdder forkCount = new LongAdder();
+
+	private final LongAdder wastedCount = new LongAdder();
+
+	private final LongAdder skippedCount = new LongAdder();
+
+	private final LongAdder rejectedCount = new LongAdder();
+
+	private final LongAdder timeoutCount = new LongAdder();
+
+	public ForkingExecutor(FaultToleranceProperties properties) {
+		int maxThreads = Math.max(1, properties.getForkMaxThreads());
+		BlockingQueue<Runnable> queue = properties.getForkQueueCapacity() > 0 ?
+				new ArrayBlockingQueue<>(properties.getForkQueueCapacity()) : new SynchronousQueue<>();
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("sct-fault-tolerance-fork-");
+		threadFactory.setDaemon(true);
+		this.executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS, queue, threadFactory);
+		this.executor.allowCoreThreadTimeOut(true);
+		this.maxParallelism = Math.max(1, properties.getForkMaxParallelism());
+		this.timeoutNanos = properties.getForkTimeout() > 0 ? TimeUnit.MILLISECONDS.toNanos(properties.getForkTimeout()) : 0;
+	}
+
+	/**
+	 * Run jobs in parallel and return the result of the first one completing successfully.
+	 * If no fork could be submitted, or caller is itself a fork, the first job is run in caller thread.
+	 * @param jobs forks of the same call
+	 * @param <T> type of result
+	 * @return result of winner
+	 * @throws InterruptedException if caller thread is interrupted while waiting
+	 * @throws ExecutionException if all forks fail, with failure of the last one
+	 * @throws TimeoutException if deadline expires before any fork succeeds
+	 */
+	public <T> T invokeAny(List<Callable<T>> jobs) throws InterruptedException, ExecutionException, TimeoutException {
+		if (Boolean.TRUE.equals(IN_FORK.get())) {
+			return callInline(jobs.get(0));
+		}
+		long deadline = timeoutNanos > 0 ? System.nanoTime() + timeoutNanos : 0;
+		int parallelism = Math.min(jobs.size(), maxParallelism);
+		BlockingQueue<Fork<T>> completed = new LinkedBlockingQueue<>();
+		List<Fork<T>> forks = new ArrayList<>(parallelism);
+		for (int i = 0; i < parallelism; i++) {
+			Fork<T> fork = new Fork<>(jobs.get(i), completed);
+			try {
+				executor.execute(fork);
+				forks.add(fork);
+			}
+			catch (RejectedExecutionException e) {
+				rejectedCount.increment();
+			}
+		}
+		callCount.increment();
+		forkCount.add(forks.size());
+
+		if (forks.isEmpty()) {
+			LOG.warn("Forking executor is exhausted, run job in caller thread.");
+			return callInline(jobs.get(0));
+		}
+
+		Fork<T> winner = null;
+		try {
+			ExecutionException lastException = null;
+			for (int remaining = forks.size(); remaining > 0; remaining--) {
+				Fork<T> done;
+				if (deadline == 0) {
+					done = completed.take();
+				}
+				else {
+					long nanos = deadline - System.nanoTime();
+					done = nanos > 0 ? completed.poll(nanos, TimeUnit.NANOSECONDS) : null;
+					if (done == null) {
+						timeoutCount.increment();
+						throw new TimeoutException("Forking call timed out after "
+								+ TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms.");
+					}
+				}
+				try {
+					T result = done.get();
+					winner = done;
+					return result;
+				}
+				catch (ExecutionException e) {
+					lastException = e;
+				}
+			}
+			throw lastException;
+		}
+		finally {
+			cancelLosers(forks, winner);
+		}
+	}
+
+	private static <T> T callInline(Callable<T> job) throws ExecutionException {
+		try {
+			return job.call();
+		}
+		catch (Exception e) {
+			throw new ExecutionException(e);
+		}
+	}
+
+	private <T> void cancelLosers(List<Fork<T>> forks, Fork<T> winner) {
+		for (Fork<T> fork : forks) {
+			if (fork == winner || fork.isDone()) {
+				continue;
+			}
+			boolean started = fork.started;
+			fork.cancel(true);
+			if (started) {
+				wastedCount.increment();
+			}
+			else {
+				executor.remove(fork);
+				skippedCount.increment();
+			}
+		}
+	}
+
+	public long getCallCount() {
+		return callCount.sum();
+	}
+
+	public long getForkCount() {
+		return forkCount.sum();
+	}
+
+	public long getWastedCount() {
+		return wastedCount.sum();
+	}
+
+	public long getSkippedCount() {
+		return skippedCount.sum();
+	}
+
+	public long getRejectedCount() {
+		return rejectedCount.sum();
+	}
+
+	public long getTimeoutCount() {
+		return timeoutCount.sum();
+	}
+
+	public int getActiveCount() {
+		return executor.getActiveCount();
+	}
+
+	public int getQueueSize() {
+		return executor.getQueue().size();
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	private static final class Fork<T> extends FutureTask<T> {
+
+		private final BlockingQueue<Fork<T>> completed;
+
+		private volatile boolean started;
+
+		Fork(Callable<T> callable, BlockingQueue<Fork<T>> completed) {
+			super(callable);
+			this.completed = completed;
+		}
+
+		@Override
+		public void run() {
+			if (!isDone()) {
+				started = true;
+			}
+			IN_FORK.set(Boolean.TRUE);
+			try {
+				super.run();
+			}
+			finally {
+				IN_FORK.remove();
+			}
+		}
+
+		@Override
+		protected void done() {
+			completed.add(this);
+		}
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.plugin.faulttolerance.instrument;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Bind fan-out and wasted work of {@link ForkingExecutor} to micrometer.
+ *
+ * @author agent 2026-10-17
+ */
+public class ForkingExecutorMeterBinder implements MeterBinder {
+
+	/**
+	 * Prefix of forking executor metrics.
+	 */
+	public static final String PREFIX = "sct.fault.tolerance.fork";
+
+	private final ForkingExecutor forkingExecutor;
+
+	public ForkingExecutorMeterBinder(ForkingExecutor forkingExecutor) {
+		this.forkingExecutor = forkingExecutor;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder(PREFIX + ".calls", forkingExecutor, ForkingExecutor::getCallCount)
+				.description("Count of forking calls")
+				.register(registry);
+		FunctionCounter.builder(PREFIX + ".forks", forkingExecutor, ForkingExecutor::getForkCount)
+				.description("Count of forks submitted, divided by calls it is the average fan-out")
+				.register(registry);
+		FunctionCounter.builder(PREFIX + ".wasted", forkingExecutor, ForkingExecutor::getWastedCount)
+				.description("Count of losing forks interrupted while running")
+				.register(registry);
+		FunctionCounter.builder(PREFIX + ".skipped", forkingExecutor, ForkingExecutor::getSkippedCount)
+				.description("Count of losing forks cancelled before running")
+				.register(registry);
+		FunctionCounter.builder(PREFIX + ".rejected", forkingExecutor, ForkingExecutor::getRejectedCount)
+				.description("Count of forks rejected by a full executor")
+				.register(registry);
+		FunctionCounter.builder(PREFIX + ".timeout", forkingExecutor, ForkingExecutor::getTimeoutCount)
+				.description("Count of forking calls exceeding deadline")
+				.register(registry);
+		Gauge.builder(PREFIX + ".active", forkingExecutor, ForkingExecutor::getActiveCount)
+				.description("Count of running forks")
+				.register(registry);
+		Gauge.builder(PREFIX + ".queued", forkingExecutor, ForkingExecutor::getQueueSize)
+				.description("Count of forks waiting in queue")
+				.register(registry);
+	}
+}
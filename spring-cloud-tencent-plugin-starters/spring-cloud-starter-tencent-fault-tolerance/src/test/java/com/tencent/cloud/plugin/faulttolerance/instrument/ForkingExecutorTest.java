@@ -0,0 +1,155 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.plugin.faulttolerance.instrument;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.tencent.cloud.plugin.faulttolerance.config.FaultToleranceProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link ForkingExecutor}.
+ *
+ * @author agent 2026-10-17
+ */
+public class ForkingExecutorTest {
+
+	private ForkingExecutor forkingExecutor;
+
+	@AfterEach
+	void tearDown() {
+		if (forkingExecutor != null) {
+			forkingExecutor.destroy();
+		}
+	}
+
+	@Test
+	public void testLosersInterrupted() throws Exception {
+		forkingExecutor = new ForkingExecutor(new FaultToleranceProperties());
+		CountDownLatch interrupted = new CountDownLatch(2);
+		CountDownLatch slowStarted = new CountDownLatch(2);
+		Callable<String> slow = () -> {
+			slowStarted.countDown();
+			try {
+				Thread.sleep(10000);
+			}
+			catch (InterruptedException e) {
+				interrupted.countDown();
+				throw e;
+			}
+			return "slow";
+		};
+		Callable<String> fast = () -> {
+			slowStarted.await(5, TimeUnit.SECONDS);
+			return "fast";
+		};
+
+		assertThat(forkingExecutor.invokeAny(Arrays.asList(slow, slow, fast))).isEqualTo("fast");
+		assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(forkingExecutor.getCallCount()).isEqualTo(1);
+		assertThat(forkingExecutor.getForkCount()).isEqualTo(3);
+		assertThat(forkingExecutor.getWastedCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void testAllFailed() {
+		forkingExecutor = new ForkingExecutor(new FaultToleranceProperties());
+		Callable<String> failed = () -> {
+			throw new IllegalStateException("NO");
+		};
+
+		assertThatThrownBy(() -> forkingExecutor.invokeAny(Arrays.asList(failed, failed)))
+				.isInstanceOf(ExecutionException.class)
+				.hasCauseInstanceOf(IllegalStateException.class);
+		assertThat(forkingExecutor.getWastedCount()).isEqualTo(0);
+	}
+
+	@Test
+	public void testMaxParallelism() throws Exception {
+		FaultToleranceProperties properties = new FaultToleranceProperties();
+		properties.setForkMaxParallelism(2);
+		forkingExecutor = new ForkingExecutor(properties);
+		AtomicInteger count = new AtomicInteger();
+		Callable<String> job = () -> {
+			count.incrementAndGet();
+			throw new IllegalStateException("NO");
+		};
+
+		assertThatThrownBy(() -> forkingExecutor.invokeAny(Arrays.asList(job, job, job, job)))
+				.isInstanceOf(ExecutionException.class);
+		assertThat(count.get()).isEqualTo(2);
+		assertThat(forkingExecutor.getForkCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void testTimeout() {
+		FaultToleranceProperties properties = new FaultToleranceProperties();
+		properties.setForkTimeout(100);
+		forkingExecutor = new ForkingExecutor(properties);
+		Callable<String> slow = () -> {
+			Thread.sleep(10000);
+			return "slow";
+		};
+
+		assertThatThrownBy(() -> forkingExecutor.invokeAny(Arrays.asList(slow, slow)))
+				.isInstanceOf(TimeoutException.class);
+		assertThat(forkingExecutor.getTimeoutCount()).isEqualTo(1);
+		assertThat(forkingExecutor.getWastedCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void testRejected() throws Exception {
+		FaultToleranceProperties properties = new FaultToleranceProperties();
+		properties.setForkMaxThreads(1);
+		properties.setForkQueueCapacity(0);
+		forkingExecutor = new ForkingExecutor(properties);
+		Callable<String> blocking = () -> {
+			Thread.sleep(200);
+			return "blocking";
+		};
+		List<Callable<String>> jobs = Arrays.asList(blocking, () -> "other");
+
+		// the only thread is occupied by the first fork, so the second one is rejected.
+		assertThat(forkingExecutor.invokeAny(jobs)).isEqualTo("blocking");
+		assertThat(forkingExecutor.getRejectedCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testNestedForkingRunsInline() throws Exception {
+		FaultToleranceProperties properties = new FaultToleranceProperties();
+		properties.setForkMaxThreads(1);
+		forkingExecutor = new ForkingExecutor(properties);
+		Callable<String> inner = () -> "inner";
+		Callable<String> outer = () -> forkingExecutor.invokeAny(Arrays.asList(inner, inner));
+
+		// the only thread runs outer fork, so inner forks would wait for it forever if queued.
+		assertThat(forkingExecutor.invokeAny(Arrays.asList(outer, outer))).isEqualTo("inner");
+		assertThat(forkingExecutor.getCallCount()).isEqualTo(1);
+	}
+}
@@ -23,7 +23,6 @@ import java.util.Map;
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.common.metadata.MetadataContextHolder;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
-import com.tencent.polaris.api.utils.CollectionUtils;
 import com.tencent.polaris.api.utils.StringUtils;
 import com.tencent.polaris.metadata.core.MessageMetadataContainer;
 import com.tencent.polaris.metadata.core.MetadataType;
@@ -43,24 +42,12 @@ public class PolarisSpanAttributesProvider implements SpanAttributesProvider {
 	public Map<String, String> getServerSpanAttributes(EnhancedPluginContext context) {
 		Map<String, String> attributes = new HashMap<>();
 		MetadataContext metadataContext = MetadataContextHolder.get();
-		Map<String, String> transitiveCustomAttributes = metadataContext.getFragmentContext(MetadataContext.FRAGMENT_TRANSITIVE);
-		if (CollectionUtils.isNotEmpty(transitiveCustomAttributes)) {
-			for (Map.Entry<String, String> entry : transitiveCustomAttributes.entrySet()) {
-				attributes.put("custom." + entry.getKey(), entry.getValue());
-			}
-		}
-		Map<String, String> disposableCustomAttributes = metadataContext.getFragmentContext(MetadataContext.FRAGMENT_DISPOSABLE);
-		if (CollectionUtils.isNotEmpty(disposableCustomAttributes)) {
-			for (Map.Entry<String, String> entry : disposableCustomAttributes.entrySet()) {
-				attributes.put("custom." + entry.getKey(), entry.getValue());
-			}
-		}
-		Map<String, String> upstreamDisposableCustomAttributes = metadataContext.getFragmentContext(MetadataContext.FRAGMENT_UPSTREAM_DISPOSABLE);
-		if (CollectionUtils.isNotEmpty(upstreamDisposableCustomAttributes)) {
-			for (Map.Entry<String, String> entry : upstreamDisposableCustomAttributes.entrySet()) {
-				attributes.put("custom." + entry.getKey(), entry.getValue());
-			}
-		}
+		metadataContext.getFragmentContext(MetadataContext.FRAGMENT_TRANSITIVE)
+				.forEach((key, value) -> attributes.put("custom." + key, value));
+		metadataContext.getFragmentContext(MetadataContext.FRAGMENT_DISPOSABLE)
+				.forEach((key, value) -> attributes.put("custom." + key, value));
+		metadataContext.getFragmentContext(MetadataContext.FRAGMENT_UPSTREAM_DISPOSABLE)
+				.forEach((key, value) -> attributes.put("custom." + key, value));
 		attributes.put("http.port", CalleeMetadataContainerGroup.getStaticApplicationMetadataContainer()
 				.getRawMetadataStringValue(MetadataConstants.LOCAL_PORT));
 		return attributes;
@@ -70,18 +57,10 @@ public class PolarisSpanAttributesProvider implements SpanAttributesProvider {
 	public Map<String, String> getClientBaggageAttributes(EnhancedPluginContext context) {
 		Map<String, String> attributes = new HashMap<>();
 		MetadataContext metadataContext = MetadataContextHolder.get();
-		Map<String, String> transitiveCustomAttributes = metadataContext.getFragmentContext(MetadataContext.FRAGMENT_TRANSITIVE);
-		if (CollectionUtils.isNotEmpty(transitiveCustomAttributes)) {
-			for (Map.Entry<String, String> entry : transitiveCustomAttributes.entrySet()) {
-				attributes.put("custom." + entry.getKey(), entry.getValue());
-			}
-		}
-		Map<String, String> disposableCustomAttributes = metadataContext.getFragmentContext(MetadataContext.FRAGMENT_DISPOSABLE);
-		if (CollectionUtils.isNotEmpty(disposableCustomAttributes)) {
-			for (Map.Entry<String, String> entry : disposableCustomAttributes.entrySet()) {
-				attributes.put("custom." + entry.getKey(), entry.getValue());
-			}
-		}
+		metadataContext.getFragmentContext(MetadataContext.FRAGMENT_TRANSITIVE)
+				.forEach((key, value) -> attributes.put("custom." + key, value));
+		metadataContext.getFragmentContext(MetadataContext.FRAGMENT_DISPOSABLE)
+				.forEach((key, value) -> attributes.put("custom." + key, value));
 		attributes.put("http.port", CalleeMetadataContainerGroup.getStaticApplicationMetadataContainer()
 				.getRawMetadataStringValue(MetadataConstants.LOCAL_PORT));
 		attributes.put("net.peer.service", context.getTargetServiceInstance().getServiceId());
@@ -114,7 +114,16 @@ public class ServiceRuleManager {
 		return rules;
 	}
 
-	private ServiceRule getServiceRule(String namespace, String service, ServiceEventKey.EventType eventType) {
+	/**
+	 * Get raw service rule of given type. Unlike the typed getters above, the result carries the revision of rule,
+	 * which is needed by caches keyed or invalidated by rule revision.
+	 *
+	 * @param namespace namespace of service
+	 * @param service name of service
+	 * @param eventType type of rule
+	 * @return service rule with revision
+	 */
+	public ServiceRule getServiceRule(String namespace, String service, ServiceEventKey.EventType eventType) {
 		GetServiceRuleRequest getServiceRuleRequest = new GetServiceRuleRequest();
 		getServiceRuleRequest.setRuleType(eventType);
 		getServiceRuleRequest.setService(service);
@@ -35,6 +35,12 @@ import com.tencent.cloud.rpc.enhancement.instrument.webclient.PolarisLoadBalance
 import com.tencent.cloud.rpc.enhancement.plugin.DefaultEnhancedPluginRunner;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPlugin;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginRunner;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginTimer;
+import com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsFinallyPlugin;
+import com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsManager;
+import com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsPrePlugin;
+import com.tencent.cloud.rpc.enhancement.plugin.reporter.AsyncServiceCallResultReporter;
+import com.tencent.cloud.rpc.enhancement.plugin.reporter.AsyncServiceCallResultReporterMeterBinder;
 import com.tencent.cloud.rpc.enhancement.plugin.reporter.ExceptionPolarisReporter;
 import com.tencent.cloud.rpc.enhancement.plugin.reporter.SuccessPolarisReporter;
 import com.tencent.cloud.rpc.enhancement.transformer.InstanceTransformer;
@@ -48,6 +54,7 @@ import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
@@ -100,20 +107,80 @@ public class RpcEnhancementAutoConfiguration {
 	public EnhancedPluginRunner enhancedFeignPluginRunner(
 			@Autowired(required = false) List<EnhancedPlugin> enhancedPlugins,
 			@Autowired(required = false) Registration registration,
+			PolarisSDKContextManager polarisSDKContextManager,
+			@Autowired(required = false) EnhancedPluginTimer enhancedPluginTimer) {
+		return new DefaultEnhancedPluginRunner(enhancedPlugins, registration,
+				polarisSDKContextManager.getSDKContext(), enhancedPluginTimer);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(value = "spring.cloud.tencent.rpc-enhancement.plugin-timing.enabled", havingValue = "true")
+	public EnhancedPluginTimer enhancedPluginTimer(@Autowired(required = false) List<EnhancedPlugin> enhancedPlugins) {
+		return new EnhancedPluginTimer(enhancedPlugins);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(value = "spring.cloud.tencent.rpc-enhancement.reporter.async.enabled", havingValue = "true")
+	public AsyncServiceCallResultReporter asyncServiceCallResultReporter(RpcEnhancementReporterProperties properties,
 			PolarisSDKContextManager polarisSDKContextManager) {
-		return new DefaultEnhancedPluginRunner(enhancedPlugins, registration, polarisSDKContextManager.getSDKContext());
+		return new AsyncServiceCallResultReporter(properties, polarisSDKContextManager.getConsumerAPI());
 	}
 
 	@Bean
 	public SuccessPolarisReporter successPolarisReporter(RpcEnhancementReporterProperties properties,
-			PolarisSDKContextManager polarisSDKContextManager) {
-		return new SuccessPolarisReporter(properties, polarisSDKContextManager.getConsumerAPI());
+			PolarisSDKContextManager polarisSDKContextManager,
+			@Autowired(required = false) AsyncServiceCallResultReporter asyncServiceCallResultReporter) {
+		return new SuccessPolarisReporter(properties, polarisSDKContextManager.getConsumerAPI(), asyncServiceCallResultReporter);
 	}
 
 	@Bean
 	public ExceptionPolarisReporter exceptionPolarisReporter(RpcEnhancementReporterProperties properties,
-			PolarisSDKContextManager polarisSDKContextManager) {
-		return new ExceptionPolarisReporter(properties, polarisSDKContextManager.getConsumerAPI());
+			PolarisSDKContextManager polarisSDKContextManager,
+			@Autowired(required = false) AsyncServiceCallResultReporter asyncServiceCallResultReporter) {
+		return new ExceptionPolarisReporter(properties, polarisSDKContextManager.getConsumerAPI(), asyncServiceCallResultReporter);
+	}
+
+	/**
+	 * Bind queue statistics of asynchronous reporter to micrometer.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+	@ConditionalOnProperty(value = "spring.cloud.tencent.rpc-enhancement.reporter.async.enabled", havingValue = "true")
+	protected static class AsyncServiceCallResultReporterMeterBinderConfig {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public AsyncServiceCallResultReporterMeterBinder asyncServiceCallResultReporterMeterBinder(
+				AsyncServiceCallResultReporter asyncServiceCallResultReporter) {
+			return new AsyncServiceCallResultReporterMeterBinder(asyncServiceCallResultReporter);
+		}
+	}
+
+	/**
+	 * Record call statistics of each instance for load balancers that balance by them.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnExpression("'${spring.cloud.polaris.loadbalancer.strategy:}' == 'polarisLeastLatency' or "
+			+ "('${spring.cloud.polaris.loadbalancer.strategy:}' == 'polarisRingHash' and ${spring.cloud.polaris.loadbalancer.ring-hash.load-factor:0} > 0)")
+	protected static class ServiceInstanceStatsConfig {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public ServiceInstanceStatsManager serviceInstanceStatsManager() {
+			return new ServiceInstanceStatsManager();
+		}
+
+		@Bean
+		public ServiceInstanceStatsPrePlugin serviceInstanceStatsPrePlugin(ServiceInstanceStatsManager serviceInstanceStatsManager) {
+			return new ServiceInstanceStatsPrePlugin(serviceInstanceStatsManager);
+		}
+
+		@Bean
+		public ServiceInstanceStatsFinallyPlugin serviceInstanceStatsFinallyPlugin() {
+			return new ServiceInstanceStatsFinallyPlugin();
+		}
 	}
 
 	@Configuration(proxyBeanMethods = false)
@@ -53,6 +53,11 @@ public class RpcEnhancementReporterProperties {
 	 */
 	private boolean ignoreInternalServerError = true;
 
+	/**
+	 * Asynchronous reporting configuration.
+	 */
+	private Async async = new Async();
+
 	/**
 	 * Convert items to List.
 	 *
@@ -96,4 +101,104 @@ public class RpcEnhancementReporterProperties {
 	public void setIgnoreInternalServerError(boolean ignoreInternalServerError) {
 		this.ignoreInternalServerError = ignoreInternalServerError;
 	}
+
+	public Async getAsync() {
+		return async;
+	}
+
+	public void setAsync(Async async) {
+		this.async = async;
+	}
+
+	/**
+	 * Policy when the asynchronous report queue is full.
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Discard the oldest queued result to make room for the new one.
+		 */
+		DROP_OLDEST,
+
+		/**
+		 * Discard the new result.
+		 */
+		DROP_NEWEST,
+
+		/**
+		 * Report the new result synchronously on the caller thread.
+		 */
+		CALLER_RUNS
+	}
+
+	/**
+	 * Properties of asynchronous reporting.
+	 */
+	public static class Async {
+
+		/**
+		 * Whether report call result to polaris asynchronously.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Max number of call results waiting to be reported.
+		 */
+		private int queueCapacity = 8192;
+
+		/**
+		 * Max number of call results reported in one drain round.
+		 */
+		private int batchSize = 256;
+
+		/**
+		 * Interval between drain rounds. Unit: millisecond.
+		 */
+		private long drainInterval = 10;
+
+		/**
+		 * Policy when the queue is full.
+		 */
+		private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getQueueCapacity() {
+			return queueCapacity;
+		}
+
+		public void setQueueCapacity(int queueCapacity) {
+			this.queueCapacity = queueCapacity;
+		}
+
+		public int getBatchSize() {
+			return batchSize;
+		}
+
+		public void setBatchSize(int batchSize) {
+			this.batchSize = batchSize;
+		}
+
+		public long getDrainInterval() {
+			return drainInterval;
+		}
+
+		public void setDrainInterval(long drainInterval) {
+			this.drainInterval = drainInterval;
+		}
+
+		public OverflowPolicy getOverflowPolicy() {
+			return overflowPolicy;
+		}
+
+		public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+			this.overflowPolicy = overflowPolicy;
+		}
+	}
 }
@@ -0,0 +1,66 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.endpoint;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginTimer;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Endpoint of time cost of enhanced plugins.
+ *
+ * @author agent 2026-10-17
+ */
+@Endpoint(id = "polarisenhancedplugin")
+public class EnhancedPluginEndpoint {
+
+	private final EnhancedPluginTimer enhancedPluginTimer;
+
+	public EnhancedPluginEndpoint(EnhancedPluginTimer enhancedPluginTimer) {
+		this.enhancedPluginTimer = enhancedPluginTimer;
+	}
+
+	@ReadOperation
+	public Map<String, Object> enhancedPlugin() {
+		List<Object> plugins = new ArrayList<>();
+		for (EnhancedPluginTimer.Timing timing : enhancedPluginTimer.getTimings()) {
+			Map<String, Object> plugin = new LinkedHashMap<>();
+			plugin.put("type", timing.getTypeName());
+			plugin.put("name", timing.getName());
+			plugin.put("order", timing.getOrder());
+			long count = timing.getCount();
+			long totalNanos = timing.getTotalNanos();
+			plugin.put("count", count);
+			plugin.put("totalNanos", totalNanos);
+			plugin.put("avgNanos", count == 0 ? 0 : totalNanos / count);
+			plugin.put("maxNanos", timing.getMaxNanos());
+			plugins.add(plugin);
+		}
+
+		Map<String, Object> result = new HashMap<>();
+		result.put("plugins", plugins);
+		return result;
+	}
+}
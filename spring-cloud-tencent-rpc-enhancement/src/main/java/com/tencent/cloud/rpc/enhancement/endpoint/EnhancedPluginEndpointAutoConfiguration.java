@@ -0,0 +1,68 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.endpoint;
+
+import com.tencent.cloud.polaris.context.ConditionalOnPolarisEnabled;
+import com.tencent.cloud.rpc.enhancement.config.RpcEnhancementAutoConfiguration;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginMeterBinder;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginTimer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The AutoConfiguration for enhanced plugin endpoint and metrics.
+ *
+ * @author agent 2026-10-17
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnPolarisEnabled
+@ConditionalOnBean(EnhancedPluginTimer.class)
+@AutoConfigureAfter(RpcEnhancementAutoConfiguration.class)
+public class EnhancedPluginEndpointAutoConfiguration {
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(Endpoint.class)
+	protected static class EnhancedPluginEndpointConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		@ConditionalOnAvailableEndpoint
+		public EnhancedPluginEndpoint enhancedPluginEndpoint(EnhancedPluginTimer enhancedPluginTimer) {
+			return new EnhancedPluginEndpoint(enhancedPluginTimer);
+		}
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterBinder.class)
+	protected static class EnhancedPluginMeterBinderConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public EnhancedPluginMeterBinder enhancedPluginMeterBinder(EnhancedPluginTimer enhancedPluginTimer) {
+			return new EnhancedPluginMeterBinder(enhancedPluginTimer);
+		}
+	}
+}
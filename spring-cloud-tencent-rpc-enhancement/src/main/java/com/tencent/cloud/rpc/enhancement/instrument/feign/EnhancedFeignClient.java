@@ -19,7 +19,7 @@ package com.tencent.cloud.rpc.enhancement.instrument.feign;
 
 import java.io.IOException;
 import java.net.URI;
-import java.util.ArrayList;
+import java.util.Map;
 
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginRunner;
@@ -32,8 +32,9 @@ import feign.Request.Options;
 import feign.Response;
 
 import org.springframework.cloud.client.DefaultServiceInstance;
-import org.springframework.http.HttpHeaders;
+import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.http.HttpMethod;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import static feign.Util.checkNotNull;
 
@@ -44,6 +45,11 @@ import static feign.Util.checkNotNull;
  */
 public class EnhancedFeignClient implements Client {
 
+	/**
+	 * Target service instances of each service, keyed by raw authority of url.
+	 */
+	private static final Map<String, Map<String, ServiceInstance>> TARGET_SERVICE_INSTANCES = new ConcurrentReferenceHashMap<>();
+
 	private final Client delegate;
 
 	private final EnhancedPluginRunner pluginRunner;
@@ -57,12 +63,10 @@ public class EnhancedFeignClient implements Client {
 	public Response execute(Request request, Options options) throws IOException {
 		EnhancedPluginContext enhancedPluginContext = new EnhancedPluginContext();
 
-		HttpHeaders requestHeaders = new HttpHeaders();
-		request.headers().forEach((s, strings) -> requestHeaders.addAll(s, new ArrayList<>(strings)));
 		URI url = URI.create(request.url());
 
 		EnhancedRequestContext enhancedRequestContext = EnhancedRequestContext.builder()
-				.httpHeaders(requestHeaders)
+				.httpHeaders(new FeignHeadersAdapter(request.headers()).toHttpHeaders())
 				.httpMethod(HttpMethod.valueOf(request.httpMethod().name()))
 				.url(url)
 				.build();
@@ -71,15 +75,12 @@ public class EnhancedFeignClient implements Client {
 
 		enhancedPluginContext.setLocalServiceInstance(pluginRunner.getLocalServiceInstance());
 		String svcName = request.requestTemplate().feignTarget().name();
-		DefaultServiceInstance serviceInstance = new DefaultServiceInstance(
-				String.format("%s-%s-%d", svcName, url.getHost(), url.getPort()),
-				svcName, url.getHost(), url.getPort(), url.getScheme().equals("https"));
 		// -1 means access directly by url
-		if (serviceInstance.getPort() == -1) {
+		if (url.getPort() == -1) {
 			enhancedPluginContext.setTargetServiceInstance(null, url);
 		}
 		else {
-			enhancedPluginContext.setTargetServiceInstance(serviceInstance, url);
+			enhancedPluginContext.setTargetServiceInstance(getTargetServiceInstance(svcName, url), url);
 		}
 
 		// Run pre enhanced plugins.
@@ -90,12 +91,9 @@ public class EnhancedFeignClient implements Client {
 			Response response = delegate.execute(request, options);
 			enhancedPluginContext.setDelay(System.currentTimeMillis() - startMillis);
 
-			HttpHeaders responseHeaders = new HttpHeaders();
-			response.headers().forEach((s, strings) -> responseHeaders.addAll(s, new ArrayList<>(strings)));
-
 			EnhancedResponseContext enhancedResponseContext = EnhancedResponseContext.builder()
 					.httpStatus(response.status())
-					.httpHeaders(responseHeaders)
+					.httpHeaders(new FeignHeadersAdapter(response.headers()).toHttpHeaders())
 					.build();
 			enhancedPluginContext.setResponse(enhancedResponseContext);
 
@@ -115,4 +113,17 @@ public class EnhancedFeignClient implements Client {
 			pluginRunner.run(EnhancedPluginType.Client.FINALLY, enhancedPluginContext);
 		}
 	}
+
+	static ServiceInstance getTargetServiceInstance(String svcName, URI url) {
+		Map<String, ServiceInstance> serviceInstances = TARGET_SERVICE_INSTANCES.computeIfAbsent(svcName,
+				name -> new ConcurrentReferenceHashMap<>());
+		boolean secure = "https".equals(url.getScheme());
+		ServiceInstance serviceInstance = serviceInstances.get(url.getRawAuthority());
+		if (serviceInstance == null || serviceInstance.isSecure() != secure) {
+			serviceInstance = new DefaultServiceInstance(svcName + "-" + url.getHost() + "-" + url.getPort(),
+					svcName, url.getHost(), url.getPort(), secure);
+			serviceInstances.put(url.getRawAuthority(), serviceInstance);
+		}
+		return serviceInstance;
+	}
 }
@@ -0,0 +1,72 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.instrument.feign;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+import com.tencent.cloud.rpc.enhancement.plugin.ReadOnlyHeadersAdapter;
+
+/**
+ * Read-only view of headers of feign request or response.
+ *
+ * @author agent 2026-10-17
+ */
+final class FeignHeadersAdapter extends ReadOnlyHeadersAdapter {
+
+	private final Map<String, Collection<String>> headers;
+
+	/**
+	 * Feign keeps headers in case-insensitive map, otherwise names are compared ignoring case on miss.
+	 */
+	private final boolean caseInsensitive;
+
+	FeignHeadersAdapter(Map<String, Collection<String>> headers) {
+		this.headers = headers;
+		this.caseInsensitive = headers instanceof SortedMap
+				&& ((SortedMap<String, Collection<String>>) headers).comparator() == String.CASE_INSENSITIVE_ORDER;
+	}
+
+	@Override
+	public List<String> get(Object key) {
+		if (!(key instanceof String)) {
+			return null;
+		}
+		Collection<String> values = headers.get(key);
+		if (values == null && !caseInsensitive) {
+			for (Map.Entry<String, Collection<String>> entry : headers.entrySet()) {
+				if (((String) key).equalsIgnoreCase(entry.getKey())) {
+					values = entry.getValue();
+					break;
+				}
+			}
+		}
+		if (values == null) {
+			return null;
+		}
+		return values instanceof List ? (List<String>) values : new ArrayList<>(values);
+	}
+
+	@Override
+	protected Collection<String> headerNames() {
+		return headers.keySet();
+	}
+}
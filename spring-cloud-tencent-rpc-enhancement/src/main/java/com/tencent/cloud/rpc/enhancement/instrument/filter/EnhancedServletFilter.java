@@ -19,10 +19,6 @@ package com.tencent.cloud.rpc.enhancement.instrument.filter;
 
 import java.io.IOException;
 import java.net.URI;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Enumeration;
 
 import com.tencent.cloud.common.constant.OrderConstant;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
@@ -36,7 +32,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.core.annotation.Order;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -58,16 +53,8 @@ public class EnhancedServletFilter extends OncePerRequestFilter {
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 		EnhancedPluginContext enhancedPluginContext = new EnhancedPluginContext();
 
-		HttpHeaders requestHeaders = new HttpHeaders();
-		Enumeration<String> requestHeaderNames = request.getHeaderNames();
-		if (requestHeaderNames != null) {
-			while (requestHeaderNames.hasMoreElements()) {
-				String requestHeaderName = requestHeaderNames.nextElement();
-				requestHeaders.addAll(requestHeaderName, Collections.list(request.getHeaders(requestHeaderName)));
-			}
-		}
 		EnhancedRequestContext enhancedRequestContext = EnhancedRequestContext.builder()
-				.httpHeaders(requestHeaders)
+				.httpHeaders(ServletHeadersAdapter.of(request).toHttpHeaders())
 				.httpMethod(HttpMethod.valueOf(request.getMethod()))
 				.url(URI.create(request.getRequestURL().toString()))
 				.build();
@@ -83,16 +70,9 @@ public class EnhancedServletFilter extends OncePerRequestFilter {
 			filterChain.doFilter(request, response);
 			enhancedPluginContext.setDelay(System.currentTimeMillis() - startMillis);
 
-			HttpHeaders responseHeaders = new HttpHeaders();
-			Collection<String> responseHeaderNames = response.getHeaderNames();
-			if (responseHeaderNames != null) {
-				for (String responseHeaderName : responseHeaderNames) {
-					responseHeaders.addAll(responseHeaderName, new ArrayList<>(response.getHeaders(responseHeaderName)));
-				}
-			}
 			EnhancedResponseContext enhancedResponseContext = EnhancedResponseContext.builder()
 					.httpStatus(response.getStatus())
-					.httpHeaders(responseHeaders)
+					.httpHeaders(ServletHeadersAdapter.of(response).toHttpHeaders())
 					.build();
 			enhancedPluginContext.setResponse(enhancedResponseContext);
 
@@ -0,0 +1,101 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.instrument.filter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+import com.tencent.cloud.rpc.enhancement.plugin.ReadOnlyHeadersAdapter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Read-only views of headers of servlet request and response.
+ *
+ * @author agent 2026-10-17
+ */
+final class ServletHeadersAdapter {
+
+	private ServletHeadersAdapter() {
+	}
+
+	static ReadOnlyHeadersAdapter of(HttpServletRequest request) {
+		return new RequestHeaders(request);
+	}
+
+	static ReadOnlyHeadersAdapter of(HttpServletResponse response) {
+		return new ResponseHeaders(response);
+	}
+
+	private static final class RequestHeaders extends ReadOnlyHeadersAdapter {
+
+		private final HttpServletRequest request;
+
+		private RequestHeaders(HttpServletRequest request) {
+			this.request = request;
+		}
+
+		@Override
+		public List<String> get(Object key) {
+			if (!(key instanceof String)) {
+				return null;
+			}
+			Enumeration<String> values = request.getHeaders((String) key);
+			if (values == null || !values.hasMoreElements()) {
+				return null;
+			}
+			return Collections.list(values);
+		}
+
+		@Override
+		protected Collection<String> headerNames() {
+			Enumeration<String> names = request.getHeaderNames();
+			return names == null ? Collections.emptyList() : Collections.list(names);
+		}
+	}
+
+	private static final class ResponseHeaders extends ReadOnlyHeadersAdapter {
+
+		private final HttpServletResponse response;
+
+		private ResponseHeaders(HttpServletResponse response) {
+			this.response = response;
+		}
+
+		@Override
+		public List<String> get(Object key) {
+			if (!(key instanceof String)) {
+				return null;
+			}
+			Collection<String> values = response.getHeaders((String) key);
+			if (values == null || values.isEmpty()) {
+				return null;
+			}
+			return values instanceof List ? (List<String>) values : new ArrayList<>(values);
+		}
+
+		@Override
+		protected Collection<String> headerNames() {
+			Collection<String> names = response.getHeaderNames();
+			return names == null ? Collections.emptyList() : names;
+		}
+	}
+}
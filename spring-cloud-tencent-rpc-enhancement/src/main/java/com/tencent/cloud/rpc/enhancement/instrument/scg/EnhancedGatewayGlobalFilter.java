@@ -54,13 +54,29 @@ public class EnhancedGatewayGlobalFilter implements GlobalFilter, Ordered {
 	public Mono<Void> filter(ServerWebExchange originExchange, GatewayFilterChain chain) {
 		EnhancedPluginContext enhancedPluginContext = new EnhancedPluginContext();
 
+		// Load balancer client filter runs before this filter, so target instance is known here and pre plugins,
+		// such as stats of in-flight requests, can see it.
+		Route route = originExchange.getAttribute(GATEWAY_ROUTE_ATTR);
+		URI uri = originExchange.getAttribute(GATEWAY_REQUEST_URL_ATTR);
 		EnhancedRequestContext enhancedRequestContext = EnhancedRequestContext.builder()
 				.httpHeaders(originExchange.getRequest().getHeaders())
 				.httpMethod(originExchange.getRequest().getMethod())
-				.url(originExchange.getRequest().getURI())
+				.url(uri != null ? uri : originExchange.getRequest().getURI())
 				.build();
 		enhancedPluginContext.setRequest(enhancedRequestContext);
 		enhancedPluginContext.setOriginRequest(originExchange);
+		if (uri != null) {
+			if (route != null && route.getUri().getScheme().contains("lb")) {
+				DefaultServiceInstance serviceInstance = new DefaultServiceInstance();
+				serviceInstance.setServiceId(route.getUri().getHost());
+				serviceInstance.setHost(uri.getHost());
+				serviceInstance.setPort(uri.getPort());
+				enhancedPluginContext.setTargetServiceInstance(serviceInstance, null);
+			}
+			else {
+				enhancedPluginContext.setTargetServiceInstance(null, uri);
+			}
+		}
 
 		// Run pre enhanced plugins.
 		pluginRunner.run(EnhancedPluginType.Client.PRE, enhancedPluginContext);
@@ -68,23 +84,6 @@ public class EnhancedGatewayGlobalFilter implements GlobalFilter, Ordered {
 		ServerWebExchange exchange = (ServerWebExchange) enhancedPluginContext.getOriginRequest();
 		long startTime = System.currentTimeMillis();
 		return chain.filter(exchange)
-				.doOnSubscribe(v -> {
-					Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
-					URI uri = exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR);
-					enhancedPluginContext.getRequest().setUrl(uri);
-					if (uri != null) {
-						if (route != null && route.getUri().getScheme().contains("lb")) {
-							DefaultServiceInstance serviceInstance = new DefaultServiceInstance();
-							serviceInstance.setServiceId(route.getUri().getHost());
-							serviceInstance.setHost(uri.getHost());
-							serviceInstance.setPort(uri.getPort());
-							enhancedPluginContext.setTargetServiceInstance(serviceInstance, null);
-						}
-						else {
-							enhancedPluginContext.setTargetServiceInstance(null, uri);
-						}
-					}
-				})
 				.doOnSuccess(v -> {
 					enhancedPluginContext.setDelay(System.currentTimeMillis() - startTime);
 					EnhancedResponseContext enhancedResponseContext = EnhancedResponseContext.builder()
@@ -17,11 +17,13 @@
 
 package com.tencent.cloud.rpc.enhancement.plugin;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.Multimap;
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.polaris.client.api.SDKContext;
 
@@ -32,12 +34,15 @@ import org.springframework.util.CollectionUtils;
 
 /**
  * Default plugin runner.
+ * <p>
+ * Plugins are compiled into an array of each {@link EnhancedPluginType} at startup, and types without plugins are
+ * skipped. Each plugin is timed if {@link EnhancedPluginTimer} is present.
  *
  * @author Derek Yi 2022-08-16
  */
 public class DefaultEnhancedPluginRunner implements EnhancedPluginRunner {
 
-	private final Multimap<EnhancedPluginType, EnhancedPlugin> pluginMap = ArrayListMultimap.create();
+	private final Map<EnhancedPluginType, PluginChain> pluginChains;
 
 	private final ServiceInstance localServiceInstance;
 
@@ -46,11 +51,16 @@ public class DefaultEnhancedPluginRunner implements EnhancedPluginRunner {
 			Registration registration,
 			SDKContext sdkContext
 	) {
-		if (!CollectionUtils.isEmpty(enhancedPlugins)) {
-			enhancedPlugins.stream()
-					.sorted(Comparator.comparing(EnhancedPlugin::getOrder))
-					.forEach(plugin -> pluginMap.put(plugin.getType(), plugin));
-		}
+		this(enhancedPlugins, registration, sdkContext, null);
+	}
+
+	public DefaultEnhancedPluginRunner(
+			List<EnhancedPlugin> enhancedPlugins,
+			Registration registration,
+			SDKContext sdkContext,
+			EnhancedPluginTimer pluginTimer
+	) {
+		this.pluginChains = compile(enhancedPlugins, pluginTimer);
 		if (registration != null) {
 			localServiceInstance = registration;
 		}
@@ -62,6 +72,31 @@ public class DefaultEnhancedPluginRunner implements EnhancedPluginRunner {
 		}
 	}
 
+	private static Map<EnhancedPluginType, PluginChain> compile(List<EnhancedPlugin> enhancedPlugins,
+			EnhancedPluginTimer pluginTimer) {
+		if (CollectionUtils.isEmpty(enhancedPlugins)) {
+			return Collections.emptyMap();
+		}
+		Map<EnhancedPluginType, List<EnhancedPlugin>> pluginMap = new HashMap<>();
+		enhancedPlugins.stream()
+				.sorted(Comparator.comparing(EnhancedPlugin::getOrder))
+				.forEach(plugin -> pluginMap.computeIfAbsent(plugin.getType(), type -> new ArrayList<>()).add(plugin));
+
+		Map<EnhancedPluginType, PluginChain> pluginChains = new HashMap<>();
+		pluginMap.forEach((type, plugins) -> {
+			EnhancedPlugin[] pluginArray = plugins.toArray(new EnhancedPlugin[0]);
+			EnhancedPluginTimer.Timing[] timings = null;
+			if (pluginTimer != null) {
+				timings = new EnhancedPluginTimer.Timing[pluginArray.length];
+				for (int i = 0; i < pluginArray.length; i++) {
+					timings[i] = pluginTimer.getTiming(pluginArray[i]);
+				}
+			}
+			pluginChains.put(type, new PluginChain(pluginArray, timings));
+		});
+		return Collections.unmodifiableMap(pluginChains);
+	}
+
 	/**
 	 * run the plugin.
 	 *
@@ -70,19 +105,50 @@ public class DefaultEnhancedPluginRunner implements EnhancedPluginRunner {
 	 */
 	@Override
 	public void run(EnhancedPluginType pluginType, EnhancedPluginContext context) {
-		for (EnhancedPlugin plugin : pluginMap.get(pluginType)) {
-			try {
-				plugin.run(context);
+		PluginChain pluginChain = pluginChains.get(pluginType);
+		if (pluginChain == null) {
+			return;
+		}
+		EnhancedPlugin[] plugins = pluginChain.plugins;
+		EnhancedPluginTimer.Timing[] timings = pluginChain.timings;
+		if (timings == null) {
+			for (EnhancedPlugin plugin : plugins) {
+				runPlugin(plugin, context);
 			}
-			catch (Throwable throwable) {
-				plugin.handlerThrowable(context, throwable);
+			return;
+		}
+		for (int i = 0; i < plugins.length; i++) {
+			long startNanos = System.nanoTime();
+			runPlugin(plugins[i], context);
+			if (timings[i] != null) {
+				timings[i].record(System.nanoTime() - startNanos);
 			}
 		}
 	}
 
+	private static void runPlugin(EnhancedPlugin plugin, EnhancedPluginContext context) {
+		try {
+			plugin.run(context);
+		}
+		catch (Throwable throwable) {
+			plugin.handlerThrowable(context, throwable);
+		}
+	}
+
 	@Override
 	public ServiceInstance getLocalServiceInstance() {
 		return this.localServiceInstance;
 	}
 
+	private static final class PluginChain {
+
+		private final EnhancedPlugin[] plugins;
+
+		private final EnhancedPluginTimer.Timing[] timings;
+
+		private PluginChain(EnhancedPlugin[] plugins, EnhancedPluginTimer.Timing[] timings) {
+			this.plugins = plugins;
+			this.timings = timings;
+		}
+	}
 }
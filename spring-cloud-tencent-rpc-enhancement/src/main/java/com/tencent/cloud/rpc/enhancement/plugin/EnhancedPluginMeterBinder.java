@@ -0,0 +1,69 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Bind time cost of enhanced plugins recorded by {@link EnhancedPluginTimer} to micrometer.
+ *
+ * @author agent 2026-10-17
+ */
+public class EnhancedPluginMeterBinder implements MeterBinder {
+
+	/**
+	 * Timer of enhanced plugin.
+	 */
+	public static final String PLUGIN_TIMER = "sct.enhanced.plugin";
+
+	/**
+	 * Max time cost of enhanced plugin.
+	 */
+	public static final String PLUGIN_MAX = "sct.enhanced.plugin.max";
+
+	private final EnhancedPluginTimer enhancedPluginTimer;
+
+	public EnhancedPluginMeterBinder(EnhancedPluginTimer enhancedPluginTimer) {
+		this.enhancedPluginTimer = enhancedPluginTimer;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		for (EnhancedPluginTimer.Timing timing : enhancedPluginTimer.getTimings()) {
+			Tags tags = Tags.of("type", timing.getTypeName(), "plugin", timing.getName());
+			FunctionTimer.builder(PLUGIN_TIMER, timing,
+							EnhancedPluginTimer.Timing::getCount,
+							EnhancedPluginTimer.Timing::getTotalNanos,
+							TimeUnit.NANOSECONDS)
+					.tags(tags)
+					.description("Time cost of enhanced plugin")
+					.register(registry);
+			Gauge.builder(PLUGIN_MAX, timing, t -> t.getMaxNanos() / 1e9)
+					.tags(tags)
+					.baseUnit("seconds")
+					.description("Max time cost of enhanced plugin")
+					.register(registry);
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Nanosecond timing of each {@link EnhancedPlugin}, recorded by {@link DefaultEnhancedPluginRunner}.
+ *
+ * @author agent 2026-10-17
+ */
+public class EnhancedPluginTimer {
+
+	private final Map<EnhancedPlugin, Timing> timingMap = new IdentityHashMap<>();
+
+	private final List<Timing> timings;
+
+	public EnhancedPluginTimer(List<EnhancedPlugin> enhancedPlugins) {
+		List<Timing> timings = new ArrayList<>();
+		if (!CollectionUtils.isEmpty(enhancedPlugins)) {
+			for (EnhancedPlugin plugin : enhancedPlugins) {
+				Timing timing = new Timing(plugin);
+				timingMap.put(plugin, timing);
+				timings.add(timing);
+			}
+		}
+		this.timings = Collections.unmodifiableList(timings);
+	}
+
+	/**
+	 * Get timing of plugin.
+	 *
+	 * @param plugin plugin
+	 * @return timing of plugin, or null if plugin is unknown
+	 */
+	public Timing getTiming(EnhancedPlugin plugin) {
+		return timingMap.get(plugin);
+	}
+
+	public List<Timing> getTimings() {
+		return timings;
+	}
+
+	/**
+	 * Timing of a plugin.
+	 */
+	public static final class Timing {
+
+		private final EnhancedPluginType type;
+
+		private final String name;
+
+		private final int order;
+
+		private final LongAdder count = new LongAdder();
+
+		private final LongAdder totalNanos = new LongAdder();
+
+		private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+		private Timing(EnhancedPlugin plugin) {
+			this.type = plugin.getType();
+			this.name = plugin.getName();
+			this.order = plugin.getOrder();
+		}
+
+		void record(long nanos) {
+			count.increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulate(nanos);
+		}
+
+		public EnhancedPluginType getType() {
+			return type;
+		}
+
+		/**
+		 * Get name of type, such as Client.PRE.
+		 *
+		 * @return name of type
+		 */
+		public String getTypeName() {
+			if (type instanceof Enum) {
+				return ((Enum<?>) type).getDeclaringClass().getSimpleName() + "." + ((Enum<?>) type).name();
+			}
+			return String.valueOf(type);
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public int getOrder() {
+			return order;
+		}
+
+		public long getCount() {
+			return count.sum();
+		}
+
+		public long getTotalNanos() {
+			return totalNanos.sum();
+		}
+
+		public long getMaxNanos() {
+			return maxNanos.get();
+		}
+
+		@Override
+		public String toString() {
+			return "Timing{" +
+					"type=" + getTypeName() +
+					", name='" + name + '\'' +
+					", count=" + getCount() +
+					", totalNanos=" + getTotalNanos() +
+					", maxNanos=" + getMaxNanos() +
+					'}';
+		}
+	}
+}
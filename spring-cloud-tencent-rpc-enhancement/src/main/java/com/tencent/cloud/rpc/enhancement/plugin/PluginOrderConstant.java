@@ -71,6 +71,13 @@ public class PluginOrderConstant {
 		 * {@link com.tencent.cloud.plugin.trace.TraceClientFinallyEnhancedPlugin}.
 		 */
 		public static final int TRACE_CLIENT_PLUGIN_ORDER = Ordered.HIGHEST_PRECEDENCE + 3;
+
+		/**
+		 * order for
+		 * {@link com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsPrePlugin} and
+		 * {@link com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsFinallyPlugin}.
+		 */
+		public static final int SERVICE_INSTANCE_STATS_PLUGIN_ORDER = Ordered.HIGHEST_PRECEDENCE + 4;
 	}
 
 	public static class ServerPluginOrder {
@@ -0,0 +1,139 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * Read-only {@link MultiValueMap} view over native header structure of a client or server, so that
+ * {@link EnhancedRequestContext} and {@link EnhancedResponseContext} can be filled without copying all headers.
+ * <p>
+ * Headers are read from native structure lazily, so the view is only valid while the native request or response is.
+ *
+ * @author agent 2026-10-17
+ */
+public abstract class ReadOnlyHeadersAdapter extends AbstractMap<String, List<String>>
+		implements MultiValueMap<String, String> {
+
+	/**
+	 * Get values of header.
+	 * @param key header name
+	 * @return values of header, or null if header not exists
+	 */
+	@Override
+	public abstract List<String> get(Object key);
+
+	/**
+	 * Get names of all headers.
+	 * @return header names
+	 */
+	protected abstract Collection<String> headerNames();
+
+	/**
+	 * Wrap as read-only {@link HttpHeaders}.
+	 * @return read-only http headers backed by this view
+	 */
+	public HttpHeaders toHttpHeaders() {
+		return HttpHeaders.readOnlyHttpHeaders(this);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get(key) != null;
+	}
+
+	@Override
+	public String getFirst(String key) {
+		List<String> values = get(key);
+		return CollectionUtils.isEmpty(values) ? null : values.get(0);
+	}
+
+	@Override
+	public int size() {
+		return headerNames().size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return headerNames().isEmpty();
+	}
+
+	@Override
+	public Set<String> keySet() {
+		return Collections.unmodifiableSet(new LinkedHashSet<>(headerNames()));
+	}
+
+	@Override
+	public Set<Entry<String, List<String>>> entrySet() {
+		Collection<String> names = headerNames();
+		Map<String, List<String>> headers = new LinkedHashMap<>(names.size() * 2);
+		for (String name : names) {
+			List<String> values = get(name);
+			if (values != null) {
+				headers.put(name, values);
+			}
+		}
+		return Collections.unmodifiableMap(headers).entrySet();
+	}
+
+	@Override
+	public Map<String, String> toSingleValueMap() {
+		Collection<String> names = headerNames();
+		Map<String, String> singleValueMap = new LinkedHashMap<>(names.size() * 2);
+		for (String name : names) {
+			singleValueMap.put(name, getFirst(name));
+		}
+		return singleValueMap;
+	}
+
+	@Override
+	public void add(String key, String value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void addAll(String key, List<? extends String> values) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void addAll(MultiValueMap<String, String> values) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void set(String key, String value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setAll(Map<String, String> values) {
+		throw new UnsupportedOperationException();
+	}
+}
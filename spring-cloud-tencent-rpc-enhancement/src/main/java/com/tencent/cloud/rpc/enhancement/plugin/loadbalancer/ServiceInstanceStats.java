@@ -0,0 +1,132 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Call statistics of a service instance observed by this client, including in-flight request count and
+ * exponentially weighted moving average of latency.
+ *
+ * @author agent 2026-10-17
+ */
+public class ServiceInstanceStats {
+
+	/**
+	 * Weight of newest latency in moving average.
+	 */
+	static final double EWMA_ALPHA = 0.3;
+
+	/**
+	 * Least latency sample of failed call, about a common read timeout, so that failing fast does not make instance
+	 * look fast.
+	 */
+	static final long FAILURE_PENALTY_MILLIS = 1000;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	/**
+	 * In-flight request count of all instances of same service, shared by their stats.
+	 */
+	private final AtomicInteger serviceInFlight;
+
+	/**
+	 * Bits of double, negative means no latency recorded.
+	 */
+	private final AtomicLong ewmaLatencyBits = new AtomicLong(Double.doubleToRawLongBits(-1.0));
+
+	private volatile long lastAccessMillis = System.currentTimeMillis();
+
+	public ServiceInstanceStats() {
+		this(new AtomicInteger());
+	}
+
+	ServiceInstanceStats(AtomicInteger serviceInFlight) {
+		this.serviceInFlight = serviceInFlight;
+	}
+
+	void incrementInFlight() {
+		inFlight.incrementAndGet();
+		serviceInFlight.incrementAndGet();
+		lastAccessMillis = System.currentTimeMillis();
+	}
+
+	void decrementInFlight() {
+		if (inFlight.getAndUpdate(value -> value > 0 ? value - 1 : 0) > 0) {
+			serviceInFlight.decrementAndGet();
+		}
+	}
+
+	void recordLatency(long latencyMillis) {
+		double latency = Math.max(0, latencyMillis);
+		long prevBits;
+		long nextBits;
+		do {
+			prevBits = ewmaLatencyBits.get();
+			double prev = Double.longBitsToDouble(prevBits);
+			double next = prev < 0 ? latency : prev + EWMA_ALPHA * (latency - prev);
+			nextBits = Double.doubleToRawLongBits(next);
+		}
+		while (!ewmaLatencyBits.compareAndSet(prevBits, nextBits));
+		lastAccessMillis = System.currentTimeMillis();
+	}
+
+	/**
+	 * Record latency of failed call, penalized to at least {@link #FAILURE_PENALTY_MILLIS}.
+	 *
+	 * @param latencyMillis elapsed time of call
+	 */
+	void recordFailure(long latencyMillis) {
+		recordLatency(Math.max(latencyMillis, FAILURE_PENALTY_MILLIS));
+	}
+
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	/**
+	 * Get moving average of latency.
+	 *
+	 * @return moving average of latency in milliseconds, or 0 if no latency recorded
+	 */
+	public double getEwmaLatency() {
+		return Math.max(0, Double.longBitsToDouble(ewmaLatencyBits.get()));
+	}
+
+	/**
+	 * Whether any latency is recorded.
+	 *
+	 * @return true if any latency is recorded
+	 */
+	public boolean hasLatency() {
+		return Double.longBitsToDouble(ewmaLatencyBits.get()) >= 0;
+	}
+
+	long getLastAccessMillis() {
+		return lastAccessMillis;
+	}
+
+	@Override
+	public String toString() {
+		return "ServiceInstanceStats{" +
+				"inFlight=" + getInFlight() +
+				", ewmaLatency=" + getEwmaLatency() +
+				'}';
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.loadbalancer;
+
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPlugin;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedResponseContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.tencent.cloud.rpc.enhancement.plugin.PluginOrderConstant.ClientPluginOrder.SERVICE_INSTANCE_STATS_PLUGIN_ORDER;
+import static com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsPrePlugin.START_NANOS_KEY;
+import static com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsPrePlugin.STATS_KEY;
+
+/**
+ * Record latency and release in-flight request of target instance after call, whether it succeeds, fails or is
+ * cancelled. Latency of failed call is penalized.
+ *
+ * @author agent 2026-10-17
+ */
+public class ServiceInstanceStatsFinallyPlugin implements EnhancedPlugin {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ServiceInstanceStatsFinallyPlugin.class);
+
+	@Override
+	public String getName() {
+		return ServiceInstanceStatsFinallyPlugin.class.getName();
+	}
+
+	@Override
+	public EnhancedPluginType getType() {
+		return EnhancedPluginType.Client.FINALLY;
+	}
+
+	@Override
+	public void run(EnhancedPluginContext context) {
+		Object stats = context.getExtraData().remove(STATS_KEY);
+		if (!(stats instanceof ServiceInstanceStats)) {
+			return;
+		}
+		ServiceInstanceStats instanceStats = (ServiceInstanceStats) stats;
+		instanceStats.decrementInFlight();
+		// delay is not set when call is cancelled, so elapsed time since pre plugin is recorded at least.
+		long latency = Math.max(elapsedMillis(context), context.getDelay());
+		if (isFailed(context)) {
+			instanceStats.recordFailure(latency);
+		}
+		else {
+			instanceStats.recordLatency(latency);
+		}
+	}
+
+	private static long elapsedMillis(EnhancedPluginContext context) {
+		Object startNanos = context.getExtraData().remove(START_NANOS_KEY);
+		if (!(startNanos instanceof Long)) {
+			return 0;
+		}
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - (Long) startNanos);
+	}
+
+	private static boolean isFailed(EnhancedPluginContext context) {
+		if (context.getThrowable() != null) {
+			return true;
+		}
+		EnhancedResponseContext response = context.getResponse();
+		return response != null && response.getHttpStatus() != null && response.getHttpStatus() >= 500;
+	}
+
+	@Override
+	public void handlerThrowable(EnhancedPluginContext context, Throwable throwable) {
+		LOG.error("ServiceInstanceStatsFinallyPlugin runs failed. context=[{}].", context, throwable);
+	}
+
+	@Override
+	public int getOrder() {
+		return SERVICE_INSTANCE_STATS_PLUGIN_ORDER;
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.loadbalancer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.util.StringUtils;
+
+/**
+ * Manager of {@link ServiceInstanceStats} of each instance, keyed by host and port, and in-flight request count of
+ * each service. Filled by enhanced plugins and read by load balancers.
+ *
+ * @author agent 2026-10-17
+ */
+public class ServiceInstanceStatsManager {
+
+	/**
+	 * Stats not accessed within this time and without in-flight request are removed.
+	 */
+	static final long IDLE_EXPIRE_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+	private static final long CLEAN_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+	private final Map<String, ServiceInstanceStats> statsMap = new ConcurrentHashMap<>();
+
+	private final Map<String, AtomicInteger> serviceInFlightMap = new ConcurrentHashMap<>();
+
+	private final AtomicLong lastCleanMillis = new AtomicLong(System.currentTimeMillis());
+
+	/**
+	 * Get stats key of instance. Load balancers may compute it once for each instance list and look up stats with
+	 * {@link #getStats(String)} to avoid building key for each request.
+	 *
+	 * @param serviceInstance instance
+	 * @return stats key of instance, or null if instance has no host
+	 */
+	public static String keyOf(ServiceInstance serviceInstance) {
+		if (serviceInstance == null || !StringUtils.hasText(serviceInstance.getHost())) {
+			return null;
+		}
+		return serviceInstance.getHost() + ":" + serviceInstance.getPort();
+	}
+
+	/**
+	 * Get stats of instance.
+	 *
+	 * @param serviceInstance instance
+	 * @return stats of instance, or null if nothing recorded
+	 */
+	public ServiceInstanceStats getStats(ServiceInstance serviceInstance) {
+		String key = keyOf(serviceInstance);
+		return getStats(key);
+	}
+
+	/**
+	 * Get stats by key from {@link #keyOf(ServiceInstance)}.
+	 *
+	 * @param key stats key
+	 * @return stats of key, or null if nothing recorded
+	 */
+	public ServiceInstanceStats getStats(String key) {
+		return key == null ? null : statsMap.get(key);
+	}
+
+	/**
+	 * Get in-flight request count of all instances of service, counted with stats of each instance instead of summed
+	 * over them.
+	 *
+	 * @param serviceId service id
+	 * @return in-flight request count of service
+	 */
+	public int getServiceInFlight(String serviceId) {
+		AtomicInteger serviceInFlight = serviceId == null ? null : serviceInFlightMap.get(serviceId);
+		return serviceInFlight == null ? 0 : serviceInFlight.get();
+	}
+
+	/**
+	 * Get stats of instance, create if absent.
+	 *
+	 * @param serviceInstance instance
+	 * @return stats of instance, or null if instance has no host
+	 */
+	ServiceInstanceStats getOrCreateStats(ServiceInstance serviceInstance) {
+		String key = keyOf(serviceInstance);
+		if (key == null) {
+			return null;
+		}
+		ServiceInstanceStats stats = statsMap.get(key);
+		if (stats == null) {
+			AtomicInteger serviceInFlight = serviceInFlightMap.computeIfAbsent(
+					String.valueOf(serviceInstance.getServiceId()), serviceId -> new AtomicInteger());
+			stats = statsMap.computeIfAbsent(key, k -> new ServiceInstanceStats(serviceInFlight));
+			cleanIdleStats();
+		}
+		return stats;
+	}
+
+	private void cleanIdleStats() {
+		long now = System.currentTimeMillis();
+		long last = lastCleanMillis.get();
+		if (now - last < CLEAN_INTERVAL_MILLIS || !lastCleanMillis.compareAndSet(last, now)) {
+			return;
+		}
+		statsMap.values().removeIf(stats -> stats.getInFlight() == 0
+				&& now - stats.getLastAccessMillis() > IDLE_EXPIRE_MILLIS);
+	}
+
+	int size() {
+		return statsMap.size();
+	}
+}
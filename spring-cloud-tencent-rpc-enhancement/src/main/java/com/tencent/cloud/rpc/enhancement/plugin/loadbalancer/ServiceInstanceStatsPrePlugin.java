@@ -0,0 +1,83 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.loadbalancer;
+
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPlugin;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.tencent.cloud.rpc.enhancement.plugin.PluginOrderConstant.ClientPluginOrder.SERVICE_INSTANCE_STATS_PLUGIN_ORDER;
+
+/**
+ * Count in-flight request of target instance and mark start time before call.
+ *
+ * @author agent 2026-10-17
+ */
+public class ServiceInstanceStatsPrePlugin implements EnhancedPlugin {
+
+	/**
+	 * Key of {@link ServiceInstanceStats} in extra data of {@link EnhancedPluginContext}.
+	 */
+	static final String STATS_KEY = ServiceInstanceStats.class.getName();
+
+	/**
+	 * Key of call start time in nanoseconds in extra data of {@link EnhancedPluginContext}.
+	 */
+	static final String START_NANOS_KEY = ServiceInstanceStats.class.getName() + ".START_NANOS";
+
+	private static final Logger LOG = LoggerFactory.getLogger(ServiceInstanceStatsPrePlugin.class);
+
+	private final ServiceInstanceStatsManager statsManager;
+
+	public ServiceInstanceStatsPrePlugin(ServiceInstanceStatsManager statsManager) {
+		this.statsManager = statsManager;
+	}
+
+	@Override
+	public String getName() {
+		return ServiceInstanceStatsPrePlugin.class.getName();
+	}
+
+	@Override
+	public EnhancedPluginType getType() {
+		return EnhancedPluginType.Client.PRE;
+	}
+
+	@Override
+	public void run(EnhancedPluginContext context) {
+		ServiceInstanceStats stats = statsManager.getOrCreateStats(context.getTargetServiceInstance());
+		if (stats == null) {
+			return;
+		}
+		stats.incrementInFlight();
+		context.getExtraData().put(START_NANOS_KEY, System.nanoTime());
+		context.getExtraData().put(STATS_KEY, stats);
+	}
+
+	@Override
+	public void handlerThrowable(EnhancedPluginContext context, Throwable throwable) {
+		LOG.error("ServiceInstanceStatsPrePlugin runs failed. context=[{}].", context, throwable);
+	}
+
+	@Override
+	public int getOrder() {
+		return SERVICE_INSTANCE_STATS_PLUGIN_ORDER;
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.reporter;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.tencent.cloud.rpc.enhancement.config.RpcEnhancementReporterProperties;
+import com.tencent.polaris.api.core.ConsumerAPI;
+import com.tencent.polaris.api.rpc.ServiceCallResult;
+import com.tencent.polaris.api.utils.ThreadPoolUtils;
+import com.tencent.polaris.client.util.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Report {@link ServiceCallResult} to polaris asynchronously.
+ * Results are put on a bounded lock-free queue and drained in batches by a dedicated thread,
+ * so the caller thread only pays for an enqueue.
+ *
+ * @author agent 2026-10-17
+ */
+public class AsyncServiceCallResultReporter implements DisposableBean {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AsyncServiceCallResultReporter.class);
+
+	private final ConsumerAPI consumerAPI;
+
+	private final int queueCapacity;
+
+	private final int batchSize;
+
+	private final RpcEnhancementReporterProperties.OverflowPolicy overflowPolicy;
+
+	private final ConcurrentLinkedQueue<PendingResult> queue = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger queueDepth = new AtomicInteger();
+
+	private final AtomicLong droppedCount = new AtomicLong();
+
+	private final AtomicLong callerRunsCount = new AtomicLong();
+
+	private final AtomicLong reportedCount = new AtomicLong();
+
+	private final ScheduledExecutorService drainExecutor = Executors.newSingleThreadScheduledExecutor(
+			new NamedThreadFactory("sct-call-result-reporter", true));
+
+	private volatile long drainLagMillis;
+
+	public AsyncServiceCallResultReporter(RpcEnhancementReporterProperties reportProperties, ConsumerAPI consumerAPI) {
+		RpcEnhancementReporterProperties.Async async = reportProperties.getAsync();
+		this.consumerAPI = consumerAPI;
+		this.queueCapacity = Math.max(1, async.getQueueCapacity());
+		this.batchSize = Math.max(1, async.getBatchSize());
+		this.overflowPolicy = async.getOverflowPolicy() == null
+				? RpcEnhancementReporterProperties.OverflowPolicy.DROP_OLDEST : async.getOverflowPolicy();
+		long drainInterval = Math.max(1, async.getDrainInterval());
+		drainExecutor.scheduleWithFixedDelay(this::drain, drainInterval, drainInterval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Put the call result on the queue. Overflow is handled by the configured {@link RpcEnhancementReporterProperties.OverflowPolicy}.
+	 *
+	 * @param result call result
+	 */
+	public void report(ServiceCallResult result) {
+		if (queueDepth.incrementAndGet() > queueCapacity) {
+			switch (overflowPolicy) {
+			case DROP_NEWEST:
+				queueDepth.decrementAndGet();
+				droppedCount.incrementAndGet();
+				return;
+			case CALLER_RUNS:
+				queueDepth.decrementAndGet();
+				callerRunsCount.incrementAndGet();
+				doReport(result);
+				return;
+			case DROP_OLDEST:
+			default:
+				// the drain thread may have emptied the queue concurrently, only count what was actually evicted.
+				PendingResult evicted = queue.poll();
+				if (evicted != null) {
+					queueDepth.decrementAndGet();
+					droppedCount.incrementAndGet();
+				}
+				break;
+			}
+		}
+		queue.offer(new PendingResult(result, System.nanoTime()));
+	}
+
+	/**
+	 * Drain the queue in batches until it is empty.
+	 */
+	void drain() {
+		try {
+			int drained;
+			do {
+				drained = 0;
+				PendingResult pending;
+				while (drained < batchSize && (pending = queue.poll()) != null) {
+					queueDepth.decrementAndGet();
+					drainLagMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pending.enqueueNanos);
+					doReport(pending.result);
+					drained++;
+				}
+			}
+			while (drained == batchSize);
+		}
+		catch (Throwable throwable) {
+			LOG.error("Drain ServiceCallResult queue failed.", throwable);
+		}
+	}
+
+	private void doReport(ServiceCallResult result) {
+		try {
+			consumerAPI.updateServiceCallResult(result);
+			reportedCount.incrementAndGet();
+		}
+		catch (Throwable throwable) {
+			LOG.warn("Report ServiceCallResult failed. result=[{}].", result, throwable);
+		}
+	}
+
+	/**
+	 * @return number of call results waiting to be reported
+	 */
+	public int getQueueDepth() {
+		return Math.max(0, queueDepth.get());
+	}
+
+	/**
+	 * @return number of call results dropped because the queue is full
+	 */
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	/**
+	 * @return number of call results reported on the caller thread because the queue is full
+	 */
+	public long getCallerRunsCount() {
+		return callerRunsCount.get();
+	}
+
+	/**
+	 * @return number of call results reported to polaris
+	 */
+	public long getReportedCount() {
+		return reportedCount.get();
+	}
+
+	/**
+	 * @return time in milliseconds the last drained call result waited in the queue
+	 */
+	public long getDrainLagMillis() {
+		return drainLagMillis;
+	}
+
+	@Override
+	public void destroy() {
+		ThreadPoolUtils.waitAndStopThreadPools(new ExecutorService[] {drainExecutor});
+		drain();
+	}
+
+	private static final class PendingResult {
+
+		private final ServiceCallResult result;
+
+		private final long enqueueNanos;
+
+		private PendingResult(ServiceCallResult result, long enqueueNanos) {
+			this.result = result;
+			this.enqueueNanos = enqueueNanos;
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.reporter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Bind queue statistics of {@link AsyncServiceCallResultReporter} to micrometer.
+ *
+ * @author agent 2026-10-17
+ */
+public class AsyncServiceCallResultReporterMeterBinder implements MeterBinder {
+
+	/**
+	 * Number of call results waiting to be reported.
+	 */
+	public static final String QUEUE_DEPTH = "sct.reporter.async.queue.depth";
+
+	/**
+	 * Number of call results dropped because the queue is full.
+	 */
+	public static final String DROPPED = "sct.reporter.async.dropped";
+
+	/**
+	 * Number of call results reported on the caller thread because the queue is full.
+	 */
+	public static final String CALLER_RUNS = "sct.reporter.async.caller.runs";
+
+	/**
+	 * Number of call results reported to polaris.
+	 */
+	public static final String REPORTED = "sct.reporter.async.reported";
+
+	/**
+	 * Time the last drained call result waited in the queue.
+	 */
+	public static final String DRAIN_LAG = "sct.reporter.async.drain.lag";
+
+	private final AsyncServiceCallResultReporter reporter;
+
+	public AsyncServiceCallResultReporterMeterBinder(AsyncServiceCallResultReporter reporter) {
+		this.reporter = reporter;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder(QUEUE_DEPTH, reporter, AsyncServiceCallResultReporter::getQueueDepth)
+				.description("Number of call results waiting to be reported")
+				.register(registry);
+		FunctionCounter.builder(DROPPED, reporter, AsyncServiceCallResultReporter::getDroppedCount)
+				.description("Number of call results dropped because the queue is full")
+				.register(registry);
+		FunctionCounter.builder(CALLER_RUNS, reporter, AsyncServiceCallResultReporter::getCallerRunsCount)
+				.description("Number of call results reported on the caller thread because the queue is full")
+				.register(registry);
+		FunctionCounter.builder(REPORTED, reporter, AsyncServiceCallResultReporter::getReportedCount)
+				.description("Number of call results reported to polaris")
+				.register(registry);
+		Gauge.builder(DRAIN_LAG, reporter, r -> r.getDrainLagMillis() / 1e3)
+				.baseUnit("seconds")
+				.description("Time the last drained call result waited in the queue")
+				.register(registry);
+	}
+}
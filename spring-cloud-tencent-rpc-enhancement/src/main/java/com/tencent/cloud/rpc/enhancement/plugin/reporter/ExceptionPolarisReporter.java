@@ -49,10 +49,18 @@ public class ExceptionPolarisReporter implements EnhancedPlugin {
 
 	private final RpcEnhancementReporterProperties reportProperties;
 
+	private final AsyncServiceCallResultReporter asyncReporter;
+
 	public ExceptionPolarisReporter(RpcEnhancementReporterProperties reportProperties,
 			ConsumerAPI consumerAPI) {
+		this(reportProperties, consumerAPI, null);
+	}
+
+	public ExceptionPolarisReporter(RpcEnhancementReporterProperties reportProperties,
+			ConsumerAPI consumerAPI, AsyncServiceCallResultReporter asyncReporter) {
 		this.reportProperties = reportProperties;
 		this.consumerAPI = consumerAPI;
+		this.asyncReporter = asyncReporter;
 	}
 
 	@Override
@@ -91,7 +99,12 @@ public class ExceptionPolarisReporter implements EnhancedPlugin {
 		LOG.debug("Will report ServiceCallResult of {}. Request=[{} {}]. Response=[{}]. Delay=[{}]ms.",
 				resultRequest.getRetStatus().name(), request.getHttpMethod().name(), request.getUrl().getPath(), context.getThrowable().getMessage(), context.getDelay());
 
-		consumerAPI.updateServiceCallResult(resultRequest);
+		if (asyncReporter != null) {
+			asyncReporter.report(resultRequest);
+		}
+		else {
+			consumerAPI.updateServiceCallResult(resultRequest);
+		}
 
 	}
 
@@ -49,10 +49,18 @@ public class SuccessPolarisReporter implements EnhancedPlugin {
 
 	private final RpcEnhancementReporterProperties reportProperties;
 
+	private final AsyncServiceCallResultReporter asyncReporter;
+
 	public SuccessPolarisReporter(RpcEnhancementReporterProperties reportProperties,
 			ConsumerAPI consumerAPI) {
+		this(reportProperties, consumerAPI, null);
+	}
+
+	public SuccessPolarisReporter(RpcEnhancementReporterProperties reportProperties,
+			ConsumerAPI consumerAPI, AsyncServiceCallResultReporter asyncReporter) {
 		this.reportProperties = reportProperties;
 		this.consumerAPI = consumerAPI;
+		this.asyncReporter = asyncReporter;
 	}
 
 	@Override
@@ -92,7 +100,12 @@ public class SuccessPolarisReporter implements EnhancedPlugin {
 		LOG.debug("Will report ServiceCallResult of {}. Request=[{} {}]. Response=[{}]. Delay=[{}]ms.",
 				resultRequest.getRetStatus().name(), request.getHttpMethod().name(), request.getUrl().getPath(), response.getHttpStatus(), context.getDelay());
 
-		consumerAPI.updateServiceCallResult(resultRequest);
+		if (asyncReporter != null) {
+			asyncReporter.report(resultRequest);
+		}
+		else {
+			consumerAPI.updateServiceCallResult(resultRequest);
+		}
 
 	}
 
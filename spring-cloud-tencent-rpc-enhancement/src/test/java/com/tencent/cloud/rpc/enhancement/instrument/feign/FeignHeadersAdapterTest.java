@@ -0,0 +1,85 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.instrument.feign;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.http.HttpHeaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link FeignHeadersAdapter}.
+ *
+ * @author agent 2026-10-17
+ */
+public class FeignHeadersAdapterTest {
+
+	@Test
+	public void testCaseInsensitiveHeaders() {
+		Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		headers.put("X-Trace", Arrays.asList("t1", "t2"));
+		headers.put("Content-Type", new HashSet<>(Collections.singletonList("application/json")));
+
+		HttpHeaders httpHeaders = new FeignHeadersAdapter(headers).toHttpHeaders();
+
+		assertThat(httpHeaders.get("x-trace")).containsExactly("t1", "t2");
+		assertThat(httpHeaders.getFirst("content-type")).isEqualTo("application/json");
+		assertThat(httpHeaders.containsKey("x-none")).isFalse();
+		assertThat(httpHeaders.keySet()).containsExactly("Content-Type", "X-Trace");
+		assertThat(httpHeaders.size()).isEqualTo(2);
+		assertThatThrownBy(() -> httpHeaders.add("X-Trace", "t3")).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	public void testCaseSensitiveMap() {
+		Map<String, Collection<String>> headers = new HashMap<>();
+		headers.put("X-Trace", Collections.singletonList("t1"));
+
+		HttpHeaders httpHeaders = new FeignHeadersAdapter(headers).toHttpHeaders();
+
+		assertThat(httpHeaders.getFirst("x-trace")).isEqualTo("t1");
+		assertThat(httpHeaders.get("x-none")).isNull();
+	}
+
+	@Test
+	public void testGetTargetServiceInstance() {
+		ServiceInstance serviceInstance = EnhancedFeignClient.getTargetServiceInstance("test-svc",
+				URI.create("http://10.0.0.1:8080/test"));
+
+		assertThat(serviceInstance.getInstanceId()).isEqualTo("test-svc-10.0.0.1-8080");
+		assertThat(serviceInstance.getHost()).isEqualTo("10.0.0.1");
+		assertThat(serviceInstance.getPort()).isEqualTo(8080);
+		assertThat(serviceInstance.isSecure()).isFalse();
+		assertThat(EnhancedFeignClient.getTargetServiceInstance("test-svc", URI.create("http://10.0.0.1:8080/other")))
+				.isSameAs(serviceInstance);
+		assertThat(EnhancedFeignClient.getTargetServiceInstance("test-svc", URI.create("https://10.0.0.1:8080/test"))
+				.isSecure()).isTrue();
+	}
+}
@@ -20,6 +20,8 @@ package com.tencent.cloud.rpc.enhancement.instrument.scg;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.common.metadata.StaticMetadataManager;
@@ -27,6 +29,9 @@ import com.tencent.cloud.common.metadata.config.MetadataLocalProperties;
 import com.tencent.cloud.common.util.ApplicationContextAwareUtils;
 import com.tencent.cloud.rpc.enhancement.config.RpcEnhancementReporterProperties;
 import com.tencent.cloud.rpc.enhancement.plugin.DefaultEnhancedPluginRunner;
+import com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsFinallyPlugin;
+import com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsManager;
+import com.tencent.cloud.rpc.enhancement.plugin.loadbalancer.ServiceInstanceStatsPrePlugin;
 import com.tencent.polaris.client.api.SDKContext;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -39,6 +44,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 
+import org.springframework.cloud.client.DefaultServiceInstance;
 import org.springframework.cloud.client.serviceregistry.Registration;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.route.Route;
@@ -51,6 +57,7 @@ import org.springframework.web.server.ServerWebExchange;
 
 import static com.tencent.polaris.test.common.Consts.NAMESPACE_TEST;
 import static com.tencent.polaris.test.common.Consts.SERVICE_PROVIDER;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
@@ -128,4 +135,32 @@ public class EnhancedGatewayGlobalFilterTest {
 		assertThatThrownBy(() -> reporter.filter(exchange, chain).block()).isInstanceOf(RuntimeException.class);
 
 	}
+
+	@Test
+	public void testStatsOfTargetInstance() throws URISyntaxException {
+		doReturn(new URI("http://0.0.0.0/")).when(request).getURI();
+		doReturn(new HttpHeaders()).when(request).getHeaders();
+		doReturn(HttpMethod.GET).when(request).getMethod();
+		doReturn(new HttpHeaders()).when(response).getHeaders();
+		Route route = mock(Route.class);
+		doReturn(new URI("lb://TEST/")).when(route).getUri();
+		doReturn(route).when(exchange).getAttribute(GATEWAY_ROUTE_ATTR);
+		doReturn(new URI("http://127.0.0.1:8080/")).when(exchange).getAttribute(GATEWAY_REQUEST_URL_ATTR);
+		doReturn(request).when(exchange).getRequest();
+		doReturn(response).when(exchange).getResponse();
+
+		ServiceInstanceStatsManager statsManager = new ServiceInstanceStatsManager();
+		DefaultServiceInstance target = new DefaultServiceInstance("ins", "TEST", "127.0.0.1", 8080, false);
+		AtomicInteger inFlight = new AtomicInteger(-1);
+		doReturn(Mono.fromRunnable(() -> inFlight.set(statsManager.getStats(target).getInFlight())))
+				.when(chain).filter(exchange);
+
+		EnhancedGatewayGlobalFilter filter = new EnhancedGatewayGlobalFilter(new DefaultEnhancedPluginRunner(
+				Arrays.asList(new ServiceInstanceStatsPrePlugin(statsManager), new ServiceInstanceStatsFinallyPlugin()),
+				registration, null));
+		filter.filter(exchange, chain).block();
+
+		assertThat(inFlight.get()).isEqualTo(1);
+		assertThat(statsManager.getStats(target).getInFlight()).isEqualTo(0);
+	}
 }
@@ -0,0 +1,125 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.client.serviceregistry.Registration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test for {@link DefaultEnhancedPluginRunner}.
+ *
+ * @author agent 2026-10-17
+ */
+public class DefaultEnhancedPluginRunnerTest {
+
+	@Test
+	public void testRunInOrderOfType() {
+		List<String> called = new ArrayList<>();
+		List<EnhancedPlugin> plugins = Arrays.asList(
+				new TestPlugin("post-2", EnhancedPluginType.Client.POST, 2, called, false),
+				new TestPlugin("pre", EnhancedPluginType.Client.PRE, 0, called, false),
+				new TestPlugin("post-1", EnhancedPluginType.Client.POST, 1, called, true));
+		EnhancedPluginRunner runner = new DefaultEnhancedPluginRunner(plugins, mock(Registration.class), null);
+
+		runner.run(EnhancedPluginType.Client.POST, new EnhancedPluginContext());
+		assertThat(called).containsExactly("post-1", "post-1-throwable", "post-2");
+
+		called.clear();
+		runner.run(EnhancedPluginType.Client.EXCEPTION, new EnhancedPluginContext());
+		assertThat(called).isEmpty();
+	}
+
+	@Test
+	public void testTiming() {
+		List<String> called = new ArrayList<>();
+		TestPlugin pre = new TestPlugin("pre", EnhancedPluginType.Client.PRE, 0, called, false);
+		TestPlugin post = new TestPlugin("post", EnhancedPluginType.Client.POST, 0, called, true);
+		EnhancedPluginTimer timer = new EnhancedPluginTimer(Arrays.asList(pre, post));
+		EnhancedPluginRunner runner = new DefaultEnhancedPluginRunner(Arrays.asList(pre, post),
+				mock(Registration.class), null, timer);
+
+		runner.run(EnhancedPluginType.Client.PRE, new EnhancedPluginContext());
+		runner.run(EnhancedPluginType.Client.PRE, new EnhancedPluginContext());
+		runner.run(EnhancedPluginType.Client.POST, new EnhancedPluginContext());
+
+		EnhancedPluginTimer.Timing preTiming = timer.getTiming(pre);
+		assertThat(preTiming.getCount()).isEqualTo(2);
+		assertThat(preTiming.getTypeName()).isEqualTo("Client.PRE");
+		assertThat(preTiming.getName()).isEqualTo("pre");
+		assertThat(preTiming.getTotalNanos()).isGreaterThanOrEqualTo(preTiming.getMaxNanos());
+		assertThat(timer.getTiming(post).getCount()).isEqualTo(1);
+		assertThat(timer.getTimings()).hasSize(2);
+	}
+
+	private static final class TestPlugin implements EnhancedPlugin {
+
+		private final String name;
+
+		private final EnhancedPluginType type;
+
+		private final int order;
+
+		private final List<String> called;
+
+		private final boolean fail;
+
+		private TestPlugin(String name, EnhancedPluginType type, int order, List<String> called, boolean fail) {
+			this.name = name;
+			this.type = type;
+			this.order = order;
+			this.called = called;
+			this.fail = fail;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public EnhancedPluginType getType() {
+			return type;
+		}
+
+		@Override
+		public void run(EnhancedPluginContext context) {
+			called.add(name);
+			if (fail) {
+				throw new IllegalStateException(name);
+			}
+		}
+
+		@Override
+		public void handlerThrowable(EnhancedPluginContext context, Throwable throwable) {
+			called.add(name + "-throwable");
+		}
+
+		@Override
+		public int getOrder() {
+			return order;
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.loadbalancer;
+
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedResponseContext;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link ServiceInstanceStatsPrePlugin} and {@link ServiceInstanceStatsFinallyPlugin}.
+ *
+ * @author agent 2026-10-17
+ */
+public class ServiceInstanceStatsPluginTest {
+
+	private final ServiceInstanceStatsManager statsManager = new ServiceInstanceStatsManager();
+
+	private final ServiceInstanceStatsPrePlugin prePlugin = new ServiceInstanceStatsPrePlugin(statsManager);
+
+	private final ServiceInstanceStatsFinallyPlugin finallyPlugin = new ServiceInstanceStatsFinallyPlugin();
+
+	@Test
+	public void testRecordStats() {
+		ServiceInstance instance = new DefaultServiceInstance("id", "svc", "127.0.0.1", 8080, false);
+		assertThat(prePlugin.getType()).isEqualTo(EnhancedPluginType.Client.PRE);
+		assertThat(finallyPlugin.getType()).isEqualTo(EnhancedPluginType.Client.FINALLY);
+
+		EnhancedPluginContext context1 = context(instance);
+		EnhancedPluginContext context2 = context(instance);
+		prePlugin.run(context1);
+		prePlugin.run(context2);
+		ServiceInstanceStats stats = statsManager.getStats(instance);
+		assertThat(stats.getInFlight()).isEqualTo(2);
+		assertThat(stats.hasLatency()).isFalse();
+
+		context1.setDelay(100);
+		finallyPlugin.run(context1);
+		assertThat(stats.getInFlight()).isEqualTo(1);
+		assertThat(stats.getEwmaLatency()).isEqualTo(100);
+
+		context2.setDelay(200);
+		finallyPlugin.run(context2);
+		assertThat(stats.getInFlight()).isZero();
+		assertThat(stats.getEwmaLatency()).isEqualTo(100 + ServiceInstanceStats.EWMA_ALPHA * 100);
+
+		// finally without pre does not change stats.
+		finallyPlugin.run(context2);
+		assertThat(stats.getInFlight()).isZero();
+	}
+
+	@Test
+	public void testPenalizeFailedCall() {
+		ServiceInstance instance = new DefaultServiceInstance("id", "svc", "127.0.0.1", 8080, false);
+		EnhancedPluginContext context = context(instance);
+		prePlugin.run(context);
+		context.setDelay(10);
+		context.setThrowable(new RuntimeException("connect refused"));
+		finallyPlugin.run(context);
+		assertThat(statsManager.getStats(instance).getEwmaLatency())
+				.isEqualTo(ServiceInstanceStats.FAILURE_PENALTY_MILLIS);
+
+		ServiceInstance instance2 = new DefaultServiceInstance("id2", "svc", "127.0.0.2", 8080, false);
+		EnhancedPluginContext context2 = context(instance2);
+		prePlugin.run(context2);
+		context2.setDelay(10);
+		context2.setResponse(EnhancedResponseContext.builder().httpStatus(503).build());
+		finallyPlugin.run(context2);
+		assertThat(statsManager.getStats(instance2).getEwmaLatency())
+				.isEqualTo(ServiceInstanceStats.FAILURE_PENALTY_MILLIS);
+	}
+
+	@Test
+	public void testRecordElapsedTimeWhenCancelled() throws InterruptedException {
+		ServiceInstance instance = new DefaultServiceInstance("id", "svc", "127.0.0.1", 8080, false);
+		EnhancedPluginContext context = context(instance);
+		prePlugin.run(context);
+		Thread.sleep(50);
+		// delay and response are not set when call is cancelled.
+		finallyPlugin.run(context);
+		ServiceInstanceStats stats = statsManager.getStats(instance);
+		assertThat(stats.getInFlight()).isZero();
+		assertThat(stats.hasLatency()).isTrue();
+		assertThat(stats.getEwmaLatency()).isGreaterThanOrEqualTo(50);
+	}
+
+	@Test
+	public void testInstanceWithoutHost() {
+		EnhancedPluginContext context = context(new DefaultServiceInstance());
+		prePlugin.run(context);
+		finallyPlugin.run(context);
+		assertThat(statsManager.size()).isZero();
+	}
+
+	private static EnhancedPluginContext context(ServiceInstance instance) {
+		EnhancedPluginContext context = new EnhancedPluginContext();
+		context.setTargetServiceInstance(instance, null);
+		return context;
+	}
+}
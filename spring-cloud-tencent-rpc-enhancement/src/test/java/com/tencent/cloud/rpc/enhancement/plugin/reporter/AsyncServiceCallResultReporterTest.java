@@ -0,0 +1,121 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.reporter;
+
+import com.tencent.cloud.rpc.enhancement.config.RpcEnhancementReporterProperties;
+import com.tencent.polaris.api.core.ConsumerAPI;
+import com.tencent.polaris.api.rpc.ServiceCallResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test for {@link AsyncServiceCallResultReporter}.
+ *
+ * @author agent 2026-10-17
+ */
+@ExtendWith(MockitoExtension.class)
+public class AsyncServiceCallResultReporterTest {
+
+	@Mock
+	private ConsumerAPI consumerAPI;
+
+	private AsyncServiceCallResultReporter createReporter(RpcEnhancementReporterProperties.OverflowPolicy policy) {
+		RpcEnhancementReporterProperties properties = new RpcEnhancementReporterProperties();
+		properties.getAsync().setEnabled(true);
+		properties.getAsync().setQueueCapacity(2);
+		properties.getAsync().setBatchSize(1);
+		// make sure drain thread does not run during test.
+		properties.getAsync().setDrainInterval(60 * 60 * 1000L);
+		properties.getAsync().setOverflowPolicy(policy);
+		return new AsyncServiceCallResultReporter(properties, consumerAPI);
+	}
+
+	@Test
+	public void testDropOldest() {
+		AsyncServiceCallResultReporter reporter = createReporter(RpcEnhancementReporterProperties.OverflowPolicy.DROP_OLDEST);
+		for (int i = 0; i < 3; i++) {
+			reporter.report(new ServiceCallResult());
+		}
+		assertThat(reporter.getQueueDepth()).isEqualTo(2);
+		assertThat(reporter.getDroppedCount()).isEqualTo(1);
+		verify(consumerAPI, never()).updateServiceCallResult(any());
+
+		reporter.destroy();
+		verify(consumerAPI, times(2)).updateServiceCallResult(any());
+		assertThat(reporter.getQueueDepth()).isEqualTo(0);
+		assertThat(reporter.getReportedCount()).isEqualTo(2);
+		assertThat(reporter.getDrainLagMillis()).isGreaterThanOrEqualTo(0);
+	}
+
+	@Test
+	public void testDropNewest() {
+		AsyncServiceCallResultReporter reporter = createReporter(RpcEnhancementReporterProperties.OverflowPolicy.DROP_NEWEST);
+		ServiceCallResult newest = new ServiceCallResult();
+		reporter.report(new ServiceCallResult());
+		reporter.report(new ServiceCallResult());
+		reporter.report(newest);
+		assertThat(reporter.getQueueDepth()).isEqualTo(2);
+		assertThat(reporter.getDroppedCount()).isEqualTo(1);
+
+		reporter.destroy();
+		verify(consumerAPI, never()).updateServiceCallResult(same(newest));
+		verify(consumerAPI, times(2)).updateServiceCallResult(any());
+	}
+
+	@Test
+	public void testCallerRuns() {
+		AsyncServiceCallResultReporter reporter = createReporter(RpcEnhancementReporterProperties.OverflowPolicy.CALLER_RUNS);
+		ServiceCallResult newest = new ServiceCallResult();
+		reporter.report(new ServiceCallResult());
+		reporter.report(new ServiceCallResult());
+		reporter.report(newest);
+		assertThat(reporter.getQueueDepth()).isEqualTo(2);
+		assertThat(reporter.getDroppedCount()).isEqualTo(0);
+		assertThat(reporter.getCallerRunsCount()).isEqualTo(1);
+		verify(consumerAPI, times(1)).updateServiceCallResult(same(newest));
+
+		reporter.destroy();
+		verify(consumerAPI, times(3)).updateServiceCallResult(any());
+	}
+
+	@Test
+	public void testMeterBinder() {
+		AsyncServiceCallResultReporter reporter = createReporter(RpcEnhancementReporterProperties.OverflowPolicy.DROP_OLDEST);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		new AsyncServiceCallResultReporterMeterBinder(reporter).bindTo(registry);
+		for (int i = 0; i < 3; i++) {
+			reporter.report(new ServiceCallResult());
+		}
+		assertThat(registry.get(AsyncServiceCallResultReporterMeterBinder.QUEUE_DEPTH).gauge().value()).isEqualTo(2);
+		assertThat(registry.get(AsyncServiceCallResultReporterMeterBinder.DROPPED).functionCounter().count()).isEqualTo(1);
+
+		reporter.destroy();
+		assertThat(registry.get(AsyncServiceCallResultReporterMeterBinder.QUEUE_DEPTH).gauge().value()).isEqualTo(0);
+		assertThat(registry.get(AsyncServiceCallResultReporterMeterBinder.REPORTED).functionCounter().count()).isEqualTo(2);
+	}
+}